@@ -6,6 +6,7 @@ import com.ecommerce.admin.application.exceptions.AdminAuthenticationException;
 import com.ecommerce.admin.domain.entities.Admin;
 import com.ecommerce.admin.domain.ports.AdminRepository;
 import com.ecommerce.security.provider.JwtTokenProvider;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
@@ -18,10 +19,16 @@ public class AdminAuthUseCase {
 
     private final AdminRepository adminRepository;
     private final JwtTokenProvider jwtTokenProvider;
+    private final PasswordEncoder passwordEncoder;
 
-    public AdminAuthUseCase(AdminRepository adminRepository, JwtTokenProvider jwtTokenProvider) {
+    public AdminAuthUseCase(
+            AdminRepository adminRepository,
+            JwtTokenProvider jwtTokenProvider,
+            PasswordEncoder passwordEncoder
+    ) {
         this.adminRepository = adminRepository;
         this.jwtTokenProvider = jwtTokenProvider;
+        this.passwordEncoder = passwordEncoder;
     }
 
     /**
@@ -31,7 +38,7 @@ public class AdminAuthUseCase {
         Admin admin = adminRepository.findByEmail(command.email())
                 .orElseThrow(() -> new AdminAuthenticationException("Invalid credentials"));
 
-        if (!admin.authenticate(command.password())) {
+        if (!admin.authenticate(command.password(), passwordEncoder)) {
             throw new AdminAuthenticationException("Invalid credentials");
         }
 
@@ -73,6 +73,21 @@ public class Admin {
         return PASSWORD_ENCODER.matches(rawPassword, passwordHash);
     }
 
+    /**
+     * Authenticates using the given encoder, rehashing the stored password
+     * when it was produced with an outdated work factor.
+     */
+    public boolean authenticate(String rawPassword, PasswordEncoder encoder) {
+        if (!active || !encoder.matches(rawPassword, passwordHash)) {
+            return false;
+        }
+        if (encoder.upgradeEncoding(passwordHash)) {
+            this.passwordHash = encoder.encode(rawPassword);
+            this.updatedAt = Instant.now();
+        }
+        return true;
+    }
+
     /**
      * Records a successful login.
      */
@@ -22,6 +22,10 @@ dependencies {
     // Redis for session
     implementation("org.springframework.boot:spring-boot-starter-data-redis")
 
+    // Caching (local tier)
+    implementation("org.springframework.boot:spring-boot-starter-cache")
+    implementation("com.github.ben-manes.caffeine:caffeine")
+
     // Flyway
     implementation("org.flywaydb:flyway-core:10.4.1")
     implementation("org.flywaydb:flyway-database-postgresql:10.4.1")
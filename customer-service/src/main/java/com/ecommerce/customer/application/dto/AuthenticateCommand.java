@@ -1,10 +1,12 @@
 package com.ecommerce.customer.application.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 
 /**
  * Command DTO for customer authentication.
+ * The client IP is set by the controller, never taken from the request body.
  */
 public record AuthenticateCommand(
         @NotBlank(message = "Email is required")
@@ -12,6 +14,20 @@ public record AuthenticateCommand(
         String email,
 
         @NotBlank(message = "Password is required")
-        String password
+        String password,
+
+        @JsonIgnore
+        String clientIp
 ) {
+
+    public AuthenticateCommand(String email, String password) {
+        this(email, password, null);
+    }
+
+    /**
+     * Returns a copy of this command bound to the given client IP.
+     */
+    public AuthenticateCommand withClientIp(String clientIp) {
+        return new AuthenticateCommand(email, password, clientIp);
+    }
 }
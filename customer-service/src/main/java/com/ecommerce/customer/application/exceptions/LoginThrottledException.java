@@ -0,0 +1,12 @@
+package com.ecommerce.customer.application.exceptions;
+
+/**
+ * Exception thrown when login attempts are throttled
+ * for too many recent failures from an email or client IP.
+ */
+public class LoginThrottledException extends RuntimeException {
+
+    public LoginThrottledException() {
+        super("Too many failed login attempts, try again later");
+    }
+}
@@ -4,28 +4,47 @@ import com.ecommerce.customer.application.dto.AuthenticateCommand;
 import com.ecommerce.customer.application.dto.AuthenticationResponse;
 import com.ecommerce.customer.application.dto.CustomerResponse;
 import com.ecommerce.customer.application.exceptions.AuthenticationFailedException;
+import com.ecommerce.customer.application.exceptions.LoginThrottledException;
 import com.ecommerce.customer.domain.entities.Customer;
 import com.ecommerce.customer.domain.ports.CustomerRepository;
+import com.ecommerce.customer.domain.ports.FailedLoginRecorder;
+import com.ecommerce.customer.domain.ports.LoginAttemptGuard;
 import com.ecommerce.customer.domain.value_objects.Email;
 import com.ecommerce.security.provider.JwtTokenProvider;
+import com.ecommerce.shared.domain.events.DomainEventPublisher;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Use case for authenticating a customer.
+ * Known lockouts and throttled emails/IPs are rejected before the
+ * customer is loaded or the password is hashed.
  */
 @Service
 public class AuthenticateCustomerUseCase {
 
     private final CustomerRepository customerRepository;
     private final JwtTokenProvider jwtTokenProvider;
+    private final PasswordEncoder passwordEncoder;
+    private final LoginAttemptGuard loginAttemptGuard;
+    private final FailedLoginRecorder failedLoginRecorder;
+    private final DomainEventPublisher eventPublisher;
 
     public AuthenticateCustomerUseCase(
             CustomerRepository customerRepository,
-            JwtTokenProvider jwtTokenProvider
+            JwtTokenProvider jwtTokenProvider,
+            PasswordEncoder passwordEncoder,
+            LoginAttemptGuard loginAttemptGuard,
+            FailedLoginRecorder failedLoginRecorder,
+            DomainEventPublisher eventPublisher
     ) {
         this.customerRepository = customerRepository;
         this.jwtTokenProvider = jwtTokenProvider;
+        this.passwordEncoder = passwordEncoder;
+        this.loginAttemptGuard = loginAttemptGuard;
+        this.failedLoginRecorder = failedLoginRecorder;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -34,26 +53,43 @@ public class AuthenticateCustomerUseCase {
      * @param command the authentication command
      * @return authentication response with tokens
      * @throws AuthenticationFailedException if authentication fails
+     * @throws LoginThrottledException if recent failures exceed the guard limits
      */
-    @Transactional
+    @Transactional(noRollbackFor = AuthenticationFailedException.class)
     public AuthenticationResponse execute(AuthenticateCommand command) {
         Email email = Email.of(command.email());
+        String emailKey = email.getValue();
 
-        Customer customer = customerRepository.findByEmail(email)
-                .orElseThrow(AuthenticationFailedException::invalidCredentials);
+        if (loginAttemptGuard.isLocked(emailKey)) {
+            throw AuthenticationFailedException.accountLocked();
+        }
+        if (loginAttemptGuard.isThrottled(emailKey, command.clientIp())) {
+            throw new LoginThrottledException();
+        }
+
+        // Always looked up: a registered email filter can miss a registration made
+        // on another instance, which would lock a real customer out until its rebuild
+        Customer customer = customerRepository.findByEmail(email).orElse(null);
+        if (customer == null) {
+            loginAttemptGuard.recordFailure(emailKey, command.clientIp());
+            throw AuthenticationFailedException.invalidCredentials();
+        }
 
         if (customer.isLocked()) {
+            loginAttemptGuard.recordLockout(emailKey, customer.getLockedUntil());
             throw AuthenticationFailedException.accountLocked();
         }
 
-        if (!customer.authenticate(command.password())) {
-            customer.recordFailedLogin();
-            customerRepository.save(customer);
+        if (!customer.authenticate(command.password(), passwordEncoder)) {
+            recordFailedLogin(customer, emailKey, command.clientIp());
             throw AuthenticationFailedException.invalidCredentials();
         }
 
+        failedLoginRecorder.drainPending(customer.getId());
+        loginAttemptGuard.recordSuccess(emailKey);
         customer.recordSuccessfulLogin();
         customerRepository.save(customer);
+        publishEvents(customer);
 
         String accessToken = jwtTokenProvider.generateAccessToken(
                 customer.getId().toString(),
@@ -71,4 +107,28 @@ public class AuthenticateCustomerUseCase {
                 CustomerResponse.from(customer)
         );
     }
+
+    /**
+     * Buffers the failure and only writes the customer immediately
+     * when the buffered failures lock the account.
+     */
+    private void recordFailedLogin(Customer customer, String emailKey, String clientIp) {
+        loginAttemptGuard.recordFailure(emailKey, clientIp);
+        int pending = failedLoginRecorder.recordFailure(customer.getId());
+        if (!customer.wouldLockAfter(pending)) {
+            return;
+        }
+
+        customer.recordFailedLogins(failedLoginRecorder.drainPending(customer.getId()));
+        customerRepository.save(customer);
+        publishEvents(customer);
+        if (customer.isLocked()) {
+            loginAttemptGuard.recordLockout(emailKey, customer.getLockedUntil());
+        }
+    }
+
+    private void publishEvents(Customer customer) {
+        customer.getDomainEvents().forEach(eventPublisher::publish);
+        customer.clearDomainEvents();
+    }
 }
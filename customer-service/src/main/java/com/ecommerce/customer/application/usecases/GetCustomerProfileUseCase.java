@@ -4,6 +4,7 @@ import com.ecommerce.customer.application.dto.CustomerResponse;
 import com.ecommerce.customer.application.exceptions.CustomerNotFoundException;
 import com.ecommerce.customer.domain.entities.Customer;
 import com.ecommerce.customer.domain.ports.CustomerRepository;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -11,10 +12,13 @@ import java.util.UUID;
 
 /**
  * Use case for retrieving customer profile.
+ * Results are cached per customer and evicted when the profile changes.
  */
 @Service
 public class GetCustomerProfileUseCase {
 
+    public static final String CACHE_NAME = "customer-profiles";
+
     private final CustomerRepository customerRepository;
 
     public GetCustomerProfileUseCase(CustomerRepository customerRepository) {
@@ -28,6 +32,7 @@ public class GetCustomerProfileUseCase {
      * @return the customer response
      * @throws CustomerNotFoundException if customer not found
      */
+    @Cacheable(cacheNames = CACHE_NAME, key = "#customerId", sync = true)
     @Transactional(readOnly = true)
     public CustomerResponse execute(UUID customerId) {
         Customer customer = customerRepository.findById(customerId)
@@ -5,6 +5,7 @@ import com.ecommerce.customer.application.exceptions.CustomerNotFoundException;
 import com.ecommerce.customer.domain.entities.Customer;
 import com.ecommerce.customer.domain.ports.CustomerRepository;
 import com.ecommerce.customer.domain.services.MemberLevelCalculator;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
@@ -12,10 +13,13 @@ import java.util.UUID;
 
 /**
  * Use case for retrieving customer membership information.
+ * Results are cached per customer and evicted when spending or level changes.
  */
 @Service
 public class GetMembershipUseCase {
 
+    public static final String CACHE_NAME = "customer-memberships";
+
     private final CustomerRepository customerRepository;
     private final MemberLevelCalculator memberLevelCalculator;
 
@@ -28,6 +32,7 @@ public class GetMembershipUseCase {
     /**
      * Gets membership information for a customer.
      */
+    @Cacheable(cacheNames = CACHE_NAME, key = "#customerId", sync = true)
     public MembershipResponse getMembership(UUID customerId) {
         Customer customer = customerRepository.findById(customerId)
                 .orElseThrow(() -> CustomerNotFoundException.byId(customerId.toString()));
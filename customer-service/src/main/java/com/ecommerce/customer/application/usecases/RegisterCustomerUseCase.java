@@ -5,9 +5,12 @@ import com.ecommerce.customer.application.dto.RegisterCustomerCommand;
 import com.ecommerce.customer.application.exceptions.EmailAlreadyExistsException;
 import com.ecommerce.customer.domain.entities.Customer;
 import com.ecommerce.customer.domain.ports.CustomerRepository;
+import com.ecommerce.customer.domain.ports.RegisteredEmailFilter;
 import com.ecommerce.customer.domain.value_objects.Email;
 import com.ecommerce.customer.domain.value_objects.Password;
 import com.ecommerce.shared.domain.events.DomainEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,13 +22,19 @@ public class RegisterCustomerUseCase {
 
     private final CustomerRepository customerRepository;
     private final DomainEventPublisher eventPublisher;
+    private final PasswordEncoder passwordEncoder;
+    private final RegisteredEmailFilter registeredEmailFilter;
 
     public RegisterCustomerUseCase(
             CustomerRepository customerRepository,
-            DomainEventPublisher eventPublisher
+            DomainEventPublisher eventPublisher,
+            PasswordEncoder passwordEncoder,
+            RegisteredEmailFilter registeredEmailFilter
     ) {
         this.customerRepository = customerRepository;
         this.eventPublisher = eventPublisher;
+        this.passwordEncoder = passwordEncoder;
+        this.registeredEmailFilter = registeredEmailFilter;
     }
 
     /**
@@ -39,11 +48,12 @@ public class RegisterCustomerUseCase {
     public CustomerResponse execute(RegisterCustomerCommand command) {
         Email email = Email.of(command.email());
 
-        if (customerRepository.existsByEmail(email)) {
+        // The unique constraint still guards the rare race the filter cannot see
+        if (registeredEmailFilter.mightBeRegistered(email) && customerRepository.existsByEmail(email)) {
             throw new EmailAlreadyExistsException(command.email());
         }
 
-        Password password = Password.fromRaw(command.password());
+        Password password = Password.fromRaw(command.password(), passwordEncoder);
 
         Customer customer = Customer.register(
                 email,
@@ -53,11 +63,17 @@ public class RegisterCustomerUseCase {
                 command.phoneNumber()
         );
 
-        Customer savedCustomer = customerRepository.save(customer);
+        Customer savedCustomer;
+        try {
+            savedCustomer = customerRepository.save(customer);
+        } catch (DataIntegrityViolationException ex) {
+            // Lost a race with a concurrent registration of the same email
+            throw new EmailAlreadyExistsException(command.email());
+        }
 
-        // Publish domain events
-        savedCustomer.getDomainEvents().forEach(eventPublisher::publish);
-        savedCustomer.clearDomainEvents();
+        // Publish domain events; the saved copy is rebuilt from storage and carries none
+        customer.getDomainEvents().forEach(eventPublisher::publish);
+        customer.clearDomainEvents();
 
         return CustomerResponse.from(savedCustomer);
     }
@@ -6,7 +6,7 @@ import com.ecommerce.customer.domain.events.LevelUpgraded;
 import com.ecommerce.customer.domain.ports.CustomerRepository;
 import com.ecommerce.customer.domain.services.MemberLevelCalculator;
 import com.ecommerce.customer.domain.value_objects.MemberLevel;
-import org.springframework.context.ApplicationEventPublisher;
+import com.ecommerce.shared.domain.events.DomainEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,11 +21,11 @@ public class UpdateMemberLevelUseCase {
 
     private final CustomerRepository customerRepository;
     private final MemberLevelCalculator memberLevelCalculator;
-    private final ApplicationEventPublisher eventPublisher;
+    private final DomainEventPublisher eventPublisher;
 
     public UpdateMemberLevelUseCase(CustomerRepository customerRepository,
                                      MemberLevelCalculator memberLevelCalculator,
-                                     ApplicationEventPublisher eventPublisher) {
+                                     DomainEventPublisher eventPublisher) {
         this.customerRepository = customerRepository;
         this.memberLevelCalculator = memberLevelCalculator;
         this.eventPublisher = eventPublisher;
@@ -50,12 +50,15 @@ public class UpdateMemberLevelUseCase {
         customer.addSpending(spendingAmount);
         customerRepository.save(customer);
 
+        customer.getDomainEvents().forEach(eventPublisher::publish);
+        customer.clearDomainEvents();
+
         // Publish event if upgraded
         if (willUpgrade) {
             MemberLevel newLevel = customer.getMemberLevel();
             int newDiscount = memberLevelCalculator.getDiscountPercentage(newLevel);
 
-            eventPublisher.publishEvent(new LevelUpgraded(
+            eventPublisher.publish(new LevelUpgraded(
                     customerId.toString(),
                     previousLevel.name(),
                     newLevel.name(),
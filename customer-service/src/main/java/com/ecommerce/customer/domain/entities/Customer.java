@@ -1,10 +1,13 @@
 package com.ecommerce.customer.domain.entities;
 
+import com.ecommerce.customer.domain.events.CustomerProfileUpdated;
 import com.ecommerce.customer.domain.events.CustomerRegistered;
+import com.ecommerce.customer.domain.events.SpendingRecorded;
 import com.ecommerce.customer.domain.value_objects.Email;
 import com.ecommerce.customer.domain.value_objects.MemberLevel;
 import com.ecommerce.customer.domain.value_objects.Password;
 import com.ecommerce.shared.domain.events.DomainEvent;
+import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.math.BigDecimal;
 import java.time.Instant;
@@ -141,6 +144,22 @@ public class Customer {
         return password.matches(rawPassword);
     }
 
+    /**
+     * Attempts to authenticate using the given encoder.
+     * On success, a hash produced with an outdated work factor is
+     * transparently replaced with one at the encoder's current strength.
+     */
+    public boolean authenticate(String rawPassword, PasswordEncoder encoder) {
+        if (isLocked() || !password.matches(rawPassword, encoder)) {
+            return false;
+        }
+        if (password.needsRehash(encoder)) {
+            this.password = Password.fromHash(encoder.encode(rawPassword));
+            this.updatedAt = Instant.now();
+        }
+        return true;
+    }
+
     /**
      * Records a failed login attempt.
      */
@@ -152,10 +171,36 @@ public class Customer {
         this.updatedAt = Instant.now();
     }
 
+    /**
+     * Applies several failed login attempts at once.
+     * Used when failures were buffered before being written back.
+     * Raises CustomerProfileUpdated if the failures lock the account.
+     */
+    public void recordFailedLogins(int count) {
+        Instant previousLock = this.lockedUntil;
+        for (int i = 0; i < count; i++) {
+            recordFailedLogin();
+        }
+        if (this.lockedUntil != null && !this.lockedUntil.equals(previousLock)) {
+            this.domainEvents.add(new CustomerProfileUpdated(id.toString()));
+        }
+    }
+
+    /**
+     * Checks whether the given number of additional failures would lock the account.
+     */
+    public boolean wouldLockAfter(int additionalFailures) {
+        return failedLoginAttempts + additionalFailures >= MAX_FAILED_ATTEMPTS;
+    }
+
     /**
      * Records a successful login, resetting failed attempts.
+     * Raises CustomerProfileUpdated if there were failures to reset.
      */
     public void recordSuccessfulLogin() {
+        if (this.failedLoginAttempts > 0 || this.lockedUntil != null) {
+            this.domainEvents.add(new CustomerProfileUpdated(id.toString()));
+        }
         this.failedLoginAttempts = 0;
         this.lockedUntil = null;
         this.updatedAt = Instant.now();
@@ -184,6 +229,7 @@ public class Customer {
         this.totalSpending = this.totalSpending.add(amount);
         this.memberLevel = MemberLevel.fromSpending(this.totalSpending);
         this.updatedAt = Instant.now();
+        this.domainEvents.add(new SpendingRecorded(id.toString(), amount, totalSpending));
     }
 
     /**
@@ -192,6 +238,7 @@ public class Customer {
     public void verifyEmail() {
         this.emailVerified = true;
         this.updatedAt = Instant.now();
+        this.domainEvents.add(new CustomerProfileUpdated(id.toString()));
     }
 
     /**
@@ -208,6 +255,7 @@ public class Customer {
             this.phoneNumber = phoneNumber;
         }
         this.updatedAt = Instant.now();
+        this.domainEvents.add(new CustomerProfileUpdated(id.toString()));
     }
 
     /**
@@ -0,0 +1,17 @@
+package com.ecommerce.customer.domain.events;
+
+import com.ecommerce.shared.domain.events.DomainEvent;
+
+/**
+ * Domain event emitted when a customer's profile details change.
+ */
+public final class CustomerProfileUpdated extends DomainEvent {
+
+    public CustomerProfileUpdated(String customerId) {
+        super(customerId, "Customer");
+    }
+
+    public String getCustomerId() {
+        return getAggregateId();
+    }
+}
@@ -0,0 +1,32 @@
+package com.ecommerce.customer.domain.events;
+
+import com.ecommerce.shared.domain.events.DomainEvent;
+
+import java.math.BigDecimal;
+
+/**
+ * Domain event emitted when spending is added to a customer's total.
+ */
+public final class SpendingRecorded extends DomainEvent {
+
+    private final BigDecimal amount;
+    private final BigDecimal totalSpending;
+
+    public SpendingRecorded(String customerId, BigDecimal amount, BigDecimal totalSpending) {
+        super(customerId, "Customer");
+        this.amount = amount;
+        this.totalSpending = totalSpending;
+    }
+
+    public String getCustomerId() {
+        return getAggregateId();
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public BigDecimal getTotalSpending() {
+        return totalSpending;
+    }
+}
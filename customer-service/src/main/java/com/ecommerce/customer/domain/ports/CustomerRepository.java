@@ -5,6 +5,7 @@ import com.ecommerce.customer.domain.value_objects.Email;
 
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Repository port for Customer aggregate.
@@ -44,6 +45,14 @@ public interface CustomerRepository {
      */
     boolean existsByEmail(Email email);
 
+    /**
+     * Visits every registered email address, in normalized form.
+     * Implementations page through storage rather than loading all rows.
+     *
+     * @param action the callback for each email
+     */
+    void forEachEmail(Consumer<String> action);
+
     /**
      * Deletes a customer by ID.
      *
@@ -0,0 +1,27 @@
+package com.ecommerce.customer.domain.ports;
+
+import java.util.UUID;
+
+/**
+ * Port for buffering failed login attempts.
+ * Failures that do not lock the account are written back in batches
+ * instead of one save per attempt.
+ */
+public interface FailedLoginRecorder {
+
+    /**
+     * Buffers one failed attempt for the customer.
+     *
+     * @param customerId the customer ID
+     * @return the number of buffered attempts, including this one
+     */
+    int recordFailure(UUID customerId);
+
+    /**
+     * Removes and returns the buffered attempts for the customer.
+     *
+     * @param customerId the customer ID
+     * @return the number of attempts that were buffered
+     */
+    int drainPending(UUID customerId);
+}
@@ -0,0 +1,51 @@
+package com.ecommerce.customer.domain.ports;
+
+import java.time.Instant;
+
+/**
+ * Port for the front-line login guard.
+ * Answers from memory so abusive attempts are rejected before
+ * any customer lookup or password hashing.
+ */
+public interface LoginAttemptGuard {
+
+    /**
+     * Checks if the email belongs to an account known to be locked.
+     *
+     * @param email the normalized email
+     * @return true if a lockout is still in effect
+     */
+    boolean isLocked(String email);
+
+    /**
+     * Checks if recent failures for the email or client IP exceed the limits.
+     *
+     * @param email the normalized email
+     * @param clientIp the client IP, may be null
+     * @return true if the attempt should be throttled
+     */
+    boolean isThrottled(String email, String clientIp);
+
+    /**
+     * Records a failed attempt for the email and client IP.
+     *
+     * @param email the normalized email
+     * @param clientIp the client IP, may be null
+     */
+    void recordFailure(String email, String clientIp);
+
+    /**
+     * Records that an account is locked until the given time.
+     *
+     * @param email the normalized email
+     * @param lockedUntil when the lockout ends
+     */
+    void recordLockout(String email, Instant lockedUntil);
+
+    /**
+     * Records a successful login, clearing any known lockout.
+     *
+     * @param email the normalized email
+     */
+    void recordSuccess(String email);
+}
@@ -0,0 +1,23 @@
+package com.ecommerce.customer.domain.ports;
+
+import com.ecommerce.customer.domain.value_objects.Email;
+
+/**
+ * Port for a probabilistic membership check over registered emails.
+ * A positive answer must be confirmed against the repository. A negative
+ * answer can be stale for a registration made on another instance until
+ * the implementation learns it, so it may only skip a lookup where a wrong
+ * negative is caught later, as the unique email constraint does for
+ * registration. Implementations learn new registrations from the
+ * CustomerRegistered event.
+ */
+public interface RegisteredEmailFilter {
+
+    /**
+     * Checks if the email may be registered.
+     *
+     * @param email the email to check
+     * @return false if the email is not known to this instance as registered
+     */
+    boolean mightBeRegistered(Email email);
+}
@@ -1,6 +1,7 @@
 package com.ecommerce.customer.domain.value_objects;
 
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Objects;
 import java.util.regex.Pattern;
@@ -33,6 +34,20 @@ public final class Password {
      * @throws IllegalArgumentException if password is weak
      */
     public static Password fromRaw(String rawPassword) {
+        return fromRaw(rawPassword, ENCODER);
+    }
+
+    /**
+     * Creates a Password from a raw password string using the given encoder.
+     * Validates strength before any hashing work is done.
+     *
+     * @param rawPassword the raw password
+     * @param encoder the encoder producing the hash
+     * @return a Password with hashed value
+     * @throws IllegalArgumentException if password is weak
+     */
+    public static Password fromRaw(String rawPassword, PasswordEncoder encoder) {
+        Objects.requireNonNull(encoder, "Encoder must not be null");
         if (rawPassword == null || rawPassword.isEmpty()) {
             throw new IllegalArgumentException("Password must not be null or empty");
         }
@@ -44,7 +59,7 @@ public final class Password {
             );
         }
 
-        String hash = ENCODER.encode(rawPassword);
+        String hash = encoder.encode(rawPassword);
         return new Password(hash);
     }
 
@@ -67,10 +82,32 @@ public final class Password {
      * @return true if matches
      */
     public boolean matches(String rawPassword) {
+        return matches(rawPassword, ENCODER);
+    }
+
+    /**
+     * Verifies if the given raw password matches this hash using the given encoder.
+     *
+     * @param rawPassword the password to verify
+     * @param encoder the encoder that checks the hash
+     * @return true if matches
+     */
+    public boolean matches(String rawPassword, PasswordEncoder encoder) {
         if (rawPassword == null) {
             return false;
         }
-        return ENCODER.matches(rawPassword, hash);
+        return encoder.matches(rawPassword, hash);
+    }
+
+    /**
+     * Checks whether this hash was produced with a different work factor
+     * than the given encoder is configured for.
+     *
+     * @param encoder the current encoder
+     * @return true if the password should be rehashed
+     */
+    public boolean needsRehash(PasswordEncoder encoder) {
+        return encoder.upgradeEncoding(hash);
     }
 
     public String getHash() {
@@ -0,0 +1,56 @@
+package com.ecommerce.customer.infrastructure.cache;
+
+import com.ecommerce.customer.application.usecases.GetCustomerProfileUseCase;
+import com.ecommerce.customer.application.usecases.GetMembershipUseCase;
+import com.ecommerce.customer.domain.events.CustomerProfileUpdated;
+import com.ecommerce.customer.domain.events.LevelUpgraded;
+import com.ecommerce.customer.domain.events.SpendingRecorded;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.UUID;
+
+/**
+ * Evicts cached customer views once the change that invalidates them has committed.
+ * Evicting after commit keeps a concurrent read from re-caching the old state.
+ */
+@Component
+public class CustomerCacheInvalidationListener {
+
+    private final CacheManager cacheManager;
+
+    public CustomerCacheInvalidationListener(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLevelUpgraded(LevelUpgraded event) {
+        evict(event.getCustomerId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProfileUpdated(CustomerProfileUpdated event) {
+        evict(event.getCustomerId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSpendingRecorded(SpendingRecorded event) {
+        evict(event.getCustomerId());
+    }
+
+    private void evict(String customerId) {
+        UUID key = UUID.fromString(customerId);
+        evict(GetCustomerProfileUseCase.CACHE_NAME, key);
+        evict(GetMembershipUseCase.CACHE_NAME, key);
+    }
+
+    private void evict(String cacheName, UUID key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.ecommerce.customer.infrastructure.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * Two-tier cache: a bounded in-process tier in front of an optional shared tier.
+ *
+ * Local entries are keyed by the string form of the key so evictions
+ * received from other instances match regardless of the original key type.
+ * Shared-tier failures are logged and treated as misses.
+ *
+ * An eviction deletes the shared entry before it is broadcast, and bumps
+ * an eviction generation for the key's stripe. A read that copies a
+ * shared entry into the local tier, or loads a value to cache, only
+ * stores it if no eviction of that stripe arrived meanwhile, so a read
+ * that raced an eviction cannot put the old value back.
+ */
+public class TieredCache implements Cache {
+
+    private static final Logger log = LoggerFactory.getLogger(TieredCache.class);
+    private static final int EVICTION_STRIPES = 64;
+
+    private final String name;
+    private final Cache local;
+    private final Cache remote;
+    private final Consumer<String> evictionBroadcaster;
+    private final Counter localHits;
+    private final Counter remoteHits;
+    private final Counter misses;
+    private final AtomicLongArray evictions = new AtomicLongArray(EVICTION_STRIPES);
+
+    public TieredCache(
+            String name,
+            Cache local,
+            Cache remote,
+            Consumer<String> evictionBroadcaster,
+            MeterRegistry meterRegistry
+    ) {
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.evictionBroadcaster = evictionBroadcaster;
+        this.localHits = requests(meterRegistry, "local_hit");
+        this.remoteHits = requests(meterRegistry, "remote_hit");
+        this.misses = requests(meterRegistry, "miss");
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = String.valueOf(key);
+        ValueWrapper value = local.get(localKey);
+        if (value != null) {
+            localHits.increment();
+            return value;
+        }
+        long generation = evictions.get(stripe(localKey));
+        value = remoteGet(key);
+        if (value != null) {
+            remoteHits.increment();
+            if (evictions.get(stripe(localKey)) == generation) {
+                local.put(localKey, value.get());
+            }
+            return value;
+        }
+        misses.increment();
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper value = get(key);
+        if (value == null) {
+            return null;
+        }
+        Object stored = value.get();
+        if (type != null && stored != null && !type.isInstance(stored)) {
+            throw new IllegalStateException("Cached value is not of required type " + type.getName());
+        }
+        return (T) stored;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper value = get(key);
+        if (value != null) {
+            return (T) value.get();
+        }
+        String localKey = String.valueOf(key);
+        long generation = evictions.get(stripe(localKey));
+        T loaded;
+        try {
+            loaded = valueLoader.call();
+        } catch (Exception ex) {
+            throw new ValueRetrievalException(key, valueLoader, ex);
+        }
+        if (evictions.get(stripe(localKey)) == generation) {
+            put(key, loaded);
+        }
+        return loaded;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        local.put(String.valueOf(key), value);
+        if (remote != null) {
+            runRemote(() -> remote.put(key, value));
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        evictLocal(String.valueOf(key));
+        // Delete the shared entry first so instances reacting to the broadcast cannot re-read it
+        if (remote != null) {
+            runRemote(() -> remote.evict(key));
+        }
+        evictionBroadcaster.accept(String.valueOf(key));
+    }
+
+    /**
+     * Evicts only the in-process entry, used for evictions from other instances.
+     */
+    public void evictLocal(String key) {
+        evictions.incrementAndGet(stripe(key));
+        local.evict(key);
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < EVICTION_STRIPES; i++) {
+            evictions.incrementAndGet(i);
+        }
+        local.clear();
+        if (remote != null) {
+            runRemote(remote::clear);
+        }
+    }
+
+    private ValueWrapper remoteGet(Object key) {
+        if (remote == null) {
+            return null;
+        }
+        try {
+            ValueWrapper value = remote.get(key);
+            return value != null ? new SimpleValueWrapper(value.get()) : null;
+        } catch (RuntimeException ex) {
+            log.debug("Shared cache read failed for {}: {}", name, ex.getMessage());
+            return null;
+        }
+    }
+
+    private void runRemote(Runnable operation) {
+        try {
+            operation.run();
+        } catch (RuntimeException ex) {
+            log.debug("Shared cache write failed for {}: {}", name, ex.getMessage());
+        }
+    }
+
+    private static int stripe(String localKey) {
+        int hash = localKey.hashCode();
+        return (hash ^ (hash >>> 16)) & (EVICTION_STRIPES - 1);
+    }
+
+    private Counter requests(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("customer.cache.requests")
+                .tag("cache", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
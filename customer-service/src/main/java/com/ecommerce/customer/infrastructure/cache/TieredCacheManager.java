@@ -0,0 +1,142 @@
+package com.ecommerce.customer.infrastructure.cache;
+
+import com.ecommerce.customer.application.dto.CustomerResponse;
+import com.ecommerce.customer.application.dto.MembershipResponse;
+import com.ecommerce.customer.application.usecases.GetCustomerProfileUseCase;
+import com.ecommerce.customer.application.usecases.GetMembershipUseCase;
+import com.ecommerce.customer.infrastructure.config.CustomerCacheConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache manager for customer read models.
+ *
+ * Each cache pairs a bounded Caffeine tier with an optional Redis tier.
+ * Evictions are published on {@link #EVICTION_CHANNEL} as "cacheName|key"
+ * so other instances drop their local copies.
+ */
+@Component("cacheManager")
+public class TieredCacheManager implements CacheManager {
+
+    public static final String EVICTION_CHANNEL = "customer:cache-evict";
+
+    private static final Logger log = LoggerFactory.getLogger(TieredCacheManager.class);
+
+    private static final Map<String, Class<?>> CACHE_TYPES = Map.of(
+            GetCustomerProfileUseCase.CACHE_NAME, CustomerResponse.class,
+            GetMembershipUseCase.CACHE_NAME, MembershipResponse.class
+    );
+
+    private final Map<String, TieredCache> caches = new LinkedHashMap<>();
+    private final StringRedisTemplate redisTemplate;
+
+    @Autowired
+    public TieredCacheManager(
+            CustomerCacheConfig config,
+            ObjectProvider<RedisConnectionFactory> connectionFactory,
+            ObjectProvider<StringRedisTemplate> redisTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry
+    ) {
+        this(config,
+                config.isRedisEnabled()
+                        ? remoteCacheManager(config, connectionFactory.getObject(), objectMapper)
+                        : null,
+                config.isRedisEnabled() ? redisTemplate.getIfAvailable() : null,
+                meterRegistry);
+    }
+
+    public TieredCacheManager(
+            CustomerCacheConfig config,
+            CacheManager remoteCacheManager,
+            StringRedisTemplate redisTemplate,
+            MeterRegistry meterRegistry
+    ) {
+        this.redisTemplate = redisTemplate;
+        for (String name : CACHE_TYPES.keySet()) {
+            Cache local = new CaffeineCache(name, Caffeine.newBuilder()
+                    .maximumSize(config.getLocalMaxSize())
+                    .expireAfterWrite(config.getLocalTtlMs(), TimeUnit.MILLISECONDS)
+                    .build(), false);
+            Cache remote = remoteCacheManager != null ? remoteCacheManager.getCache(name) : null;
+            caches.put(name, new TieredCache(name, local, remote,
+                    key -> broadcastEviction(name, key), meterRegistry));
+        }
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.get(name);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return caches.keySet();
+    }
+
+    /**
+     * Applies an eviction received from another instance to the local tier.
+     *
+     * @param message the "cacheName|key" message
+     */
+    public void onRemoteEviction(String message) {
+        int separator = message.indexOf('|');
+        if (separator < 0) {
+            return;
+        }
+        TieredCache cache = caches.get(message.substring(0, separator));
+        if (cache != null) {
+            cache.evictLocal(message.substring(separator + 1));
+        }
+    }
+
+    private void broadcastEviction(String cacheName, String key) {
+        if (redisTemplate == null) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(EVICTION_CHANNEL, cacheName + "|" + key);
+        } catch (RuntimeException ex) {
+            log.warn("Failed to broadcast cache eviction to other instances: {}", ex.getMessage());
+        }
+    }
+
+    private static CacheManager remoteCacheManager(
+            CustomerCacheConfig config,
+            RedisConnectionFactory connectionFactory,
+            ObjectMapper objectMapper
+    ) {
+        RedisCacheConfiguration defaults = RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(Duration.ofMillis(config.getRedisTtlMs()))
+                .disableCachingNullValues();
+        RedisCacheManager.RedisCacheManagerBuilder builder = RedisCacheManager.builder(connectionFactory)
+                .cacheDefaults(defaults);
+        CACHE_TYPES.forEach((name, type) -> builder.withCacheConfiguration(name,
+                defaults.serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                        new Jackson2JsonRedisSerializer<>(objectMapper, type)))));
+        RedisCacheManager manager = builder.build();
+        manager.initializeCaches();
+        return manager;
+    }
+}
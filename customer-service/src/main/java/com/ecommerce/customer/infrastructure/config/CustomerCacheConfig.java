@@ -0,0 +1,55 @@
+package com.ecommerce.customer.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Customer read cache configuration properties.
+ * A bounded local tier is always used. The Redis tier, which also carries
+ * evictions between instances, is on by default because the service runs
+ * several replicas; disable it only for a single instance. The short local
+ * TTL bounds staleness if an eviction message is lost.
+ */
+@Configuration
+@EnableCaching
+@ConfigurationProperties(prefix = "customer.cache")
+public class CustomerCacheConfig {
+
+    private long localMaxSize = 10000;
+    private long localTtlMs = 60000; // 1 minute
+    private boolean redisEnabled = true;
+    private long redisTtlMs = 1800000; // 30 minutes
+
+    public long getLocalMaxSize() {
+        return localMaxSize;
+    }
+
+    public void setLocalMaxSize(long localMaxSize) {
+        this.localMaxSize = localMaxSize;
+    }
+
+    public long getLocalTtlMs() {
+        return localTtlMs;
+    }
+
+    public void setLocalTtlMs(long localTtlMs) {
+        this.localTtlMs = localTtlMs;
+    }
+
+    public boolean isRedisEnabled() {
+        return redisEnabled;
+    }
+
+    public void setRedisEnabled(boolean redisEnabled) {
+        this.redisEnabled = redisEnabled;
+    }
+
+    public long getRedisTtlMs() {
+        return redisTtlMs;
+    }
+
+    public void setRedisTtlMs(long redisTtlMs) {
+        this.redisTtlMs = redisTtlMs;
+    }
+}
@@ -0,0 +1,35 @@
+package com.ecommerce.customer.infrastructure.config;
+
+import com.ecommerce.customer.infrastructure.cache.TieredCacheManager;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Subscribes to cache evictions broadcast by other instances so stale
+ * local copies are dropped without waiting for their TTL.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "customer.cache", name = "redis-enabled", havingValue = "true")
+public class CustomerCacheRedisSyncConfig {
+
+    @Bean
+    public RedisMessageListenerContainer customerCacheListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            TieredCacheManager cacheManager
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> cacheManager.onRemoteEviction(
+                        new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(TieredCacheManager.EVICTION_CHANNEL)
+        );
+        return container;
+    }
+}
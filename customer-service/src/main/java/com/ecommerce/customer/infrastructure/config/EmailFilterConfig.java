@@ -0,0 +1,61 @@
+package com.ecommerce.customer.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registered email Bloom filter configuration properties.
+ * Memory is derived from the expected insertions and the target false-positive rate.
+ * Redis sync is on by default: without it a replica rejects logins for
+ * emails registered on another replica until its next rebuild.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "customer.email-filter")
+public class EmailFilterConfig {
+
+    private boolean enabled = true;
+    private long expectedInsertions = 1_000_000;
+    private double falsePositiveRate = 0.01;
+    private long rebuildIntervalMs = 3600000; // 1 hour
+    private boolean redisSyncEnabled = true;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getExpectedInsertions() {
+        return expectedInsertions;
+    }
+
+    public void setExpectedInsertions(long expectedInsertions) {
+        this.expectedInsertions = expectedInsertions;
+    }
+
+    public double getFalsePositiveRate() {
+        return falsePositiveRate;
+    }
+
+    public void setFalsePositiveRate(double falsePositiveRate) {
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    public long getRebuildIntervalMs() {
+        return rebuildIntervalMs;
+    }
+
+    public void setRebuildIntervalMs(long rebuildIntervalMs) {
+        this.rebuildIntervalMs = rebuildIntervalMs;
+    }
+
+    public boolean isRedisSyncEnabled() {
+        return redisSyncEnabled;
+    }
+
+    public void setRedisSyncEnabled(boolean redisSyncEnabled) {
+        this.redisSyncEnabled = redisSyncEnabled;
+    }
+}
@@ -0,0 +1,34 @@
+package com.ecommerce.customer.infrastructure.config;
+
+import com.ecommerce.customer.infrastructure.security.BloomRegisteredEmailFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Subscribes to registrations broadcast by other instances so every
+ * registered email filter learns new emails before its next rebuild.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "customer.email-filter", name = "redis-sync-enabled", havingValue = "true")
+public class EmailFilterRedisSyncConfig {
+
+    @Bean
+    public RedisMessageListenerContainer emailFilterListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            BloomRegisteredEmailFilter emailFilter
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> emailFilter.addLocal(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(BloomRegisteredEmailFilter.SYNC_CHANNEL)
+        );
+        return container;
+    }
+}
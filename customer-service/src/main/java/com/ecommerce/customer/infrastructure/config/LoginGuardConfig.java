@@ -0,0 +1,97 @@
+package com.ecommerce.customer.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Login guard configuration properties.
+ * Limits are failures per sliding window, counted per email and per client IP.
+ */
+@Configuration
+@EnableScheduling
+@ConfigurationProperties(prefix = "customer.login-guard")
+public class LoginGuardConfig {
+
+    private int emailFailureLimit = 20;
+    private int ipFailureLimit = 100;
+    private long windowMs = 900000; // 15 minutes
+    private int windowSlices = 15;
+    private int sketchDepth = 4;
+    private int sketchWidth = 4096;
+    private int maxTrackedLockouts = 100000;
+    private long flushIntervalMs = 2000;
+    private boolean redisEnabled = false;
+
+    public int getEmailFailureLimit() {
+        return emailFailureLimit;
+    }
+
+    public void setEmailFailureLimit(int emailFailureLimit) {
+        this.emailFailureLimit = emailFailureLimit;
+    }
+
+    public int getIpFailureLimit() {
+        return ipFailureLimit;
+    }
+
+    public void setIpFailureLimit(int ipFailureLimit) {
+        this.ipFailureLimit = ipFailureLimit;
+    }
+
+    public long getWindowMs() {
+        return windowMs;
+    }
+
+    public void setWindowMs(long windowMs) {
+        this.windowMs = windowMs;
+    }
+
+    public int getWindowSlices() {
+        return windowSlices;
+    }
+
+    public void setWindowSlices(int windowSlices) {
+        this.windowSlices = windowSlices;
+    }
+
+    public int getSketchDepth() {
+        return sketchDepth;
+    }
+
+    public void setSketchDepth(int sketchDepth) {
+        this.sketchDepth = sketchDepth;
+    }
+
+    public int getSketchWidth() {
+        return sketchWidth;
+    }
+
+    public void setSketchWidth(int sketchWidth) {
+        this.sketchWidth = sketchWidth;
+    }
+
+    public int getMaxTrackedLockouts() {
+        return maxTrackedLockouts;
+    }
+
+    public void setMaxTrackedLockouts(int maxTrackedLockouts) {
+        this.maxTrackedLockouts = maxTrackedLockouts;
+    }
+
+    public long getFlushIntervalMs() {
+        return flushIntervalMs;
+    }
+
+    public void setFlushIntervalMs(long flushIntervalMs) {
+        this.flushIntervalMs = flushIntervalMs;
+    }
+
+    public boolean isRedisEnabled() {
+        return redisEnabled;
+    }
+
+    public void setRedisEnabled(boolean redisEnabled) {
+        this.redisEnabled = redisEnabled;
+    }
+}
@@ -6,10 +6,14 @@ import com.ecommerce.customer.domain.value_objects.Email;
 import com.ecommerce.customer.infrastructure.persistence.entities.CustomerJpaEntity;
 import com.ecommerce.customer.infrastructure.persistence.mappers.CustomerMapper;
 import com.ecommerce.customer.infrastructure.persistence.repositories.CustomerJpaRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Adapter implementing CustomerRepository port using JPA.
@@ -17,16 +21,22 @@ import java.util.UUID;
 @Component
 public class CustomerRepositoryAdapter implements CustomerRepository {
 
+    private static final int EMAIL_PAGE_SIZE = 5000;
+
     private final CustomerJpaRepository jpaRepository;
 
     public CustomerRepositoryAdapter(CustomerJpaRepository jpaRepository) {
         this.jpaRepository = jpaRepository;
     }
 
+    /**
+     * Flushes so a duplicate email fails here, where the caller can
+     * report it, rather than at commit.
+     */
     @Override
     public Customer save(Customer customer) {
         CustomerJpaEntity jpaEntity = CustomerMapper.toJpa(customer);
-        CustomerJpaEntity saved = jpaRepository.save(jpaEntity);
+        CustomerJpaEntity saved = jpaRepository.saveAndFlush(jpaEntity);
         return CustomerMapper.toDomain(saved);
     }
 
@@ -47,6 +57,20 @@ public class CustomerRepositoryAdapter implements CustomerRepository {
         return jpaRepository.existsByEmail(email.getValue());
     }
 
+    @Override
+    public void forEachEmail(Consumer<String> action) {
+        Pageable page = PageRequest.of(0, EMAIL_PAGE_SIZE);
+        String after = "";
+        List<String> emails;
+        do {
+            emails = jpaRepository.findEmailsAfter(after, page);
+            emails.forEach(action);
+            if (!emails.isEmpty()) {
+                after = emails.get(emails.size() - 1);
+            }
+        } while (emails.size() == EMAIL_PAGE_SIZE);
+    }
+
     @Override
     public void deleteById(UUID id) {
         jpaRepository.deleteById(id);
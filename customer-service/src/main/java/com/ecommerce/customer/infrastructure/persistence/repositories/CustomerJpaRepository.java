@@ -1,9 +1,13 @@
 package com.ecommerce.customer.infrastructure.persistence.repositories;
 
 import com.ecommerce.customer.infrastructure.persistence.entities.CustomerJpaEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -16,4 +20,7 @@ public interface CustomerJpaRepository extends JpaRepository<CustomerJpaEntity,
     Optional<CustomerJpaEntity> findByEmail(String email);
 
     boolean existsByEmail(String email);
+
+    @Query("SELECT c.email FROM CustomerJpaEntity c WHERE c.email > :after ORDER BY c.email")
+    List<String> findEmailsAfter(@Param("after") String after, Pageable pageable);
 }
@@ -0,0 +1,101 @@
+package com.ecommerce.customer.infrastructure.security;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe Bloom filter over strings.
+ * Sized from the expected insertions and target false-positive rate;
+ * bit positions come from double hashing of a single 64-bit hash.
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+    private final LongAdder insertions = new LongAdder();
+
+    private BloomFilter(long bitCount, int hashCount) {
+        this.bitCount = bitCount;
+        this.hashCount = hashCount;
+        this.words = new AtomicLongArray(Math.toIntExact((bitCount + 63) >>> 6));
+    }
+
+    /**
+     * Creates a filter sized for the given load.
+     *
+     * @param expectedInsertions the number of keys the filter should hold
+     * @param falsePositiveRate the target false-positive rate, between 0 and 1
+     * @return an empty filter
+     */
+    public static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("False-positive rate must be between 0 and 1");
+        }
+        long n = Math.max(1, expectedInsertions);
+        double ln2 = Math.log(2);
+        long bits = Math.max(64, (long) Math.ceil(-n * Math.log(falsePositiveRate) / (ln2 * ln2)));
+        int hashes = Math.max(1, (int) Math.round((double) bits / n * ln2));
+        return new BloomFilter(bits, hashes);
+    }
+
+    /**
+     * Adds a key.
+     */
+    public void put(String key) {
+        long h1 = KeyHash.hash64(key);
+        long h2 = KeyHash.mix(h1) | 1L;
+        for (int i = 0; i < hashCount; i++) {
+            setBit(Math.floorMod(h1 + i * h2, bitCount));
+        }
+        insertions.increment();
+    }
+
+    /**
+     * Checks if the key may have been added.
+     * A false result is definite.
+     */
+    public boolean mightContain(String key) {
+        long h1 = KeyHash.hash64(key);
+        long h2 = KeyHash.mix(h1) | 1L;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Estimates the current false-positive rate from the insertions so far.
+     */
+    public double expectedFalsePositiveRate() {
+        double exponent = -(double) hashCount * insertions.sum() / bitCount;
+        return Math.pow(1 - Math.exp(exponent), hashCount);
+    }
+
+    public long insertions() {
+        return insertions.sum();
+    }
+
+    public long memoryBytes() {
+        return (long) words.length() * Long.BYTES;
+    }
+
+    public int hashCount() {
+        return hashCount;
+    }
+
+    private void setBit(long bit) {
+        int index = (int) (bit >>> 6);
+        long mask = 1L << bit;
+        long current;
+        do {
+            current = words.get(index);
+            if ((current & mask) != 0) {
+                return;
+            }
+        } while (!words.compareAndSet(index, current, current | mask));
+    }
+}
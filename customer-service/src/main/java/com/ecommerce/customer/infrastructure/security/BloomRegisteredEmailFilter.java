@@ -0,0 +1,161 @@
+package com.ecommerce.customer.infrastructure.security;
+
+import com.ecommerce.customer.domain.events.CustomerRegistered;
+import com.ecommerce.customer.domain.ports.CustomerRepository;
+import com.ecommerce.customer.domain.ports.RegisteredEmailFilter;
+import com.ecommerce.customer.domain.value_objects.Email;
+import com.ecommerce.customer.infrastructure.config.EmailFilterConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.function.ToLongFunction;
+
+/**
+ * Bloom filter of registered emails, rebuilt periodically from the repository
+ * and updated incrementally as customers register.
+ *
+ * Until the first build completes every email is reported as possibly
+ * registered, so callers fall through to the repository. With Redis sync
+ * enabled, new registrations are broadcast so other instances learn them
+ * before their next rebuild; a lost broadcast leaves them a false negative
+ * until then, which is why login does not consult the filter.
+ */
+@Component
+public class BloomRegisteredEmailFilter implements RegisteredEmailFilter {
+
+    public static final String SYNC_CHANNEL = "customer:email-filter";
+
+    private static final Logger log = LoggerFactory.getLogger(BloomRegisteredEmailFilter.class);
+
+    private final CustomerRepository customerRepository;
+    private final EmailFilterConfig config;
+    private final StringRedisTemplate redisTemplate;
+    private final Counter definiteNegatives;
+    private final Counter possiblePositives;
+
+    private volatile BloomFilter active;
+    private volatile BloomFilter building;
+
+    @Autowired
+    public BloomRegisteredEmailFilter(
+            CustomerRepository customerRepository,
+            EmailFilterConfig config,
+            ObjectProvider<StringRedisTemplate> redisTemplate,
+            MeterRegistry meterRegistry
+    ) {
+        this(customerRepository, config,
+                config.isRedisSyncEnabled() ? redisTemplate.getIfAvailable() : null,
+                meterRegistry);
+    }
+
+    public BloomRegisteredEmailFilter(
+            CustomerRepository customerRepository,
+            EmailFilterConfig config,
+            StringRedisTemplate redisTemplate,
+            MeterRegistry meterRegistry
+    ) {
+        this.customerRepository = customerRepository;
+        this.config = config;
+        this.redisTemplate = redisTemplate;
+        this.definiteNegatives = Counter.builder("customer.email.filter.checks")
+                .tag("result", "absent")
+                .register(meterRegistry);
+        this.possiblePositives = Counter.builder("customer.email.filter.checks")
+                .tag("result", "maybe")
+                .register(meterRegistry);
+
+        Gauge.builder("customer.email.filter.memory.bytes", this, f -> f.stat(BloomFilter::memoryBytes))
+                .register(meterRegistry);
+        Gauge.builder("customer.email.filter.insertions", this, f -> f.stat(BloomFilter::insertions))
+                .register(meterRegistry);
+        Gauge.builder("customer.email.filter.fpp.expected", this,
+                        f -> f.active != null ? f.active.expectedFalsePositiveRate() : 0)
+                .description("Estimated false-positive rate at the current load")
+                .register(meterRegistry);
+        Gauge.builder("customer.email.filter.fpp.target", config, EmailFilterConfig::getFalsePositiveRate)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean mightBeRegistered(Email email) {
+        BloomFilter filter = active;
+        if (!config.isEnabled() || filter == null) {
+            return true;
+        }
+        boolean maybe = filter.mightContain(email.getValue());
+        (maybe ? possiblePositives : definiteNegatives).increment();
+        return maybe;
+    }
+
+    /**
+     * Adds a committed registration and broadcasts it to other instances.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCustomerRegistered(CustomerRegistered event) {
+        addLocal(event.getEmail());
+        if (redisTemplate != null) {
+            try {
+                redisTemplate.convertAndSend(SYNC_CHANNEL, event.getEmail());
+            } catch (RuntimeException ex) {
+                log.warn("Failed to broadcast registered email to other instances: {}", ex.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Adds an email to the active filter and to any filter being rebuilt.
+     */
+    public void addLocal(String email) {
+        BloomFilter filter = active;
+        if (filter != null) {
+            filter.put(email);
+        }
+        BloomFilter next = building;
+        if (next != null) {
+            next.put(email);
+        }
+    }
+
+    /**
+     * Rebuilds the filter from the repository and swaps it in.
+     * Sized for at least twice the current load so the false-positive
+     * rate stays near target between rebuilds.
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${customer.email-filter.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        BloomFilter current = active;
+        long expected = Math.max(config.getExpectedInsertions(),
+                current != null ? current.insertions() * 2 : 0);
+        BloomFilter next = BloomFilter.create(expected, config.getFalsePositiveRate());
+
+        building = next;
+        try {
+            customerRepository.forEachEmail(next::put);
+            active = next;
+            log.info("Registered email filter rebuilt: {} emails, {} bytes, {} hashes",
+                    next.insertions(), next.memoryBytes(), next.hashCount());
+        } catch (RuntimeException ex) {
+            log.warn("Registered email filter rebuild failed, keeping previous filter: {}", ex.getMessage());
+        } finally {
+            building = null;
+        }
+    }
+
+    private double stat(ToLongFunction<BloomFilter> metric) {
+        BloomFilter filter = active;
+        return filter != null ? metric.applyAsLong(filter) : 0;
+    }
+}
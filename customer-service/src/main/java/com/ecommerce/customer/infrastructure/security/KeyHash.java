@@ -0,0 +1,34 @@
+package com.ecommerce.customer.infrastructure.security;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 64-bit string hash shared by the in-memory probabilistic structures.
+ * FNV-1a over UTF-8 bytes followed by a finalizer so both 32-bit halves are well mixed.
+ */
+final class KeyHash {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private KeyHash() {
+    }
+
+    static long hash64(String key) {
+        long hash = FNV_OFFSET;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= FNV_PRIME;
+        }
+        return mix(hash);
+    }
+
+    static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,238 @@
+package com.ecommerce.customer.infrastructure.security;
+
+import com.ecommerce.customer.domain.ports.LoginAttemptGuard;
+import com.ecommerce.customer.infrastructure.config.LoginGuardConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * In-memory login guard backed by sliding count-min sketches.
+ *
+ * Failures are counted per email and per client IP in fixed memory, and known
+ * lockouts are cached so repeat attempts on a locked account never reach the
+ * database. When Redis sync is enabled, lockouts and per-IP failure counts are
+ * shared across instances; Redis errors fall back to the local view.
+ */
+@Component
+public class SketchLoginAttemptGuard implements LoginAttemptGuard {
+
+    private static final Logger log = LoggerFactory.getLogger(SketchLoginAttemptGuard.class);
+    private static final String LOCK_KEY_PREFIX = "login-guard:locked:";
+    private static final String IP_KEY_PREFIX = "login-guard:ip:";
+
+    private final LoginGuardConfig config;
+    private final SlidingCountMinSketch emailFailures;
+    private final SlidingCountMinSketch ipFailures;
+    private final Map<String, Instant> lockouts = new ConcurrentHashMap<>();
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public SketchLoginAttemptGuard(
+            LoginGuardConfig config,
+            ObjectProvider<StringRedisTemplate> redisTemplate,
+            MeterRegistry meterRegistry
+    ) {
+        this(config, config.isRedisEnabled() ? redisTemplate.getIfAvailable() : null, meterRegistry);
+    }
+
+    public SketchLoginAttemptGuard(
+            LoginGuardConfig config,
+            StringRedisTemplate redisTemplate,
+            MeterRegistry meterRegistry
+    ) {
+        this.config = config;
+        this.emailFailures = newSketch(config);
+        this.ipFailures = newSketch(config);
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("customer.login.guard.lockouts", lockouts, Map::size)
+                .description("Locked accounts cached by the login guard")
+                .register(meterRegistry);
+        Gauge.builder("customer.login.guard.sketch.bytes", this,
+                        guard -> guard.emailFailures.memoryBytes() + guard.ipFailures.memoryBytes())
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean isLocked(String email) {
+        Instant lockedUntil = lockouts.get(email);
+        if (lockedUntil == null) {
+            lockedUntil = fetchRemoteLockout(email);
+        }
+        if (lockedUntil == null) {
+            return false;
+        }
+        if (Instant.now().isAfter(lockedUntil)) {
+            lockouts.remove(email, lockedUntil);
+            return false;
+        }
+        rejected("locked");
+        return true;
+    }
+
+    @Override
+    public boolean isThrottled(String email, String clientIp) {
+        if (emailFailures.estimate(email) >= config.getEmailFailureLimit()) {
+            rejected("email");
+            return true;
+        }
+        if (clientIp != null && ipFailureCount(clientIp) >= config.getIpFailureLimit()) {
+            rejected("ip");
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void recordFailure(String email, String clientIp) {
+        emailFailures.increment(email);
+        if (clientIp != null) {
+            ipFailures.increment(clientIp);
+            incrementRemoteIpFailures(clientIp);
+        }
+    }
+
+    @Override
+    public void recordLockout(String email, Instant lockedUntil) {
+        Objects.requireNonNull(lockedUntil, "lockedUntil is required");
+        if (lockouts.size() < config.getMaxTrackedLockouts()) {
+            lockouts.put(email, lockedUntil);
+        }
+        storeRemoteLockout(email, lockedUntil);
+    }
+
+    @Override
+    public void recordSuccess(String email) {
+        if (lockouts.remove(email) != null && redisTemplate != null) {
+            runRemote(() -> redisTemplate.delete(LOCK_KEY_PREFIX + email));
+        }
+    }
+
+    /**
+     * Drops expired lockouts so the cache only holds live entries.
+     */
+    @Scheduled(fixedDelayString = "${customer.login-guard.window-ms:900000}")
+    public void evictExpiredLockouts() {
+        Instant now = Instant.now();
+        lockouts.entrySet().removeIf(entry -> now.isAfter(entry.getValue()));
+    }
+
+    private int ipFailureCount(String clientIp) {
+        int local = ipFailures.estimate(clientIp);
+        if (redisTemplate == null) {
+            return local;
+        }
+        List<String> keys = ipSliceKeys(clientIp);
+        List<String> values = callRemote(() -> redisTemplate.opsForValue().multiGet(keys));
+        if (values == null) {
+            return local;
+        }
+        int shared = values.stream()
+                .filter(Objects::nonNull)
+                .mapToInt(Integer::parseInt)
+                .sum();
+        return Math.max(local, shared);
+    }
+
+    private void incrementRemoteIpFailures(String clientIp) {
+        if (redisTemplate == null) {
+            return;
+        }
+        String key = ipSliceKeys(clientIp).get(0);
+        runRemote(() -> {
+            redisTemplate.opsForValue().increment(key);
+            redisTemplate.expire(key, Duration.ofMillis(config.getWindowMs()));
+        });
+    }
+
+    private Instant fetchRemoteLockout(String email) {
+        if (redisTemplate == null) {
+            return null;
+        }
+        String value = callRemote(() -> redisTemplate.opsForValue().get(LOCK_KEY_PREFIX + email));
+        if (value == null) {
+            return null;
+        }
+        Instant lockedUntil = Instant.ofEpochMilli(Long.parseLong(value));
+        lockouts.put(email, lockedUntil);
+        return lockedUntil;
+    }
+
+    private void storeRemoteLockout(String email, Instant lockedUntil) {
+        if (redisTemplate == null) {
+            return;
+        }
+        Duration ttl = Duration.between(Instant.now(), lockedUntil);
+        if (ttl.isNegative() || ttl.isZero()) {
+            return;
+        }
+        runRemote(() -> redisTemplate.opsForValue().set(
+                LOCK_KEY_PREFIX + email, String.valueOf(lockedUntil.toEpochMilli()), ttl));
+    }
+
+    /**
+     * Keys for every slice in the window, current slice first.
+     */
+    private List<String> ipSliceKeys(String clientIp) {
+        long sliceMs = config.getWindowMs() / config.getWindowSlices();
+        long epoch = System.currentTimeMillis() / sliceMs;
+        List<String> keys = new ArrayList<>(config.getWindowSlices());
+        for (int i = 0; i < config.getWindowSlices(); i++) {
+            keys.add(IP_KEY_PREFIX + clientIp + ":" + (epoch - i));
+        }
+        return keys;
+    }
+
+    private void runRemote(Runnable operation) {
+        try {
+            operation.run();
+        } catch (RuntimeException ex) {
+            log.debug("Login guard Redis sync failed, using local state: {}", ex.getMessage());
+        }
+    }
+
+    private <T> T callRemote(Supplier<T> operation) {
+        try {
+            return operation.get();
+        } catch (RuntimeException ex) {
+            log.debug("Login guard Redis sync failed, using local state: {}", ex.getMessage());
+            return null;
+        }
+    }
+
+    private void rejected(String reason) {
+        Counter.builder("customer.login.guard.rejected")
+                .description("Login attempts rejected before customer lookup")
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static SlidingCountMinSketch newSketch(LoginGuardConfig config) {
+        return new SlidingCountMinSketch(
+                config.getSketchDepth(),
+                config.getSketchWidth(),
+                config.getWindowMs(),
+                config.getWindowSlices()
+        );
+    }
+}
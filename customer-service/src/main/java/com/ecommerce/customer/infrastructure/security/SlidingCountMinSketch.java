@@ -0,0 +1,101 @@
+package com.ecommerce.customer.infrastructure.security;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Count-min sketch over a sliding time window.
+ *
+ * The window is split into slices, each holding its own depth x width counter
+ * matrix. A slice is cleared lazily the first time it is written in a new
+ * epoch, and estimates only sum slices that are still inside the window.
+ * Memory is fixed regardless of how many distinct keys are seen; estimates
+ * never undercount and may overcount on collisions.
+ */
+public class SlidingCountMinSketch {
+
+    private final int depth;
+    private final int width;
+    private final int slices;
+    private final long sliceMs;
+    private final AtomicIntegerArray counters;
+    private final AtomicLongArray sliceEpochs;
+    private final LongSupplier clock;
+
+    public SlidingCountMinSketch(int depth, int width, long windowMs, int slices) {
+        this(depth, width, windowMs, slices, System::currentTimeMillis);
+    }
+
+    public SlidingCountMinSketch(int depth, int width, long windowMs, int slices, LongSupplier clock) {
+        if (depth < 1 || width < 1 || slices < 1 || windowMs < slices) {
+            throw new IllegalArgumentException("Invalid sketch dimensions");
+        }
+        this.depth = depth;
+        this.width = width;
+        this.slices = slices;
+        this.sliceMs = windowMs / slices;
+        this.counters = new AtomicIntegerArray(slices * depth * width);
+        this.sliceEpochs = new AtomicLongArray(slices);
+        this.clock = clock;
+    }
+
+    /**
+     * Adds one occurrence of the key to the current slice.
+     */
+    public void increment(String key) {
+        long epoch = clock.getAsLong() / sliceMs;
+        int slice = (int) (epoch % slices);
+        rotate(slice, epoch);
+
+        long hash = KeyHash.hash64(key);
+        int base = slice * depth * width;
+        for (int row = 0; row < depth; row++) {
+            counters.incrementAndGet(base + row * width + index(hash, row));
+        }
+    }
+
+    /**
+     * Estimates occurrences of the key within the window.
+     */
+    public int estimate(String key) {
+        long epoch = clock.getAsLong() / sliceMs;
+        long hash = KeyHash.hash64(key);
+        int min = Integer.MAX_VALUE;
+
+        for (int row = 0; row < depth; row++) {
+            int column = row * width + index(hash, row);
+            int sum = 0;
+            for (int slice = 0; slice < slices; slice++) {
+                if (epoch - sliceEpochs.get(slice) < slices) {
+                    sum += counters.get(slice * depth * width + column);
+                }
+            }
+            min = Math.min(min, sum);
+        }
+        return min;
+    }
+
+    /**
+     * Returns the approximate memory held by the counters, in bytes.
+     */
+    public long memoryBytes() {
+        return (long) counters.length() * Integer.BYTES;
+    }
+
+    private void rotate(int slice, long epoch) {
+        long current = sliceEpochs.get(slice);
+        if (current != epoch && sliceEpochs.compareAndSet(slice, current, epoch)) {
+            int base = slice * depth * width;
+            for (int i = 0; i < depth * width; i++) {
+                counters.set(base + i, 0);
+            }
+        }
+    }
+
+    private int index(long hash, int row) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        return Math.floorMod(h1 + row * h2, width);
+    }
+}
@@ -0,0 +1,79 @@
+package com.ecommerce.customer.infrastructure.security;
+
+import com.ecommerce.customer.domain.ports.CustomerRepository;
+import com.ecommerce.customer.domain.ports.FailedLoginRecorder;
+import com.ecommerce.shared.domain.events.DomainEventPublisher;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Buffers failed login attempts in memory and writes them back in batches.
+ * Several failures for the same customer within one flush interval become
+ * a single load and save. A write-back that locks the account publishes
+ * CustomerProfileUpdated so cached views of the customer are evicted.
+ */
+@Component
+public class WriteBehindFailedLoginRecorder implements FailedLoginRecorder {
+
+    private static final Logger log = LoggerFactory.getLogger(WriteBehindFailedLoginRecorder.class);
+
+    private final CustomerRepository customerRepository;
+    private final DomainEventPublisher eventPublisher;
+    private final Map<UUID, Integer> pending = new ConcurrentHashMap<>();
+
+    public WriteBehindFailedLoginRecorder(CustomerRepository customerRepository,
+                                          DomainEventPublisher eventPublisher) {
+        this.customerRepository = customerRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public int recordFailure(UUID customerId) {
+        return pending.merge(customerId, 1, Integer::sum);
+    }
+
+    @Override
+    public int drainPending(UUID customerId) {
+        Integer count = pending.remove(customerId);
+        return count != null ? count : 0;
+    }
+
+    /**
+     * Writes buffered failures back to the customer aggregates.
+     */
+    @Scheduled(fixedDelayString = "${customer.login-guard.flush-interval-ms:2000}")
+    public void flush() {
+        for (UUID customerId : pending.keySet()) {
+            int count = drainPending(customerId);
+            if (count > 0) {
+                writeBack(customerId, count);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void writeBack(UUID customerId, int count) {
+        try {
+            customerRepository.findById(customerId).ifPresent(customer -> {
+                customer.recordFailedLogins(count);
+                customerRepository.save(customer);
+                customer.getDomainEvents().forEach(eventPublisher::publish);
+                customer.clearDomainEvents();
+            });
+        } catch (RuntimeException ex) {
+            log.warn("Failed to write back {} failed logins for customer {}: {}",
+                    count, customerId, ex.getMessage());
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.ecommerce.customer.application.dto.CustomerResponse;
 import com.ecommerce.customer.application.dto.RegisterCustomerCommand;
 import com.ecommerce.customer.application.usecases.AuthenticateCustomerUseCase;
 import com.ecommerce.customer.application.usecases.RegisterCustomerUseCase;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -48,15 +49,20 @@ public class AuthController {
 
     /**
      * Authenticates a customer.
+     * The remote address is the client as resolved from X-Forwarded-For by
+     * Tomcat's RemoteIpValve, which trusts only entries added by internal proxies.
      *
      * @param command the authentication command
+     * @param request the servlet request, used for the client IP
      * @return the authentication response with tokens
      */
     @PostMapping("/login")
     public ResponseEntity<AuthenticationResponse> login(
-            @Valid @RequestBody AuthenticateCommand command
+            @Valid @RequestBody AuthenticateCommand command,
+            HttpServletRequest request
     ) {
-        AuthenticationResponse response = authenticateCustomerUseCase.execute(command);
+        AuthenticationResponse response = authenticateCustomerUseCase.execute(
+                command.withClientIp(request.getRemoteAddr()));
         return ResponseEntity.ok(response);
     }
 }
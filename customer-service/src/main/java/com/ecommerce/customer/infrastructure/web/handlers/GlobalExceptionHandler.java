@@ -3,8 +3,11 @@ package com.ecommerce.customer.infrastructure.web.handlers;
 import com.ecommerce.customer.application.exceptions.AuthenticationFailedException;
 import com.ecommerce.customer.application.exceptions.CustomerNotFoundException;
 import com.ecommerce.customer.application.exceptions.EmailAlreadyExistsException;
+import com.ecommerce.customer.application.exceptions.LoginThrottledException;
+import com.ecommerce.security.crypto.PasswordHashingUnavailableException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -75,6 +78,36 @@ public class GlobalExceptionHandler {
                 ));
     }
 
+    @ExceptionHandler(LoginThrottledException.class)
+    public ResponseEntity<ErrorResponse> handleLoginThrottled(LoginThrottledException ex) {
+        logger.warn("Login throttled: {}", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "60")
+                .body(new ErrorResponse(
+                        "TOO_MANY_ATTEMPTS",
+                        ex.getMessage(),
+                        HttpStatus.TOO_MANY_REQUESTS.value(),
+                        Instant.now()
+                ));
+    }
+
+    @ExceptionHandler(PasswordHashingUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handlePasswordHashingUnavailable(
+            PasswordHashingUnavailableException ex
+    ) {
+        logger.warn("Password hashing unavailable: {}", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new ErrorResponse(
+                        "SERVICE_BUSY",
+                        ex.getMessage(),
+                        HttpStatus.SERVICE_UNAVAILABLE.value(),
+                        Instant.now()
+                ));
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, Object>> handleValidationErrors(
             MethodArgumentNotValidException ex
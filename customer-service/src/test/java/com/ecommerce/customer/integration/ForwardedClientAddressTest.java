@@ -0,0 +1,48 @@
+package com.ecommerce.customer.integration;
+
+import com.ecommerce.customer.application.dto.AuthenticateCommand;
+import com.ecommerce.customer.domain.ports.LoginAttemptGuard;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Integration test for resolving the client address behind the API gateway.
+ * Runs on a real Tomcat so the RemoteIpValve configuration is exercised.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("integration-test")
+@DisplayName("Forwarded Client Address Integration Tests")
+class ForwardedClientAddressTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @SpyBean
+    private LoginAttemptGuard loginAttemptGuard;
+
+    @Test
+    @DisplayName("should count failures against the address the gateway appended, not a spoofed one")
+    void shouldUseAddressAppendedByGateway() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        // The caller wrote the first entry; the gateway appended the second
+        headers.add("X-Forwarded-For", "198.51.100.1, 203.0.113.7");
+        AuthenticateCommand command = new AuthenticateCommand("nobody@example.com", "WrongPassword1");
+
+        restTemplate.postForEntity("/api/v1/auth/login", new HttpEntity<>(command, headers), String.class);
+
+        verify(loginAttemptGuard).recordFailure(anyString(), eq("203.0.113.7"));
+    }
+}
@@ -2,12 +2,19 @@ package com.ecommerce.customer.unit.application;
 
 import com.ecommerce.customer.application.dto.AuthenticateCommand;
 import com.ecommerce.customer.application.exceptions.AuthenticationFailedException;
+import com.ecommerce.customer.application.exceptions.LoginThrottledException;
 import com.ecommerce.customer.application.usecases.AuthenticateCustomerUseCase;
 import com.ecommerce.customer.domain.entities.Customer;
+import com.ecommerce.customer.domain.events.CustomerProfileUpdated;
 import com.ecommerce.customer.domain.ports.CustomerRepository;
 import com.ecommerce.customer.domain.value_objects.Email;
 import com.ecommerce.customer.domain.value_objects.Password;
+import com.ecommerce.customer.infrastructure.config.LoginGuardConfig;
+import com.ecommerce.customer.infrastructure.security.SketchLoginAttemptGuard;
+import com.ecommerce.customer.infrastructure.security.WriteBehindFailedLoginRecorder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import com.ecommerce.security.provider.JwtTokenProvider;
+import com.ecommerce.shared.domain.events.DomainEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -15,13 +22,19 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -37,11 +50,24 @@ class AuthenticateCustomerUseCaseTest {
     @Mock
     private JwtTokenProvider jwtTokenProvider;
 
+    private final List<DomainEvent> published = new ArrayList<>();
+
     private AuthenticateCustomerUseCase useCase;
 
     @BeforeEach
     void setUp() {
-        useCase = new AuthenticateCustomerUseCase(customerRepository, jwtTokenProvider);
+        useCase = createUseCase(new LoginGuardConfig());
+    }
+
+    private AuthenticateCustomerUseCase createUseCase(LoginGuardConfig guardConfig) {
+        return new AuthenticateCustomerUseCase(
+                customerRepository,
+                jwtTokenProvider,
+                new BCryptPasswordEncoder(),
+                new SketchLoginAttemptGuard(guardConfig, null, new SimpleMeterRegistry()),
+                new WriteBehindFailedLoginRecorder(customerRepository, event -> { }),
+                published::add
+        );
     }
 
     @Nested
@@ -95,6 +121,9 @@ class AuthenticateCustomerUseCaseTest {
             // After 5 failed attempts, account should be locked
             assertThat(customerRef.get().isLocked()).isTrue();
 
+            // The lockout evicts cached views of the customer
+            assertThat(published).hasExactlyElementsOfTypes(CustomerProfileUpdated.class);
+
             // 6th attempt should throw AccountLocked
             assertThatThrownBy(() -> useCase.execute(wrongPasswordCommand))
                     .isInstanceOf(AuthenticationFailedException.class)
@@ -104,4 +133,82 @@ class AuthenticateCustomerUseCaseTest {
                     });
         }
     }
+
+    @Nested
+    @DisplayName("Login Guard")
+    class LoginGuard {
+
+        @Test
+        @DisplayName("should buffer failures that do not lock the account")
+        void shouldBufferNonLockingFailures() {
+            Customer customer = Customer.register(
+                    Email.of("buffer@example.com"),
+                    Password.fromRaw("Password123"),
+                    "Test",
+                    "User",
+                    null
+            );
+            when(customerRepository.findByEmail(any(Email.class))).thenReturn(Optional.of(customer));
+
+            for (int i = 0; i < 3; i++) {
+                assertThatThrownBy(() -> useCase.execute(
+                        new AuthenticateCommand("buffer@example.com", "WrongPass1")))
+                        .isInstanceOf(AuthenticationFailedException.class);
+            }
+
+            verify(customerRepository, never()).save(any(Customer.class));
+        }
+
+        @Test
+        @DisplayName("should throttle client IP before customer lookup")
+        void shouldThrottleClientIpBeforeLookup() {
+            LoginGuardConfig guardConfig = new LoginGuardConfig();
+            guardConfig.setIpFailureLimit(3);
+            AuthenticateCustomerUseCase guardedUseCase = createUseCase(guardConfig);
+            when(customerRepository.findByEmail(any(Email.class))).thenReturn(Optional.empty());
+
+            for (int i = 0; i < 3; i++) {
+                AuthenticateCommand probe = new AuthenticateCommand(
+                        "probe" + i + "@example.com", "Password123", "203.0.113.7");
+                assertThatThrownBy(() -> guardedUseCase.execute(probe))
+                        .isInstanceOf(AuthenticationFailedException.class);
+            }
+
+            AuthenticateCommand next = new AuthenticateCommand(
+                    "probe-next@example.com", "Password123", "203.0.113.7");
+            assertThatThrownBy(() -> guardedUseCase.execute(next))
+                    .isInstanceOf(LoginThrottledException.class);
+            verify(customerRepository, times(3)).findByEmail(any(Email.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("Password Rehash")
+    class PasswordRehash {
+
+        @Test
+        @DisplayName("should rehash password when work factor was raised")
+        void shouldRehashWhenWorkFactorRaised() {
+            String password = "Password123";
+            Customer customer = Customer.register(
+                    Email.of("rehash@example.com"),
+                    Password.fromRaw(password, new BCryptPasswordEncoder(4)),
+                    "Test",
+                    "User",
+                    null
+            );
+            customer.clearDomainEvents();
+            String originalHash = customer.getPassword().getHash();
+
+            when(customerRepository.findByEmail(any(Email.class))).thenReturn(Optional.of(customer));
+            when(customerRepository.save(any(Customer.class))).thenAnswer(inv -> inv.getArgument(0));
+
+            useCase.execute(new AuthenticateCommand("rehash@example.com", password));
+
+            String newHash = customer.getPassword().getHash();
+            assertThat(originalHash).startsWith("$2a$04$");
+            assertThat(newHash).startsWith("$2a$10$");
+            assertThat(customer.getPassword().matches(password)).isTrue();
+        }
+    }
 }
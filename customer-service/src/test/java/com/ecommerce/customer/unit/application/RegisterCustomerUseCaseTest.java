@@ -0,0 +1,164 @@
+package com.ecommerce.customer.unit.application;
+
+import com.ecommerce.customer.application.dto.AuthenticateCommand;
+import com.ecommerce.customer.application.dto.AuthenticationResponse;
+import com.ecommerce.customer.application.dto.RegisterCustomerCommand;
+import com.ecommerce.customer.application.exceptions.EmailAlreadyExistsException;
+import com.ecommerce.customer.application.usecases.AuthenticateCustomerUseCase;
+import com.ecommerce.customer.application.usecases.RegisterCustomerUseCase;
+import com.ecommerce.customer.domain.entities.Customer;
+import com.ecommerce.customer.domain.events.CustomerRegistered;
+import com.ecommerce.customer.domain.ports.CustomerRepository;
+import com.ecommerce.customer.domain.value_objects.Email;
+import com.ecommerce.customer.domain.value_objects.Password;
+import com.ecommerce.customer.infrastructure.config.EmailFilterConfig;
+import com.ecommerce.customer.infrastructure.config.LoginGuardConfig;
+import com.ecommerce.customer.infrastructure.security.BloomRegisteredEmailFilter;
+import com.ecommerce.customer.infrastructure.security.SketchLoginAttemptGuard;
+import com.ecommerce.customer.infrastructure.security.WriteBehindFailedLoginRecorder;
+import com.ecommerce.security.provider.JwtTokenProvider;
+import com.ecommerce.shared.domain.events.DomainEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for RegisterCustomerUseCase.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RegisterCustomerUseCase Tests")
+class RegisterCustomerUseCaseTest {
+
+    private static final String EMAIL = "new.customer@example.com";
+    private static final String PASSWORD = "Password123";
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    private final AtomicReference<Customer> stored = new AtomicReference<>();
+    private final List<DomainEvent> published = new ArrayList<>();
+    private RegisterCustomerUseCase registerUseCase;
+    private AuthenticateCustomerUseCase authenticateUseCase;
+    private BloomRegisteredEmailFilter emailFilter;
+
+    @BeforeEach
+    void setUp() {
+        emailFilter = new BloomRegisteredEmailFilter(
+                customerRepository, new EmailFilterConfig(), null, new SimpleMeterRegistry());
+        emailFilter.rebuild();
+
+        PasswordEncoder encoder = new BCryptPasswordEncoder(4);
+        registerUseCase = new RegisterCustomerUseCase(customerRepository, event -> {
+            published.add(event);
+            if (event instanceof CustomerRegistered registered) {
+                emailFilter.onCustomerRegistered(registered);
+            }
+        }, encoder, emailFilter);
+        authenticateUseCase = new AuthenticateCustomerUseCase(
+                customerRepository,
+                jwtTokenProvider,
+                encoder,
+                new SketchLoginAttemptGuard(new LoginGuardConfig(), null, new SimpleMeterRegistry()),
+                new WriteBehindFailedLoginRecorder(customerRepository, event -> { }),
+                published::add
+        );
+    }
+
+    @Test
+    @DisplayName("should let a customer log in right after registering")
+    void shouldAuthenticateAfterRegistering() {
+        storeLikeRepository();
+        when(customerRepository.findByEmail(any())).thenAnswer(invocation -> Optional.ofNullable(stored.get()));
+
+        registerUseCase.execute(command());
+        AuthenticationResponse response = authenticateUseCase.execute(new AuthenticateCommand(EMAIL, PASSWORD));
+
+        assertThat(response.customer().email()).isEqualTo(EMAIL);
+    }
+
+    @Test
+    @DisplayName("should let a customer log in before this instance's filter learns the email")
+    void shouldAuthenticateCustomerMissingFromFilter() {
+        Customer customer = Customer.register(Email.of(EMAIL), Password.fromRaw(PASSWORD, new BCryptPasswordEncoder(4)),
+                "New", "Customer", "0912345678");
+        when(customerRepository.findByEmail(any())).thenReturn(Optional.of(customer));
+
+        AuthenticationResponse response = authenticateUseCase.execute(new AuthenticateCommand(EMAIL, PASSWORD));
+
+        assertThat(emailFilter.mightBeRegistered(Email.of(EMAIL))).isFalse();
+        assertThat(response.customer().email()).isEqualTo(EMAIL);
+    }
+
+    @Test
+    @DisplayName("should publish CustomerRegistered although the saved copy has no events")
+    void shouldPublishRegistrationEvent() {
+        storeLikeRepository();
+
+        registerUseCase.execute(command());
+
+        assertThat(published).singleElement()
+                .isInstanceOfSatisfying(CustomerRegistered.class,
+                        event -> assertThat(event.getEmail()).isEqualTo(EMAIL));
+    }
+
+    @Test
+    @DisplayName("should reject a second registration of the same email")
+    void shouldRejectDuplicateRegistration() {
+        storeLikeRepository();
+        registerUseCase.execute(command());
+        when(customerRepository.existsByEmail(any())).thenReturn(true);
+
+        assertThatThrownBy(() -> registerUseCase.execute(command()))
+                .isInstanceOf(EmailAlreadyExistsException.class);
+    }
+
+    @Test
+    @DisplayName("should report a duplicate that loses the insert race as already registered")
+    void shouldTranslateUniqueConstraintViolation() {
+        when(customerRepository.save(any())).thenThrow(new DataIntegrityViolationException("uk_customers_email"));
+
+        assertThatThrownBy(() -> registerUseCase.execute(command()))
+                .isInstanceOf(EmailAlreadyExistsException.class);
+        assertThat(published).isEmpty();
+    }
+
+    /**
+     * Saves like the JPA adapter: the returned copy is rebuilt and carries no events.
+     */
+    private void storeLikeRepository() {
+        when(customerRepository.save(any())).thenAnswer(invocation -> {
+            Customer customer = invocation.getArgument(0);
+            Customer copy = Customer.reconstitute(customer.getId(), customer.getEmail(), customer.getPassword(),
+                    customer.getFirstName(), customer.getLastName(), customer.getPhoneNumber(),
+                    customer.getMemberLevel(), customer.getTotalSpending(), customer.getFailedLoginAttempts(),
+                    customer.getLockedUntil(), customer.isEmailVerified(), customer.getCreatedAt(),
+                    customer.getUpdatedAt(), customer.getVersion());
+            stored.set(copy);
+            return copy;
+        });
+    }
+
+    private static RegisterCustomerCommand command() {
+        return new RegisterCustomerCommand(EMAIL, PASSWORD, "New", "Customer", "0912345678");
+    }
+}
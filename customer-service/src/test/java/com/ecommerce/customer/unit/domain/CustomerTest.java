@@ -1,6 +1,7 @@
 package com.ecommerce.customer.unit.domain;
 
 import com.ecommerce.customer.domain.entities.Customer;
+import com.ecommerce.customer.domain.events.CustomerProfileUpdated;
 import com.ecommerce.customer.domain.events.CustomerRegistered;
 import com.ecommerce.customer.domain.value_objects.Email;
 import com.ecommerce.customer.domain.value_objects.MemberLevel;
@@ -235,6 +236,25 @@ class CustomerTest {
 
             assertThat(customer.getLockedUntil()).isNotNull();
         }
+
+        @Test
+        @DisplayName("should raise CustomerProfileUpdated when buffered failures lock the account")
+        void shouldRaiseProfileUpdatedOnLockout() {
+            Customer customer = Customer.register(
+                validEmail,
+                validPassword,
+                "John",
+                "Doe",
+                "0912345678"
+            );
+            customer.clearDomainEvents();
+
+            customer.recordFailedLogins(4);
+            assertThat(customer.getDomainEvents()).isEmpty();
+
+            customer.recordFailedLogins(1);
+            assertThat(customer.getDomainEvents()).hasExactlyElementsOfTypes(CustomerProfileUpdated.class);
+        }
     }
 
     @Nested
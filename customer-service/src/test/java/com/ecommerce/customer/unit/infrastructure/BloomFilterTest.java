@@ -0,0 +1,126 @@
+package com.ecommerce.customer.unit.infrastructure;
+
+import com.ecommerce.customer.domain.events.CustomerRegistered;
+import com.ecommerce.customer.domain.ports.CustomerRepository;
+import com.ecommerce.customer.domain.value_objects.Email;
+import com.ecommerce.customer.infrastructure.config.EmailFilterConfig;
+import com.ecommerce.customer.infrastructure.security.BloomFilter;
+import com.ecommerce.customer.infrastructure.security.BloomRegisteredEmailFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for BloomFilter and BloomRegisteredEmailFilter.
+ */
+@DisplayName("BloomFilter Tests")
+class BloomFilterTest {
+
+    @Nested
+    @DisplayName("Membership")
+    class Membership {
+
+        @Test
+        @DisplayName("should report every added key as possibly present")
+        void shouldHaveNoFalseNegatives() {
+            BloomFilter filter = BloomFilter.create(10_000, 0.01);
+            for (int i = 0; i < 10_000; i++) {
+                filter.put("user" + i + "@example.com");
+            }
+
+            for (int i = 0; i < 10_000; i++) {
+                assertThat(filter.mightContain("user" + i + "@example.com")).isTrue();
+            }
+            assertThat(filter.insertions()).isEqualTo(10_000);
+        }
+
+        @Test
+        @DisplayName("should keep the false-positive rate near the target at the expected load")
+        void shouldStayNearTargetFalsePositiveRate() {
+            BloomFilter filter = BloomFilter.create(10_000, 0.01);
+            for (int i = 0; i < 10_000; i++) {
+                filter.put("user" + i + "@example.com");
+            }
+
+            int falsePositives = 0;
+            for (int i = 0; i < 10_000; i++) {
+                if (filter.mightContain("other" + i + "@example.com")) {
+                    falsePositives++;
+                }
+            }
+
+            assertThat(falsePositives).isLessThan(200);
+            assertThat(filter.expectedFalsePositiveRate()).isLessThan(0.02);
+        }
+
+        @Test
+        @DisplayName("should reject a false-positive rate outside (0, 1)")
+        void shouldRejectInvalidRate() {
+            assertThatThrownBy(() -> BloomFilter.create(100, 0))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> BloomFilter.create(100, 1))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Registered Email Filter")
+    class RegisteredEmailFilter {
+
+        @Test
+        @DisplayName("should treat every email as possibly registered before the first build")
+        void shouldFailOpenBeforeFirstBuild() {
+            BloomRegisteredEmailFilter filter = filterOver();
+
+            assertThat(filter.mightBeRegistered(Email.of("anyone@example.com"))).isTrue();
+        }
+
+        @Test
+        @DisplayName("should load registered emails on rebuild")
+        void shouldLoadEmailsOnRebuild() {
+            BloomRegisteredEmailFilter filter = filterOver("known@example.com");
+
+            filter.rebuild();
+
+            assertThat(filter.mightBeRegistered(Email.of("known@example.com"))).isTrue();
+            assertThat(filter.mightBeRegistered(Email.of("unknown@example.com"))).isFalse();
+        }
+
+        @Test
+        @DisplayName("should learn a registration without waiting for the next rebuild")
+        void shouldLearnRegistration() {
+            BloomRegisteredEmailFilter filter = filterOver();
+            filter.rebuild();
+
+            filter.onCustomerRegistered(new CustomerRegistered(UUID.randomUUID().toString(),
+                    "new@example.com", "New", "Customer"));
+
+            assertThat(filter.mightBeRegistered(Email.of("new@example.com"))).isTrue();
+        }
+
+        @SuppressWarnings("unchecked")
+        private BloomRegisteredEmailFilter filterOver(String... emails) {
+            CustomerRepository repository = mock(CustomerRepository.class);
+            doAnswer(invocation -> {
+                Consumer<String> action = invocation.getArgument(0);
+                for (String email : emails) {
+                    action.accept(email);
+                }
+                return null;
+            }).when(repository).forEachEmail(any(Consumer.class));
+            EmailFilterConfig config = new EmailFilterConfig();
+            config.setExpectedInsertions(1000);
+            return new BloomRegisteredEmailFilter(repository, config, null, new SimpleMeterRegistry());
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.ecommerce.customer.unit.infrastructure;
+
+import com.ecommerce.customer.infrastructure.config.LoginGuardConfig;
+import com.ecommerce.customer.infrastructure.security.SketchLoginAttemptGuard;
+import com.ecommerce.customer.infrastructure.security.SlidingCountMinSketch;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for SlidingCountMinSketch and SketchLoginAttemptGuard.
+ */
+@DisplayName("Login Attempt Guard Tests")
+class LoginAttemptGuardTest {
+
+    private static final String EMAIL = "user@example.com";
+    private static final String CLIENT_IP = "203.0.113.7";
+
+    @Nested
+    @DisplayName("Sliding count-min sketch")
+    class Sketch {
+
+        private final AtomicLong now = new AtomicLong();
+        private final SlidingCountMinSketch sketch = new SlidingCountMinSketch(4, 1024, 1000, 10, now::get);
+
+        @Test
+        @DisplayName("should count occurrences of each key")
+        void shouldCountOccurrences() {
+            for (int i = 0; i < 3; i++) {
+                sketch.increment("a");
+            }
+            sketch.increment("b");
+
+            assertThat(sketch.estimate("a")).isEqualTo(3);
+            assertThat(sketch.estimate("b")).isEqualTo(1);
+            assertThat(sketch.estimate("c")).isZero();
+        }
+
+        @Test
+        @DisplayName("should never undercount when keys collide")
+        void shouldNeverUndercount() {
+            SlidingCountMinSketch narrow = new SlidingCountMinSketch(2, 8, 1000, 10, now::get);
+            for (int i = 0; i < 100; i++) {
+                narrow.increment("key" + i);
+            }
+            narrow.increment("key0");
+
+            assertThat(narrow.estimate("key0")).isGreaterThanOrEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("should forget occurrences that slid out of the window")
+        void shouldForgetOldSlices() {
+            sketch.increment("a");
+            now.set(500);
+            sketch.increment("a");
+
+            now.set(999);
+            assertThat(sketch.estimate("a")).isEqualTo(2);
+            now.set(1200);
+            assertThat(sketch.estimate("a")).isEqualTo(1);
+            now.set(1500);
+            assertThat(sketch.estimate("a")).isZero();
+        }
+
+        @Test
+        @DisplayName("should clear a slice before reusing it in a later window")
+        void shouldClearReusedSlice() {
+            sketch.increment("a");
+            now.set(1000);
+
+            sketch.increment("a");
+
+            assertThat(sketch.estimate("a")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should reject a window shorter than its slice count")
+        void shouldRejectInvalidDimensions() {
+            assertThatThrownBy(() -> new SlidingCountMinSketch(4, 1024, 5, 10))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Sketch login guard")
+    class Guard {
+
+        private LoginGuardConfig config;
+        private SimpleMeterRegistry meterRegistry;
+        private SketchLoginAttemptGuard guard;
+
+        @BeforeEach
+        void setUp() {
+            config = new LoginGuardConfig();
+            config.setEmailFailureLimit(3);
+            config.setIpFailureLimit(5);
+            meterRegistry = new SimpleMeterRegistry();
+            guard = new SketchLoginAttemptGuard(config, null, meterRegistry);
+        }
+
+        @Test
+        @DisplayName("should throttle an email once its failures reach the limit")
+        void shouldThrottleEmailAtLimit() {
+            guard.recordFailure(EMAIL, null);
+            guard.recordFailure(EMAIL, null);
+            assertThat(guard.isThrottled(EMAIL, null)).isFalse();
+
+            guard.recordFailure(EMAIL, null);
+
+            assertThat(guard.isThrottled(EMAIL, null)).isTrue();
+            assertThat(guard.isThrottled("other@example.com", null)).isFalse();
+            assertThat(meterRegistry.counter("customer.login.guard.rejected", "reason", "email").count())
+                    .isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should throttle a client IP failing across many emails")
+        void shouldThrottleIpAcrossEmails() {
+            for (int i = 0; i < 5; i++) {
+                guard.recordFailure("user" + i + "@example.com", CLIENT_IP);
+            }
+
+            assertThat(guard.isThrottled("fresh@example.com", CLIENT_IP)).isTrue();
+            assertThat(guard.isThrottled("fresh@example.com", "198.51.100.1")).isFalse();
+        }
+
+        @Test
+        @DisplayName("should report a lockout until it ends or the account logs in")
+        void shouldTrackLockouts() {
+            guard.recordLockout(EMAIL, Instant.now().plus(1, ChronoUnit.MINUTES));
+            guard.recordLockout("expired@example.com", Instant.now().minus(1, ChronoUnit.SECONDS));
+
+            assertThat(guard.isLocked(EMAIL)).isTrue();
+            assertThat(guard.isLocked("expired@example.com")).isFalse();
+
+            guard.recordSuccess(EMAIL);
+
+            assertThat(guard.isLocked(EMAIL)).isFalse();
+        }
+
+        @Test
+        @DisplayName("should fall back to local counts when Redis is unavailable")
+        void shouldFallBackWhenRedisFails() {
+            StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+            when(redisTemplate.opsForValue()).thenThrow(new RedisConnectionFailureException("down"));
+            SketchLoginAttemptGuard shared = new SketchLoginAttemptGuard(config, redisTemplate, meterRegistry);
+
+            for (int i = 0; i < 5; i++) {
+                shared.recordFailure("user" + i + "@example.com", CLIENT_IP);
+            }
+
+            assertThat(shared.isLocked(EMAIL)).isFalse();
+            assertThat(shared.isThrottled("fresh@example.com", CLIENT_IP)).isTrue();
+        }
+    }
+}
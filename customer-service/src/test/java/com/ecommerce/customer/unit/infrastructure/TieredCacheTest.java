@@ -0,0 +1,200 @@
+package com.ecommerce.customer.unit.infrastructure;
+
+import com.ecommerce.customer.application.usecases.GetCustomerProfileUseCase;
+import com.ecommerce.customer.infrastructure.cache.TieredCache;
+import com.ecommerce.customer.infrastructure.cache.TieredCacheManager;
+import com.ecommerce.customer.infrastructure.config.CustomerCacheConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for TieredCache and TieredCacheManager.
+ */
+@DisplayName("TieredCache Tests")
+class TieredCacheTest {
+
+    private static final UUID KEY = UUID.randomUUID();
+
+    private ConcurrentMapCache local;
+    private ConcurrentMapCache remote;
+    private List<String> broadcasts;
+    private TieredCache cache;
+
+    @BeforeEach
+    void setUp() {
+        local = new ConcurrentMapCache("local");
+        remote = new ConcurrentMapCache("remote");
+        broadcasts = new ArrayList<>();
+        cache = new TieredCache("profiles", local, remote, broadcasts::add, new SimpleMeterRegistry());
+    }
+
+    @Nested
+    @DisplayName("Reads and Writes")
+    class ReadsAndWrites {
+
+        @Test
+        @DisplayName("should write both tiers, keying the local tier by the key's string form")
+        void shouldWriteBothTiers() {
+            cache.put(KEY, "value");
+
+            assertThat(local.get(KEY.toString())).isNotNull();
+            assertThat(remote.get(KEY)).isNotNull();
+            assertThat(cache.get(KEY, String.class)).isEqualTo("value");
+        }
+
+        @Test
+        @DisplayName("should copy a shared-tier hit into the local tier")
+        void shouldCopySharedHitIntoLocalTier() {
+            remote.put(KEY, "value");
+
+            assertThat(cache.get(KEY)).isNotNull()
+                    .satisfies(wrapper -> assertThat(wrapper.get()).isEqualTo("value"));
+            assertThat(local.get(KEY.toString())).isNotNull();
+        }
+
+        @Test
+        @DisplayName("should load and cache a value missing from both tiers")
+        void shouldLoadMissingValue() {
+            assertThat(cache.get(KEY, () -> "loaded")).isEqualTo("loaded");
+
+            assertThat(local.get(KEY.toString())).isNotNull();
+            assertThat(remote.get(KEY)).isNotNull();
+            assertThat(cache.get(KEY, () -> "reloaded")).isEqualTo("loaded");
+        }
+
+        @Test
+        @DisplayName("should treat a failing shared tier as a miss")
+        void shouldTreatSharedFailureAsMiss() {
+            Cache failing = mock(Cache.class);
+            when(failing.get(any())).thenThrow(new IllegalStateException("redis down"));
+            TieredCache degraded = new TieredCache("profiles", local, failing, broadcasts::add,
+                    new SimpleMeterRegistry());
+
+            assertThat(degraded.get(KEY)).isNull();
+            assertThat(degraded.get(KEY, () -> "loaded")).isEqualTo("loaded");
+        }
+    }
+
+    @Nested
+    @DisplayName("Eviction")
+    class Eviction {
+
+        @Test
+        @DisplayName("should delete the shared entry before broadcasting the eviction")
+        void shouldDeleteSharedEntryBeforeBroadcast() {
+            List<Boolean> sharedPresentAtBroadcast = new ArrayList<>();
+            TieredCache ordered = new TieredCache("profiles", local, remote,
+                    key -> sharedPresentAtBroadcast.add(remote.get(KEY) != null), new SimpleMeterRegistry());
+            ordered.put(KEY, "value");
+
+            ordered.evict(KEY);
+
+            assertThat(sharedPresentAtBroadcast).containsExactly(false);
+            assertThat(local.get(KEY.toString())).isNull();
+            assertThat(ordered.get(KEY)).isNull();
+        }
+
+        @Test
+        @DisplayName("should broadcast the key's string form")
+        void shouldBroadcastKey() {
+            cache.evict(KEY);
+
+            assertThat(broadcasts).containsExactly(KEY.toString());
+        }
+
+        @Test
+        @DisplayName("should drop only the local entry for an eviction from another instance")
+        void shouldEvictOnlyLocalEntryForRemoteEviction() {
+            cache.put(KEY, "value");
+
+            cache.evictLocal(KEY.toString());
+
+            assertThat(local.get(KEY.toString())).isNull();
+            assertThat(remote.get(KEY)).isNotNull();
+            assertThat(broadcasts).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should not cache a value loaded while the key was evicted")
+        void shouldNotCacheValueLoadedDuringEviction() {
+            String loaded = cache.get(KEY, () -> {
+                cache.evictLocal(KEY.toString());
+                return "stale";
+            });
+
+            assertThat(loaded).isEqualTo("stale");
+            assertThat(local.get(KEY.toString())).isNull();
+            assertThat(remote.get(KEY)).isNull();
+        }
+
+        @Test
+        @DisplayName("should not copy a shared entry read while the key was evicted into the local tier")
+        void shouldNotCopySharedEntryReadDuringEviction() {
+            AtomicReference<TieredCache> racing = new AtomicReference<>();
+            ConcurrentMapCache evictedWhileRead = new ConcurrentMapCache("remote") {
+                @Override
+                public ValueWrapper get(Object key) {
+                    ValueWrapper value = super.get(key);
+                    racing.get().evictLocal(String.valueOf(key));
+                    return value;
+                }
+            };
+            evictedWhileRead.put(KEY, "stale");
+            racing.set(new TieredCache("profiles", local, evictedWhileRead, broadcasts::add,
+                    new SimpleMeterRegistry()));
+
+            assertThat(racing.get().get(KEY)).isNotNull();
+
+            assertThat(local.get(KEY.toString())).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("Cache Manager")
+    class Manager {
+
+        @Test
+        @DisplayName("should broadcast evictions as cacheName|key")
+        void shouldBroadcastEvictionsWithCacheName() {
+            StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+            TieredCacheManager manager = new TieredCacheManager(new CustomerCacheConfig(), null, redisTemplate,
+                    new SimpleMeterRegistry());
+
+            manager.getCache(GetCustomerProfileUseCase.CACHE_NAME).evict(KEY);
+
+            verify(redisTemplate).convertAndSend(TieredCacheManager.EVICTION_CHANNEL,
+                    GetCustomerProfileUseCase.CACHE_NAME + "|" + KEY);
+        }
+
+        @Test
+        @DisplayName("should apply an eviction from another instance to the named cache")
+        void shouldApplyRemoteEviction() {
+            TieredCacheManager manager = new TieredCacheManager(new CustomerCacheConfig(), null, null,
+                    new SimpleMeterRegistry());
+            Cache profiles = manager.getCache(GetCustomerProfileUseCase.CACHE_NAME);
+            profiles.put(KEY, "value");
+
+            manager.onRemoteEviction(GetCustomerProfileUseCase.CACHE_NAME + "|" + KEY);
+            manager.onRemoteEviction("malformed");
+
+            assertThat(profiles.get(KEY)).isNull();
+        }
+    }
+}
@@ -2,6 +2,7 @@ plugins {
     id("org.springframework.boot")
     id("io.spring.dependency-management")
     id("spotbugs-conventions")
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 description = "Order and cart management microservice"
@@ -22,6 +23,9 @@ dependencies {
     // Redis for cart storage
     implementation("org.springframework.boot:spring-boot-starter-data-redis")
 
+    // Near cache for product lookups
+    implementation("com.github.ben-manes.caffeine:caffeine")
+
     // Flyway
     implementation("org.flywaydb:flyway-core:10.4.1")
     implementation("org.flywaydb:flyway-database-postgresql:10.4.1")
@@ -42,3 +46,10 @@ dependencies {
     testImplementation("org.testcontainers:junit-jupiter:1.19.3")
     testImplementation("com.h2database:h2")
 }
+
+// Microbenchmarks in src/jmh/java; run with ./gradlew :order-service:jmh
+jmh {
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(1)
+}
@@ -0,0 +1,75 @@
+package com.ecommerce.order.benchmarks;
+
+import com.ecommerce.order.application.dto.CartResponse;
+import com.ecommerce.order.domain.aggregates.Cart;
+import com.ecommerce.order.domain.entities.CartItem;
+import com.ecommerce.shared.domain.value_objects.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cart total and response mapping cost for a full (50-line) cart.
+ *
+ * {@code streamedTotal} reproduces the previous per-read fold over the
+ * items as a baseline for {@code runningTotal}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CartTotalsBenchmark {
+
+    private static final int LINES = 50;
+
+    private Cart cart;
+    private UUID updatedProductId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        cart = Cart.create(UUID.randomUUID());
+        for (int i = 0; i < LINES; i++) {
+            UUID productId = UUID.randomUUID();
+            cart.addItem(productId, "Product " + i, "SKU-" + i,
+                    Money.of(new BigDecimal("19.99").add(BigDecimal.valueOf(i))), 1 + i % 5);
+            updatedProductId = productId;
+        }
+    }
+
+    @Benchmark
+    public Money runningTotal() {
+        return cart.getTotal();
+    }
+
+    @Benchmark
+    public Money streamedTotal() {
+        return cart.getItems().stream()
+                .map(CartItem::getSubtotal)
+                .reduce(Money.zero(), Money::add);
+    }
+
+    @Benchmark
+    public int totalItemCount() {
+        return cart.getTotalItemCount();
+    }
+
+    @Benchmark
+    public CartResponse toResponse() {
+        return CartResponse.from(cart);
+    }
+
+    @Benchmark
+    public long updateQuantityAndReadTotal() {
+        cart.updateItemQuantity(updatedProductId, 2);
+        cart.updateItemQuantity(updatedProductId, 3);
+        return cart.getTotalMinorUnits();
+    }
+}
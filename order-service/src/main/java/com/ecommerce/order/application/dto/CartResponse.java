@@ -1,6 +1,7 @@
 package com.ecommerce.order.application.dto;
 
 import com.ecommerce.order.domain.aggregates.Cart;
+import com.ecommerce.shared.domain.value_objects.Money;
 
 import java.math.BigDecimal;
 import java.time.Instant;
@@ -24,6 +25,7 @@ public record CartResponse(
         List<CartItemResponse> itemResponses = cart.getItems().stream()
                 .map(CartItemResponse::from)
                 .toList();
+        Money total = cart.getTotal();
 
         return new CartResponse(
                 cart.getId(),
@@ -31,8 +33,8 @@ public record CartResponse(
                 itemResponses,
                 cart.getItemCount(),
                 cart.getTotalItemCount(),
-                cart.getTotal().getAmount(),
-                cart.getTotal().getCurrency().getCurrencyCode(),
+                total.getAmount(),
+                total.getCurrency().getCurrencyCode(),
                 cart.getUpdatedAt()
         );
     }
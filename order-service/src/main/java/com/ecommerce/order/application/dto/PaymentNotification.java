@@ -0,0 +1,23 @@
+package com.ecommerce.order.application.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.util.UUID;
+
+/**
+ * Payment outcome reported by payment service for an order.
+ */
+public record PaymentNotification(
+        @NotNull UUID orderId,
+        UUID paymentId,
+        @NotNull Outcome outcome,
+        String reason
+) {
+    /**
+     * Outcome of the order's latest payment attempt.
+     */
+    public enum Outcome {
+        COMPLETED,
+        FAILED
+    }
+}
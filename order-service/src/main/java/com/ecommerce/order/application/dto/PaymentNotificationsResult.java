@@ -0,0 +1,18 @@
+package com.ecommerce.order.application.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Result of applying a batch of payment notifications, returned to
+ * payment service so it can refund payments no order accepted.
+ */
+public record PaymentNotificationsResult(
+        int applied,
+        List<RejectedPayment> rejected
+) {
+    /**
+     * A completed payment the order did not accept, with the reason code.
+     */
+    public record RejectedPayment(UUID orderId, UUID paymentId, String reason) {}
+}
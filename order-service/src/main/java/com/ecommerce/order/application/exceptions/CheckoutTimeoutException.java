@@ -0,0 +1,12 @@
+package com.ecommerce.order.application.exceptions;
+
+/**
+ * Exception thrown when checkout runs out of its latency budget
+ * before inventory is reserved.
+ */
+public class CheckoutTimeoutException extends RuntimeException {
+
+    public CheckoutTimeoutException(String message) {
+        super(message);
+    }
+}
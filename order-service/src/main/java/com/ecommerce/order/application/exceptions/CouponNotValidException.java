@@ -0,0 +1,18 @@
+package com.ecommerce.order.application.exceptions;
+
+/**
+ * Exception thrown when a coupon cannot be applied to an order.
+ */
+public class CouponNotValidException extends RuntimeException {
+
+    private final String couponCode;
+
+    public CouponNotValidException(String couponCode, String reason) {
+        super("Coupon " + couponCode + " cannot be applied: " + reason);
+        this.couponCode = couponCode;
+    }
+
+    public String getCouponCode() {
+        return couponCode;
+    }
+}
@@ -0,0 +1,20 @@
+package com.ecommerce.order.application.exceptions;
+
+/**
+ * Exception thrown when a coupon cannot be checked because the sales
+ * service is unavailable. Unlike CouponNotValidException the coupon may
+ * be valid, so the customer can retry or check out without it.
+ */
+public class CouponServiceUnavailableException extends RuntimeException {
+
+    private final String couponCode;
+
+    public CouponServiceUnavailableException(String couponCode, Throwable cause) {
+        super("Coupon " + couponCode + " cannot be checked right now; try again or check out without it", cause);
+        this.couponCode = couponCode;
+    }
+
+    public String getCouponCode() {
+        return couponCode;
+    }
+}
@@ -3,23 +3,54 @@ package com.ecommerce.order.application.usecases;
 import com.ecommerce.order.application.dto.CreateOrderCommand;
 import com.ecommerce.order.application.dto.OrderResponse;
 import com.ecommerce.order.application.exceptions.CartEmptyException;
+import com.ecommerce.order.application.exceptions.CheckoutTimeoutException;
+import com.ecommerce.order.application.exceptions.CouponNotValidException;
+import com.ecommerce.order.application.exceptions.InsufficientStockException;
+import com.ecommerce.order.application.exceptions.ProductNotFoundException;
 import com.ecommerce.order.domain.aggregates.Cart;
 import com.ecommerce.order.domain.aggregates.Order;
 import com.ecommerce.order.domain.entities.CartItem;
 import com.ecommerce.order.domain.entities.OrderItem;
 import com.ecommerce.order.domain.ports.CartRepository;
+import com.ecommerce.order.domain.ports.CouponRedemptionScheduler;
+import com.ecommerce.order.domain.ports.CouponServicePort;
+import com.ecommerce.order.domain.ports.InventoryReservationPort;
+import com.ecommerce.order.domain.ports.OrderExpiryScheduler;
 import com.ecommerce.order.domain.ports.OrderRepository;
+import com.ecommerce.order.domain.ports.ProductServicePort;
+import com.ecommerce.order.domain.ports.ProductServicePort.ProductInfo;
+import com.ecommerce.order.domain.value_objects.CouponRule;
 import com.ecommerce.shared.domain.value_objects.Money;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 /**
  * Use case for creating an order from the customer's cart.
+ *
+ * Checkout runs as a pipeline: all cart lines are revalidated against
+ * product service in one batched lookup, the order is priced at current
+ * prices, stock for every line is reserved in one call, and only then is
+ * the order written in a short transaction; the cart is emptied after it
+ * commits. Coupons are priced from a local snapshot of sales rules and
+ * redeemed with the sales service asynchronously once the order exists.
+ * No database transaction is held across the remote calls. Each stage is
+ * timed; a checkout that has used its latency budget before reserving
+ * stock is abandoned.
  */
 @Service
 public class CreateOrderUseCase {
@@ -28,15 +59,45 @@ public class CreateOrderUseCase {
 
     private final CartRepository cartRepository;
     private final OrderRepository orderRepository;
+    private final OrderExpiryScheduler expiryScheduler;
+    private final ProductServicePort productService;
+    private final InventoryReservationPort inventoryReservation;
+    private final CouponServicePort couponService;
+    private final CouponRedemptionScheduler couponRedemptions;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration latencyBudget;
+    private final MeterRegistry meterRegistry;
+    private final Timer checkoutTimer;
+    private final Counter budgetExceededBeforeReserve;
+    private final Counter budgetExceededAfterReserve;
 
-    public CreateOrderUseCase(CartRepository cartRepository, OrderRepository orderRepository) {
+    public CreateOrderUseCase(CartRepository cartRepository, OrderRepository orderRepository,
+                              OrderExpiryScheduler expiryScheduler, ProductServicePort productService,
+                              InventoryReservationPort inventoryReservation,
+                              CouponServicePort couponService, CouponRedemptionScheduler couponRedemptions,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${order.checkout.latency-budget-ms:3000}") long latencyBudgetMs,
+                              MeterRegistry meterRegistry) {
         this.cartRepository = cartRepository;
         this.orderRepository = orderRepository;
+        this.expiryScheduler = expiryScheduler;
+        this.productService = productService;
+        this.inventoryReservation = inventoryReservation;
+        this.couponService = couponService;
+        this.couponRedemptions = couponRedemptions;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.latencyBudget = Duration.ofMillis(latencyBudgetMs);
+        this.meterRegistry = meterRegistry;
+        this.checkoutTimer = Timer.builder("order.checkout.duration")
+                .description("End-to-end checkout latency")
+                .register(this.meterRegistry);
+        this.budgetExceededBeforeReserve = budgetExceeded("before_reserve");
+        this.budgetExceededAfterReserve = budgetExceeded("after_reserve");
     }
 
-    @Transactional
     public OrderResponse execute(UUID customerId, CreateOrderCommand command) {
         log.info("Creating order for customer: {}", customerId);
+        long startedAt = System.nanoTime();
 
         // Get cart
         Cart cart = cartRepository.findByCustomerId(customerId)
@@ -46,40 +107,156 @@ public class CreateOrderUseCase {
             throw new CartEmptyException("Cart is empty");
         }
 
-        // Convert cart items to order items
-        List<OrderItem> orderItems = cart.getItems().stream()
-                .map(this::toOrderItem)
-                .toList();
+        // Revalidate every line with product service in one batched lookup
+        List<UUID> productIds = cart.getItems().stream().map(CartItem::getProductId).toList();
+        Map<UUID, ProductInfo> current = stage("revalidate",
+                () -> productService.revalidateProducts(productIds));
 
-        // Create coupon discount if provided
+        // Price the order at current prices, applying any coupon from the local rule snapshot
+        Order order = stage("price",
+                () -> priceOrder(customerId, toOrderItems(cart, current), command.couponCode()));
+
+        if (elapsed(startedAt).compareTo(latencyBudget) > 0) {
+            budgetExceededBeforeReserve.increment();
+            throw new CheckoutTimeoutException("Checkout exceeded its latency budget of "
+                    + latencyBudget.toMillis() + " ms before reserving stock");
+        }
+
+        // Reserve stock for all lines, or none. A call that fails without an
+        // answer may still have placed the hold, so release it; release is idempotent
+        List<UUID> rejected;
+        try {
+            rejected = stage("reserve", () -> inventoryReservation.reserve(order.getId(), order.getItems()));
+        } catch (RuntimeException ex) {
+            releaseReservation(order);
+            throw ex;
+        }
+        if (!rejected.isEmpty()) {
+            UUID productId = rejected.get(0);
+            throw new InsufficientStockException(productId, quantityOf(order, productId));
+        }
+
+        // Save the order; give the stock back if that fails
+        Order saved;
+        try {
+            saved = stage("persist", () -> transactionTemplate.execute(status -> orderRepository.save(order)));
+        } catch (RuntimeException ex) {
+            releaseReservation(order);
+            throw ex;
+        }
+        log.info("Order created: {} with total: {}", saved.getId(), saved.getTotal());
+        clearCart(cart, saved);
+        expiryScheduler.schedule(saved);
+        if (saved.getCouponCode() != null) {
+            couponRedemptions.schedule(saved.getId());
+        }
+
+        Duration duration = elapsed(startedAt);
+        checkoutTimer.record(duration);
+        if (duration.compareTo(latencyBudget) > 0) {
+            budgetExceededAfterReserve.increment();
+            log.warn("Checkout for order {} took {} ms, over its budget of {} ms",
+                    saved.getId(), duration.toMillis(), latencyBudget.toMillis());
+        }
+
+        return OrderResponse.from(saved);
+    }
+
+    /**
+     * Creates the order, computing the coupon discount locally. The
+     * coupon is redeemed with the sales service after checkout.
+     */
+    private Order priceOrder(UUID customerId, List<OrderItem> items, String couponCode) {
         Order.CouponDiscount couponDiscount = null;
-        if (command.couponCode() != null && !command.couponCode().isBlank()) {
-            // TODO: Validate coupon with sales-service
-            // For now, we'll skip coupon validation
-            log.info("Coupon code provided: {}", command.couponCode());
+        if (couponCode != null && !couponCode.isBlank()) {
+            CouponRule rule = couponService.findRule(couponCode)
+                    .orElseThrow(() -> new CouponNotValidException(couponCode, "coupon not found or no longer active"));
+            Money subtotal = items.stream()
+                    .map(OrderItem::getSubtotal)
+                    .reduce(Money.zero(), Money::add);
+            if (!rule.isApplicableTo(subtotal, Instant.now())) {
+                throw new CouponNotValidException(rule.code(), "order does not meet the coupon conditions");
+            }
+            couponDiscount = new Order.CouponDiscount(rule.code(), rule.discountFor(subtotal));
+        }
+        return Order.createFromCart(customerId, items, couponDiscount);
+    }
+
+    /**
+     * Converts cart lines to order items at current prices, rejecting
+     * products that are gone, inactive or visibly short of stock.
+     */
+    private List<OrderItem> toOrderItems(Cart cart, Map<UUID, ProductInfo> current) {
+        List<OrderItem> orderItems = new ArrayList<>();
+        for (CartItem cartItem : cart.getItems()) {
+            ProductInfo info = current.get(cartItem.getProductId());
+            if (info == null || !info.active()) {
+                throw new ProductNotFoundException(cartItem.getProductId());
+            }
+            int quantity = cartItem.getQuantityValue();
+            if (info.availableStock() < quantity) {
+                throw new InsufficientStockException(cartItem.getProductId(), quantity);
+            }
+            if (!info.price().equals(cartItem.getUnitPrice())) {
+                log.info("Price of product {} changed from {} to {} since it was added to the cart",
+                        info.id(), cartItem.getUnitPrice(), info.price());
+            }
+            orderItems.add(OrderItem.create(
+                    info.id(),
+                    info.name(),
+                    info.sku(),
+                    info.price(),
+                    quantity
+            ));
+        }
+        return orderItems;
+    }
+
+    /**
+     * Empties the cart once the order is committed. The cart store is
+     * usually Redis, outside the order transaction, so clearing it earlier
+     * could empty the cart of an order that then fails to commit. A failure
+     * here leaves the checked-out items in the cart and is only logged.
+     */
+    private void clearCart(Cart cart, Order order) {
+        try {
+            cart.clear();
+            cartRepository.save(cart);
+        } catch (RuntimeException ex) {
+            log.warn("Failed to clear cart of customer {} after order {}: {}",
+                    cart.getCustomerId(), order.getId(), ex.getMessage());
         }
+    }
 
-        // Create order
-        Order order = Order.createFromCart(customerId, orderItems, couponDiscount);
+    private void releaseReservation(Order order) {
+        try {
+            inventoryReservation.releaseReservation(order.getId(), order.getItems());
+        } catch (RuntimeException ex) {
+            log.error("Failed to release stock for unsaved order {}: {}", order.getId(), ex.getMessage());
+        }
+    }
 
-        // Save order
-        order = orderRepository.save(order);
-        log.info("Order created: {} with total: {}", order.getId(), order.getTotal());
+    private <T> T stage(String name, Supplier<T> work) {
+        return Timer.builder("order.checkout.stage")
+                .tag("stage", name)
+                .register(meterRegistry)
+                .record(work);
+    }
 
-        // Clear cart after successful order creation
-        cart.clear();
-        cartRepository.save(cart);
+    private Counter budgetExceeded(String phase) {
+        return Counter.builder("order.checkout.budget.exceeded")
+                .tag("phase", phase)
+                .register(meterRegistry);
+    }
 
-        return OrderResponse.from(order);
+    private static int quantityOf(Order order, UUID productId) {
+        return order.getItems().stream()
+                .filter(item -> item.getProductId().equals(productId))
+                .mapToInt(OrderItem::getQuantity)
+                .sum();
     }
 
-    private OrderItem toOrderItem(CartItem cartItem) {
-        return OrderItem.create(
-                cartItem.getProductId(),
-                cartItem.getProductName(),
-                cartItem.getProductSku(),
-                cartItem.getUnitPrice(),
-                cartItem.getQuantity().getValue()
-        );
+    private static Duration elapsed(long startedAt) {
+        return Duration.ofNanos(System.nanoTime() - startedAt);
     }
 }
@@ -0,0 +1,146 @@
+package com.ecommerce.order.application.usecases;
+
+import com.ecommerce.order.application.dto.PaymentNotification;
+import com.ecommerce.order.application.dto.PaymentNotificationsResult;
+import com.ecommerce.order.domain.aggregates.Order;
+import com.ecommerce.order.domain.ports.InventoryReservationPort;
+import com.ecommerce.order.domain.ports.OrderExpiryScheduler;
+import com.ecommerce.order.domain.ports.OrderRepository;
+import com.ecommerce.order.domain.value_objects.OrderStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Use case for applying a batch of payment outcomes from payment service.
+ *
+ * Payment service delivers at least once, so a notification that was
+ * already applied is skipped rather than failing the rest of the batch.
+ * A failed payment leaves the order awaiting payment so the customer can
+ * retry before it expires.
+ *
+ * A completed payment first claims the order as paid, conditional on it
+ * still awaiting payment, and only then confirms its reserved stock with
+ * product service. If confirming fails the batch fails, and the
+ * redelivered outcome confirms again. A payment that loses the claim, for
+ * an order that expired or was already paid, or whose order turns out to
+ * hold no stock, is returned as rejected so payment service refunds it;
+ * in the latter case the order is cancelled.
+ */
+@Service
+public class RecordPaymentNotificationsUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(RecordPaymentNotificationsUseCase.class);
+
+    private static final String ORDER_NOT_AWAITING_PAYMENT = "ORDER_NOT_AWAITING_PAYMENT";
+    private static final String STOCK_NOT_HELD = "STOCK_NOT_HELD";
+    private static final String STOCK_NOT_HELD_REASON = "Reserved stock was no longer held";
+
+    private final OrderRepository orderRepository;
+    private final OrderExpiryScheduler expiryScheduler;
+    private final InventoryReservationPort inventoryReservation;
+
+    public RecordPaymentNotificationsUseCase(OrderRepository orderRepository,
+                                             OrderExpiryScheduler expiryScheduler,
+                                             InventoryReservationPort inventoryReservation) {
+        this.orderRepository = orderRepository;
+        this.expiryScheduler = expiryScheduler;
+        this.inventoryReservation = inventoryReservation;
+    }
+
+    /**
+     * Applies the notifications in order.
+     *
+     * @return the number of orders changed and the payments to refund
+     */
+    public PaymentNotificationsResult execute(List<PaymentNotification> notifications) {
+        int applied = 0;
+        List<PaymentNotificationsResult.RejectedPayment> rejected = new ArrayList<>();
+        for (PaymentNotification notification : notifications) {
+            if (apply(notification, rejected)) {
+                applied++;
+            }
+        }
+        return new PaymentNotificationsResult(applied, rejected);
+    }
+
+    private boolean apply(PaymentNotification notification,
+                          List<PaymentNotificationsResult.RejectedPayment> rejected) {
+        Order order = orderRepository.findById(notification.orderId()).orElse(null);
+        if (order == null) {
+            log.warn("Ignoring payment notification for unknown order: {}", notification.orderId());
+            return false;
+        }
+        if (notification.outcome() == PaymentNotification.Outcome.FAILED) {
+            log.info("Payment failed for order {}: {}", order.getId(), notification.reason());
+            return false;
+        }
+        if (notification.paymentId() == null) {
+            log.warn("Ignoring completed payment without payment ID for order: {}", order.getId());
+            return false;
+        }
+        if (notification.paymentId().equals(order.getPaymentId())) {
+            return reapply(order, rejected);
+        }
+        if (!order.getStatus().canPay() || !claimPaid(order, notification.paymentId())) {
+            log.warn("Payment {} completed for order {} after it stopped awaiting payment; refunding",
+                    notification.paymentId(), order.getId());
+            rejected.add(new PaymentNotificationsResult.RejectedPayment(order.getId(), notification.paymentId(),
+                    ORDER_NOT_AWAITING_PAYMENT));
+            return false;
+        }
+        expiryScheduler.cancel(order.getId());
+        log.info("Order {} paid with payment {}", order.getId(), notification.paymentId());
+        confirmStock(order, rejected);
+        return true;
+    }
+
+    private boolean claimPaid(Order order, UUID paymentId) {
+        order.markAsPaid(paymentId);
+        return orderRepository.saveIfStatus(order, OrderStatus.PENDING_PAYMENT);
+    }
+
+    /**
+     * Handles an outcome the order already recorded. A paid order confirms
+     * its stock again, in case the first attempt failed; a payment whose
+     * order was cancelled for lack of stock is rejected again, in case the
+     * first rejection never reached payment service.
+     */
+    private boolean reapply(Order order, List<PaymentNotificationsResult.RejectedPayment> rejected) {
+        if (order.getStatus() == OrderStatus.PAID) {
+            return confirmStock(order, rejected);
+        }
+        if (order.getStatus() == OrderStatus.CANCELLED
+                && STOCK_NOT_HELD_REASON.equals(order.getCancellationReason())) {
+            rejected.add(new PaymentNotificationsResult.RejectedPayment(order.getId(), order.getPaymentId(),
+                    STOCK_NOT_HELD));
+        }
+        return false;
+    }
+
+    /**
+     * Confirms a paid order's stock. An order that holds none is cancelled
+     * and its payment rejected.
+     *
+     * @return true if the order was cancelled
+     */
+    private boolean confirmStock(Order order, List<PaymentNotificationsResult.RejectedPayment> rejected) {
+        if (inventoryReservation.confirmReservation(order.getId(), order.getItems())) {
+            return false;
+        }
+        order.cancel(STOCK_NOT_HELD_REASON);
+        if (!orderRepository.saveIfStatus(order, OrderStatus.PAID)) {
+            log.warn("Order {} holds no stock but changed before it could be cancelled", order.getId());
+            return false;
+        }
+        log.error("Order {} paid with payment {} holds no stock; cancelled and refunding",
+                order.getId(), order.getPaymentId());
+        rejected.add(new PaymentNotificationsResult.RejectedPayment(order.getId(), order.getPaymentId(),
+                STOCK_NOT_HELD));
+        return true;
+    }
+}
@@ -0,0 +1,96 @@
+package com.ecommerce.order.application.usecases;
+
+import com.ecommerce.order.domain.aggregates.Order;
+import com.ecommerce.order.domain.ports.CouponServicePort;
+import com.ecommerce.order.domain.ports.CouponServicePort.RedemptionResult;
+import com.ecommerce.order.domain.ports.InventoryReservationPort;
+import com.ecommerce.order.domain.ports.OrderExpiryScheduler;
+import com.ecommerce.order.domain.ports.OrderRepository;
+import com.ecommerce.order.domain.value_objects.OrderStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+
+/**
+ * Use case for the authoritative redemption of an order's coupon.
+ *
+ * Checkout prices coupons from a local snapshot of sales rules, so the
+ * sales service may still refuse the redemption (usage limit reached,
+ * per-customer limit, coupon withdrawn). The compensation for a refusal
+ * is to cancel the order while it is still awaiting payment and give its
+ * stock back; a paid order is left for manual review. Redemption runs
+ * concurrently with payment, so the cancellation is saved only if the
+ * stored order is still awaiting payment, and only a cancellation that
+ * wins releases the stock.
+ */
+@Service
+public class RedeemCouponUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(RedeemCouponUseCase.class);
+
+    private final OrderRepository orderRepository;
+    private final CouponServicePort couponService;
+    private final OrderExpiryScheduler expiryScheduler;
+    private final InventoryReservationPort inventoryReservation;
+
+    public RedeemCouponUseCase(OrderRepository orderRepository, CouponServicePort couponService,
+                               OrderExpiryScheduler expiryScheduler,
+                               InventoryReservationPort inventoryReservation) {
+        this.orderRepository = orderRepository;
+        this.couponService = couponService;
+        this.expiryScheduler = expiryScheduler;
+        this.inventoryReservation = inventoryReservation;
+    }
+
+    /**
+     * Redeems the coupon of an order, compensating if it is refused.
+     *
+     * @return false if the sales service was unavailable and the attempt should be retried
+     */
+    public boolean execute(UUID orderId) {
+        Order order = orderRepository.findById(orderId).orElse(null);
+        if (order == null || order.getCouponCode() == null) {
+            return true;
+        }
+
+        RedemptionResult result = couponService.redeem(
+                order.getId(), order.getCustomerId(), order.getCouponCode(), order.getSubtotal());
+        switch (result.outcome()) {
+            case ACCEPTED -> log.info("Coupon {} redeemed for order {}", order.getCouponCode(), orderId);
+            case REJECTED -> compensate(order, result.reason());
+            case UNAVAILABLE -> {
+                log.warn("Coupon redemption for order {} deferred: {}", orderId, result.reason());
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void compensate(Order order, String reason) {
+        if (order.getStatus() != OrderStatus.PENDING_PAYMENT) {
+            requireReview(order, order.getStatus(), reason);
+            return;
+        }
+        order.cancel("Coupon " + order.getCouponCode() + " was refused: " + reason);
+        if (!orderRepository.saveIfStatus(order, OrderStatus.PENDING_PAYMENT)) {
+            // Paid or expired since it was loaded; the stored status decides
+            requireReview(order, orderRepository.findById(order.getId()).map(Order::getStatus).orElse(null), reason);
+            return;
+        }
+        expiryScheduler.cancel(order.getId());
+        log.warn("Order {} cancelled because coupon {} was refused: {}",
+                order.getId(), order.getCouponCode(), reason);
+        try {
+            inventoryReservation.releaseReservation(order.getId(), order.getItems());
+        } catch (RuntimeException ex) {
+            log.error("Failed to release stock for cancelled order {}: {}", order.getId(), ex.getMessage());
+        }
+    }
+
+    private static void requireReview(Order order, OrderStatus status, String reason) {
+        log.error("Coupon {} was refused for order {} in status {}: {}. Manual review required",
+                order.getCouponCode(), order.getId(), status, reason);
+    }
+}
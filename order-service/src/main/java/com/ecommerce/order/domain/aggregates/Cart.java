@@ -1,6 +1,7 @@
 package com.ecommerce.order.domain.aggregates;
 
 import com.ecommerce.order.domain.entities.CartItem;
+import com.ecommerce.shared.domain.ids.TimeOrderedUuid;
 import com.ecommerce.shared.domain.value_objects.Money;
 
 import java.math.BigDecimal;
@@ -10,15 +11,25 @@ import java.util.*;
 /**
  * Aggregate root for shopping cart.
  * A cart belongs to a customer and contains multiple items.
+ *
+ * The subtotal (in minor currency units) and the total quantity are kept
+ * as running sums, updated on every add, update, remove and clear, so
+ * reading totals does not walk the items.
  */
 public class Cart {
 
     private static final int MAX_ITEMS = 50;
     private static final int MAX_QUANTITY_PER_ITEM = 99;
+    private static final int MINOR_UNIT_SCALE = 2;
 
     private final UUID id;
     private final UUID customerId;
     private final Map<UUID, CartItem> items; // productId -> CartItem
+    private final Set<UUID> changedProductIds = new HashSet<>();
+    private final Set<UUID> removedProductIds = new HashSet<>();
+    private final Collection<CartItem> itemsView;
+    private long totalMinorUnits;
+    private int totalItemCount;
     private Instant createdAt;
     private Instant updatedAt;
 
@@ -26,13 +37,14 @@ public class Cart {
         this.id = id;
         this.customerId = customerId;
         this.items = new LinkedHashMap<>();
+        this.itemsView = Collections.unmodifiableCollection(items.values());
         this.createdAt = Instant.now();
         this.updatedAt = this.createdAt;
     }
 
     public static Cart create(UUID customerId) {
         Objects.requireNonNull(customerId, "Customer ID is required");
-        return new Cart(UUID.randomUUID(), customerId);
+        return new Cart(TimeOrderedUuid.next(), customerId);
     }
 
     /**
@@ -50,6 +62,7 @@ public class Cart {
         cart.updatedAt = updatedAt;
         for (CartItem item : cartItems) {
             cart.items.put(item.getProductId(), item);
+            cart.addToTotals(item, item.getQuantityValue());
         }
         return cart;
     }
@@ -70,13 +83,15 @@ public class Cart {
         if (items.containsKey(productId)) {
             CartItem existingItem = items.get(productId);
             existingItem.increaseQuantity(quantity);
-            this.updatedAt = Instant.now();
+            addToTotals(existingItem, quantity);
+            markChanged(productId);
             return existingItem;
         }
 
         CartItem newItem = CartItem.create(productId, productName, productSku, unitPrice, quantity);
         items.put(productId, newItem);
-        this.updatedAt = Instant.now();
+        addToTotals(newItem, quantity);
+        markChanged(productId);
         return newItem;
     }
 
@@ -103,8 +118,10 @@ public class Cart {
         if (item == null) {
             throw new IllegalArgumentException("Product not found in cart: " + productId);
         }
+        int previousQuantity = item.getQuantityValue();
         item.updateQuantity(newQuantity);
-        this.updatedAt = Instant.now();
+        addToTotals(item, newQuantity - previousQuantity);
+        markChanged(productId);
     }
 
     /**
@@ -115,6 +132,9 @@ public class Cart {
         if (removed == null) {
             throw new IllegalArgumentException("Product not found in cart: " + productId);
         }
+        addToTotals(removed, -removed.getQuantityValue());
+        changedProductIds.remove(productId);
+        removedProductIds.add(productId);
         this.updatedAt = Instant.now();
     }
 
@@ -122,26 +142,73 @@ public class Cart {
      * Clears all items from the cart.
      */
     public void clear() {
+        removedProductIds.addAll(items.keySet());
+        changedProductIds.clear();
         items.clear();
+        totalMinorUnits = 0;
+        totalItemCount = 0;
         this.updatedAt = Instant.now();
     }
 
     /**
-     * Calculates the total price of all items in the cart.
+     * Gets the products whose items were added or changed since the cart
+     * was loaded or last marked as persisted.
+     */
+    public Set<UUID> getChangedProductIds() {
+        return Set.copyOf(changedProductIds);
+    }
+
+    /**
+     * Gets the products whose items were removed since the cart was
+     * loaded or last marked as persisted.
+     */
+    public Set<UUID> getRemovedProductIds() {
+        return Set.copyOf(removedProductIds);
+    }
+
+    /**
+     * Clears change tracking once a repository has written the changes.
+     */
+    public void markPersisted() {
+        changedProductIds.clear();
+        removedProductIds.clear();
+    }
+
+    private void markChanged(UUID productId) {
+        removedProductIds.remove(productId);
+        changedProductIds.add(productId);
+        this.updatedAt = Instant.now();
+    }
+
+    private void addToTotals(CartItem item, int quantityDelta) {
+        totalMinorUnits = Math.addExact(totalMinorUnits,
+                Math.multiplyExact(toMinorUnits(item.getUnitPrice()), (long) quantityDelta));
+        totalItemCount += quantityDelta;
+    }
+
+    private static long toMinorUnits(Money amount) {
+        return amount.getAmount().movePointRight(MINOR_UNIT_SCALE).longValueExact();
+    }
+
+    /**
+     * Gets the total price of all items in the cart.
      */
     public Money getTotal() {
-        return items.values().stream()
-                .map(CartItem::getSubtotal)
-                .reduce(Money.zero(), Money::add);
+        return Money.of(BigDecimal.valueOf(totalMinorUnits, MINOR_UNIT_SCALE));
+    }
+
+    /**
+     * Gets the total price of all items in minor currency units (cents).
+     */
+    public long getTotalMinorUnits() {
+        return totalMinorUnits;
     }
 
     /**
      * Gets the total number of items (sum of quantities).
      */
     public int getTotalItemCount() {
-        return items.values().stream()
-                .mapToInt(CartItem::getQuantityValue)
-                .sum();
+        return totalItemCount;
     }
 
     /**
@@ -174,8 +241,11 @@ public class Cart {
         return customerId;
     }
 
-    public List<CartItem> getItems() {
-        return new ArrayList<>(items.values());
+    /**
+     * Gets a read-only view of the items in insertion order.
+     */
+    public Collection<CartItem> getItems() {
+        return itemsView;
     }
 
     public int getItemCount() {
@@ -1,7 +1,12 @@
 package com.ecommerce.order.domain.aggregates;
 
 import com.ecommerce.order.domain.entities.OrderItem;
+import com.ecommerce.order.domain.events.OrderCancelled;
+import com.ecommerce.order.domain.events.OrderCreated;
+import com.ecommerce.order.domain.events.OrderPaid;
 import com.ecommerce.order.domain.value_objects.OrderStatus;
+import com.ecommerce.shared.domain.events.DomainEvent;
+import com.ecommerce.shared.domain.ids.TimeOrderedUuid;
 import com.ecommerce.shared.domain.value_objects.Money;
 
 import java.time.Instant;
@@ -10,6 +15,8 @@ import java.util.*;
 /**
  * Order aggregate root.
  * Manages the lifecycle of an order from creation to delivery.
+ * Creation, payment and cancellation raise domain events, which the
+ * repository records with the order when it is saved.
  */
 public class Order {
 
@@ -29,6 +36,8 @@ public class Order {
     private Instant shippedAt;
     private Instant deliveredAt;
     private Instant updatedAt;
+    private long version;
+    private final List<DomainEvent> domainEvents = new ArrayList<>();
 
     private Order(UUID id, UUID customerId, List<OrderItem> items,
                   Money subtotal, Money discount, Money total, String couponCode,
@@ -68,8 +77,8 @@ public class Order {
 
         String couponCode = couponDiscount != null ? couponDiscount.code() : null;
 
-        return new Order(
-                UUID.randomUUID(),
+        Order order = new Order(
+                TimeOrderedUuid.next(),
                 customerId,
                 items,
                 subtotal,
@@ -79,6 +88,9 @@ public class Order {
                 OrderStatus.PENDING_PAYMENT,
                 Instant.now()
         );
+        order.domainEvents.add(new OrderCreated(order.id, customerId, items.size(),
+                total.getAmount(), total.getCurrency().getCurrencyCode()));
+        return order;
     }
 
     /**
@@ -91,7 +103,7 @@ public class Order {
                                       String cancellationReason,
                                       Instant createdAt, Instant paidAt,
                                       Instant shippedAt, Instant deliveredAt,
-                                      Instant updatedAt) {
+                                      Instant updatedAt, long version) {
         Order order = new Order(id, customerId, items, subtotal, discount, total,
                 couponCode, status, createdAt);
         order.paymentId = paymentId;
@@ -101,6 +113,7 @@ public class Order {
         order.shippedAt = shippedAt;
         order.deliveredAt = deliveredAt;
         order.updatedAt = updatedAt;
+        order.version = version;
         return order;
     }
 
@@ -118,6 +131,8 @@ public class Order {
         this.status = OrderStatus.PAID;
         this.paidAt = Instant.now();
         this.updatedAt = Instant.now();
+        this.domainEvents.add(new OrderPaid(id, customerId, paymentId,
+                total.getAmount(), total.getCurrency().getCurrencyCode()));
     }
 
     /**
@@ -160,9 +175,11 @@ public class Order {
         }
         Objects.requireNonNull(reason, "Cancellation reason must not be null");
 
+        boolean requiresRefund = status == OrderStatus.PAID;
         this.cancellationReason = reason;
         this.status = OrderStatus.CANCELLED;
         this.updatedAt = Instant.now();
+        this.domainEvents.add(new OrderCancelled(id, customerId, reason, requiresRefund));
     }
 
     /**
@@ -265,6 +282,29 @@ public class Order {
         return updatedAt;
     }
 
+    /**
+     * Version of the stored row this aggregate was loaded from or last
+     * saved as; a save based on an older version is rejected.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Records the version a repository stored the aggregate as.
+     */
+    public void markPersisted(long version) {
+        this.version = version;
+    }
+
+    public List<DomainEvent> getDomainEvents() {
+        return Collections.unmodifiableList(domainEvents);
+    }
+
+    public void clearDomainEvents() {
+        domainEvents.clear();
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -1,6 +1,7 @@
 package com.ecommerce.order.domain.entities;
 
 import com.ecommerce.order.domain.value_objects.Quantity;
+import com.ecommerce.shared.domain.ids.TimeOrderedUuid;
 import com.ecommerce.shared.domain.value_objects.Money;
 
 import java.time.Instant;
@@ -53,7 +54,7 @@ public class CartItem {
         Objects.requireNonNull(unitPrice, "Unit price is required");
 
         return new CartItem(
-                UUID.randomUUID(),
+                TimeOrderedUuid.next(),
                 productId,
                 productName,
                 productSku,
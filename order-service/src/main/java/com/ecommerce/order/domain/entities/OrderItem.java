@@ -1,5 +1,6 @@
 package com.ecommerce.order.domain.entities;
 
+import com.ecommerce.shared.domain.ids.TimeOrderedUuid;
 import com.ecommerce.shared.domain.value_objects.Money;
 
 import java.time.Instant;
@@ -48,7 +49,7 @@ public class OrderItem {
         }
 
         return new OrderItem(
-                UUID.randomUUID(),
+                TimeOrderedUuid.next(),
                 productId,
                 productName,
                 productSku,
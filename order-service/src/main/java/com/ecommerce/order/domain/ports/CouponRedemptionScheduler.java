@@ -0,0 +1,15 @@
+package com.ecommerce.order.domain.ports;
+
+import java.util.UUID;
+
+/**
+ * Port for redeeming an order's coupon after the order is created,
+ * outside the checkout request.
+ */
+public interface CouponRedemptionScheduler {
+
+    /**
+     * Schedules redemption of the coupon applied to an order.
+     */
+    void schedule(UUID orderId);
+}
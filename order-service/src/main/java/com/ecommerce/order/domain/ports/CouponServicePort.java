@@ -0,0 +1,53 @@
+package com.ecommerce.order.domain.ports;
+
+import com.ecommerce.order.domain.value_objects.CouponRule;
+import com.ecommerce.shared.domain.value_objects.Money;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Port for communicating with Sales Service about coupons.
+ */
+public interface CouponServicePort {
+
+    /**
+     * Finds the rule of a usable coupon, normally from a local snapshot.
+     * Returns empty only if the code is unknown; fails if the sales
+     * service is needed and cannot be reached.
+     */
+    Optional<CouponRule> findRule(String couponCode);
+
+    /**
+     * Redeems a coupon for an order with the sales service.
+     * Redeeming again for the same order has no further effect.
+     */
+    RedemptionResult redeem(UUID orderId, UUID customerId, String couponCode, Money orderSubtotal);
+
+    /**
+     * Outcome of a redemption attempt.
+     */
+    record RedemptionResult(Outcome outcome, String reason) {
+
+        public static RedemptionResult accepted() {
+            return new RedemptionResult(Outcome.ACCEPTED, null);
+        }
+
+        public static RedemptionResult rejected(String reason) {
+            return new RedemptionResult(Outcome.REJECTED, reason);
+        }
+
+        public static RedemptionResult unavailable(String reason) {
+            return new RedemptionResult(Outcome.UNAVAILABLE, reason);
+        }
+    }
+
+    enum Outcome {
+        /** The sales service recorded the redemption. */
+        ACCEPTED,
+        /** The sales service refused the coupon for this order. */
+        REJECTED,
+        /** The sales service could not be reached; the attempt may be retried. */
+        UNAVAILABLE
+    }
+}
@@ -0,0 +1,34 @@
+package com.ecommerce.order.domain.ports;
+
+import com.ecommerce.order.domain.entities.OrderItem;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Port for holding stock for an order.
+ * Stock is reserved at checkout, confirmed once the order is paid, and
+ * released if the order's payment window expires first.
+ */
+public interface InventoryReservationPort {
+
+    /**
+     * Reserves stock for every item of an order, or for none.
+     *
+     * @return the product IDs that could not be reserved; empty if all items were reserved
+     */
+    List<UUID> reserve(UUID orderId, List<OrderItem> items);
+
+    /**
+     * Releases the stock reserved for the given order items.
+     */
+    void releaseReservation(UUID orderId, List<OrderItem> items);
+
+    /**
+     * Takes the stock reserved for the given order items out of inventory.
+     * Confirming an order whose stock was already confirmed succeeds.
+     *
+     * @return false if the order holds no stock to confirm
+     */
+    boolean confirmReservation(UUID orderId, List<OrderItem> items);
+}
@@ -0,0 +1,23 @@
+package com.ecommerce.order.domain.ports;
+
+import com.ecommerce.order.domain.aggregates.Order;
+
+import java.util.UUID;
+
+/**
+ * Port for scheduling expiry of orders awaiting payment.
+ * Orders that are no longer pending when their deadline fires are skipped,
+ * so cancelling is an optimization rather than a correctness requirement.
+ */
+public interface OrderExpiryScheduler {
+
+    /**
+     * Schedules the payment deadline of an order awaiting payment.
+     */
+    void schedule(Order order);
+
+    /**
+     * Cancels a scheduled deadline, e.g. once the order is paid or cancelled.
+     */
+    void cancel(UUID orderId);
+}
@@ -17,6 +17,15 @@ public interface OrderRepository {
      */
     Order save(Order order);
 
+    /**
+     * Saves an order only if its stored status is still the expected one.
+     * Of two writers that loaded the order in that status, only the first
+     * to save wins.
+     *
+     * @return true if the order was saved; false if its status had changed
+     */
+    boolean saveIfStatus(Order order, OrderStatus expectedStatus);
+
     /**
      * Finds an order by ID.
      */
@@ -32,6 +41,11 @@ public interface OrderRepository {
      */
     List<Order> findByCustomerIdAndStatus(UUID customerId, OrderStatus status);
 
+    /**
+     * Finds orders in the given status, oldest first.
+     */
+    List<Order> findByStatus(OrderStatus status);
+
     /**
      * Finds orders with pending payment that have exceeded the timeout.
      */
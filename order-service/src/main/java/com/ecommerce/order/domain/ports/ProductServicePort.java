@@ -2,6 +2,8 @@ package com.ecommerce.order.domain.ports;
 
 import com.ecommerce.shared.domain.value_objects.Money;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -15,6 +17,13 @@ public interface ProductServicePort {
      */
     Optional<ProductInfo> getProductInfo(UUID productId);
 
+    /**
+     * Gets current product information from product service, bypassing any
+     * cached copies. Used at checkout, where prices and stock must be current.
+     * Products that do not exist are absent from the result.
+     */
+    Map<UUID, ProductInfo> revalidateProducts(Collection<UUID> productIds);
+
     /**
      * Checks if the requested quantity is available in stock.
      */
@@ -0,0 +1,61 @@
+package com.ecommerce.order.domain.value_objects;
+
+import com.ecommerce.shared.domain.value_objects.Money;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Discount rule of a coupon, as published by the sales service.
+ * Usage limits are not part of the rule; they are enforced when the
+ * coupon is redeemed.
+ */
+public record CouponRule(
+        String code,
+        String description,
+        DiscountType type,
+        BigDecimal value,
+        Money minimumOrderAmount,
+        Instant expiryDate
+) {
+    private static final BigDecimal HUNDRED = new BigDecimal("100");
+
+    public CouponRule {
+        Objects.requireNonNull(code, "Coupon code must not be null");
+        Objects.requireNonNull(type, "Discount type must not be null");
+        Objects.requireNonNull(value, "Discount value must not be null");
+    }
+
+    /**
+     * Checks if the coupon is unexpired and the subtotal meets its minimum.
+     */
+    public boolean isApplicableTo(Money subtotal, Instant now) {
+        if (expiryDate != null && now.isAfter(expiryDate)) {
+            return false;
+        }
+        return minimumOrderAmount == null
+                || subtotal.getAmount().compareTo(minimumOrderAmount.getAmount()) >= 0;
+    }
+
+    /**
+     * Calculates the discount for a subtotal, never exceeding the subtotal.
+     */
+    public Money discountFor(Money subtotal) {
+        if (type == DiscountType.PERCENTAGE) {
+            return Money.of(subtotal.getAmount()
+                    .multiply(value)
+                    .divide(HUNDRED, 2, RoundingMode.HALF_UP));
+        }
+        return value.compareTo(subtotal.getAmount()) > 0 ? subtotal : Money.of(value);
+    }
+
+    /**
+     * Type of coupon discount.
+     */
+    public enum DiscountType {
+        PERCENTAGE,
+        FIXED_AMOUNT
+    }
+}
@@ -0,0 +1,173 @@
+package com.ecommerce.order.infrastructure.clients;
+
+import com.ecommerce.order.application.exceptions.CouponServiceUnavailableException;
+import com.ecommerce.order.domain.ports.CouponServicePort;
+import com.ecommerce.order.domain.value_objects.CouponRule;
+import com.ecommerce.order.infrastructure.config.CouponConfig;
+import com.ecommerce.shared.domain.value_objects.Money;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import feign.FeignException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adapter that implements CouponServicePort using the sales service.
+ *
+ * Checkout reads coupon rules from an in-memory snapshot of all usable
+ * coupons, replaced wholesale on each refresh, so popular codes never
+ * cost a remote call. Codes missing from the snapshot are looked up
+ * individually and remembered for a short time, including codes that do
+ * not exist. Only a 404 marks a code as unknown; other lookup failures are
+ * reported as the sales service being unavailable and are not remembered.
+ * If a refresh fails the previous snapshot is kept.
+ */
+@Component
+public class CouponServiceAdapter implements CouponServicePort {
+
+    private static final Logger log = LoggerFactory.getLogger(CouponServiceAdapter.class);
+
+    private final SalesServiceClient salesServiceClient;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, Optional<CouponRule>> remoteLookups;
+    private final Counter snapshotHits;
+    private final Counter remoteLookupCount;
+
+    private volatile Map<String, CouponRule> snapshot = Map.of();
+    private volatile Instant snapshotLoadedAt;
+
+    public CouponServiceAdapter(
+            SalesServiceClient salesServiceClient,
+            CouponConfig config,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry
+    ) {
+        this.salesServiceClient = salesServiceClient;
+        this.objectMapper = objectMapper;
+        this.remoteLookups = Caffeine.newBuilder()
+                .maximumSize(config.getRemoteLookupMaxSize())
+                .expireAfterWrite(config.getRemoteLookupTtlMs(), TimeUnit.MILLISECONDS)
+                .build();
+        this.snapshotHits = Counter.builder("order.coupon.rule.lookups")
+                .tag("source", "snapshot")
+                .register(meterRegistry);
+        this.remoteLookupCount = Counter.builder("order.coupon.rule.lookups")
+                .tag("source", "remote")
+                .register(meterRegistry);
+        Gauge.builder("order.coupon.snapshot.size", this, adapter -> adapter.snapshot.size())
+                .register(meterRegistry);
+        Gauge.builder("order.coupon.snapshot.age.seconds", this, CouponServiceAdapter::snapshotAgeSeconds)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Optional<CouponRule> findRule(String couponCode) {
+        String code = normalize(couponCode);
+        CouponRule rule = snapshot.get(code);
+        if (rule != null) {
+            snapshotHits.increment();
+            return Optional.of(rule);
+        }
+        Optional<CouponRule> cached = remoteLookups.getIfPresent(code);
+        if (cached != null) {
+            return cached;
+        }
+        remoteLookupCount.increment();
+        try {
+            Optional<CouponRule> fetched = Optional.ofNullable(salesServiceClient.getCouponRule(code))
+                    .map(CouponServiceAdapter::toCouponRule);
+            remoteLookups.put(code, fetched);
+            return fetched;
+        } catch (FeignException.NotFound e) {
+            remoteLookups.put(code, Optional.empty());
+            return Optional.empty();
+        } catch (Exception e) {
+            log.warn("Error looking up coupon {}: {}", code, e.getMessage());
+            throw new CouponServiceUnavailableException(code, e);
+        }
+    }
+
+    @Override
+    public RedemptionResult redeem(UUID orderId, UUID customerId, String couponCode, Money orderSubtotal) {
+        SalesServiceClient.ApplyCouponRequest request = new SalesServiceClient.ApplyCouponRequest(
+                normalize(couponCode), orderSubtotal.getAmount(), orderId);
+        try {
+            SalesServiceClient.CouponValidationResponse response = salesServiceClient.applyCoupon(request, customerId);
+            if (response != null && !response.valid()) {
+                return RedemptionResult.rejected(response.errorMessage());
+            }
+            return RedemptionResult.accepted();
+        } catch (FeignException.BadRequest | FeignException.NotFound e) {
+            return RedemptionResult.rejected(rejectionReason(e));
+        } catch (Exception e) {
+            return RedemptionResult.unavailable(e.getMessage());
+        }
+    }
+
+    /**
+     * Replaces the snapshot with the current rules of all usable coupons.
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${order.coupons.snapshot-refresh-ms:60000}")
+    public void refreshSnapshot() {
+        try {
+            List<SalesServiceClient.CouponRuleResponse> rules = salesServiceClient.getCouponRules();
+            Map<String, CouponRule> next = new HashMap<>();
+            if (rules != null) {
+                rules.forEach(response -> next.put(normalize(response.code()), toCouponRule(response)));
+            }
+            snapshot = Map.copyOf(next);
+            snapshotLoadedAt = Instant.now();
+            remoteLookups.invalidateAll();
+            log.debug("Coupon rule snapshot refreshed: {} coupons", next.size());
+        } catch (Exception e) {
+            log.warn("Coupon rule snapshot refresh failed, keeping {} cached rules: {}",
+                    snapshot.size(), e.getMessage());
+        }
+    }
+
+    private String rejectionReason(FeignException e) {
+        try {
+            JsonNode body = objectMapper.readTree(e.contentUTF8());
+            String message = body.path("errorMessage").asText(body.path("message").asText(""));
+            return message.isBlank() ? "Coupon was refused" : message;
+        } catch (Exception parseError) {
+            return "Coupon was refused";
+        }
+    }
+
+    private double snapshotAgeSeconds() {
+        Instant loadedAt = snapshotLoadedAt;
+        return loadedAt != null ? (System.currentTimeMillis() - loadedAt.toEpochMilli()) / 1000.0 : -1;
+    }
+
+    private static String normalize(String couponCode) {
+        return couponCode.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private static CouponRule toCouponRule(SalesServiceClient.CouponRuleResponse response) {
+        return new CouponRule(
+                normalize(response.code()),
+                response.description(),
+                CouponRule.DiscountType.valueOf(response.discountType()),
+                response.discountValue(),
+                response.minimumOrderAmount() != null ? Money.of(response.minimumOrderAmount()) : null,
+                response.expiryDate()
+        );
+    }
+}
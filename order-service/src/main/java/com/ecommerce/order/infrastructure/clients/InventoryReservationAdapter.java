@@ -0,0 +1,91 @@
+package com.ecommerce.order.infrastructure.clients;
+
+import com.ecommerce.order.domain.entities.OrderItem;
+import com.ecommerce.order.domain.ports.InventoryReservationPort;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.FeignException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Adapter that implements InventoryReservationPort using the product
+ * service inventory API. Product service reserves all lines in one
+ * transaction and answers 409 with the rejected product IDs. It records
+ * what it reserved per order, so release and confirm are safe to repeat.
+ */
+@Component
+public class InventoryReservationAdapter implements InventoryReservationPort {
+
+    private static final Logger log = LoggerFactory.getLogger(InventoryReservationAdapter.class);
+
+    private final InventoryServiceClient inventoryServiceClient;
+    private final ObjectMapper objectMapper;
+
+    public InventoryReservationAdapter(InventoryServiceClient inventoryServiceClient, ObjectMapper objectMapper) {
+        this.inventoryServiceClient = inventoryServiceClient;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public List<UUID> reserve(UUID orderId, List<OrderItem> items) {
+        try {
+            inventoryServiceClient.reserve(toRequest(orderId, items));
+            return List.of();
+        } catch (FeignException.Conflict e) {
+            List<UUID> rejected = rejectedProducts(e);
+            log.info("Reservation rejected for order {}: {}", orderId, rejected);
+            return rejected.isEmpty() ? items.stream().map(OrderItem::getProductId).toList() : rejected;
+        } catch (Exception e) {
+            log.error("Error reserving stock for order {}: {}", orderId, e.getMessage());
+            throw new RuntimeException("Failed to reserve inventory", e);
+        }
+    }
+
+    @Override
+    public void releaseReservation(UUID orderId, List<OrderItem> items) {
+        try {
+            inventoryServiceClient.release(toRequest(orderId, items));
+        } catch (Exception e) {
+            log.error("Error releasing stock for order {}: {}", orderId, e.getMessage());
+            throw new RuntimeException("Failed to release inventory", e);
+        }
+    }
+
+    @Override
+    public boolean confirmReservation(UUID orderId, List<OrderItem> items) {
+        try {
+            inventoryServiceClient.confirm(toRequest(orderId, items));
+            return true;
+        } catch (FeignException.Conflict e) {
+            // Nothing left to confirm; retrying cannot change that
+            log.warn("No stock held to confirm for order {}", orderId);
+            return false;
+        } catch (Exception e) {
+            log.error("Error confirming stock for order {}: {}", orderId, e.getMessage());
+            throw new RuntimeException("Failed to confirm inventory", e);
+        }
+    }
+
+    private List<UUID> rejectedProducts(FeignException.Conflict e) {
+        List<UUID> rejected = new ArrayList<>();
+        try {
+            JsonNode productIds = objectMapper.readTree(e.contentUTF8()).path("productIds");
+            productIds.forEach(node -> rejected.add(UUID.fromString(node.asText())));
+        } catch (Exception parseError) {
+            log.debug("Could not read rejected products from reservation response: {}", parseError.getMessage());
+        }
+        return rejected;
+    }
+
+    private static InventoryServiceClient.ReservationRequest toRequest(UUID orderId, List<OrderItem> items) {
+        return new InventoryServiceClient.ReservationRequest(orderId, items.stream()
+                .map(item -> new InventoryServiceClient.Line(item.getProductId(), item.getQuantity()))
+                .toList());
+    }
+}
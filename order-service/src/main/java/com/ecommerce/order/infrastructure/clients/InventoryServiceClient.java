@@ -0,0 +1,39 @@
+package com.ecommerce.order.infrastructure.clients;
+
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Feign client for Product Service inventory reservations.
+ * Calls are authenticated with a service token rather than the customer's.
+ */
+@FeignClient(
+        name = "product-inventory",
+        url = "${product-service.url:http://localhost:8082}",
+        configuration = ServiceTokenFeignConfig.class
+)
+public interface InventoryServiceClient {
+
+    @PostMapping("/api/v1/inventory/reservations")
+    void reserve(@RequestBody ReservationRequest request);
+
+    @PostMapping("/api/v1/inventory/reservations/release")
+    void release(@RequestBody ReservationRequest request);
+
+    @PostMapping("/api/v1/inventory/reservations/confirm")
+    void confirm(@RequestBody ReservationRequest request);
+
+    record ReservationRequest(
+            UUID orderId,
+            List<Line> lines
+    ) {}
+
+    record Line(
+            UUID productId,
+            int quantity
+    ) {}
+}
@@ -0,0 +1,234 @@
+package com.ecommerce.order.infrastructure.clients;
+
+import com.ecommerce.order.domain.ports.ProductServicePort.ProductInfo;
+import com.ecommerce.order.infrastructure.config.ProductCacheConfig;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded near cache of product information with stale-while-revalidate.
+ *
+ * Entries record when they were fetched and are judged against the
+ * freshness window of the caller: product details tolerate minutes,
+ * available stock only seconds. A stale entry inside its window is served
+ * immediately while one background refresh per product runs. Past the
+ * window the lookup waits for product-service, but if an older entry is
+ * still held it waits at most the slow-call timeout and falls back to
+ * that entry on timeout or failure.
+ */
+public class ProductInfoCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductInfoCache.class);
+
+    /**
+     * Which fields of the cached product the caller depends on.
+     */
+    public enum Freshness {
+        DETAILS,
+        STOCK
+    }
+
+    /**
+     * Cached product information and the time it was fetched.
+     */
+    public record Entry(ProductInfo info, long fetchedAtMs) {
+
+        public long ageMs(long nowMs) {
+            return Math.max(0, nowMs - fetchedAtMs);
+        }
+    }
+
+    private final ProductCacheConfig config;
+    private final Function<UUID, Optional<ProductInfo>> loader;
+    private final Function<Collection<UUID>, Map<UUID, ProductInfo>> batchLoader;
+    private final Executor refreshExecutor;
+    private final LongSupplier clock;
+    private final Cache<UUID, Entry> cache;
+    private final Map<UUID, CompletableFuture<Optional<Entry>>> inFlight = new ConcurrentHashMap<>();
+    private final Counter freshHits;
+    private final Counter staleHits;
+    private final Counter misses;
+    private final Counter staleFallbacks;
+    private final DistributionSummary servedAge;
+
+    public ProductInfoCache(
+            ProductCacheConfig config,
+            Function<UUID, Optional<ProductInfo>> loader,
+            Function<Collection<UUID>, Map<UUID, ProductInfo>> batchLoader,
+            Executor refreshExecutor,
+            LongSupplier clock,
+            MeterRegistry meterRegistry
+    ) {
+        this.config = config;
+        this.loader = loader;
+        this.batchLoader = batchLoader;
+        this.refreshExecutor = refreshExecutor;
+        this.clock = clock;
+        // Entries are kept for the longest stale window so they remain
+        // available as a fallback after their serving window has passed.
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(config.getMaxSize())
+                .expireAfterWrite(Math.max(config.getDetailsStaleMs(), config.getStockStaleMs()),
+                        TimeUnit.MILLISECONDS)
+                .recordStats()
+                .build();
+        this.freshHits = requests(meterRegistry, "fresh_hit");
+        this.staleHits = requests(meterRegistry, "stale_hit");
+        this.misses = requests(meterRegistry, "miss");
+        this.staleFallbacks = requests(meterRegistry, "stale_fallback");
+        this.servedAge = DistributionSummary.builder("order.product.cache.served.age")
+                .description("Age of product information served from the near cache")
+                .baseUnit("milliseconds")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "product-info");
+    }
+
+    /**
+     * Looks up a product, serving cached data within the given freshness.
+     *
+     * @param productId the product ID
+     * @param freshness the fields the caller depends on
+     * @return the product entry, or empty if the product does not exist
+     */
+    public Optional<Entry> get(UUID productId, Freshness freshness) {
+        if (!config.isEnabled()) {
+            return loader.apply(productId).map(info -> new Entry(info, clock.getAsLong()));
+        }
+        Entry entry = cache.getIfPresent(productId);
+        if (entry != null) {
+            long age = entry.ageMs(clock.getAsLong());
+            if (age <= freshMs(freshness)) {
+                served(freshHits, age);
+                return Optional.of(entry);
+            }
+            if (age <= staleMs(freshness)) {
+                served(staleHits, age);
+                load(productId);
+                return Optional.of(entry);
+            }
+        }
+        misses.increment();
+        return await(load(productId), entry);
+    }
+
+    /**
+     * Fetches current information for the given products, bypassing cached
+     * entries, and stores the result. Failures are not masked with stale data.
+     *
+     * @param productIds the product IDs
+     * @return entries keyed by product ID; unknown products are absent
+     */
+    public Map<UUID, Entry> reload(Collection<UUID> productIds) {
+        return store(productIds, batchLoader.apply(productIds));
+    }
+
+    /**
+     * Starts or joins the single in-flight load for a product.
+     */
+    private CompletableFuture<Optional<Entry>> load(UUID productId) {
+        CompletableFuture<Optional<Entry>> existing = inFlight.get(productId);
+        if (existing != null) {
+            return existing;
+        }
+        CompletableFuture<Optional<Entry>> created = new CompletableFuture<>();
+        existing = inFlight.putIfAbsent(productId, created);
+        if (existing != null) {
+            return existing;
+        }
+        refreshExecutor.execute(() -> {
+            try {
+                Optional<ProductInfo> info = loader.apply(productId);
+                created.complete(Optional.ofNullable(store(productId, info.orElse(null))));
+            } catch (Throwable ex) {
+                created.completeExceptionally(ex);
+            } finally {
+                inFlight.remove(productId, created);
+            }
+        });
+        return created;
+    }
+
+    private Optional<Entry> await(CompletableFuture<Optional<Entry>> pending, Entry fallback) {
+        if (fallback == null) {
+            try {
+                return pending.join();
+            } catch (CompletionException ex) {
+                throw ex.getCause() instanceof RuntimeException cause ? cause : ex;
+            }
+        }
+        try {
+            return pending.get(config.getSlowCallTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | ExecutionException ex) {
+            log.warn("Serving stale product {} after product service {}",
+                    fallback.info().id(), ex instanceof TimeoutException ? "timeout" : "failure");
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        served(staleFallbacks, fallback.ageMs(clock.getAsLong()));
+        return Optional.of(fallback);
+    }
+
+    private Map<UUID, Entry> store(Collection<UUID> productIds, Map<UUID, ProductInfo> fetched) {
+        Map<UUID, Entry> stored = new HashMap<>();
+        for (UUID productId : productIds) {
+            Entry entry = store(productId, fetched.get(productId));
+            if (entry != null) {
+                stored.put(productId, entry);
+            }
+        }
+        return stored;
+    }
+
+    private Entry store(UUID productId, ProductInfo info) {
+        if (info == null) {
+            cache.invalidate(productId);
+            return null;
+        }
+        Entry entry = new Entry(info, clock.getAsLong());
+        if (config.isEnabled()) {
+            cache.put(productId, entry);
+        }
+        return entry;
+    }
+
+    private long freshMs(Freshness freshness) {
+        return freshness == Freshness.STOCK ? config.getStockFreshMs() : config.getDetailsFreshMs();
+    }
+
+    private long staleMs(Freshness freshness) {
+        return freshness == Freshness.STOCK ? config.getStockStaleMs() : config.getDetailsStaleMs();
+    }
+
+    private void served(Counter counter, long ageMs) {
+        counter.increment();
+        servedAge.record(ageMs);
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("order.product.cache.requests")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -1,47 +1,145 @@
 package com.ecommerce.order.infrastructure.clients;
 
 import com.ecommerce.order.domain.ports.ProductServicePort;
+import com.ecommerce.order.infrastructure.config.ProductCacheConfig;
 import com.ecommerce.shared.domain.value_objects.Money;
 import feign.FeignException;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.LongSupplier;
 
 /**
  * Adapter that implements ProductServicePort using Feign client.
+ *
+ * Lookups go through a {@link ProductInfoCache} near cache, where details
+ * and stock have separate freshness windows. Results are also memoized for
+ * the current HTTP request, so a use case that asks about the same product
+ * several times sees one consistent answer.
  */
 @Component
 public class ProductServiceAdapter implements ProductServicePort {
 
     private static final Logger log = LoggerFactory.getLogger(ProductServiceAdapter.class);
 
+    private static final String MEMO_ATTRIBUTE = ProductServiceAdapter.class.getName() + ".memo";
+
+    /**
+     * Largest ID list product service accepts in one batch lookup.
+     */
+    static final int BATCH_LIMIT = 100;
+
     private final ProductServiceClient productServiceClient;
+    private final ProductCacheConfig config;
+    private final ProductInfoCache cache;
+    private final Executor fetchExecutor;
+    private final ExecutorService ownedExecutor;
+    private final LongSupplier clock;
+
+    @Autowired
+    public ProductServiceAdapter(
+            ProductServiceClient productServiceClient,
+            ProductCacheConfig config,
+            MeterRegistry meterRegistry
+    ) {
+        this(productServiceClient, config, meterRegistry, Executors.newVirtualThreadPerTaskExecutor(),
+                System::currentTimeMillis);
+    }
 
-    public ProductServiceAdapter(ProductServiceClient productServiceClient) {
+    public ProductServiceAdapter(
+            ProductServiceClient productServiceClient,
+            ProductCacheConfig config,
+            MeterRegistry meterRegistry,
+            Executor refreshExecutor,
+            LongSupplier clock
+    ) {
         this.productServiceClient = productServiceClient;
+        this.config = config;
+        this.clock = clock;
+        this.fetchExecutor = refreshExecutor;
+        this.ownedExecutor = refreshExecutor instanceof ExecutorService service ? service : null;
+        this.cache = new ProductInfoCache(config, this::fetch, this::fetchAll, refreshExecutor, clock, meterRegistry);
     }
 
     @Override
     public Optional<ProductInfo> getProductInfo(UUID productId) {
-        try {
-            ProductServiceClient.ProductResponse response = productServiceClient.getProduct(productId);
-            if (response == null) {
-                return Optional.empty();
+        return lookup(productId, ProductInfoCache.Freshness.DETAILS);
+    }
+
+    @Override
+    public Map<UUID, ProductInfo> revalidateProducts(Collection<UUID> productIds) {
+        Map<UUID, Optional<ProductInfoCache.Entry>> memo = requestMemo();
+        Map<UUID, ProductInfoCache.Entry> current = cache.reload(new LinkedHashSet<>(productIds));
+
+        Map<UUID, ProductInfo> result = new HashMap<>();
+        for (UUID productId : productIds) {
+            ProductInfoCache.Entry entry = current.get(productId);
+            memo.put(productId, Optional.ofNullable(entry));
+            if (entry != null) {
+                result.put(productId, entry.info());
             }
+        }
+        return result;
+    }
+
+    @Override
+    public boolean isStockAvailable(UUID productId, int quantity) {
+        return lookup(productId, ProductInfoCache.Freshness.STOCK)
+                .map(info -> info.availableStock() >= quantity)
+                .orElse(false);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Serves from the request memo when its entry is fresh enough for the
+     * caller, otherwise from the near cache.
+     */
+    private Optional<ProductInfo> lookup(UUID productId, ProductInfoCache.Freshness freshness) {
+        Map<UUID, Optional<ProductInfoCache.Entry>> memo = requestMemo();
+        Optional<ProductInfoCache.Entry> memoized = memo.get(productId);
+        if (memoized != null && (memoized.isEmpty() || isFreshForRequest(memoized.get(), freshness))) {
+            return memoized.map(ProductInfoCache.Entry::info);
+        }
+        Optional<ProductInfoCache.Entry> entry = cache.get(productId, freshness);
+        memo.put(productId, entry);
+        return entry.map(ProductInfoCache.Entry::info);
+    }
 
-            int availableStock = response.stockInfo() != null ? response.stockInfo().available() : 0;
+    private boolean isFreshForRequest(ProductInfoCache.Entry entry, ProductInfoCache.Freshness freshness) {
+        // Details are stable for a request; stock must still be inside its own window.
+        return freshness == ProductInfoCache.Freshness.DETAILS
+                || entry.ageMs(clock.getAsLong()) <= config.getStockStaleMs();
+    }
 
-            return Optional.of(new ProductInfo(
-                    response.id(),
-                    response.name(),
-                    response.sku(),
-                    Money.of(response.price()),
-                    availableStock,
-                    response.active()
-            ));
+    private Optional<ProductInfo> fetch(UUID productId) {
+        try {
+            ProductServiceClient.ProductResponse response = productServiceClient.getProduct(productId);
+            return Optional.ofNullable(response).map(ProductServiceAdapter::toProductInfo);
         } catch (FeignException.NotFound e) {
             log.debug("Product not found: {}", productId);
             return Optional.empty();
@@ -51,10 +149,66 @@ public class ProductServiceAdapter implements ProductServicePort {
         }
     }
 
-    @Override
-    public boolean isStockAvailable(UUID productId, int quantity) {
-        return getProductInfo(productId)
-                .map(info -> info.availableStock() >= quantity)
-                .orElse(false);
+    /**
+     * Fetches products in batches of {@link #BATCH_LIMIT}. Several batches
+     * are requested concurrently and joined.
+     */
+    private Map<UUID, ProductInfo> fetchAll(Collection<UUID> productIds) {
+        if (productIds.size() <= BATCH_LIMIT) {
+            return fetchBatch(productIds);
+        }
+        List<UUID> ids = List.copyOf(productIds);
+        List<CompletableFuture<Map<UUID, ProductInfo>>> batches = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += BATCH_LIMIT) {
+            List<UUID> batch = ids.subList(from, Math.min(from + BATCH_LIMIT, ids.size()));
+            batches.add(CompletableFuture.supplyAsync(() -> fetchBatch(batch), fetchExecutor));
+        }
+        Map<UUID, ProductInfo> result = new HashMap<>();
+        try {
+            batches.forEach(batch -> result.putAll(batch.join()));
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+        return result;
+    }
+
+    private Map<UUID, ProductInfo> fetchBatch(Collection<UUID> productIds) {
+        try {
+            List<ProductServiceClient.ProductResponse> responses = productServiceClient.getProducts(productIds);
+            Map<UUID, ProductInfo> result = new HashMap<>();
+            if (responses != null) {
+                responses.forEach(response -> result.put(response.id(), toProductInfo(response)));
+            }
+            return result;
+        } catch (Exception e) {
+            log.error("Error fetching {} products: {}", productIds.size(), e.getMessage());
+            throw new RuntimeException("Failed to fetch product information", e);
+        }
+    }
+
+    private static ProductInfo toProductInfo(ProductServiceClient.ProductResponse response) {
+        int availableStock = response.stockInfo() != null ? response.stockInfo().available() : 0;
+        return new ProductInfo(
+                response.id(),
+                response.name(),
+                response.sku(),
+                Money.of(response.price()),
+                availableStock,
+                response.active()
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<UUID, Optional<ProductInfoCache.Entry>> requestMemo() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return new HashMap<>();
+        }
+        Object memo = attributes.getAttribute(MEMO_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (memo == null) {
+            memo = new HashMap<UUID, Optional<ProductInfoCache.Entry>>();
+            attributes.setAttribute(MEMO_ATTRIBUTE, memo, RequestAttributes.SCOPE_REQUEST);
+        }
+        return (Map<UUID, Optional<ProductInfoCache.Entry>>) memo;
     }
 }
@@ -3,8 +3,11 @@ package com.ecommerce.order.infrastructure.clients;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -16,6 +19,9 @@ public interface ProductServiceClient {
     @GetMapping("/api/v1/products/{productId}")
     ProductResponse getProduct(@PathVariable UUID productId);
 
+    @GetMapping("/api/v1/products")
+    List<ProductResponse> getProducts(@RequestParam("ids") Collection<UUID> ids);
+
     record ProductResponse(
             UUID id,
             String sku,
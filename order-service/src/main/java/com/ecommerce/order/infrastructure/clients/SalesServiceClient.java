@@ -0,0 +1,59 @@
+package com.ecommerce.order.infrastructure.clients;
+
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Feign client for Sales Service coupons.
+ */
+@FeignClient(
+        name = "sales-service",
+        url = "${sales-service.url:http://localhost:8085}",
+        configuration = ServiceTokenFeignConfig.class
+)
+public interface SalesServiceClient {
+
+    @GetMapping("/api/v1/coupons/rules")
+    List<CouponRuleResponse> getCouponRules();
+
+    @GetMapping("/api/v1/coupons/rules/{couponCode}")
+    CouponRuleResponse getCouponRule(@PathVariable String couponCode);
+
+    @PostMapping("/api/v1/coupons/apply")
+    CouponValidationResponse applyCoupon(
+            @RequestBody ApplyCouponRequest request,
+            @RequestHeader("X-Customer-Id") UUID customerId
+    );
+
+    record CouponRuleResponse(
+            String code,
+            String description,
+            String discountType,
+            BigDecimal discountValue,
+            BigDecimal minimumOrderAmount,
+            Instant expiryDate
+    ) {}
+
+    record ApplyCouponRequest(
+            String couponCode,
+            BigDecimal orderTotal,
+            UUID orderId
+    ) {}
+
+    record CouponValidationResponse(
+            boolean valid,
+            String couponCode,
+            String description,
+            BigDecimal discountAmount,
+            String errorMessage
+    ) {}
+}
@@ -0,0 +1,24 @@
+package com.ecommerce.order.infrastructure.clients;
+
+import com.ecommerce.security.provider.JwtTokenProvider;
+import feign.RequestInterceptor;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Feign configuration for service-to-service calls.
+ * Not a {@code @Configuration} so it applies only to clients that name it.
+ *
+ * Each request carries a short-lived token for the order-service identity
+ * with the SERVICE role, signed with the shared JWT key.
+ */
+public class ServiceTokenFeignConfig {
+
+    static final String SERVICE_ID = "order-service";
+    static final String SERVICE_ROLE = "SERVICE";
+
+    @Bean
+    public RequestInterceptor serviceTokenInterceptor(JwtTokenProvider jwtTokenProvider) {
+        return template -> template.header("Authorization",
+                "Bearer " + jwtTokenProvider.generateAccessToken(SERVICE_ID, null, SERVICE_ROLE));
+    }
+}
@@ -0,0 +1,71 @@
+package com.ecommerce.order.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Coupon configuration properties.
+ * Coupon rules are served from a snapshot refreshed on a fixed delay;
+ * codes missing from it are looked up remotely and remembered briefly.
+ * Redemptions that cannot reach the sales service are retried with
+ * exponential backoff.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "order.coupons")
+public class CouponConfig {
+
+    private long snapshotRefreshMs = 60000;
+    private long remoteLookupTtlMs = 60000;
+    private long remoteLookupMaxSize = 1000;
+    private int redemptionMaxAttempts = 8;
+    private long redemptionRetryDelayMs = 1000;
+    private long redemptionMaxRetryDelayMs = 60000;
+
+    public long getSnapshotRefreshMs() {
+        return snapshotRefreshMs;
+    }
+
+    public void setSnapshotRefreshMs(long snapshotRefreshMs) {
+        this.snapshotRefreshMs = snapshotRefreshMs;
+    }
+
+    public long getRemoteLookupTtlMs() {
+        return remoteLookupTtlMs;
+    }
+
+    public void setRemoteLookupTtlMs(long remoteLookupTtlMs) {
+        this.remoteLookupTtlMs = remoteLookupTtlMs;
+    }
+
+    public long getRemoteLookupMaxSize() {
+        return remoteLookupMaxSize;
+    }
+
+    public void setRemoteLookupMaxSize(long remoteLookupMaxSize) {
+        this.remoteLookupMaxSize = remoteLookupMaxSize;
+    }
+
+    public int getRedemptionMaxAttempts() {
+        return redemptionMaxAttempts;
+    }
+
+    public void setRedemptionMaxAttempts(int redemptionMaxAttempts) {
+        this.redemptionMaxAttempts = redemptionMaxAttempts;
+    }
+
+    public long getRedemptionRetryDelayMs() {
+        return redemptionRetryDelayMs;
+    }
+
+    public void setRedemptionRetryDelayMs(long redemptionRetryDelayMs) {
+        this.redemptionRetryDelayMs = redemptionRetryDelayMs;
+    }
+
+    public long getRedemptionMaxRetryDelayMs() {
+        return redemptionMaxRetryDelayMs;
+    }
+
+    public void setRedemptionMaxRetryDelayMs(long redemptionMaxRetryDelayMs) {
+        this.redemptionMaxRetryDelayMs = redemptionMaxRetryDelayMs;
+    }
+}
@@ -0,0 +1,104 @@
+package com.ecommerce.order.infrastructure.config;
+
+import com.ecommerce.order.infrastructure.outbox.ApplicationEventOutboxTransport;
+import com.ecommerce.order.infrastructure.outbox.OutboxTransport;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Order event outbox configuration properties.
+ * The relay polls on a fixed delay and claims up to a batch of events at a
+ * time; a claim is a lease, so events from a relay that dies mid-batch are
+ * picked up again once it expires. Failed sends are retried with
+ * exponential backoff, and published events are purged after the
+ * retention period.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "order.outbox")
+public class OutboxConfig {
+
+    private boolean relayEnabled = true;
+    private long pollIntervalMs = 500;
+    private int batchSize = 100;
+    private int maxBatchesPerPoll = 10;
+    private long leaseMs = 30000;
+    private long retryDelayMs = 1000;
+    private long maxRetryDelayMs = 300000; // 5 minutes
+    private long retentionHours = 72;
+
+    /**
+     * In-process transport, used unless another transport bean is defined.
+     */
+    @Bean
+    @ConditionalOnMissingBean(OutboxTransport.class)
+    public OutboxTransport outboxTransport(ApplicationEventPublisher applicationEventPublisher) {
+        return new ApplicationEventOutboxTransport(applicationEventPublisher);
+    }
+
+    public boolean isRelayEnabled() {
+        return relayEnabled;
+    }
+
+    public void setRelayEnabled(boolean relayEnabled) {
+        this.relayEnabled = relayEnabled;
+    }
+
+    public long getPollIntervalMs() {
+        return pollIntervalMs;
+    }
+
+    public void setPollIntervalMs(long pollIntervalMs) {
+        this.pollIntervalMs = pollIntervalMs;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getMaxBatchesPerPoll() {
+        return maxBatchesPerPoll;
+    }
+
+    public void setMaxBatchesPerPoll(int maxBatchesPerPoll) {
+        this.maxBatchesPerPoll = maxBatchesPerPoll;
+    }
+
+    public long getLeaseMs() {
+        return leaseMs;
+    }
+
+    public void setLeaseMs(long leaseMs) {
+        this.leaseMs = leaseMs;
+    }
+
+    public long getRetryDelayMs() {
+        return retryDelayMs;
+    }
+
+    public void setRetryDelayMs(long retryDelayMs) {
+        this.retryDelayMs = retryDelayMs;
+    }
+
+    public long getMaxRetryDelayMs() {
+        return maxRetryDelayMs;
+    }
+
+    public void setMaxRetryDelayMs(long maxRetryDelayMs) {
+        this.maxRetryDelayMs = maxRetryDelayMs;
+    }
+
+    public long getRetentionHours() {
+        return retentionHours;
+    }
+
+    public void setRetentionHours(long retentionHours) {
+        this.retentionHours = retentionHours;
+    }
+}
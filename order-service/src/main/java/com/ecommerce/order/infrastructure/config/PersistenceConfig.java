@@ -0,0 +1,42 @@
+package com.ecommerce.order.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Order and cart persistence configuration properties.
+ * Store selection itself is read by the adapters' conditions; this class
+ * holds the values the selected adapters need at runtime.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "order.persistence")
+public class PersistenceConfig {
+
+    private String store = "jpa";
+    private String cartStore = "redis";
+    private long cartTtlHours = 168; // 7 days since last access
+
+    public String getStore() {
+        return store;
+    }
+
+    public void setStore(String store) {
+        this.store = store;
+    }
+
+    public String getCartStore() {
+        return cartStore;
+    }
+
+    public void setCartStore(String cartStore) {
+        this.cartStore = cartStore;
+    }
+
+    public long getCartTtlHours() {
+        return cartTtlHours;
+    }
+
+    public void setCartTtlHours(long cartTtlHours) {
+        this.cartTtlHours = cartTtlHours;
+    }
+}
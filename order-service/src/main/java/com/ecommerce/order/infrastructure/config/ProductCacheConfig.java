@@ -0,0 +1,81 @@
+package com.ecommerce.order.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Product near cache configuration properties.
+ * Product details (name, price, active flag) and available stock have
+ * separate freshness windows. Within a stale window the cached value is
+ * served while a background refresh runs; past it the lookup is
+ * synchronous, falling back to the stale value if product-service fails
+ * or exceeds the slow-call timeout.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "order.product-cache")
+public class ProductCacheConfig {
+
+    private boolean enabled = true;
+    private long maxSize = 10000;
+    private long detailsFreshMs = 300000; // 5 minutes
+    private long detailsStaleMs = 1800000; // 30 minutes
+    private long stockFreshMs = 5000;
+    private long stockStaleMs = 30000;
+    private long slowCallTimeoutMs = 300;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public long getDetailsFreshMs() {
+        return detailsFreshMs;
+    }
+
+    public void setDetailsFreshMs(long detailsFreshMs) {
+        this.detailsFreshMs = detailsFreshMs;
+    }
+
+    public long getDetailsStaleMs() {
+        return detailsStaleMs;
+    }
+
+    public void setDetailsStaleMs(long detailsStaleMs) {
+        this.detailsStaleMs = detailsStaleMs;
+    }
+
+    public long getStockFreshMs() {
+        return stockFreshMs;
+    }
+
+    public void setStockFreshMs(long stockFreshMs) {
+        this.stockFreshMs = stockFreshMs;
+    }
+
+    public long getStockStaleMs() {
+        return stockStaleMs;
+    }
+
+    public void setStockStaleMs(long stockStaleMs) {
+        this.stockStaleMs = stockStaleMs;
+    }
+
+    public long getSlowCallTimeoutMs() {
+        return slowCallTimeoutMs;
+    }
+
+    public void setSlowCallTimeoutMs(long slowCallTimeoutMs) {
+        this.slowCallTimeoutMs = slowCallTimeoutMs;
+    }
+}
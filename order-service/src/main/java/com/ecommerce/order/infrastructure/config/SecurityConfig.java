@@ -34,6 +34,8 @@ public class SecurityConfig {
             .authorizeHttpRequests(auth -> auth
                 // Health check and actuator
                 .requestMatchers("/actuator/**").permitAll()
+                // Order lookup and payment notifications - service-to-service only
+                .requestMatchers("/api/v1/internal/**").hasRole("SERVICE")
                 // All cart operations require authentication
                 .requestMatchers("/api/v1/cart/**").authenticated()
                 .requestMatchers("/api/v1/orders/**").authenticated()
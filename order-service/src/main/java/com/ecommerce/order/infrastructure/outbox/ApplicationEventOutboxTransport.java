@@ -0,0 +1,27 @@
+package com.ecommerce.order.infrastructure.outbox;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * Default transport that publishes outbox messages as Spring application
+ * events for in-process listeners. Replaced by defining another
+ * {@link OutboxTransport} bean, such as a message broker producer.
+ */
+public class ApplicationEventOutboxTransport implements OutboxTransport {
+
+    private static final Logger log = LoggerFactory.getLogger(ApplicationEventOutboxTransport.class);
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public ApplicationEventOutboxTransport(ApplicationEventPublisher applicationEventPublisher) {
+        this.applicationEventPublisher = applicationEventPublisher;
+    }
+
+    @Override
+    public void send(OutboxMessage message) {
+        log.debug("Publishing {} for {} {}", message.eventType(), message.aggregateType(), message.aggregateId());
+        applicationEventPublisher.publishEvent(message);
+    }
+}
@@ -0,0 +1,129 @@
+package com.ecommerce.order.infrastructure.outbox;
+
+import com.ecommerce.shared.domain.events.DomainEvent;
+import com.ecommerce.shared.domain.ids.TimeOrderedUuid;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-memory outbox for the in-memory order store.
+ * Enabled with order.persistence.store=memory; for development and testing only.
+ */
+@Component
+@ConditionalOnProperty(prefix = "order.persistence", name = "store", havingValue = "memory")
+public class InMemoryOutboxStore implements OutboxStore {
+
+    private final NavigableMap<UUID, Entry> entries = new ConcurrentSkipListMap<>();
+    private final ObjectMapper objectMapper;
+
+    public InMemoryOutboxStore() {
+        this(JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build());
+    }
+
+    @Autowired
+    public InMemoryOutboxStore(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void append(List<DomainEvent> events) {
+        for (DomainEvent event : events) {
+            UUID id = TimeOrderedUuid.next();
+            entries.put(id, new Entry(new OutboxMessage(id, event.getEventId(), event.getAggregateType(),
+                    event.getAggregateId(), event.getEventType(), serialize(event), event.getOccurredOn(), 0)));
+        }
+    }
+
+    @Override
+    public synchronized List<OutboxMessage> claim(int batchSize, Instant leaseUntil) {
+        Instant now = Instant.now();
+        List<OutboxMessage> claimed = new ArrayList<>();
+        for (Entry entry : entries.values()) {
+            if (claimed.size() >= batchSize) {
+                break;
+            }
+            if (entry.publishedAt == null && !entry.availableAt.isAfter(now)) {
+                entry.availableAt = leaseUntil;
+                entry.attempts++;
+                claimed.add(entry.toMessage());
+            }
+        }
+        return claimed;
+    }
+
+    @Override
+    public synchronized void markPublished(Collection<UUID> ids) {
+        Instant now = Instant.now();
+        for (UUID id : ids) {
+            Entry entry = entries.get(id);
+            if (entry != null) {
+                entry.publishedAt = now;
+            }
+        }
+    }
+
+    @Override
+    public synchronized void markFailed(UUID id, Instant retryAt) {
+        Entry entry = entries.get(id);
+        if (entry != null && entry.publishedAt == null) {
+            entry.availableAt = retryAt;
+        }
+    }
+
+    @Override
+    public synchronized int purgePublishedBefore(Instant cutoff) {
+        int before = entries.size();
+        entries.values().removeIf(entry -> entry.publishedAt != null && entry.publishedAt.isBefore(cutoff));
+        return before - entries.size();
+    }
+
+    /**
+     * Number of entries not yet published. For testing purposes only.
+     */
+    public long countUnpublished() {
+        return entries.values().stream().filter(entry -> entry.publishedAt == null).count();
+    }
+
+    private String serialize(DomainEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Cannot serialize " + event.getEventType(), ex);
+        }
+    }
+
+    private static final class Entry {
+
+        private final OutboxMessage message;
+        private Instant availableAt;
+        private Instant publishedAt;
+        private int attempts;
+
+        private Entry(OutboxMessage message) {
+            this.message = message;
+            this.availableAt = message.occurredAt();
+        }
+
+        private OutboxMessage toMessage() {
+            return new OutboxMessage(message.id(), message.eventId(), message.aggregateType(),
+                    message.aggregateId(), message.eventType(), message.payload(), message.occurredAt(), attempts);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.ecommerce.order.infrastructure.outbox;
+
+import com.ecommerce.order.infrastructure.persistence.entities.OutboxEventJpaEntity;
+import com.ecommerce.order.infrastructure.persistence.repositories.OutboxEventJpaRepository;
+import com.ecommerce.shared.domain.events.DomainEvent;
+import com.ecommerce.shared.domain.ids.TimeOrderedUuid;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Outbox stored in the order database, next to the orders it describes.
+ * Entries are claimed with row locks that skip rows already locked, so
+ * each replica's relay takes a different batch.
+ */
+@Component
+@ConditionalOnProperty(prefix = "order.persistence", name = "store", havingValue = "jpa", matchIfMissing = true)
+public class JpaOutboxStore implements OutboxStore {
+
+    private final OutboxEventJpaRepository repository;
+    private final ObjectMapper objectMapper;
+
+    public JpaOutboxStore(OutboxEventJpaRepository repository, ObjectMapper objectMapper) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(List<DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        List<OutboxEventJpaEntity> entities = new ArrayList<>(events.size());
+        for (DomainEvent event : events) {
+            OutboxEventJpaEntity entity = new OutboxEventJpaEntity();
+            entity.setId(TimeOrderedUuid.next());
+            entity.setEventId(event.getEventId());
+            entity.setAggregateType(event.getAggregateType());
+            entity.setAggregateId(event.getAggregateId());
+            entity.setEventType(event.getEventType());
+            entity.setPayload(serialize(event));
+            entity.setOccurredAt(event.getOccurredOn());
+            entity.setAvailableAt(event.getOccurredOn());
+            entity.markNew();
+            entities.add(entity);
+        }
+        repository.saveAll(entities);
+    }
+
+    @Override
+    @Transactional
+    public List<OutboxMessage> claim(int batchSize, Instant leaseUntil) {
+        List<OutboxEventJpaEntity> due = repository.findDueForUpdate(Instant.now(), PageRequest.of(0, batchSize));
+        List<OutboxMessage> claimed = new ArrayList<>(due.size());
+        for (OutboxEventJpaEntity entity : due) {
+            entity.setAvailableAt(leaseUntil);
+            entity.setAttempts(entity.getAttempts() + 1);
+            claimed.add(new OutboxMessage(entity.getId(), entity.getEventId(), entity.getAggregateType(),
+                    entity.getAggregateId(), entity.getEventType(), entity.getPayload(),
+                    entity.getOccurredAt(), entity.getAttempts()));
+        }
+        return claimed;
+    }
+
+    @Override
+    @Transactional
+    public void markPublished(Collection<UUID> ids) {
+        if (!ids.isEmpty()) {
+            repository.markPublished(ids, Instant.now());
+        }
+    }
+
+    @Override
+    @Transactional
+    public void markFailed(UUID id, Instant retryAt) {
+        repository.reschedule(id, retryAt);
+    }
+
+    @Override
+    @Transactional
+    public int purgePublishedBefore(Instant cutoff) {
+        return repository.deletePublishedBefore(cutoff);
+    }
+
+    private String serialize(DomainEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Cannot serialize " + event.getEventType(), ex);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.ecommerce.order.infrastructure.outbox;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A domain event recorded in the outbox, as handed to a transport.
+ *
+ * @param id          outbox entry ID, time-ordered in insertion order
+ * @param eventId     ID of the domain event, for consumer-side deduplication
+ * @param aggregateType type of the aggregate that raised the event
+ * @param aggregateId ID of the aggregate that raised the event
+ * @param eventType   simple name of the event class
+ * @param payload     the event serialized as JSON
+ * @param occurredAt  when the event was raised
+ * @param attempts    number of times the entry has been claimed for sending
+ */
+public record OutboxMessage(
+        UUID id,
+        UUID eventId,
+        String aggregateType,
+        String aggregateId,
+        String eventType,
+        String payload,
+        Instant occurredAt,
+        int attempts
+) {
+}
@@ -0,0 +1,124 @@
+package com.ecommerce.order.infrastructure.outbox;
+
+import com.ecommerce.order.infrastructure.config.OutboxConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Relays outbox entries to the transport in the background.
+ *
+ * Each poll claims batches until one comes back short or the per-poll
+ * limit is reached. Sends happen outside any database transaction; an
+ * entry is marked published only after its send returns, and a failed
+ * send is rescheduled with exponential backoff. Delivery is therefore at
+ * least once, and ordering is only by insertion within a batch.
+ */
+@Component
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxStore store;
+    private final OutboxTransport transport;
+    private final OutboxConfig config;
+    private final Counter publishedCounter;
+    private final Counter failedCounter;
+    private final Timer lagTimer;
+
+    public OutboxRelay(
+            OutboxStore store,
+            OutboxTransport transport,
+            OutboxConfig config,
+            MeterRegistry meterRegistry
+    ) {
+        this.store = store;
+        this.transport = transport;
+        this.config = config;
+        this.publishedCounter = relayed(meterRegistry, "published");
+        this.failedCounter = relayed(meterRegistry, "failed");
+        this.lagTimer = Timer.builder("order.outbox.lag")
+                .description("Time from an event being raised to its delivery")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${order.outbox.poll-interval-ms:500}")
+    public void relay() {
+        if (!config.isRelayEnabled()) {
+            return;
+        }
+        try {
+            for (int i = 0; i < config.getMaxBatchesPerPoll(); i++) {
+                if (relayBatch() < config.getBatchSize()) {
+                    return;
+                }
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Outbox relay poll failed: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Claims and sends one batch.
+     *
+     * @return the number of entries claimed
+     */
+    public int relayBatch() {
+        List<OutboxMessage> batch = store.claim(config.getBatchSize(),
+                Instant.now().plusMillis(config.getLeaseMs()));
+        List<UUID> published = new ArrayList<>(batch.size());
+        for (OutboxMessage message : batch) {
+            try {
+                transport.send(message);
+                published.add(message.id());
+                publishedCounter.increment();
+                lagTimer.record(Duration.between(message.occurredAt(), Instant.now()));
+            } catch (RuntimeException ex) {
+                failedCounter.increment();
+                Instant retryAt = Instant.now().plusMillis(retryDelayMs(message.attempts()));
+                log.warn("Failed to relay {} {} (attempt {}), retrying at {}: {}",
+                        message.eventType(), message.eventId(), message.attempts(), retryAt, ex.getMessage());
+                store.markFailed(message.id(), retryAt);
+            }
+        }
+        store.markPublished(published);
+        return batch.size();
+    }
+
+    /**
+     * Deletes published entries older than the retention period.
+     */
+    @Scheduled(initialDelay = 60000, fixedDelay = 3600000)
+    public void purgePublished() {
+        try {
+            int purged = store.purgePublishedBefore(Instant.now().minus(config.getRetentionHours(), ChronoUnit.HOURS));
+            if (purged > 0) {
+                log.info("Purged {} published outbox entries", purged);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Outbox purge failed: {}", ex.getMessage());
+        }
+    }
+
+    private long retryDelayMs(int attempts) {
+        int shift = Math.min(Math.max(attempts - 1, 0), 20);
+        return Math.min(config.getRetryDelayMs() << shift, config.getMaxRetryDelayMs());
+    }
+
+    private static Counter relayed(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("order.outbox.relayed")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
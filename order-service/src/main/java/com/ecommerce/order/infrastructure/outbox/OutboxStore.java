@@ -0,0 +1,48 @@
+package com.ecommerce.order.infrastructure.outbox;
+
+import com.ecommerce.shared.domain.events.DomainEvent;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Storage for the order event outbox.
+ *
+ * Events are appended by the order repository in the transaction that
+ * saves the order. The relay claims due entries for a lease period,
+ * sends them, and then marks them published or reschedules them.
+ */
+public interface OutboxStore {
+
+    /**
+     * Records events for relay. Must run in the caller's transaction.
+     */
+    void append(List<DomainEvent> events);
+
+    /**
+     * Claims up to batchSize unpublished entries that are due, oldest first.
+     * Entries claimed by another relay are skipped rather than waited on.
+     *
+     * @param leaseUntil when the claim lapses if the entries are not settled
+     */
+    List<OutboxMessage> claim(int batchSize, Instant leaseUntil);
+
+    /**
+     * Marks entries as published.
+     */
+    void markPublished(Collection<UUID> ids);
+
+    /**
+     * Releases a claimed entry for another attempt at retryAt.
+     */
+    void markFailed(UUID id, Instant retryAt);
+
+    /**
+     * Deletes entries published before the cutoff.
+     *
+     * @return the number of entries deleted
+     */
+    int purgePublishedBefore(Instant cutoff);
+}
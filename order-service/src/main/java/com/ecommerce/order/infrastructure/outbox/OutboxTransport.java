@@ -0,0 +1,14 @@
+package com.ecommerce.order.infrastructure.outbox;
+
+/**
+ * Delivers outbox messages to their consumers.
+ *
+ * Delivery is at least once: a message may be sent again if the relay
+ * fails before recording it as published, so consumers deduplicate on
+ * {@link OutboxMessage#eventId()}. Implementations throw to signal that
+ * the message was not delivered.
+ */
+public interface OutboxTransport {
+
+    void send(OutboxMessage message);
+}
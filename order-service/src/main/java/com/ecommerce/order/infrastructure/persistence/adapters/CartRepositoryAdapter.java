@@ -0,0 +1,57 @@
+package com.ecommerce.order.infrastructure.persistence.adapters;
+
+import com.ecommerce.order.domain.aggregates.Cart;
+import com.ecommerce.order.domain.ports.CartRepository;
+import com.ecommerce.order.infrastructure.persistence.mappers.CartMapper;
+import com.ecommerce.order.infrastructure.persistence.repositories.CartJpaRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Adapter implementing CartRepository port using JPA.
+ * Saves synchronize the managed cart row and its item rows in place,
+ * so only changed items are written.
+ */
+@Component
+@ConditionalOnProperty(prefix = "order.persistence", name = "cart-store", havingValue = "jpa")
+public class CartRepositoryAdapter implements CartRepository {
+
+    private final CartJpaRepository jpaRepository;
+
+    public CartRepositoryAdapter(CartJpaRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+
+    @Override
+    @Transactional
+    public void save(Cart cart) {
+        jpaRepository.findByCustomerId(cart.getCustomerId())
+                .ifPresentOrElse(
+                        existing -> CartMapper.applyChanges(cart, existing),
+                        () -> jpaRepository.save(CartMapper.toNewJpa(cart))
+                );
+        cart.markPersisted();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Cart> findByCustomerId(UUID customerId) {
+        return jpaRepository.findByCustomerId(customerId)
+                .map(CartMapper::toDomain);
+    }
+
+    @Override
+    @Transactional
+    public void deleteByCustomerId(UUID customerId) {
+        jpaRepository.deleteByCustomerId(customerId);
+    }
+
+    @Override
+    public boolean existsByCustomerId(UUID customerId) {
+        return jpaRepository.existsByCustomerId(customerId);
+    }
+}
@@ -2,6 +2,7 @@ package com.ecommerce.order.infrastructure.persistence.adapters;
 
 import com.ecommerce.order.domain.aggregates.Cart;
 import com.ecommerce.order.domain.ports.CartRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
 
 import java.util.Map;
@@ -11,9 +12,10 @@ import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * In-memory implementation of CartRepository.
- * For production, replace with Redis-backed implementation.
+ * Enabled with order.persistence.cart-store=memory; for development only.
  */
 @Repository
+@ConditionalOnProperty(prefix = "order.persistence", name = "cart-store", havingValue = "memory")
 public class InMemoryCartRepository implements CartRepository {
 
     private final Map<UUID, Cart> carts = new ConcurrentHashMap<>();
@@ -21,6 +23,7 @@ public class InMemoryCartRepository implements CartRepository {
     @Override
     public void save(Cart cart) {
         carts.put(cart.getCustomerId(), cart);
+        cart.markPersisted();
     }
 
     @Override
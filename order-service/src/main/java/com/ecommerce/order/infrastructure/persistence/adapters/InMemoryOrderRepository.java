@@ -3,28 +3,94 @@ package com.ecommerce.order.infrastructure.persistence.adapters;
 import com.ecommerce.order.domain.aggregates.Order;
 import com.ecommerce.order.domain.ports.OrderRepository;
 import com.ecommerce.order.domain.value_objects.OrderStatus;
+import com.ecommerce.order.infrastructure.outbox.InMemoryOutboxStore;
+import com.ecommerce.order.infrastructure.outbox.OutboxStore;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 
 /**
  * In-memory implementation of OrderRepository.
- * For development and testing purposes only.
+ * Enabled with order.persistence.store=memory; for development and testing only.
+ *
+ * Maintains a per-customer index ordered by creation time (newest first)
+ * and a per-status index ordered by creation time (oldest first), so
+ * customer history reads touch only that customer's orders and the
+ * payment-timeout sweep touches only expired orders. Indexes are updated
+ * inside the per-order compute on save, using the status recorded at the
+ * previous save to move entries between status buckets. Events raised
+ * by the order are appended to the in-memory outbox on save.
  */
 @Repository
+@ConditionalOnProperty(prefix = "order.persistence", name = "store", havingValue = "memory")
 public class InMemoryOrderRepository implements OrderRepository {
 
+    private static final UUID MIN_ID = new UUID(Long.MIN_VALUE, Long.MIN_VALUE);
+
     private final Map<UUID, Order> orders = new ConcurrentHashMap<>();
+    private final Map<UUID, OrderStatus> indexedStatus = new ConcurrentHashMap<>();
+    private final Map<UUID, NavigableSet<OrderKey>> byCustomer = new ConcurrentHashMap<>();
+    private final Map<OrderStatus, NavigableSet<OrderKey>> byStatus = new EnumMap<>(OrderStatus.class);
+    private final OutboxStore outboxStore;
+
+    public InMemoryOrderRepository() {
+        this(new InMemoryOutboxStore());
+    }
+
+    @Autowired
+    public InMemoryOrderRepository(OutboxStore outboxStore) {
+        this.outboxStore = outboxStore;
+        for (OrderStatus status : OrderStatus.values()) {
+            byStatus.put(status, new ConcurrentSkipListSet<>());
+        }
+    }
 
     @Override
     public Order save(Order order) {
-        orders.put(order.getId(), order);
+        OrderKey key = new OrderKey(order.getCreatedAt(), order.getId());
+        OrderStatus status = order.getStatus();
+        indexedStatus.compute(order.getId(), (id, previous) -> {
+            if (previous == null) {
+                byCustomer.computeIfAbsent(order.getCustomerId(),
+                        c -> new ConcurrentSkipListSet<>(Comparator.reverseOrder())).add(key);
+            } else if (previous != status) {
+                byStatus.get(previous).remove(key);
+            }
+            byStatus.get(status).add(key);
+            orders.put(id, order);
+            outboxStore.append(order.getDomainEvents());
+            order.clearDomainEvents();
+            return status;
+        });
         return order;
     }
 
+    @Override
+    public boolean saveIfStatus(Order order, OrderStatus expectedStatus) {
+        OrderKey key = new OrderKey(order.getCreatedAt(), order.getId());
+        OrderStatus status = order.getStatus();
+        boolean[] saved = new boolean[1];
+        indexedStatus.computeIfPresent(order.getId(), (id, previous) -> {
+            if (previous != expectedStatus) {
+                return previous;
+            }
+            byStatus.get(previous).remove(key);
+            byStatus.get(status).add(key);
+            orders.put(id, order);
+            outboxStore.append(order.getDomainEvents());
+            order.clearDomainEvents();
+            saved[0] = true;
+            return status;
+        });
+        return saved[0];
+    }
+
     @Override
     public Optional<Order> findById(UUID orderId) {
         return Optional.ofNullable(orders.get(orderId));
@@ -32,27 +98,30 @@ public class InMemoryOrderRepository implements OrderRepository {
 
     @Override
     public List<Order> findByCustomerId(UUID customerId) {
-        return orders.values().stream()
-                .filter(order -> order.getCustomerId().equals(customerId))
-                .sorted(Comparator.comparing(Order::getCreatedAt).reversed())
-                .toList();
+        return resolve(byCustomer.getOrDefault(customerId, Collections.emptyNavigableSet()));
     }
 
     @Override
     public List<Order> findByCustomerIdAndStatus(UUID customerId, OrderStatus status) {
-        return orders.values().stream()
-                .filter(order -> order.getCustomerId().equals(customerId))
+        return findByCustomerId(customerId).stream()
+                .filter(order -> order.getStatus() == status)
+                .toList();
+    }
+
+    @Override
+    public List<Order> findByStatus(OrderStatus status) {
+        return resolve(byStatus.get(status)).stream()
                 .filter(order -> order.getStatus() == status)
-                .sorted(Comparator.comparing(Order::getCreatedAt).reversed())
                 .toList();
     }
 
     @Override
     public List<Order> findPendingPaymentOrdersOlderThan(long timeoutMinutes) {
         Instant cutoff = Instant.now().minus(timeoutMinutes, ChronoUnit.MINUTES);
-        return orders.values().stream()
+        NavigableSet<OrderKey> expired = byStatus.get(OrderStatus.PENDING_PAYMENT)
+                .headSet(new OrderKey(cutoff, MIN_ID), false);
+        return resolve(expired).stream()
                 .filter(order -> order.getStatus() == OrderStatus.PENDING_PAYMENT)
-                .filter(order -> order.getCreatedAt().isBefore(cutoff))
                 .toList();
     }
 
@@ -66,5 +135,31 @@ public class InMemoryOrderRepository implements OrderRepository {
      */
     public void clear() {
         orders.clear();
+        indexedStatus.clear();
+        byCustomer.clear();
+        byStatus.values().forEach(Set::clear);
+    }
+
+    private List<Order> resolve(Collection<OrderKey> keys) {
+        List<Order> result = new ArrayList<>();
+        for (OrderKey key : keys) {
+            Order order = orders.get(key.orderId());
+            if (order != null) {
+                result.add(order);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Index key ordered by creation time, then ID to keep keys unique.
+     */
+    private record OrderKey(Instant createdAt, UUID orderId) implements Comparable<OrderKey> {
+
+        @Override
+        public int compareTo(OrderKey other) {
+            int byTime = createdAt.compareTo(other.createdAt);
+            return byTime != 0 ? byTime : orderId.compareTo(other.orderId);
+        }
     }
 }
@@ -0,0 +1,123 @@
+package com.ecommerce.order.infrastructure.persistence.adapters;
+
+import com.ecommerce.order.domain.aggregates.Order;
+import com.ecommerce.order.domain.ports.OrderRepository;
+import com.ecommerce.order.domain.value_objects.OrderStatus;
+import com.ecommerce.order.infrastructure.outbox.OutboxStore;
+import com.ecommerce.order.infrastructure.persistence.entities.OrderJpaEntity;
+import com.ecommerce.order.infrastructure.persistence.mappers.OrderMapper;
+import com.ecommerce.order.infrastructure.persistence.repositories.OrderJpaRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Adapter implementing OrderRepository port using JPA.
+ *
+ * New orders are inserted together with their items, which Hibernate
+ * sends as one JDBC batch. Later saves only update the lifecycle columns
+ * of the managed row; items are never rewritten. A save is rejected if
+ * the row's version moved on since the order was loaded, while
+ * saveIfStatus guards on the locked row's status instead. Either way the
+ * order takes the row's new version. Events raised by the order are
+ * appended to the outbox in the same transaction.
+ */
+@Component
+@ConditionalOnProperty(prefix = "order.persistence", name = "store", havingValue = "jpa", matchIfMissing = true)
+public class OrderRepositoryAdapter implements OrderRepository {
+
+    private final OrderJpaRepository jpaRepository;
+    private final OutboxStore outboxStore;
+
+    public OrderRepositoryAdapter(OrderJpaRepository jpaRepository, OutboxStore outboxStore) {
+        this.jpaRepository = jpaRepository;
+        this.outboxStore = outboxStore;
+    }
+
+    @Override
+    @Transactional
+    public Order save(Order order) {
+        Optional<OrderJpaEntity> existing = jpaRepository.findById(order.getId());
+        if (existing.isPresent()) {
+            if (existing.get().getVersion() != order.getVersion()) {
+                throw new ObjectOptimisticLockingFailureException(OrderJpaEntity.class, order.getId());
+            }
+            update(order, existing.get());
+        } else {
+            jpaRepository.save(OrderMapper.toNewJpa(order));
+        }
+        outboxStore.append(order.getDomainEvents());
+        order.clearDomainEvents();
+        return order;
+    }
+
+    @Override
+    @Transactional
+    public boolean saveIfStatus(Order order, OrderStatus expectedStatus) {
+        OrderJpaEntity existing = jpaRepository.findForUpdateById(order.getId()).orElse(null);
+        if (existing == null || !expectedStatus.name().equals(existing.getStatus())) {
+            return false;
+        }
+        update(order, existing);
+        outboxStore.append(order.getDomainEvents());
+        order.clearDomainEvents();
+        return true;
+    }
+
+    private void update(Order order, OrderJpaEntity existing) {
+        OrderMapper.applyChanges(order, existing);
+        jpaRepository.flush();
+        order.markPersisted(existing.getVersion());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Order> findById(UUID orderId) {
+        return jpaRepository.findWithItemsById(orderId)
+                .map(OrderMapper::toDomain);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Order> findByCustomerId(UUID customerId) {
+        return toDomain(jpaRepository.findByCustomerIdOrderByCreatedAtDesc(customerId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Order> findByCustomerIdAndStatus(UUID customerId, OrderStatus status) {
+        return toDomain(jpaRepository.findByCustomerIdAndStatusOrderByCreatedAtDesc(customerId, status.name()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Order> findByStatus(OrderStatus status) {
+        return toDomain(jpaRepository.findByStatusOrderByCreatedAtAsc(status.name()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Order> findPendingPaymentOrdersOlderThan(long timeoutMinutes) {
+        Instant cutoff = Instant.now().minus(timeoutMinutes, ChronoUnit.MINUTES);
+        return toDomain(jpaRepository.findByStatusAndCreatedAtBeforeOrderByCreatedAtAsc(
+                OrderStatus.PENDING_PAYMENT.name(), cutoff));
+    }
+
+    @Override
+    public boolean existsById(UUID orderId) {
+        return jpaRepository.existsById(orderId);
+    }
+
+    private static List<Order> toDomain(List<OrderJpaEntity> entities) {
+        return entities.stream()
+                .map(OrderMapper::toDomain)
+                .toList();
+    }
+}
@@ -0,0 +1,178 @@
+package com.ecommerce.order.infrastructure.persistence.adapters;
+
+import com.ecommerce.order.domain.aggregates.Cart;
+import com.ecommerce.order.domain.entities.CartItem;
+import com.ecommerce.order.domain.ports.CartRepository;
+import com.ecommerce.order.infrastructure.config.PersistenceConfig;
+import com.ecommerce.shared.domain.value_objects.Money;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Redis implementation of CartRepository.
+ *
+ * Each cart is one hash: a "meta" field with the cart header and one
+ * "item:{productId}" field per item. Saves write only the fields of items
+ * the cart reports as changed and delete those it reports as removed, so a
+ * single-item mutation is a single field write. Every read and write
+ * refreshes the key's TTL in the same pipeline, so abandoned carts expire
+ * after the configured idle period.
+ */
+@Repository
+@ConditionalOnProperty(prefix = "order.persistence", name = "cart-store", havingValue = "redis", matchIfMissing = true)
+public class RedisCartRepository implements CartRepository {
+
+    private static final String KEY_PREFIX = "cart:";
+    private static final String META_FIELD = "meta";
+    private static final String ITEM_FIELD_PREFIX = "item:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+
+    public RedisCartRepository(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+                               PersistenceConfig config) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.ttl = Duration.ofHours(config.getCartTtlHours());
+    }
+
+    @Override
+    public void save(Cart cart) {
+        String key = key(cart.getCustomerId());
+        Map<String, String> writes = new HashMap<>();
+        writes.put(META_FIELD, write(new StoredCart(cart.getId(), cart.getCreatedAt(), cart.getUpdatedAt())));
+        for (UUID productId : cart.getChangedProductIds()) {
+            cart.getItem(productId).ifPresent(item -> writes.put(itemField(productId), write(StoredItem.from(item))));
+        }
+        Object[] deletes = cart.getRemovedProductIds().stream()
+                .map(RedisCartRepository::itemField)
+                .toArray();
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                ops.opsForHash().putAll(key, writes);
+                if (deletes.length > 0) {
+                    ops.opsForHash().delete(key, deletes);
+                }
+                ops.expire(key, ttl);
+                return null;
+            }
+        });
+        cart.markPersisted();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<Cart> findByCustomerId(UUID customerId) {
+        String key = key(customerId);
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                ops.opsForHash().entries(key);
+                ops.expire(key, ttl);
+                return null;
+            }
+        });
+        Map<Object, Object> fields = (Map<Object, Object>) results.get(0);
+        if (fields == null || !fields.containsKey(META_FIELD)) {
+            return Optional.empty();
+        }
+        return Optional.of(toCart(customerId, fields));
+    }
+
+    @Override
+    public void deleteByCustomerId(UUID customerId) {
+        redisTemplate.delete(key(customerId));
+    }
+
+    @Override
+    public boolean existsByCustomerId(UUID customerId) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(key(customerId)));
+    }
+
+    private Cart toCart(UUID customerId, Map<Object, Object> fields) {
+        StoredCart meta = read((String) fields.get(META_FIELD), StoredCart.class);
+        List<CartItem> items = new ArrayList<>();
+        fields.forEach((field, value) -> {
+            if (((String) field).startsWith(ITEM_FIELD_PREFIX)) {
+                items.add(read((String) value, StoredItem.class).toDomain());
+            }
+        });
+        items.sort(Comparator.comparing(CartItem::getAddedAt).thenComparing(CartItem::getId));
+        return Cart.reconstitute(meta.id(), customerId, items, meta.createdAt(), meta.updatedAt());
+    }
+
+    private String write(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to serialize cart", ex);
+        }
+    }
+
+    private <T> T read(String value, Class<T> type) {
+        try {
+            return objectMapper.readValue(value, type);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to deserialize cart", ex);
+        }
+    }
+
+    private static String key(UUID customerId) {
+        return KEY_PREFIX + customerId;
+    }
+
+    private static String itemField(UUID productId) {
+        return ITEM_FIELD_PREFIX + productId;
+    }
+
+    /**
+     * Cart header stored in the meta field.
+     */
+    record StoredCart(UUID id, Instant createdAt, Instant updatedAt) {
+    }
+
+    /**
+     * Cart item stored in its own field.
+     */
+    record StoredItem(UUID id, UUID productId, String productName, String productSku,
+                      BigDecimal unitPrice, String currency, int quantity,
+                      Instant addedAt, Instant updatedAt) {
+
+        static StoredItem from(CartItem item) {
+            return new StoredItem(item.getId(), item.getProductId(), item.getProductName(),
+                    item.getProductSku(), item.getUnitPrice().getAmount(),
+                    item.getUnitPrice().getCurrency().getCurrencyCode(), item.getQuantityValue(),
+                    item.getAddedAt(), item.getUpdatedAt());
+        }
+
+        CartItem toDomain() {
+            return CartItem.reconstitute(id, productId, productName, productSku,
+                    Money.of(unitPrice, Currency.getInstance(currency)), quantity, addedAt, updatedAt);
+        }
+    }
+}
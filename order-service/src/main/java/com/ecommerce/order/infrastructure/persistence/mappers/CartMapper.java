@@ -0,0 +1,94 @@
+package com.ecommerce.order.infrastructure.persistence.mappers;
+
+import com.ecommerce.order.domain.aggregates.Cart;
+import com.ecommerce.order.domain.entities.CartItem;
+import com.ecommerce.order.infrastructure.persistence.entities.CartItemJpaEntity;
+import com.ecommerce.order.infrastructure.persistence.entities.CartJpaEntity;
+import com.ecommerce.shared.domain.value_objects.Money;
+
+import java.util.Currency;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Mapper between Cart aggregate and JPA entities.
+ */
+public final class CartMapper {
+
+    private CartMapper() {
+    }
+
+    /**
+     * Converts a JPA entity with its items to a domain aggregate.
+     */
+    public static Cart toDomain(CartJpaEntity jpa) {
+        return Cart.reconstitute(
+                jpa.getId(),
+                jpa.getCustomerId(),
+                jpa.getItems().stream().map(CartMapper::toDomain).toList(),
+                jpa.getCreatedAt(),
+                jpa.getUpdatedAt()
+        );
+    }
+
+    /**
+     * Converts a new domain aggregate to a JPA entity flagged for insert.
+     */
+    public static CartJpaEntity toNewJpa(Cart domain) {
+        CartJpaEntity jpa = new CartJpaEntity();
+        jpa.setId(domain.getId());
+        jpa.setCustomerId(domain.getCustomerId());
+        jpa.setCreatedAt(domain.getCreatedAt());
+        applyChanges(domain, jpa);
+        jpa.markNew();
+        return jpa;
+    }
+
+    /**
+     * Synchronizes a managed entity with the aggregate: updates items that
+     * are still present, adds new ones and drops removed ones.
+     */
+    public static void applyChanges(Cart domain, CartJpaEntity jpa) {
+        Map<UUID, CartItem> current = domain.getItems().stream()
+                .collect(Collectors.toMap(CartItem::getId, Function.identity()));
+        jpa.getItems().removeIf(item -> !current.containsKey(item.getId()));
+        Map<UUID, CartItemJpaEntity> existing = jpa.getItems().stream()
+                .collect(Collectors.toMap(CartItemJpaEntity::getId, Function.identity()));
+        for (CartItem item : domain.getItems()) {
+            CartItemJpaEntity target = existing.get(item.getId());
+            if (target == null) {
+                target = new CartItemJpaEntity();
+                target.setId(item.getId());
+                target.setProductId(item.getProductId());
+                target.setAddedAt(item.getAddedAt());
+                jpa.addItem(target);
+            }
+            copyItem(item, target);
+        }
+        jpa.setUpdatedAt(domain.getUpdatedAt());
+    }
+
+    private static void copyItem(CartItem domain, CartItemJpaEntity jpa) {
+        jpa.setProductName(domain.getProductName());
+        jpa.setProductSku(domain.getProductSku());
+        jpa.setUnitPrice(domain.getUnitPrice().getAmount());
+        jpa.setCurrency(domain.getUnitPrice().getCurrency().getCurrencyCode());
+        jpa.setQuantity(domain.getQuantityValue());
+        jpa.setUpdatedAt(domain.getUpdatedAt());
+    }
+
+    private static CartItem toDomain(CartItemJpaEntity jpa) {
+        return CartItem.reconstitute(
+                jpa.getId(),
+                jpa.getProductId(),
+                jpa.getProductName(),
+                jpa.getProductSku(),
+                Money.of(jpa.getUnitPrice(), Currency.getInstance(jpa.getCurrency())),
+                jpa.getQuantity(),
+                jpa.getAddedAt(),
+                jpa.getUpdatedAt()
+        );
+    }
+}
@@ -0,0 +1,104 @@
+package com.ecommerce.order.infrastructure.persistence.mappers;
+
+import com.ecommerce.order.domain.aggregates.Order;
+import com.ecommerce.order.domain.entities.OrderItem;
+import com.ecommerce.order.domain.value_objects.OrderStatus;
+import com.ecommerce.order.infrastructure.persistence.entities.OrderItemJpaEntity;
+import com.ecommerce.order.infrastructure.persistence.entities.OrderJpaEntity;
+import com.ecommerce.shared.domain.value_objects.Money;
+
+import java.util.Currency;
+
+/**
+ * Mapper between Order aggregate and JPA entities.
+ */
+public final class OrderMapper {
+
+    private OrderMapper() {
+    }
+
+    /**
+     * Converts a JPA entity with its items to a domain aggregate.
+     */
+    public static Order toDomain(OrderJpaEntity jpa) {
+        Currency currency = Currency.getInstance(jpa.getCurrency());
+        return Order.reconstitute(
+                jpa.getId(),
+                jpa.getCustomerId(),
+                jpa.getItems().stream().map(OrderMapper::toDomain).toList(),
+                Money.of(jpa.getSubtotal(), currency),
+                Money.of(jpa.getDiscount(), currency),
+                Money.of(jpa.getTotal(), currency),
+                jpa.getCouponCode(),
+                OrderStatus.valueOf(jpa.getStatus()),
+                jpa.getPaymentId(),
+                jpa.getTrackingNumber(),
+                jpa.getCancellationReason(),
+                jpa.getCreatedAt(),
+                jpa.getPaidAt(),
+                jpa.getShippedAt(),
+                jpa.getDeliveredAt(),
+                jpa.getUpdatedAt(),
+                jpa.getVersion()
+        );
+    }
+
+    /**
+     * Converts a new domain aggregate to a JPA entity flagged for insert.
+     */
+    public static OrderJpaEntity toNewJpa(Order domain) {
+        OrderJpaEntity jpa = new OrderJpaEntity();
+        jpa.setId(domain.getId());
+        jpa.setCustomerId(domain.getCustomerId());
+        jpa.setSubtotal(domain.getSubtotal().getAmount());
+        jpa.setDiscount(domain.getDiscount().getAmount());
+        jpa.setTotal(domain.getTotal().getAmount());
+        jpa.setCurrency(domain.getTotal().getCurrency().getCurrencyCode());
+        jpa.setCouponCode(domain.getCouponCode());
+        jpa.setCreatedAt(domain.getCreatedAt());
+        domain.getItems().forEach(item -> jpa.addItem(toJpa(item)));
+        applyChanges(domain, jpa);
+        jpa.markNew();
+        return jpa;
+    }
+
+    /**
+     * Copies the lifecycle fields that change after creation.
+     * Items and amounts are immutable once the order is placed.
+     */
+    public static void applyChanges(Order domain, OrderJpaEntity jpa) {
+        jpa.setStatus(domain.getStatus().name());
+        jpa.setPaymentId(domain.getPaymentId());
+        jpa.setTrackingNumber(domain.getTrackingNumber());
+        jpa.setCancellationReason(domain.getCancellationReason());
+        jpa.setPaidAt(domain.getPaidAt());
+        jpa.setShippedAt(domain.getShippedAt());
+        jpa.setDeliveredAt(domain.getDeliveredAt());
+        jpa.setUpdatedAt(domain.getUpdatedAt());
+    }
+
+    private static OrderItem toDomain(OrderItemJpaEntity jpa) {
+        return OrderItem.reconstitute(
+                jpa.getId(),
+                jpa.getProductId(),
+                jpa.getProductName(),
+                jpa.getProductSku(),
+                Money.of(jpa.getUnitPrice(), Currency.getInstance(jpa.getCurrency())),
+                jpa.getQuantity(),
+                jpa.getCreatedAt()
+        );
+    }
+
+    private static OrderItemJpaEntity toJpa(OrderItem domain) {
+        OrderItemJpaEntity jpa = new OrderItemJpaEntity();
+        jpa.setId(domain.getId());
+        jpa.setProductId(domain.getProductId());
+        jpa.setProductName(domain.getProductName());
+        jpa.setProductSku(domain.getProductSku());
+        jpa.setUnitPrice(domain.getUnitPrice().getAmount());
+        jpa.setCurrency(domain.getUnitPrice().getCurrency().getCurrencyCode());
+        jpa.setQuantity(domain.getQuantity());
+        jpa.setCreatedAt(domain.getCreatedAt());
+        return jpa;
+    }
+}
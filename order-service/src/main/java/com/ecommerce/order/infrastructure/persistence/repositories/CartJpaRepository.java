@@ -0,0 +1,23 @@
+package com.ecommerce.order.infrastructure.persistence.repositories;
+
+import com.ecommerce.order.infrastructure.persistence.entities.CartJpaEntity;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for CartJpaEntity.
+ */
+@Repository
+public interface CartJpaRepository extends JpaRepository<CartJpaEntity, UUID> {
+
+    @EntityGraph(attributePaths = "items")
+    Optional<CartJpaEntity> findByCustomerId(UUID customerId);
+
+    boolean existsByCustomerId(UUID customerId);
+
+    void deleteByCustomerId(UUID customerId);
+}
@@ -0,0 +1,42 @@
+package com.ecommerce.order.infrastructure.persistence.repositories;
+
+import com.ecommerce.order.infrastructure.persistence.entities.OrderJpaEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for OrderJpaEntity.
+ * Read queries fetch items in the same statement to avoid N+1 loads.
+ */
+@Repository
+public interface OrderJpaRepository extends JpaRepository<OrderJpaEntity, UUID> {
+
+    @EntityGraph(attributePaths = "items")
+    Optional<OrderJpaEntity> findWithItemsById(UUID id);
+
+    /**
+     * Locks the order row for a conditional save; items are not fetched.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<OrderJpaEntity> findForUpdateById(UUID id);
+
+    @EntityGraph(attributePaths = "items")
+    List<OrderJpaEntity> findByCustomerIdOrderByCreatedAtDesc(UUID customerId);
+
+    @EntityGraph(attributePaths = "items")
+    List<OrderJpaEntity> findByCustomerIdAndStatusOrderByCreatedAtDesc(UUID customerId, String status);
+
+    @EntityGraph(attributePaths = "items")
+    List<OrderJpaEntity> findByStatusOrderByCreatedAtAsc(String status);
+
+    @EntityGraph(attributePaths = "items")
+    List<OrderJpaEntity> findByStatusAndCreatedAtBeforeOrderByCreatedAtAsc(String status, Instant cutoff);
+}
@@ -0,0 +1,48 @@
+package com.ecommerce.order.infrastructure.persistence.repositories;
+
+import com.ecommerce.order.infrastructure.persistence.entities.OutboxEventJpaEntity;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for OutboxEventJpaEntity.
+ */
+@Repository
+public interface OutboxEventJpaRepository extends JpaRepository<OutboxEventJpaEntity, UUID> {
+
+    /**
+     * Locks due entries, oldest first. A lock timeout of -2 makes Hibernate
+     * add SKIP LOCKED, so concurrent relays claim disjoint batches.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM OutboxEventJpaEntity e "
+            + "WHERE e.publishedAt IS NULL AND e.availableAt <= :now ORDER BY e.id")
+    List<OutboxEventJpaEntity> findDueForUpdate(@Param("now") Instant now, Pageable page);
+
+    @Modifying
+    @Query("UPDATE OutboxEventJpaEntity e SET e.publishedAt = :publishedAt WHERE e.id IN :ids")
+    int markPublished(@Param("ids") Collection<UUID> ids, @Param("publishedAt") Instant publishedAt);
+
+    @Modifying
+    @Query("UPDATE OutboxEventJpaEntity e SET e.availableAt = :retryAt "
+            + "WHERE e.id = :id AND e.publishedAt IS NULL")
+    int reschedule(@Param("id") UUID id, @Param("retryAt") Instant retryAt);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEventJpaEntity e WHERE e.publishedAt < :cutoff")
+    int deletePublishedBefore(@Param("cutoff") Instant cutoff);
+}
@@ -0,0 +1,99 @@
+package com.ecommerce.order.infrastructure.scheduling;
+
+import com.ecommerce.order.application.usecases.RedeemCouponUseCase;
+import com.ecommerce.order.domain.ports.CouponRedemptionScheduler;
+import com.ecommerce.order.infrastructure.config.CouponConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Redeems coupons on virtual threads after checkout has returned.
+ *
+ * Attempts that cannot reach the sales service are retried with
+ * exponential backoff up to the configured number of attempts. Pending
+ * redemptions are held in memory only and are lost on restart.
+ */
+@Component
+public class AsyncCouponRedemptionScheduler implements CouponRedemptionScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncCouponRedemptionScheduler.class);
+
+    private final RedeemCouponUseCase redeemCouponUseCase;
+    private final CouponConfig config;
+    private final ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
+    private final ScheduledExecutorService retryTimer = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("coupon-redemption-retry").daemon().factory());
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Counter settledCounter;
+    private final Counter retriedCounter;
+    private final Counter abandonedCounter;
+
+    public AsyncCouponRedemptionScheduler(
+            RedeemCouponUseCase redeemCouponUseCase,
+            CouponConfig config,
+            MeterRegistry meterRegistry
+    ) {
+        this.redeemCouponUseCase = redeemCouponUseCase;
+        this.config = config;
+        this.settledCounter = attempts(meterRegistry, "settled");
+        this.retriedCounter = attempts(meterRegistry, "retried");
+        this.abandonedCounter = attempts(meterRegistry, "abandoned");
+        Gauge.builder("order.coupon.redemption.pending", pending, AtomicInteger::get)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void schedule(UUID orderId) {
+        pending.incrementAndGet();
+        workers.execute(() -> attempt(orderId, 1));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        retryTimer.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    private void attempt(UUID orderId, int attempt) {
+        boolean settled;
+        try {
+            settled = redeemCouponUseCase.execute(orderId);
+        } catch (RuntimeException ex) {
+            log.warn("Coupon redemption attempt {} for order {} failed: {}", attempt, orderId, ex.getMessage());
+            settled = false;
+        }
+
+        if (settled) {
+            pending.decrementAndGet();
+            settledCounter.increment();
+        } else if (attempt >= config.getRedemptionMaxAttempts()) {
+            pending.decrementAndGet();
+            abandonedCounter.increment();
+            log.error("Giving up coupon redemption for order {} after {} attempts", orderId, attempt);
+        } else {
+            retriedCounter.increment();
+            long delay = Math.min(config.getRedemptionRetryDelayMs() << Math.min(attempt - 1, 20),
+                    config.getRedemptionMaxRetryDelayMs());
+            retryTimer.schedule(() -> workers.execute(() -> attempt(orderId, attempt + 1)),
+                    delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static Counter attempts(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("order.coupon.redemption")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,142 @@
+package com.ecommerce.order.infrastructure.scheduling;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hierarchical timing wheel keyed by entry ID.
+ *
+ * Level 0 has one slot per tick; each higher level has one slot per full
+ * rotation of the level below. Scheduling and cancelling are O(1). When a
+ * higher-level slot comes due its entries cascade down to finer levels, so
+ * each entry is touched at most once per level before it expires. Deadlines
+ * beyond the top level are parked in its furthest slot and re-placed when
+ * that slot cascades.
+ *
+ * @param <K> the entry key type
+ */
+public class HierarchicalTimingWheel<K> {
+
+    private final long tickMs;
+    private final int wheelSize;
+    private final long[] levelSpans;
+    private final List<List<Map<K, Long>>> levels = new ArrayList<>();
+    private final Map<K, Map<K, Long>> locations = new HashMap<>();
+    private long currentTick;
+
+    public HierarchicalTimingWheel(long tickMs, int wheelSize, int levelCount, long startMs) {
+        if (tickMs <= 0 || wheelSize < 2 || levelCount < 1) {
+            throw new IllegalArgumentException("Invalid timing wheel dimensions");
+        }
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        this.levelSpans = new long[levelCount];
+        long span = 1;
+        for (int level = 0; level < levelCount; level++) {
+            levelSpans[level] = span;
+            List<Map<K, Long>> slots = new ArrayList<>(wheelSize);
+            for (int slot = 0; slot < wheelSize; slot++) {
+                slots.add(new HashMap<>());
+            }
+            levels.add(slots);
+            span = Math.multiplyExact(span, wheelSize);
+        }
+        this.currentTick = startMs / tickMs;
+    }
+
+    /**
+     * Schedules or reschedules an entry.
+     *
+     * @return false if the deadline has already passed and nothing was scheduled
+     */
+    public synchronized boolean schedule(K key, long deadlineMs) {
+        cancel(key);
+        long deadlineTick = Math.ceilDiv(deadlineMs, tickMs);
+        if (deadlineTick <= currentTick) {
+            return false;
+        }
+        place(key, deadlineTick);
+        return true;
+    }
+
+    /**
+     * Cancels an entry.
+     *
+     * @return true if the entry was scheduled
+     */
+    public synchronized boolean cancel(K key) {
+        Map<K, Long> slot = locations.remove(key);
+        return slot != null && slot.remove(key) != null;
+    }
+
+    /**
+     * Advances the wheel to the given time.
+     *
+     * @return the keys whose deadline has passed, grouped by the tick they fired on
+     */
+    public synchronized List<K> advanceTo(long nowMs) {
+        long targetTick = nowMs / tickMs;
+        List<K> expired = new ArrayList<>();
+        while (currentTick < targetTick) {
+            currentTick++;
+            for (int level = levelSpans.length - 1; level > 0; level--) {
+                if (currentTick % levelSpans[level] == 0) {
+                    cascade(level, expired);
+                }
+            }
+            drain(slotAt(0, currentTick), expired);
+        }
+        return expired;
+    }
+
+    public synchronized int size() {
+        return locations.size();
+    }
+
+    private void cascade(int level, List<K> expired) {
+        Map<K, Long> slot = slotAt(level, currentTick);
+        if (slot.isEmpty()) {
+            return;
+        }
+        Map<K, Long> entries = new HashMap<>(slot);
+        slot.clear();
+        entries.forEach((key, deadlineTick) -> {
+            if (deadlineTick <= currentTick) {
+                locations.remove(key);
+                expired.add(key);
+            } else {
+                place(key, deadlineTick);
+            }
+        });
+    }
+
+    private void drain(Map<K, Long> slot, List<K> expired) {
+        for (K key : slot.keySet()) {
+            locations.remove(key);
+            expired.add(key);
+        }
+        slot.clear();
+    }
+
+    private void place(K key, long deadlineTick) {
+        long delta = deadlineTick - currentTick;
+        int top = levelSpans.length - 1;
+        int level = 0;
+        while (level < top && delta >= levelSpans[level + 1]) {
+            level++;
+        }
+        long slotTick = deadlineTick;
+        if (level == top && delta >= levelSpans[top] * wheelSize) {
+            slotTick = currentTick + levelSpans[top] * (wheelSize - 1);
+        }
+        Map<K, Long> slot = slotAt(level, slotTick);
+        slot.put(key, deadlineTick);
+        locations.put(key, slot);
+    }
+
+    private Map<K, Long> slotAt(int level, long tick) {
+        return levels.get(level).get((int) ((tick / levelSpans[level]) % wheelSize));
+    }
+}
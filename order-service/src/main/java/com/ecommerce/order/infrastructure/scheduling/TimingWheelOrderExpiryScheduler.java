@@ -0,0 +1,200 @@
+package com.ecommerce.order.infrastructure.scheduling;
+
+import com.ecommerce.order.domain.aggregates.Order;
+import com.ecommerce.order.domain.ports.InventoryReservationPort;
+import com.ecommerce.order.domain.ports.OrderExpiryScheduler;
+import com.ecommerce.order.domain.ports.OrderRepository;
+import com.ecommerce.order.domain.value_objects.OrderStatus;
+import com.ecommerce.order.infrastructure.config.OrderExpiryConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Expires unpaid orders from a hierarchical timing wheel instead of
+ * periodically scanning for them.
+ *
+ * A replica registers the orders it creates, plus every pending order it
+ * finds on startup. Each tick advances the wheel and expires at most one
+ * batch of due orders; the rest carry over to the next tick. Orders that
+ * were paid or cancelled in the meantime are skipped.
+ *
+ * An order is therefore in the wheel of the replica that created it and of
+ * any replica started after that; if all of those stop before its deadline,
+ * no wheel holds it. A periodic sweep of the repository expires such orders
+ * once they are a minute past their deadline. Because an order can be in
+ * several wheels and in the sweep, the expiry is saved only if the order
+ * is still awaiting payment, and only the replica whose save wins releases
+ * the order's stock.
+ */
+@Component
+public class TimingWheelOrderExpiryScheduler implements OrderExpiryScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(TimingWheelOrderExpiryScheduler.class);
+    private static final long SWEEP_GRACE_MINUTES = 1;
+
+    private final OrderRepository orderRepository;
+    private final OrderExpiryConfig config;
+    private final List<InventoryReservationPort> reservationPorts;
+    private final Clock clock;
+    private final HierarchicalTimingWheel<UUID> wheel;
+    private final BlockingQueue<UUID> due = new LinkedBlockingQueue<>();
+    private final Counter expiredCounter;
+    private final Counter skippedCounter;
+
+    @Autowired
+    public TimingWheelOrderExpiryScheduler(
+            OrderRepository orderRepository,
+            OrderExpiryConfig config,
+            ObjectProvider<InventoryReservationPort> reservationPorts,
+            MeterRegistry meterRegistry
+    ) {
+        this(orderRepository, config, reservationPorts.orderedStream().toList(), meterRegistry, Clock.systemUTC());
+    }
+
+    public TimingWheelOrderExpiryScheduler(
+            OrderRepository orderRepository,
+            OrderExpiryConfig config,
+            List<InventoryReservationPort> reservationPorts,
+            MeterRegistry meterRegistry,
+            Clock clock
+    ) {
+        this.orderRepository = orderRepository;
+        this.config = config;
+        this.reservationPorts = reservationPorts;
+        this.clock = clock;
+        this.wheel = new HierarchicalTimingWheel<>(
+                config.getTickMs(), config.getWheelSize(), config.getLevels(), clock.millis());
+        this.expiredCounter = Counter.builder("order.payment.expiry")
+                .tag("result", "expired")
+                .register(meterRegistry);
+        this.skippedCounter = Counter.builder("order.payment.expiry")
+                .tag("result", "skipped")
+                .register(meterRegistry);
+
+        Gauge.builder("order.payment.expiry.scheduled", wheel, HierarchicalTimingWheel::size)
+                .register(meterRegistry);
+        Gauge.builder("order.payment.expiry.backlog", due, BlockingQueue::size)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void schedule(Order order) {
+        if (config.isEnabled() && !wheel.schedule(order.getId(), deadlineOf(order).toEpochMilli())) {
+            due.add(order.getId());
+        }
+    }
+
+    @Override
+    public void cancel(UUID orderId) {
+        wheel.cancel(orderId);
+    }
+
+    /**
+     * Returns the payment deadline of an order.
+     */
+    public Instant deadlineOf(Order order) {
+        return order.getCreatedAt().plus(Duration.ofMinutes(config.getTimeoutMinutes()));
+    }
+
+    /**
+     * Registers orders still awaiting payment, since the wheel is not persisted.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        List<Order> pending = orderRepository.findByStatus(OrderStatus.PENDING_PAYMENT);
+        pending.forEach(this::schedule);
+        log.info("Scheduled payment expiry for {} pending orders", pending.size());
+    }
+
+    /**
+     * Advances the wheel and expires one batch of due orders.
+     */
+    @Scheduled(fixedDelayString = "${order.payment-expiry.tick-ms:1000}")
+    public void tick() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        due.addAll(wheel.advanceTo(clock.millis()));
+        for (int i = 0; i < config.getBatchSize(); i++) {
+            UUID orderId = due.poll();
+            if (orderId == null) {
+                return;
+            }
+            expire(orderId);
+        }
+    }
+
+    /**
+     * Expires one batch of orders that no wheel expired, such as those
+     * created by a replica that stopped before their deadline.
+     */
+    @Scheduled(initialDelayString = "${order.payment-expiry.sweep-interval-ms:60000}",
+            fixedDelayString = "${order.payment-expiry.sweep-interval-ms:60000}")
+    public void sweep() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        List<Order> overdue = orderRepository.findPendingPaymentOrdersOlderThan(
+                config.getTimeoutMinutes() + SWEEP_GRACE_MINUTES);
+        if (overdue.isEmpty()) {
+            return;
+        }
+        log.info("Expiry sweep found {} overdue pending orders", overdue.size());
+        overdue.stream()
+                .limit(config.getBatchSize())
+                .forEach(order -> expire(order.getId()));
+    }
+
+    private void expire(UUID orderId) {
+        try {
+            Order order = orderRepository.findById(orderId)
+                    .filter(candidate -> candidate.getStatus().canExpire())
+                    .orElse(null);
+            if (order == null) {
+                skippedCounter.increment();
+                return;
+            }
+            order.expirePayment();
+            if (!orderRepository.saveIfStatus(order, OrderStatus.PENDING_PAYMENT)) {
+                // Paid, cancelled or expired elsewhere since it was read
+                skippedCounter.increment();
+                return;
+            }
+            expiredCounter.increment();
+            log.info("Order payment expired: {}", orderId);
+            releaseReservations(order);
+        } catch (RuntimeException ex) {
+            log.warn("Failed to expire order {}: {}", orderId, ex.getMessage());
+        }
+    }
+
+    private void releaseReservations(Order order) {
+        for (InventoryReservationPort port : reservationPorts) {
+            try {
+                port.releaseReservation(order.getId(), order.getItems());
+            } catch (RuntimeException ex) {
+                log.warn("Failed to release reservation for order {}: {}", order.getId(), ex.getMessage());
+            }
+        }
+    }
+}
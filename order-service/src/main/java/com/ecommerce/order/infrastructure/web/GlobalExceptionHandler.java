@@ -2,6 +2,9 @@ package com.ecommerce.order.infrastructure.web;
 
 import com.ecommerce.order.application.exceptions.CartEmptyException;
 import com.ecommerce.order.application.exceptions.CartItemNotFoundException;
+import com.ecommerce.order.application.exceptions.CheckoutTimeoutException;
+import com.ecommerce.order.application.exceptions.CouponNotValidException;
+import com.ecommerce.order.application.exceptions.CouponServiceUnavailableException;
 import com.ecommerce.order.application.exceptions.InsufficientStockException;
 import com.ecommerce.order.application.exceptions.OrderNotFoundException;
 import com.ecommerce.order.application.exceptions.ProductNotFoundException;
@@ -61,6 +64,27 @@ public class GlobalExceptionHandler {
                 .body(createErrorResponse("CART_EMPTY", ex.getMessage()));
     }
 
+    @ExceptionHandler(CheckoutTimeoutException.class)
+    public ResponseEntity<Map<String, Object>> handleCheckoutTimeout(CheckoutTimeoutException ex) {
+        log.warn("Checkout abandoned: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(createErrorResponse("CHECKOUT_TIMEOUT", ex.getMessage()));
+    }
+
+    @ExceptionHandler(CouponNotValidException.class)
+    public ResponseEntity<Map<String, Object>> handleCouponNotValid(CouponNotValidException ex) {
+        log.warn("Coupon not valid: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(createErrorResponse("COUPON_NOT_VALID", ex.getMessage()));
+    }
+
+    @ExceptionHandler(CouponServiceUnavailableException.class)
+    public ResponseEntity<Map<String, Object>> handleCouponServiceUnavailable(CouponServiceUnavailableException ex) {
+        log.warn("Coupon check unavailable: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(createErrorResponse("COUPON_SERVICE_UNAVAILABLE", ex.getMessage()));
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<Map<String, Object>> handleIllegalArgument(IllegalArgumentException ex) {
         log.warn("Invalid argument: {}", ex.getMessage());
@@ -0,0 +1,52 @@
+package com.ecommerce.order.infrastructure.web.controllers;
+
+import com.ecommerce.order.application.dto.OrderResponse;
+import com.ecommerce.order.application.dto.PaymentNotification;
+import com.ecommerce.order.application.dto.PaymentNotificationsResult;
+import com.ecommerce.order.application.exceptions.OrderNotFoundException;
+import com.ecommerce.order.application.usecases.RecordPaymentNotificationsUseCase;
+import com.ecommerce.order.domain.ports.OrderRepository;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * REST controller for service-to-service order access.
+ * Callers act for the platform rather than a customer, so ownership is
+ * not checked.
+ */
+@RestController
+@RequestMapping("/api/v1/internal/orders")
+public class InternalOrderController {
+
+    private final OrderRepository orderRepository;
+    private final RecordPaymentNotificationsUseCase recordPaymentNotifications;
+
+    public InternalOrderController(OrderRepository orderRepository,
+                                   RecordPaymentNotificationsUseCase recordPaymentNotifications) {
+        this.orderRepository = orderRepository;
+        this.recordPaymentNotifications = recordPaymentNotifications;
+    }
+
+    @GetMapping("/{orderId}")
+    public ResponseEntity<OrderResponse> getOrder(@PathVariable UUID orderId) {
+        return orderRepository.findById(orderId)
+                .map(order -> ResponseEntity.ok(OrderResponse.from(order)))
+                .orElseThrow(() -> new OrderNotFoundException(orderId));
+    }
+
+    @PostMapping("/payment-notifications")
+    public ResponseEntity<PaymentNotificationsResult> recordPaymentNotifications(
+            @Valid @RequestBody List<@Valid PaymentNotification> notifications
+    ) {
+        return ResponseEntity.ok(recordPaymentNotifications.execute(notifications));
+    }
+}
@@ -0,0 +1,72 @@
+-- Order Service Database Schema
+-- V1: Orders, order items, carts and cart items
+-- Primary keys are time-ordered (version 7) UUIDs generated by the application,
+-- so inserts append to the right edge of each primary key index.
+
+-- Orders table
+CREATE TABLE orders (
+    id UUID PRIMARY KEY,
+    customer_id UUID NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    subtotal DECIMAL(19, 2) NOT NULL,
+    discount DECIMAL(19, 2) NOT NULL DEFAULT 0,
+    total DECIMAL(19, 2) NOT NULL,
+    currency VARCHAR(3) NOT NULL DEFAULT 'TWD',
+    coupon_code VARCHAR(50),
+    payment_id UUID,
+    tracking_number VARCHAR(100),
+    cancellation_reason VARCHAR(500),
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    paid_at TIMESTAMP WITH TIME ZONE,
+    shipped_at TIMESTAMP WITH TIME ZONE,
+    delivered_at TIMESTAMP WITH TIME ZONE,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+-- Customer order history, newest first (findByCustomerId)
+CREATE INDEX idx_orders_customer_created ON orders(customer_id, created_at DESC);
+-- Customer orders in one status, newest first (findByCustomerIdAndStatus)
+CREATE INDEX idx_orders_customer_status_created ON orders(customer_id, status, created_at DESC);
+-- Orders in one status, oldest first (findByStatus, payment-timeout sweep)
+CREATE INDEX idx_orders_status_created ON orders(status, created_at);
+
+-- Order items table (immutable snapshot of cart items)
+CREATE TABLE order_items (
+    id UUID PRIMARY KEY,
+    order_id UUID NOT NULL REFERENCES orders(id) ON DELETE CASCADE,
+    product_id UUID NOT NULL,
+    product_name VARCHAR(255) NOT NULL,
+    product_sku VARCHAR(50) NOT NULL,
+    unit_price DECIMAL(19, 2) NOT NULL,
+    currency VARCHAR(3) NOT NULL DEFAULT 'TWD',
+    quantity INT NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT chk_order_item_quantity_positive CHECK (quantity > 0)
+);
+
+CREATE INDEX idx_order_items_order_id ON order_items(order_id, id);
+
+-- Carts table (one per customer)
+CREATE TABLE carts (
+    id UUID PRIMARY KEY,
+    customer_id UUID NOT NULL UNIQUE,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+-- Cart items table
+CREATE TABLE cart_items (
+    id UUID PRIMARY KEY,
+    cart_id UUID NOT NULL REFERENCES carts(id) ON DELETE CASCADE,
+    product_id UUID NOT NULL,
+    product_name VARCHAR(255) NOT NULL,
+    product_sku VARCHAR(50) NOT NULL,
+    unit_price DECIMAL(19, 2) NOT NULL,
+    currency VARCHAR(3) NOT NULL DEFAULT 'TWD',
+    quantity INT NOT NULL,
+    added_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT chk_cart_item_quantity_positive CHECK (quantity > 0)
+);
+
+CREATE INDEX idx_cart_items_cart_id ON cart_items(cart_id, id);
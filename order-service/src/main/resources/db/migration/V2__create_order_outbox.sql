@@ -0,0 +1,23 @@
+-- Order Service Database Schema
+-- V2: Transactional outbox for order domain events
+-- Rows are inserted in the same transaction as the order change that raised
+-- them and relayed in the background. IDs are time-ordered (version 7) UUIDs,
+-- so ordering by id follows insertion order.
+
+CREATE TABLE order_outbox (
+    id UUID PRIMARY KEY,
+    event_id UUID NOT NULL UNIQUE,
+    aggregate_type VARCHAR(50) NOT NULL,
+    aggregate_id VARCHAR(100) NOT NULL,
+    event_type VARCHAR(100) NOT NULL,
+    payload TEXT NOT NULL,
+    occurred_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    available_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    published_at TIMESTAMP WITH TIME ZONE
+);
+
+-- Due entries for the relay; only unpublished rows are indexed
+CREATE INDEX idx_order_outbox_due ON order_outbox(available_at, id) WHERE published_at IS NULL;
+-- Retention purge of published entries
+CREATE INDEX idx_order_outbox_published ON order_outbox(published_at) WHERE published_at IS NOT NULL;
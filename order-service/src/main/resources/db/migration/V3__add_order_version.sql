@@ -0,0 +1,6 @@
+-- Order Service Database Schema
+-- V3: Optimistic locking for orders
+
+-- Incremented on every update, so a save based on a stale row is rejected
+-- instead of overwriting a concurrent change.
+ALTER TABLE orders ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
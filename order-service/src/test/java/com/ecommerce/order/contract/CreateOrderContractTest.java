@@ -1,16 +1,24 @@
 package com.ecommerce.order.contract;
 
 import com.ecommerce.order.application.dto.OrderResponse;
+import com.ecommerce.order.application.exceptions.CouponServiceUnavailableException;
 import com.ecommerce.order.application.usecases.CreateOrderUseCase;
 import com.ecommerce.order.domain.aggregates.Cart;
 import com.ecommerce.order.domain.aggregates.Order;
 import com.ecommerce.order.domain.entities.OrderItem;
 import com.ecommerce.order.domain.ports.CartRepository;
+import com.ecommerce.order.domain.ports.CouponRedemptionScheduler;
+import com.ecommerce.order.domain.ports.CouponServicePort;
+import com.ecommerce.order.domain.ports.InventoryReservationPort;
+import com.ecommerce.order.domain.ports.OrderExpiryScheduler;
 import com.ecommerce.order.domain.ports.OrderRepository;
+import com.ecommerce.order.domain.ports.ProductServicePort;
+import com.ecommerce.order.domain.value_objects.CouponRule;
 import com.ecommerce.order.domain.value_objects.OrderStatus;
 import com.ecommerce.order.infrastructure.web.GlobalExceptionHandler;
 import com.ecommerce.order.infrastructure.web.controllers.OrderController;
 import com.ecommerce.shared.domain.value_objects.Money;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -22,14 +30,18 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -40,7 +52,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * Contract tests for POST /api/v1/orders endpoint.
  */
 @WebMvcTest(excludeAutoConfiguration = SecurityAutoConfiguration.class)
-@ContextConfiguration(classes = {OrderController.class, GlobalExceptionHandler.class, CreateOrderUseCase.class})
+@ContextConfiguration(classes = {OrderController.class, GlobalExceptionHandler.class, CreateOrderUseCase.class,
+        SimpleMeterRegistry.class})
 @DisplayName("Create Order Contract Tests")
 class CreateOrderContractTest {
 
@@ -53,6 +66,24 @@ class CreateOrderContractTest {
     @MockBean
     private OrderRepository orderRepository;
 
+    @MockBean
+    private OrderExpiryScheduler expiryScheduler;
+
+    @MockBean
+    private ProductServicePort productServicePort;
+
+    @MockBean
+    private InventoryReservationPort inventoryReservationPort;
+
+    @MockBean
+    private CouponServicePort couponServicePort;
+
+    @MockBean
+    private CouponRedemptionScheduler couponRedemptionScheduler;
+
+    @MockBean
+    private PlatformTransactionManager transactionManager;
+
     private static final UUID CUSTOMER_ID = UUID.randomUUID();
     private static final UUID PRODUCT_ID = UUID.randomUUID();
 
@@ -65,6 +96,7 @@ class CreateOrderContractTest {
         void shouldAcceptValidOrderCreationRequest() throws Exception {
             Cart cart = createCartWithItems();
             when(cartRepository.findByCustomerId(CUSTOMER_ID)).thenReturn(Optional.of(cart));
+            stubCurrentProduct(new BigDecimal("999.00"), 10);
             when(orderRepository.save(any(Order.class))).thenAnswer(inv -> inv.getArgument(0));
 
             mockMvc.perform(post("/api/v1/orders")
@@ -105,6 +137,7 @@ class CreateOrderContractTest {
         void shouldReturnOrderWithAllRequiredFields() throws Exception {
             Cart cart = createCartWithItems();
             when(cartRepository.findByCustomerId(CUSTOMER_ID)).thenReturn(Optional.of(cart));
+            stubCurrentProduct(new BigDecimal("999.00"), 10);
             when(orderRepository.save(any(Order.class))).thenAnswer(inv -> inv.getArgument(0));
 
             mockMvc.perform(post("/api/v1/orders")
@@ -138,6 +171,7 @@ class CreateOrderContractTest {
         void shouldReturnOrderItemsWithRequiredFields() throws Exception {
             Cart cart = createCartWithItems();
             when(cartRepository.findByCustomerId(CUSTOMER_ID)).thenReturn(Optional.of(cart));
+            stubCurrentProduct(new BigDecimal("999.00"), 10);
             when(orderRepository.save(any(Order.class))).thenAnswer(inv -> inv.getArgument(0));
 
             mockMvc.perform(post("/api/v1/orders")
@@ -163,6 +197,69 @@ class CreateOrderContractTest {
                     .andExpect(jsonPath("$.items[0].unitPrice").isNumber())
                     .andExpect(jsonPath("$.items[0].subtotal").isNumber());
         }
+
+        @Test
+        @DisplayName("should price items at the current product price")
+        void shouldPriceItemsAtCurrentProductPrice() throws Exception {
+            Cart cart = createCartWithItems();
+            when(cartRepository.findByCustomerId(CUSTOMER_ID)).thenReturn(Optional.of(cart));
+            stubCurrentProduct(new BigDecimal("899.00"), 10);
+            when(orderRepository.save(any(Order.class))).thenAnswer(inv -> inv.getArgument(0));
+
+            mockMvc.perform(post("/api/v1/orders")
+                            .principal(() -> CUSTOMER_ID.toString())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("""
+                                {
+                                    "shippingAddress": {
+                                        "recipientName": "Test User",
+                                        "phone": "0912345678",
+                                        "addressLine1": "123 Test Street",
+                                        "city": "Taipei",
+                                        "postalCode": "100",
+                                        "country": "Taiwan"
+                                    }
+                                }
+                                """))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items[0].unitPrice").value(899.0))
+                    .andExpect(jsonPath("$.total").value(1798.0));
+        }
+
+        @Test
+        @DisplayName("should apply the coupon discount from the local rule snapshot")
+        void shouldApplyCouponDiscountFromRuleSnapshot() throws Exception {
+            Cart cart = createCartWithItems();
+            when(cartRepository.findByCustomerId(CUSTOMER_ID)).thenReturn(Optional.of(cart));
+            stubCurrentProduct(new BigDecimal("999.00"), 10);
+            when(couponServicePort.findRule("SAVE10")).thenReturn(Optional.of(new CouponRule(
+                    "SAVE10", "10% off", CouponRule.DiscountType.PERCENTAGE, new BigDecimal("10"),
+                    null, null)));
+            when(orderRepository.save(any(Order.class))).thenAnswer(inv -> inv.getArgument(0));
+
+            mockMvc.perform(post("/api/v1/orders")
+                            .principal(() -> CUSTOMER_ID.toString())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("""
+                                {
+                                    "shippingAddress": {
+                                        "recipientName": "Test User",
+                                        "phone": "0912345678",
+                                        "addressLine1": "123 Test Street",
+                                        "city": "Taipei",
+                                        "postalCode": "100",
+                                        "country": "Taiwan"
+                                    },
+                                    "couponCode": "SAVE10"
+                                }
+                                """))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.couponCode").value("SAVE10"))
+                    .andExpect(jsonPath("$.discount").value(199.8))
+                    .andExpect(jsonPath("$.total").value(1798.2));
+
+            verify(couponRedemptionScheduler).schedule(any(UUID.class));
+        }
     }
 
     @Nested
@@ -217,6 +314,177 @@ class CreateOrderContractTest {
                     .andExpect(status().isBadRequest())
                     .andExpect(jsonPath("$.error").value("CART_EMPTY"));
         }
+
+        @Test
+        @DisplayName("should return 409 when stock cannot be reserved")
+        void shouldReturn409WhenStockCannotBeReserved() throws Exception {
+            Cart cart = createCartWithItems();
+            when(cartRepository.findByCustomerId(CUSTOMER_ID)).thenReturn(Optional.of(cart));
+            stubCurrentProduct(new BigDecimal("999.00"), 10);
+            when(inventoryReservationPort.reserve(any(), any())).thenReturn(List.of(PRODUCT_ID));
+
+            mockMvc.perform(post("/api/v1/orders")
+                            .principal(() -> CUSTOMER_ID.toString())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("""
+                                {
+                                    "shippingAddress": {
+                                        "recipientName": "Test User",
+                                        "phone": "0912345678",
+                                        "addressLine1": "123 Test Street",
+                                        "city": "Taipei",
+                                        "postalCode": "100",
+                                        "country": "Taiwan"
+                                    }
+                                }
+                                """))
+                    .andExpect(status().isConflict())
+                    .andExpect(jsonPath("$.error").value("INSUFFICIENT_STOCK"));
+
+            verify(inventoryReservationPort, never()).releaseReservation(any(), any());
+        }
+
+        @Test
+        @DisplayName("should release the stock hold when reserving fails without an answer")
+        void shouldReleaseHoldWhenReserveFails() throws Exception {
+            Cart cart = createCartWithItems();
+            when(cartRepository.findByCustomerId(CUSTOMER_ID)).thenReturn(Optional.of(cart));
+            stubCurrentProduct(new BigDecimal("999.00"), 10);
+            when(inventoryReservationPort.reserve(any(), any()))
+                    .thenThrow(new RuntimeException("Failed to reserve inventory"));
+
+            mockMvc.perform(post("/api/v1/orders")
+                            .principal(() -> CUSTOMER_ID.toString())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("""
+                                {
+                                    "shippingAddress": {
+                                        "recipientName": "Test User",
+                                        "phone": "0912345678",
+                                        "addressLine1": "123 Test Street",
+                                        "city": "Taipei",
+                                        "postalCode": "100",
+                                        "country": "Taiwan"
+                                    }
+                                }
+                                """))
+                    .andExpect(status().isInternalServerError());
+
+            verify(inventoryReservationPort).releaseReservation(any(UUID.class), any());
+            verify(orderRepository, never()).save(any(Order.class));
+        }
+
+        @Test
+        @DisplayName("should keep the cart and release the stock when the order cannot be saved")
+        void shouldKeepCartWhenOrderCannotBeSaved() throws Exception {
+            Cart cart = createCartWithItems();
+            when(cartRepository.findByCustomerId(CUSTOMER_ID)).thenReturn(Optional.of(cart));
+            stubCurrentProduct(new BigDecimal("999.00"), 10);
+            when(orderRepository.save(any(Order.class))).thenThrow(new RuntimeException("database down"));
+
+            mockMvc.perform(post("/api/v1/orders")
+                            .principal(() -> CUSTOMER_ID.toString())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("""
+                                {
+                                    "shippingAddress": {
+                                        "recipientName": "Test User",
+                                        "phone": "0912345678",
+                                        "addressLine1": "123 Test Street",
+                                        "city": "Taipei",
+                                        "postalCode": "100",
+                                        "country": "Taiwan"
+                                    }
+                                }
+                                """))
+                    .andExpect(status().isInternalServerError());
+
+            verify(cartRepository, never()).save(any(Cart.class));
+            verify(inventoryReservationPort).releaseReservation(any(UUID.class), any());
+        }
+
+        @Test
+        @DisplayName("should return 404 when a cart product is no longer active")
+        void shouldReturn404WhenProductInactive() throws Exception {
+            Cart cart = createCartWithItems();
+            when(cartRepository.findByCustomerId(CUSTOMER_ID)).thenReturn(Optional.of(cart));
+            when(productServicePort.revalidateProducts(any())).thenReturn(Map.of());
+
+            mockMvc.perform(post("/api/v1/orders")
+                            .principal(() -> CUSTOMER_ID.toString())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("""
+                                {
+                                    "shippingAddress": {
+                                        "recipientName": "Test User",
+                                        "phone": "0912345678",
+                                        "addressLine1": "123 Test Street",
+                                        "city": "Taipei",
+                                        "postalCode": "100",
+                                        "country": "Taiwan"
+                                    }
+                                }
+                                """))
+                    .andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.error").value("PRODUCT_NOT_FOUND"));
+        }
+
+        @Test
+        @DisplayName("should return 400 when the coupon is not in the rule snapshot")
+        void shouldReturn400WhenCouponUnknown() throws Exception {
+            Cart cart = createCartWithItems();
+            when(cartRepository.findByCustomerId(CUSTOMER_ID)).thenReturn(Optional.of(cart));
+            stubCurrentProduct(new BigDecimal("999.00"), 10);
+            when(couponServicePort.findRule("SAVE10")).thenReturn(Optional.empty());
+
+            mockMvc.perform(post("/api/v1/orders")
+                            .principal(() -> CUSTOMER_ID.toString())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("""
+                                {
+                                    "shippingAddress": {
+                                        "recipientName": "Test User",
+                                        "phone": "0912345678",
+                                        "addressLine1": "123 Test Street",
+                                        "city": "Taipei",
+                                        "postalCode": "100",
+                                        "country": "Taiwan"
+                                    },
+                                    "couponCode": "SAVE10"
+                                }
+                                """))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.error").value("COUPON_NOT_VALID"));
+        }
+
+        @Test
+        @DisplayName("should return 503 when the coupon cannot be checked")
+        void shouldReturn503WhenCouponCannotBeChecked() throws Exception {
+            Cart cart = createCartWithItems();
+            when(cartRepository.findByCustomerId(CUSTOMER_ID)).thenReturn(Optional.of(cart));
+            stubCurrentProduct(new BigDecimal("999.00"), 10);
+            when(couponServicePort.findRule("SAVE10"))
+                    .thenThrow(new CouponServiceUnavailableException("SAVE10", new RuntimeException("timeout")));
+
+            mockMvc.perform(post("/api/v1/orders")
+                            .principal(() -> CUSTOMER_ID.toString())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("""
+                                {
+                                    "shippingAddress": {
+                                        "recipientName": "Test User",
+                                        "phone": "0912345678",
+                                        "addressLine1": "123 Test Street",
+                                        "city": "Taipei",
+                                        "postalCode": "100",
+                                        "country": "Taiwan"
+                                    },
+                                    "couponCode": "SAVE10"
+                                }
+                                """))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(jsonPath("$.error").value("COUPON_SERVICE_UNAVAILABLE"));
+        }
     }
 
     @Nested
@@ -236,6 +504,12 @@ class CreateOrderContractTest {
         }
     }
 
+    private void stubCurrentProduct(BigDecimal price, int availableStock) {
+        when(productServicePort.revalidateProducts(any())).thenReturn(Map.of(PRODUCT_ID,
+                new ProductServicePort.ProductInfo(PRODUCT_ID, "Test Product", "SKU-001",
+                        Money.of(price), availableStock, true)));
+    }
+
     private Cart createCartWithItems() {
         Cart cart = Cart.create(CUSTOMER_ID);
         cart.addItem(
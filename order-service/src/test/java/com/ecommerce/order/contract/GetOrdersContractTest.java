@@ -35,13 +35,16 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * Contract tests for GET /api/v1/orders endpoint (order history).
  */
 @WebMvcTest(excludeAutoConfiguration = SecurityAutoConfiguration.class)
-@ContextConfiguration(classes = {OrderController.class, GlobalExceptionHandler.class, CreateOrderUseCase.class})
+@ContextConfiguration(classes = {OrderController.class, GlobalExceptionHandler.class})
 @DisplayName("Get Orders Contract Tests")
 class GetOrdersContractTest {
 
     @Autowired
     private MockMvc mockMvc;
 
+    @MockBean
+    private CreateOrderUseCase createOrderUseCase;
+
     @MockBean
     private CartRepository cartRepository;
 
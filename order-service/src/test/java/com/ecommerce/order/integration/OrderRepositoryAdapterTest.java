@@ -0,0 +1,134 @@
+package com.ecommerce.order.integration;
+
+import com.ecommerce.order.domain.aggregates.Order;
+import com.ecommerce.order.domain.entities.OrderItem;
+import com.ecommerce.order.domain.value_objects.OrderStatus;
+import com.ecommerce.order.infrastructure.persistence.adapters.OrderRepositoryAdapter;
+import com.ecommerce.order.infrastructure.persistence.entities.OrderJpaEntity;
+import com.ecommerce.order.infrastructure.persistence.mappers.OrderMapper;
+import com.ecommerce.order.infrastructure.persistence.repositories.OrderJpaRepository;
+import com.ecommerce.shared.domain.value_objects.Money;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("OrderRepositoryAdapter PostgreSQL Tests")
+class OrderRepositoryAdapterTest extends AbstractPostgresIntegrationTest {
+
+    @Autowired
+    private OrderRepositoryAdapter repository;
+
+    @Autowired
+    private OrderJpaRepository jpaRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("should read back a saved order with its items and status changes")
+    void shouldRoundTripOrder() {
+        Order order = order(UUID.randomUUID(), 3);
+        repository.save(order);
+
+        Order pending = repository.findById(order.getId()).orElseThrow();
+        UUID paymentId = UUID.randomUUID();
+        pending.markAsPaid(paymentId);
+        repository.save(pending);
+
+        Order paid = repository.findById(order.getId()).orElseThrow();
+        assertThat(paid.getStatus()).isEqualTo(OrderStatus.PAID);
+        assertThat(paid.getPaymentId()).isEqualTo(paymentId);
+        assertThat(paid.getTotal()).isEqualTo(order.getTotal());
+        assertThat(paid.getItems()).extracting(OrderItem::getId)
+                .containsExactlyInAnyOrderElementsOf(order.getItems().stream().map(OrderItem::getId).toList());
+        assertThat(jpaRepository.findById(order.getId()).orElseThrow().getVersion()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should insert an order's items in one batched statement")
+    void shouldBatchItemInserts() {
+        OrderJpaEntity entity = OrderMapper.toNewJpa(order(UUID.randomUUID(), 5));
+        statistics.clear();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> jpaRepository.save(entity));
+
+        // One statement for the order row and one batch for its five items
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("should fetch a customer's orders and items in one query")
+    void shouldFetchItemsWithOrders() {
+        UUID customerId = UUID.randomUUID();
+        for (int i = 0; i < 3; i++) {
+            repository.save(order(customerId, 2));
+        }
+        statistics.clear();
+
+        List<Order> orders = repository.findByCustomerId(customerId);
+
+        assertThat(orders).hasSize(3).allSatisfy(order -> assertThat(order.getItems()).hasSize(2));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should reject a save of an order loaded before the row last changed")
+    void shouldRejectStaleSave() {
+        Order order = order(UUID.randomUUID(), 1);
+        repository.save(order);
+        Order first = repository.findById(order.getId()).orElseThrow();
+        Order stale = repository.findById(order.getId()).orElseThrow();
+
+        first.markAsPaid(UUID.randomUUID());
+        repository.save(first);
+        stale.cancel("Changed my mind");
+
+        assertThatThrownBy(() -> repository.save(stale))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        assertThat(repository.findById(order.getId()).orElseThrow().getStatus()).isEqualTo(OrderStatus.PAID);
+
+        // The winner keeps the row's new version and can save again
+        first.markAsShipped("TRACK-1");
+        repository.save(first);
+        assertThat(repository.findById(order.getId()).orElseThrow().getVersion()).isEqualTo(2);
+    }
+
+    private static Order order(UUID customerId, int itemCount) {
+        List<OrderItem> items = IntStream.range(0, itemCount)
+                .mapToObj(i -> OrderItem.create(UUID.randomUUID(), "Product " + i, "SKU-00" + i,
+                        Money.of(new BigDecimal("100.00")), 1))
+                .toList();
+        Money total = Money.of(new BigDecimal("100.00").multiply(BigDecimal.valueOf(itemCount)));
+        Instant createdAt = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        return Order.reconstitute(UUID.randomUUID(), customerId, items, total, Money.zero(), total,
+                null, OrderStatus.PENDING_PAYMENT, null, null, null, createdAt, null, null, null, createdAt, 0);
+    }
+}
@@ -0,0 +1,161 @@
+package com.ecommerce.order.unit.application;
+
+import com.ecommerce.order.application.dto.PaymentNotification;
+import com.ecommerce.order.application.dto.PaymentNotificationsResult;
+import com.ecommerce.order.application.usecases.RecordPaymentNotificationsUseCase;
+import com.ecommerce.order.domain.aggregates.Order;
+import com.ecommerce.order.domain.entities.OrderItem;
+import com.ecommerce.order.domain.ports.InventoryReservationPort;
+import com.ecommerce.order.domain.ports.OrderExpiryScheduler;
+import com.ecommerce.order.domain.value_objects.OrderStatus;
+import com.ecommerce.order.infrastructure.persistence.adapters.InMemoryOrderRepository;
+import com.ecommerce.shared.domain.value_objects.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("RecordPaymentNotificationsUseCase Tests")
+class RecordPaymentNotificationsUseCaseTest {
+
+    private InMemoryOrderRepository orderRepository;
+    private OrderExpiryScheduler expiryScheduler;
+    private InventoryReservationPort inventoryReservation;
+    private RecordPaymentNotificationsUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository = new InMemoryOrderRepository();
+        expiryScheduler = mock(OrderExpiryScheduler.class);
+        inventoryReservation = mock(InventoryReservationPort.class);
+        when(inventoryReservation.confirmReservation(any(), anyList())).thenReturn(true);
+        useCase = new RecordPaymentNotificationsUseCase(orderRepository, expiryScheduler, inventoryReservation);
+    }
+
+    @Test
+    @DisplayName("should confirm reserved stock when an order is paid")
+    void shouldConfirmStockWhenPaid() {
+        Order order = pendingOrder();
+        UUID paymentId = UUID.randomUUID();
+
+        PaymentNotificationsResult result = useCase.execute(List.of(completed(order.getId(), paymentId)));
+
+        assertThat(result.applied()).isEqualTo(1);
+        assertThat(result.rejected()).isEmpty();
+        assertThat(orderRepository.findById(order.getId())).get()
+                .extracting(Order::getStatus).isEqualTo(OrderStatus.PAID);
+        verify(inventoryReservation).confirmReservation(order.getId(), order.getItems());
+        verify(expiryScheduler).cancel(order.getId());
+    }
+
+    @Test
+    @DisplayName("should not change the order again when the same outcome is delivered again")
+    void shouldNotReapplyRedelivery() {
+        Order order = pendingOrder();
+        PaymentNotification notification = completed(order.getId(), UUID.randomUUID());
+
+        useCase.execute(List.of(notification));
+        PaymentNotificationsResult result = useCase.execute(List.of(notification));
+
+        assertThat(result.applied()).isZero();
+        assertThat(result.rejected()).isEmpty();
+        verify(expiryScheduler, times(1)).cancel(order.getId());
+    }
+
+    @Test
+    @DisplayName("should not confirm stock for a failed payment")
+    void shouldNotConfirmStockForFailedPayment() {
+        Order order = pendingOrder();
+
+        useCase.execute(List.of(new PaymentNotification(order.getId(), null,
+                PaymentNotification.Outcome.FAILED, "Card declined")));
+
+        verify(inventoryReservation, never()).confirmReservation(any(), anyList());
+        assertThat(orderRepository.findById(order.getId())).get()
+                .extracting(Order::getStatus).isEqualTo(OrderStatus.PENDING_PAYMENT);
+    }
+
+    @Test
+    @DisplayName("should claim the order before confirming stock and confirm again on redelivery")
+    void shouldConfirmAgainWhenRedeliveredAfterConfirmFailed() {
+        Order order = pendingOrder();
+        PaymentNotification notification = completed(order.getId(), UUID.randomUUID());
+        doThrow(new RuntimeException("Failed to confirm inventory"))
+                .doReturn(true)
+                .when(inventoryReservation).confirmReservation(any(), anyList());
+
+        assertThatThrownBy(() -> useCase.execute(List.of(notification)))
+                .isInstanceOf(RuntimeException.class);
+        assertThat(orderRepository.findById(order.getId())).get()
+                .extracting(Order::getStatus).isEqualTo(OrderStatus.PAID);
+
+        useCase.execute(List.of(notification));
+
+        verify(inventoryReservation, times(2)).confirmReservation(order.getId(), order.getItems());
+    }
+
+    @Test
+    @DisplayName("should reject a payment for an order that expired, without confirming stock")
+    void shouldRejectPaymentForExpiredOrder() {
+        Order order = pendingOrder();
+        order.expirePayment();
+        orderRepository.save(order);
+        UUID paymentId = UUID.randomUUID();
+
+        PaymentNotificationsResult result = useCase.execute(List.of(completed(order.getId(), paymentId)));
+
+        assertThat(result.applied()).isZero();
+        assertThat(result.rejected()).containsExactly(new PaymentNotificationsResult.RejectedPayment(
+                order.getId(), paymentId, "ORDER_NOT_AWAITING_PAYMENT"));
+        verify(inventoryReservation, never()).confirmReservation(any(), anyList());
+        assertThat(orderRepository.findById(order.getId())).get()
+                .extracting(Order::getStatus).isEqualTo(OrderStatus.PAYMENT_EXPIRED);
+    }
+
+    @Test
+    @DisplayName("should cancel the order and reject its payment when no stock is held")
+    void shouldCancelAndRejectWhenNoStockHeld() {
+        Order order = pendingOrder();
+        UUID paymentId = UUID.randomUUID();
+        when(inventoryReservation.confirmReservation(any(), anyList())).thenReturn(false);
+        PaymentNotificationsResult.RejectedPayment rejection = new PaymentNotificationsResult.RejectedPayment(
+                order.getId(), paymentId, "STOCK_NOT_HELD");
+
+        PaymentNotificationsResult result = useCase.execute(List.of(completed(order.getId(), paymentId)));
+        PaymentNotificationsResult redelivered = useCase.execute(List.of(completed(order.getId(), paymentId)));
+
+        assertThat(result.rejected()).containsExactly(rejection);
+        assertThat(redelivered.rejected()).containsExactly(rejection);
+        assertThat(orderRepository.findById(order.getId())).get()
+                .extracting(Order::getStatus).isEqualTo(OrderStatus.CANCELLED);
+    }
+
+    private Order pendingOrder() {
+        List<OrderItem> items = List.of(OrderItem.create(UUID.randomUUID(), "Test Product", "SKU-001",
+                Money.of(new BigDecimal("100.00")), 2));
+        Money total = Money.of(new BigDecimal("200.00"));
+        Instant now = Instant.now();
+        Order order = Order.reconstitute(UUID.randomUUID(), UUID.randomUUID(), items, total, Money.zero(), total,
+                null, OrderStatus.PENDING_PAYMENT, null, null, null, now, null, null, null, now, 0);
+        return orderRepository.save(order);
+    }
+
+    private static PaymentNotification completed(UUID orderId, UUID paymentId) {
+        return new PaymentNotification(orderId, paymentId, PaymentNotification.Outcome.COMPLETED, null);
+    }
+}
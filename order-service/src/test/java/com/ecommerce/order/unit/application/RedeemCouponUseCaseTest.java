@@ -0,0 +1,97 @@
+package com.ecommerce.order.unit.application;
+
+import com.ecommerce.order.application.usecases.RedeemCouponUseCase;
+import com.ecommerce.order.domain.aggregates.Order;
+import com.ecommerce.order.domain.entities.OrderItem;
+import com.ecommerce.order.domain.ports.CouponServicePort;
+import com.ecommerce.order.domain.ports.CouponServicePort.RedemptionResult;
+import com.ecommerce.order.domain.ports.InventoryReservationPort;
+import com.ecommerce.order.domain.ports.OrderExpiryScheduler;
+import com.ecommerce.order.domain.value_objects.OrderStatus;
+import com.ecommerce.order.infrastructure.persistence.adapters.InMemoryOrderRepository;
+import com.ecommerce.shared.domain.value_objects.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("RedeemCouponUseCase Tests")
+class RedeemCouponUseCaseTest {
+
+    private InMemoryOrderRepository orderRepository;
+    private CouponServicePort couponService;
+    private OrderExpiryScheduler expiryScheduler;
+    private InventoryReservationPort inventoryReservation;
+    private RedeemCouponUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository = new InMemoryOrderRepository();
+        couponService = mock(CouponServicePort.class);
+        expiryScheduler = mock(OrderExpiryScheduler.class);
+        inventoryReservation = mock(InventoryReservationPort.class);
+        useCase = new RedeemCouponUseCase(orderRepository, couponService, expiryScheduler, inventoryReservation);
+    }
+
+    @Test
+    @DisplayName("should cancel an unpaid order and release its stock when the coupon is refused")
+    void shouldCancelUnpaidOrderWhenRefused() {
+        Order order = pendingOrder();
+        when(couponService.redeem(any(), any(), any(), any())).thenReturn(RedemptionResult.rejected("Usage limit"));
+
+        assertThat(useCase.execute(order.getId())).isTrue();
+
+        assertThat(orderRepository.findById(order.getId())).get()
+                .extracting(Order::getStatus).isEqualTo(OrderStatus.CANCELLED);
+        verify(expiryScheduler).cancel(order.getId());
+        verify(inventoryReservation).releaseReservation(order.getId(), order.getItems());
+    }
+
+    @Test
+    @DisplayName("should leave an order paid during redemption paid and its stock held")
+    void shouldNotCancelOrderPaidDuringRedemption() {
+        Order order = pendingOrder();
+        when(couponService.redeem(any(), any(), any(), any())).thenAnswer(invocation -> {
+            // Payment service's notification saves its own copy of the order
+            orderRepository.save(copyOf(order, OrderStatus.PAID));
+            return RedemptionResult.rejected("Usage limit");
+        });
+
+        useCase.execute(order.getId());
+
+        assertThat(orderRepository.findById(order.getId())).get()
+                .extracting(Order::getStatus).isEqualTo(OrderStatus.PAID);
+        verify(expiryScheduler, never()).cancel(any());
+        verify(inventoryReservation, never()).releaseReservation(any(), anyList());
+    }
+
+    private Order pendingOrder() {
+        List<OrderItem> items = List.of(OrderItem.create(UUID.randomUUID(), "Test Product", "SKU-001",
+                Money.of(new BigDecimal("100.00")), 2));
+        Money subtotal = Money.of(new BigDecimal("200.00"));
+        Money discount = Money.of(new BigDecimal("20.00"));
+        Instant now = Instant.now();
+        Order order = Order.reconstitute(UUID.randomUUID(), UUID.randomUUID(), items, subtotal, discount,
+                subtotal.subtract(discount), "SAVE10", OrderStatus.PENDING_PAYMENT, null, null, null,
+                now, null, null, null, now, 0);
+        return orderRepository.save(order);
+    }
+
+    private static Order copyOf(Order order, OrderStatus status) {
+        return Order.reconstitute(order.getId(), order.getCustomerId(), order.getItems(), order.getSubtotal(),
+                order.getDiscount(), order.getTotal(), order.getCouponCode(), status, UUID.randomUUID(), null, null,
+                order.getCreatedAt(), Instant.now(), null, null, Instant.now(), order.getVersion());
+    }
+}
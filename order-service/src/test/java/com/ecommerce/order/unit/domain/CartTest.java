@@ -9,6 +9,8 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.*;
@@ -191,6 +193,42 @@ class CartTest {
             // 100*2 + 50*3 = 200 + 150 = 350
             assertThat(total.getAmount()).isEqualByComparingTo(new BigDecimal("350.00"));
         }
+
+        @Test
+        @DisplayName("should keep running totals across updates, removals and clear")
+        void shouldKeepRunningTotalsAcrossChanges() {
+            UUID productA = UUID.randomUUID();
+            UUID productB = UUID.randomUUID();
+            cart.addItem(productA, "Product A", "SKU-A", Money.of(new BigDecimal("19.99")), 2);
+            cart.addItem(productB, "Product B", "SKU-B", Money.of(new BigDecimal("0.05")), 3);
+            cart.addItem(productA, "Product A", "SKU-A", Money.of(new BigDecimal("19.99")), 1);
+            assertThat(cart.getTotalMinorUnits()).isEqualTo(5997 + 15);
+
+            cart.updateItemQuantity(productB, 1);
+            assertThat(cart.getTotal().getAmount()).isEqualByComparingTo(new BigDecimal("60.02"));
+            assertThat(cart.getTotalItemCount()).isEqualTo(4);
+
+            cart.removeItem(productA);
+            assertThat(cart.getTotal().getAmount()).isEqualByComparingTo(new BigDecimal("0.05"));
+            assertThat(cart.getTotalItemCount()).isEqualTo(1);
+
+            cart.clear();
+            assertThat(cart.getTotalMinorUnits()).isZero();
+            assertThat(cart.getTotalItemCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("should restore totals when reconstituted")
+        void shouldRestoreTotalsWhenReconstituted() {
+            cart.addItem(UUID.randomUUID(), "Product A", "SKU-A", Money.of(new BigDecimal("100.00")), 2);
+            cart.addItem(UUID.randomUUID(), "Product B", "SKU-B", Money.of(new BigDecimal("50.00")), 3);
+
+            Cart restored = Cart.reconstitute(cart.getId(), customerId, List.copyOf(cart.getItems()),
+                    cart.getCreatedAt(), cart.getUpdatedAt());
+
+            assertThat(restored.getTotal()).isEqualTo(cart.getTotal());
+            assertThat(restored.getTotalItemCount()).isEqualTo(5);
+        }
     }
 
     @Nested
@@ -223,5 +261,53 @@ class CartTest {
             assertThat(cart.getTotalItemCount()).isEqualTo(5);
             assertThat(cart.getItemCount()).isEqualTo(2); // distinct products
         }
+
+        @Test
+        @DisplayName("should expose items as a read-only view")
+        void shouldExposeItemsAsReadOnlyView() {
+            Collection<CartItem> items = cart.getItems();
+            cart.addItem(UUID.randomUUID(), "Product A", "SKU-A", Money.of(new BigDecimal("100.00")), 2);
+
+            assertThat(items).hasSize(1);
+            assertThatThrownBy(items::clear).isInstanceOf(UnsupportedOperationException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Change Tracking")
+    class ChangeTracking {
+
+        @Test
+        @DisplayName("should track changed and removed products until persisted")
+        void shouldTrackChangedAndRemovedProducts() {
+            UUID productA = UUID.randomUUID();
+            UUID productB = UUID.randomUUID();
+            cart.addItem(productA, "Product A", "SKU-A", Money.of(new BigDecimal("100.00")), 1);
+            cart.addItem(productB, "Product B", "SKU-B", Money.of(new BigDecimal("50.00")), 1);
+            cart.markPersisted();
+
+            cart.updateItemQuantity(productA, 3);
+            cart.removeItem(productB);
+
+            assertThat(cart.getChangedProductIds()).containsExactly(productA);
+            assertThat(cart.getRemovedProductIds()).containsExactly(productB);
+
+            cart.markPersisted();
+
+            assertThat(cart.getChangedProductIds()).isEmpty();
+            assertThat(cart.getRemovedProductIds()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should report all products as removed when cleared")
+        void shouldReportAllProductsRemovedWhenCleared() {
+            UUID productA = UUID.randomUUID();
+            cart.addItem(productA, "Product A", "SKU-A", Money.of(new BigDecimal("100.00")), 1);
+
+            cart.clear();
+
+            assertThat(cart.getChangedProductIds()).isEmpty();
+            assertThat(cart.getRemovedProductIds()).containsExactly(productA);
+        }
     }
 }
@@ -2,7 +2,10 @@ package com.ecommerce.order.unit.domain;
 
 import com.ecommerce.order.domain.aggregates.Order;
 import com.ecommerce.order.domain.entities.OrderItem;
+import com.ecommerce.order.domain.events.OrderCancelled;
+import com.ecommerce.order.domain.events.OrderPaid;
 import com.ecommerce.order.domain.value_objects.OrderStatus;
+import com.ecommerce.shared.domain.events.DomainEvent;
 import com.ecommerce.shared.domain.value_objects.Money;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -231,6 +234,40 @@ class OrderTest {
         }
     }
 
+    @Nested
+    @DisplayName("Domain Events")
+    class DomainEvents {
+
+        @Test
+        @DisplayName("should raise created, paid and cancelled events")
+        void shouldRaiseLifecycleEvents() {
+            Order order = createPendingOrder();
+            UUID paymentId = UUID.randomUUID();
+
+            order.markAsPaid(paymentId);
+            order.cancel("Customer requested refund");
+
+            assertThat(order.getDomainEvents())
+                    .extracting(DomainEvent::getEventType)
+                    .containsExactly("OrderCreated", "OrderPaid", "OrderCancelled");
+            OrderPaid paid = (OrderPaid) order.getDomainEvents().get(1);
+            assertThat(paid.getPaymentId()).isEqualTo(paymentId);
+            assertThat(paid.getAmount()).isEqualByComparingTo(new BigDecimal("1998.00"));
+            OrderCancelled cancelled = (OrderCancelled) order.getDomainEvents().get(2);
+            assertThat(cancelled.isRequiresRefund()).isTrue();
+        }
+
+        @Test
+        @DisplayName("should clear recorded events")
+        void shouldClearRecordedEvents() {
+            Order order = createPendingOrder();
+
+            order.clearDomainEvents();
+
+            assertThat(order.getDomainEvents()).isEmpty();
+        }
+    }
+
     private Order createPendingOrder() {
         List<OrderItem> items = List.of(
                 OrderItem.create(PRODUCT_ID, "Test Product", "SKU-001",
@@ -0,0 +1,89 @@
+package com.ecommerce.order.unit.infrastructure;
+
+import com.ecommerce.order.application.exceptions.CouponServiceUnavailableException;
+import com.ecommerce.order.infrastructure.clients.CouponServiceAdapter;
+import com.ecommerce.order.infrastructure.clients.SalesServiceClient;
+import com.ecommerce.order.infrastructure.config.CouponConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.FeignException;
+import feign.Request;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("CouponServiceAdapter Tests")
+class CouponServiceAdapterTest {
+
+    private SalesServiceClient client;
+    private CouponServiceAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        client = mock(SalesServiceClient.class);
+        adapter = new CouponServiceAdapter(client, new CouponConfig(), new ObjectMapper(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("should serve codes in the snapshot without a remote lookup")
+    void shouldServeSnapshotCodes() {
+        when(client.getCouponRules()).thenReturn(List.of(rule("SAVE10")));
+        adapter.refreshSnapshot();
+
+        assertThat(adapter.findRule(" save10 "))
+                .hasValueSatisfying(rule -> assertThat(rule.code()).isEqualTo("SAVE10"));
+        verify(client, never()).getCouponRule("SAVE10");
+    }
+
+    @Test
+    @DisplayName("should remember a code the sales service does not know")
+    void shouldRememberUnknownCode() {
+        when(client.getCouponRule("NOPE")).thenThrow(notFound());
+
+        assertThat(adapter.findRule("NOPE")).isEmpty();
+        assertThat(adapter.findRule("NOPE")).isEmpty();
+
+        verify(client, times(1)).getCouponRule("NOPE");
+    }
+
+    @Test
+    @DisplayName("should report an outage instead of treating the code as unknown")
+    void shouldReportOutage() {
+        when(client.getCouponRule("SAVE10")).thenThrow(unavailable()).thenReturn(rule("SAVE10"));
+
+        assertThatThrownBy(() -> adapter.findRule("SAVE10"))
+                .isInstanceOf(CouponServiceUnavailableException.class);
+        assertThat(adapter.findRule("SAVE10")).isPresent();
+    }
+
+    private static SalesServiceClient.CouponRuleResponse rule(String code) {
+        return new SalesServiceClient.CouponRuleResponse(code, "10% off", "PERCENTAGE",
+                new BigDecimal("10"), null, null);
+    }
+
+    private static FeignException notFound() {
+        return new FeignException.NotFound("Not Found", request(), null, Map.of());
+    }
+
+    private static FeignException unavailable() {
+        return new FeignException.ServiceUnavailable("Service Unavailable", request(), null, Map.of());
+    }
+
+    private static Request request() {
+        return Request.create(Request.HttpMethod.GET, "/api/v1/coupons/rules", Map.of(), null,
+                StandardCharsets.UTF_8, null);
+    }
+}
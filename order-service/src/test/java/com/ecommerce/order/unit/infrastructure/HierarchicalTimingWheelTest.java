@@ -0,0 +1,64 @@
+package com.ecommerce.order.unit.infrastructure;
+
+import com.ecommerce.order.infrastructure.scheduling.HierarchicalTimingWheel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("HierarchicalTimingWheel Tests")
+class HierarchicalTimingWheelTest {
+
+    private static final long TICK_MS = 1000;
+
+    private HierarchicalTimingWheel<String> wheel;
+
+    @BeforeEach
+    void setUp() {
+        wheel = new HierarchicalTimingWheel<>(TICK_MS, 8, 3, 0);
+    }
+
+    @Test
+    @DisplayName("should fire entry on its deadline tick")
+    void shouldFireEntryOnItsDeadlineTick() {
+        wheel.schedule("a", 5 * TICK_MS);
+
+        assertThat(wheel.advanceTo(4 * TICK_MS)).isEmpty();
+        assertThat(wheel.advanceTo(5 * TICK_MS)).containsExactly("a");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("should cascade entries from higher levels without firing early")
+    void shouldCascadeEntriesFromHigherLevels() {
+        wheel.schedule("minutes", 100 * TICK_MS);
+        wheel.schedule("overflow", 1000 * TICK_MS);
+
+        assertThat(wheel.advanceTo(99 * TICK_MS)).isEmpty();
+        assertThat(wheel.advanceTo(100 * TICK_MS)).containsExactly("minutes");
+        assertThat(wheel.advanceTo(999 * TICK_MS)).isEmpty();
+        assertThat(wheel.advanceTo(1000 * TICK_MS)).containsExactly("overflow");
+    }
+
+    @Test
+    @DisplayName("should not fire cancelled or rescheduled entries")
+    void shouldNotFireCancelledEntries() {
+        wheel.schedule("paid", 3 * TICK_MS);
+        wheel.schedule("moved", 3 * TICK_MS);
+        wheel.cancel("paid");
+        wheel.schedule("moved", 20 * TICK_MS);
+
+        assertThat(wheel.advanceTo(10 * TICK_MS)).isEmpty();
+        assertThat(wheel.advanceTo(20 * TICK_MS)).containsExactly("moved");
+    }
+
+    @Test
+    @DisplayName("should reject deadlines that have already passed")
+    void shouldRejectPastDeadlines() {
+        wheel.advanceTo(10 * TICK_MS);
+
+        assertThat(wheel.schedule("late", 5 * TICK_MS)).isFalse();
+        assertThat(wheel.size()).isZero();
+    }
+}
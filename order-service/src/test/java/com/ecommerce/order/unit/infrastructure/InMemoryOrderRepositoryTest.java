@@ -0,0 +1,104 @@
+package com.ecommerce.order.unit.infrastructure;
+
+import com.ecommerce.order.domain.aggregates.Order;
+import com.ecommerce.order.domain.entities.OrderItem;
+import com.ecommerce.order.domain.value_objects.OrderStatus;
+import com.ecommerce.order.infrastructure.persistence.adapters.InMemoryOrderRepository;
+import com.ecommerce.shared.domain.value_objects.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("InMemoryOrderRepository Index Tests")
+class InMemoryOrderRepositoryTest {
+
+    private static final UUID CUSTOMER_ID = UUID.randomUUID();
+
+    private InMemoryOrderRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryOrderRepository();
+    }
+
+    @Test
+    @DisplayName("should return customer orders newest first")
+    void shouldReturnCustomerOrdersNewestFirst() {
+        Order older = order(CUSTOMER_ID, OrderStatus.PENDING_PAYMENT, minutesAgo(60));
+        Order newer = order(CUSTOMER_ID, OrderStatus.PENDING_PAYMENT, minutesAgo(5));
+        repository.save(older);
+        repository.save(newer);
+        repository.save(order(UUID.randomUUID(), OrderStatus.PENDING_PAYMENT, minutesAgo(1)));
+
+        assertThat(repository.findByCustomerId(CUSTOMER_ID)).containsExactly(newer, older);
+    }
+
+    @Test
+    @DisplayName("should move order between status indexes on save")
+    void shouldMoveOrderBetweenStatusIndexesOnSave() {
+        Order order = order(CUSTOMER_ID, OrderStatus.PENDING_PAYMENT, minutesAgo(60));
+        repository.save(order);
+
+        order.markAsPaid(UUID.randomUUID());
+        repository.save(order);
+
+        assertThat(repository.findByCustomerIdAndStatus(CUSTOMER_ID, OrderStatus.PAID)).containsExactly(order);
+        assertThat(repository.findByCustomerIdAndStatus(CUSTOMER_ID, OrderStatus.PENDING_PAYMENT)).isEmpty();
+        assertThat(repository.findPendingPaymentOrdersOlderThan(30)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should return only pending orders past the timeout")
+    void shouldReturnOnlyPendingOrdersPastTheTimeout() {
+        Order expired = order(CUSTOMER_ID, OrderStatus.PENDING_PAYMENT, minutesAgo(45));
+        Order recent = order(CUSTOMER_ID, OrderStatus.PENDING_PAYMENT, minutesAgo(10));
+        repository.save(expired);
+        repository.save(recent);
+
+        assertThat(repository.findPendingPaymentOrdersOlderThan(30)).containsExactly(expired);
+    }
+
+    @Test
+    @DisplayName("should save only the first of two writers that loaded the same pending order")
+    void shouldSaveOnlyFirstConditionalWriter() {
+        Instant createdAt = minutesAgo(45);
+        UUID orderId = UUID.randomUUID();
+        repository.save(order(orderId, CUSTOMER_ID, OrderStatus.PENDING_PAYMENT, createdAt));
+        Order paid = order(orderId, CUSTOMER_ID, OrderStatus.PENDING_PAYMENT, createdAt);
+        Order expired = order(orderId, CUSTOMER_ID, OrderStatus.PENDING_PAYMENT, createdAt);
+
+        paid.markAsPaid(UUID.randomUUID());
+        expired.expirePayment();
+
+        assertThat(repository.saveIfStatus(paid, OrderStatus.PENDING_PAYMENT)).isTrue();
+        assertThat(repository.saveIfStatus(expired, OrderStatus.PENDING_PAYMENT)).isFalse();
+        assertThat(repository.findById(orderId)).containsSame(paid);
+        assertThat(repository.findPendingPaymentOrdersOlderThan(30)).isEmpty();
+    }
+
+    private static Instant minutesAgo(long minutes) {
+        return Instant.now().minus(minutes, ChronoUnit.MINUTES);
+    }
+
+    private static Order order(UUID customerId, OrderStatus status, Instant createdAt) {
+        return order(UUID.randomUUID(), customerId, status, createdAt);
+    }
+
+    private static Order order(UUID orderId, UUID customerId, OrderStatus status, Instant createdAt) {
+        List<OrderItem> items = List.of(
+                OrderItem.create(UUID.randomUUID(), "Test Product", "SKU-001",
+                        Money.of(new BigDecimal("100.00")), 1)
+        );
+        Money total = Money.of(new BigDecimal("100.00"));
+        return Order.reconstitute(orderId, customerId, items, total, Money.zero(), total,
+                null, status, null, null, null, createdAt, null, null, null, createdAt, 0);
+    }
+}
@@ -0,0 +1,124 @@
+package com.ecommerce.order.unit.infrastructure;
+
+import com.ecommerce.order.domain.entities.OrderItem;
+import com.ecommerce.order.infrastructure.clients.InventoryReservationAdapter;
+import com.ecommerce.order.infrastructure.clients.InventoryServiceClient;
+import com.ecommerce.shared.domain.value_objects.Money;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.FeignException;
+import feign.Request;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("InventoryReservationAdapter Tests")
+class InventoryReservationAdapterTest {
+
+    private static final UUID ORDER_ID = UUID.randomUUID();
+
+    private InventoryServiceClient client;
+    private InventoryReservationAdapter adapter;
+    private OrderItem first;
+    private OrderItem second;
+
+    @BeforeEach
+    void setUp() {
+        client = mock(InventoryServiceClient.class);
+        adapter = new InventoryReservationAdapter(client, new ObjectMapper());
+        first = OrderItem.create(UUID.randomUUID(), "First", "SKU-001", Money.of(new BigDecimal("100.00")), 2);
+        second = OrderItem.create(UUID.randomUUID(), "Second", "SKU-002", Money.of(new BigDecimal("50.00")), 1);
+    }
+
+    @Test
+    @DisplayName("should reserve every line of the order in one call")
+    void shouldReserveAllLinesInOneCall() {
+        List<UUID> rejected = adapter.reserve(ORDER_ID, List.of(first, second));
+
+        assertThat(rejected).isEmpty();
+        verify(client).reserve(new InventoryServiceClient.ReservationRequest(ORDER_ID, List.of(
+                new InventoryServiceClient.Line(first.getProductId(), 2),
+                new InventoryServiceClient.Line(second.getProductId(), 1))));
+    }
+
+    @Test
+    @DisplayName("should return the products product service rejected")
+    void shouldReturnRejectedProducts() {
+        doThrow(conflict("{\"code\":\"INSUFFICIENT_STOCK\",\"productIds\":[\"" + second.getProductId() + "\"]}"))
+                .when(client).reserve(any());
+
+        assertThat(adapter.reserve(ORDER_ID, List.of(first, second))).containsExactly(second.getProductId());
+    }
+
+    @Test
+    @DisplayName("should treat every product as rejected when the conflict names none")
+    void shouldRejectAllWhenConflictNamesNone() {
+        doThrow(conflict("not json")).when(client).reserve(any());
+
+        assertThat(adapter.reserve(ORDER_ID, List.of(first, second)))
+                .containsExactly(first.getProductId(), second.getProductId());
+    }
+
+    @Test
+    @DisplayName("should fail the reservation when product service is unavailable")
+    void shouldFailWhenUnavailable() {
+        doThrow(unavailable()).when(client).reserve(any());
+
+        assertThatThrownBy(() -> adapter.reserve(ORDER_ID, List.of(first)))
+                .hasMessage("Failed to reserve inventory");
+    }
+
+    @Test
+    @DisplayName("should release and confirm by order")
+    void shouldReleaseAndConfirmByOrder() {
+        adapter.releaseReservation(ORDER_ID, List.of(first));
+        adapter.confirmReservation(ORDER_ID, List.of(first));
+
+        InventoryServiceClient.ReservationRequest request = new InventoryServiceClient.ReservationRequest(ORDER_ID,
+                List.of(new InventoryServiceClient.Line(first.getProductId(), 2)));
+        verify(client).release(request);
+        verify(client).confirm(request);
+    }
+
+    @Test
+    @DisplayName("should report a paid order whose stock is no longer held")
+    void shouldReportNothingHeldOnConfirm() {
+        doThrow(conflict("{\"code\":\"RESERVATION_NOT_HELD\"}")).when(client).confirm(any());
+
+        assertThat(adapter.confirmReservation(ORDER_ID, List.of(first))).isFalse();
+    }
+
+    @Test
+    @DisplayName("should fail the confirmation when product service is unavailable so it is retried")
+    void shouldFailConfirmWhenUnavailable() {
+        doThrow(unavailable()).when(client).confirm(any());
+
+        assertThatThrownBy(() -> adapter.confirmReservation(ORDER_ID, List.of(first)))
+                .hasMessage("Failed to confirm inventory");
+    }
+
+    private static FeignException conflict(String body) {
+        return new FeignException.Conflict("Conflict", request(), body.getBytes(StandardCharsets.UTF_8), Map.of());
+    }
+
+    private static FeignException unavailable() {
+        return new FeignException.ServiceUnavailable("Service Unavailable", request(), null, Map.of());
+    }
+
+    private static Request request() {
+        return Request.create(Request.HttpMethod.POST, "/api/v1/inventory/reservations", Map.of(), null,
+                StandardCharsets.UTF_8, null);
+    }
+}
@@ -0,0 +1,101 @@
+package com.ecommerce.order.unit.infrastructure;
+
+import com.ecommerce.order.domain.aggregates.Order;
+import com.ecommerce.order.domain.entities.OrderItem;
+import com.ecommerce.order.infrastructure.config.OutboxConfig;
+import com.ecommerce.order.infrastructure.outbox.InMemoryOutboxStore;
+import com.ecommerce.order.infrastructure.outbox.OutboxMessage;
+import com.ecommerce.order.infrastructure.outbox.OutboxRelay;
+import com.ecommerce.order.infrastructure.persistence.adapters.InMemoryOrderRepository;
+import com.ecommerce.shared.domain.value_objects.Money;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("OutboxRelay Tests")
+class OutboxRelayTest {
+
+    private InMemoryOutboxStore store;
+    private InMemoryOrderRepository repository;
+    private OutboxConfig config;
+    private List<OutboxMessage> sent;
+    private int failuresToInject;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryOutboxStore();
+        repository = new InMemoryOrderRepository(store);
+        config = new OutboxConfig();
+        config.setRetryDelayMs(0);
+        sent = new ArrayList<>();
+        relay = new OutboxRelay(store, message -> {
+            if (failuresToInject > 0) {
+                failuresToInject--;
+                throw new IllegalStateException("transport down");
+            }
+            sent.add(message);
+        }, config, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("should relay events recorded with the order exactly once")
+    void shouldRelayEventsRecordedWithOrder() {
+        Order order = pendingOrder();
+        repository.save(order);
+        order.markAsPaid(UUID.randomUUID());
+        repository.save(order);
+
+        relay.relay();
+        relay.relay();
+
+        assertThat(sent).extracting(OutboxMessage::eventType).containsExactly("OrderCreated", "OrderPaid");
+        assertThat(sent).allMatch(message -> message.aggregateId().equals(order.getId().toString()));
+        assertThat(sent.get(0).payload()).contains("\"customerId\":\"" + order.getCustomerId() + "\"");
+        assertThat(order.getDomainEvents()).isEmpty();
+        assertThat(store.countUnpublished()).isZero();
+    }
+
+    @Test
+    @DisplayName("should reschedule a failed send and deliver it on a later poll")
+    void shouldRescheduleFailedSend() {
+        repository.save(pendingOrder());
+        failuresToInject = 1;
+
+        relay.relayBatch();
+        assertThat(sent).isEmpty();
+        assertThat(store.countUnpublished()).isEqualTo(1);
+
+        relay.relayBatch();
+        assertThat(sent).hasSize(1);
+        assertThat(sent.get(0).attempts()).isEqualTo(2);
+        assertThat(store.countUnpublished()).isZero();
+    }
+
+    @Test
+    @DisplayName("should drain the backlog in batches within one poll")
+    void shouldDrainBacklogInBatches() {
+        config.setBatchSize(2);
+        for (int i = 0; i < 5; i++) {
+            repository.save(pendingOrder());
+        }
+
+        relay.relay();
+
+        assertThat(sent).hasSize(5);
+    }
+
+    private static Order pendingOrder() {
+        return Order.createFromCart(UUID.randomUUID(), List.of(
+                OrderItem.create(UUID.randomUUID(), "Test Product", "SKU-001",
+                        Money.of(new BigDecimal("100.00")), 1)), null);
+    }
+}
@@ -0,0 +1,160 @@
+package com.ecommerce.order.unit.infrastructure;
+
+import com.ecommerce.order.infrastructure.clients.ProductServiceAdapter;
+import com.ecommerce.order.infrastructure.clients.ProductServiceClient;
+import com.ecommerce.order.infrastructure.config.ProductCacheConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ProductServiceAdapter Memoization and Near Cache Tests")
+class ProductServiceAdapterTest {
+
+    private static final UUID PRODUCT_ID = UUID.randomUUID();
+
+    private ProductServiceClient client;
+    private ProductServiceAdapter adapter;
+    private SimpleMeterRegistry meterRegistry;
+    private final AtomicLong clock = new AtomicLong(1_000_000);
+
+    @BeforeEach
+    void setUp() {
+        client = mock(ProductServiceClient.class);
+        meterRegistry = new SimpleMeterRegistry();
+        adapter = new ProductServiceAdapter(client, new ProductCacheConfig(), meterRegistry, Runnable::run, clock::get);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("should call product service once per product within a request")
+    void shouldCallOncePerProductWithinRequest() {
+        when(client.getProduct(PRODUCT_ID)).thenReturn(response(PRODUCT_ID, 10));
+
+        adapter.getProductInfo(PRODUCT_ID);
+        boolean available = adapter.isStockAvailable(PRODUCT_ID, 5);
+        boolean tooMany = adapter.isStockAvailable(PRODUCT_ID, 11);
+
+        assertThat(available).isTrue();
+        assertThat(tooMany).isFalse();
+        verify(client, times(1)).getProduct(PRODUCT_ID);
+    }
+
+    @Test
+    @DisplayName("should revalidate past the near cache and answer the rest of the request from the result")
+    void shouldRevalidatePastNearCache() {
+        UUID unknown = UUID.randomUUID();
+        when(client.getProduct(PRODUCT_ID)).thenReturn(response(PRODUCT_ID, 10));
+        when(client.getProducts(any())).thenReturn(List.of(response(PRODUCT_ID, 3)));
+
+        adapter.getProductInfo(PRODUCT_ID);
+        var infos = adapter.revalidateProducts(List.of(PRODUCT_ID, unknown));
+
+        assertThat(infos).containsOnlyKeys(PRODUCT_ID);
+        assertThat(infos.get(PRODUCT_ID).availableStock()).isEqualTo(3);
+        verify(client).getProducts(Set.of(PRODUCT_ID, unknown));
+        assertThat(adapter.isStockAvailable(PRODUCT_ID, 5)).isFalse();
+        assertThat(adapter.getProductInfo(unknown)).isEmpty();
+        verify(client, times(1)).getProduct(PRODUCT_ID);
+        verify(client, never()).getProduct(unknown);
+    }
+
+    @Test
+    @DisplayName("should serve details from the near cache across requests")
+    void shouldServeDetailsFromNearCacheAcrossRequests() {
+        when(client.getProduct(PRODUCT_ID)).thenReturn(response(PRODUCT_ID, 10));
+
+        adapter.getProductInfo(PRODUCT_ID);
+        newRequest();
+        clock.addAndGet(60_000);
+        var info = adapter.getProductInfo(PRODUCT_ID);
+
+        assertThat(info).isPresent();
+        verify(client, times(1)).getProduct(PRODUCT_ID);
+        assertThat(requests("fresh_hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should serve stale stock and refresh it in the background")
+    void shouldServeStaleStockAndRefresh() {
+        when(client.getProduct(PRODUCT_ID))
+                .thenReturn(response(PRODUCT_ID, 10))
+                .thenReturn(response(PRODUCT_ID, 2));
+
+        adapter.getProductInfo(PRODUCT_ID);
+        newRequest();
+        clock.addAndGet(10_000);
+        boolean staleAnswer = adapter.isStockAvailable(PRODUCT_ID, 5);
+        newRequest();
+        boolean refreshedAnswer = adapter.isStockAvailable(PRODUCT_ID, 5);
+
+        assertThat(staleAnswer).isTrue();
+        assertThat(refreshedAnswer).isFalse();
+        verify(client, times(2)).getProduct(PRODUCT_ID);
+        assertThat(requests("stale_hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should fall back to stale data when product service fails")
+    void shouldFallBackToStaleDataOnFailure() {
+        when(client.getProduct(PRODUCT_ID))
+                .thenReturn(response(PRODUCT_ID, 10))
+                .thenThrow(new IllegalStateException("connection refused"));
+
+        adapter.getProductInfo(PRODUCT_ID);
+        newRequest();
+        clock.addAndGet(60_000);
+        boolean available = adapter.isStockAvailable(PRODUCT_ID, 5);
+
+        assertThat(available).isTrue();
+        assertThat(requests("stale_fallback")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should propagate failures when nothing is cached")
+    void shouldPropagateFailureWithoutCachedEntry() {
+        when(client.getProduct(PRODUCT_ID)).thenThrow(new IllegalStateException("connection refused"));
+
+        assertThatThrownBy(() -> adapter.getProductInfo(PRODUCT_ID))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("Failed to fetch product information");
+    }
+
+    private static void newRequest() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("order.product.cache.requests").tag("result", result).counter().count();
+    }
+
+    private static ProductServiceClient.ProductResponse response(UUID id, int available) {
+        return new ProductServiceClient.ProductResponse(
+                id, "SKU-" + id, "Product", null, new BigDecimal("100.00"), "TWD", UUID.randomUUID(), true,
+                new ProductServiceClient.StockInfo(available, available > 0, false));
+    }
+}
@@ -0,0 +1,153 @@
+package com.ecommerce.order.unit.infrastructure;
+
+import com.ecommerce.order.domain.aggregates.Cart;
+import com.ecommerce.order.infrastructure.config.PersistenceConfig;
+import com.ecommerce.order.infrastructure.persistence.adapters.RedisCartRepository;
+import com.ecommerce.shared.domain.value_objects.Money;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("RedisCartRepository Tests")
+class RedisCartRepositoryTest {
+
+    private static final UUID CUSTOMER_ID = UUID.randomUUID();
+    private static final String KEY = "cart:" + CUSTOMER_ID;
+    private static final Duration TTL = Duration.ofHours(168);
+
+    private StringRedisTemplate redisTemplate;
+    private RedisOperations<String, String> operations;
+    private HashOperations<String, Object, Object> hashOperations;
+    private List<Object> pipelineResults;
+    private RedisCartRepository repository;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        operations = mock(RedisOperations.class);
+        hashOperations = mock(HashOperations.class);
+        pipelineResults = new ArrayList<>();
+        when(operations.opsForHash()).thenReturn(hashOperations);
+        when(redisTemplate.executePipelined(any(SessionCallback.class))).thenAnswer(inv -> {
+            SessionCallback<Object> callback = inv.getArgument(0);
+            callback.execute(operations);
+            return pipelineResults;
+        });
+        repository = new RedisCartRepository(redisTemplate, new ObjectMapper().findAndRegisterModules(),
+                new PersistenceConfig());
+    }
+
+    @Test
+    @DisplayName("should write the header and changed items in one pipeline and refresh the TTL")
+    void shouldWriteChangedItemsInOnePipeline() {
+        Cart cart = Cart.create(CUSTOMER_ID);
+        UUID productId = UUID.randomUUID();
+        cart.addItem(productId, "Test Product", "SKU-001", Money.of(new BigDecimal("999.00")), 2);
+
+        repository.save(cart);
+
+        Map<String, String> writes = capturePutAll();
+        assertThat(writes).containsOnlyKeys("meta", "item:" + productId);
+        verify(hashOperations, never()).delete(eq(KEY), any(Object[].class));
+        verify(operations).expire(KEY, TTL);
+        verify(redisTemplate, times(1)).executePipelined(any(SessionCallback.class));
+    }
+
+    @Test
+    @DisplayName("should mark the cart persisted so the next save writes only the header")
+    void shouldMarkCartPersisted() {
+        Cart cart = Cart.create(CUSTOMER_ID);
+        cart.addItem(UUID.randomUUID(), "Test Product", "SKU-001", Money.of(new BigDecimal("999.00")), 2);
+
+        repository.save(cart);
+
+        assertThat(cart.getChangedProductIds()).isEmpty();
+        assertThat(cart.getRemovedProductIds()).isEmpty();
+
+        repository.save(cart);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<String, String>> writes = ArgumentCaptor.forClass(Map.class);
+        verify(hashOperations, times(2)).putAll(eq(KEY), writes.capture());
+        assertThat(writes.getValue()).containsOnlyKeys("meta");
+    }
+
+    @Test
+    @DisplayName("should delete the fields of removed items in the same pipeline")
+    void shouldDeleteRemovedItems() {
+        Cart cart = Cart.create(CUSTOMER_ID);
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        cart.addItem(first, "First", "SKU-001", Money.of(new BigDecimal("100.00")), 1);
+        cart.addItem(second, "Second", "SKU-002", Money.of(new BigDecimal("50.00")), 1);
+        cart.markPersisted();
+
+        cart.clear();
+        repository.save(cart);
+
+        ArgumentCaptor<Object[]> deletes = ArgumentCaptor.forClass(Object[].class);
+        verify(hashOperations).delete(eq(KEY), deletes.capture());
+        assertThat(deletes.getValue()).containsExactlyInAnyOrder("item:" + first, "item:" + second);
+        assertThat(capturePutAll()).containsOnlyKeys("meta");
+        verify(operations).expire(KEY, TTL);
+    }
+
+    @Test
+    @DisplayName("should read back a saved cart and refresh its TTL")
+    void shouldReadBackSavedCart() {
+        Cart cart = Cart.create(CUSTOMER_ID);
+        UUID productId = UUID.randomUUID();
+        cart.addItem(productId, "Test Product", "SKU-001", Money.of(new BigDecimal("999.00")), 2);
+        repository.save(cart);
+        pipelineResults.add(new HashMap<Object, Object>(capturePutAll()));
+
+        assertThat(repository.findByCustomerId(CUSTOMER_ID)).hasValueSatisfying(found -> {
+            assertThat(found.getId()).isEqualTo(cart.getId());
+            assertThat(found.getItem(productId)).hasValueSatisfying(item -> {
+                assertThat(item.getQuantityValue()).isEqualTo(2);
+                assertThat(item.getUnitPrice()).isEqualTo(Money.of(new BigDecimal("999.00")));
+            });
+        });
+        verify(hashOperations).entries(KEY);
+        verify(operations, times(2)).expire(KEY, TTL);
+    }
+
+    @Test
+    @DisplayName("should find no cart when the key has no header")
+    void shouldFindNoCartWithoutHeader() {
+        pipelineResults.add(Map.of());
+
+        assertThat(repository.findByCustomerId(CUSTOMER_ID)).isEmpty();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, String> capturePutAll() {
+        ArgumentCaptor<Map<String, String>> writes = ArgumentCaptor.forClass(Map.class);
+        verify(hashOperations).putAll(eq(KEY), writes.capture());
+        return writes.getValue();
+    }
+}
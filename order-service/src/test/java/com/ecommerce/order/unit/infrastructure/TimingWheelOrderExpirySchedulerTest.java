@@ -0,0 +1,84 @@
+package com.ecommerce.order.unit.infrastructure;
+
+import com.ecommerce.order.domain.aggregates.Order;
+import com.ecommerce.order.domain.entities.OrderItem;
+import com.ecommerce.order.domain.ports.InventoryReservationPort;
+import com.ecommerce.order.domain.value_objects.OrderStatus;
+import com.ecommerce.order.infrastructure.config.OrderExpiryConfig;
+import com.ecommerce.order.infrastructure.persistence.adapters.InMemoryOrderRepository;
+import com.ecommerce.order.infrastructure.scheduling.TimingWheelOrderExpiryScheduler;
+import com.ecommerce.shared.domain.value_objects.Money;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("TimingWheelOrderExpiryScheduler Tests")
+class TimingWheelOrderExpirySchedulerTest {
+
+    private InMemoryOrderRepository repository;
+    private InventoryReservationPort reservations;
+    private TimingWheelOrderExpiryScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryOrderRepository();
+        reservations = mock(InventoryReservationPort.class);
+        scheduler = new TimingWheelOrderExpiryScheduler(repository, new OrderExpiryConfig(),
+                List.of(reservations), new SimpleMeterRegistry(), Clock.systemUTC());
+    }
+
+    @Test
+    @DisplayName("should expire an overdue order that no wheel holds and release its stock")
+    void shouldSweepOverdueOrderMissingFromWheel() {
+        Order orphaned = pendingOrder(minutesAgo(45));
+        repository.save(orphaned);
+
+        scheduler.sweep();
+
+        assertThat(repository.findById(orphaned.getId()))
+                .hasValueSatisfying(order -> assertThat(order.getStatus()).isEqualTo(OrderStatus.PAYMENT_EXPIRED));
+        verify(reservations).releaseReservation(eq(orphaned.getId()), any());
+    }
+
+    @Test
+    @DisplayName("should leave orders within their deadline and its grace minute to the wheel")
+    void shouldLeaveOrdersWithinGraceToWheel() {
+        Order recent = pendingOrder(minutesAgo(30).plusSeconds(30));
+        repository.save(recent);
+
+        scheduler.sweep();
+
+        assertThat(repository.findById(recent.getId()))
+                .hasValueSatisfying(order -> assertThat(order.getStatus()).isEqualTo(OrderStatus.PENDING_PAYMENT));
+        verify(reservations, never()).releaseReservation(any(), any());
+    }
+
+    private static Instant minutesAgo(long minutes) {
+        return Instant.now().minus(minutes, ChronoUnit.MINUTES);
+    }
+
+    private static Order pendingOrder(Instant createdAt) {
+        List<OrderItem> items = List.of(
+                OrderItem.create(UUID.randomUUID(), "Test Product", "SKU-001",
+                        Money.of(new BigDecimal("100.00")), 1)
+        );
+        Money total = Money.of(new BigDecimal("100.00"));
+        return Order.reconstitute(UUID.randomUUID(), UUID.randomUUID(), items, total, Money.zero(), total,
+                null, OrderStatus.PENDING_PAYMENT, null, null, null, createdAt, null, null, null, createdAt, 0);
+    }
+}
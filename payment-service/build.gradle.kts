@@ -2,6 +2,7 @@ plugins {
     id("org.springframework.boot")
     id("io.spring.dependency-management")
     id("spotbugs-conventions")
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 description = "Payment processing microservice"
@@ -29,6 +30,9 @@ dependencies {
     // OpenFeign for service-to-service calls
     implementation("org.springframework.cloud:spring-cloud-starter-openfeign:4.1.0")
 
+    // Short-lived cache for order lookups
+    implementation("com.github.ben-manes.caffeine:caffeine")
+
     // Actuator
     implementation("org.springframework.boot:spring-boot-starter-actuator")
 
@@ -39,3 +43,10 @@ dependencies {
     testImplementation("org.testcontainers:junit-jupiter:1.19.3")
     testImplementation("com.h2database:h2")
 }
+
+// Microbenchmarks in src/jmh/java; run with ./gradlew :payment-service:jmh
+jmh {
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(1)
+}
@@ -0,0 +1,164 @@
+package com.ecommerce.payment.benchmarks;
+
+import com.ecommerce.payment.application.dto.ReconciliationSummary;
+import com.ecommerce.payment.application.usecases.ReconcileSettlementsUseCase;
+import com.ecommerce.payment.domain.aggregates.Payment;
+import com.ecommerce.payment.domain.ports.PaymentRepository;
+import com.ecommerce.payment.domain.value_objects.PaymentHistoryCursor;
+import com.ecommerce.payment.domain.value_objects.PaymentMethod;
+import com.ecommerce.payment.domain.value_objects.PaymentStatus;
+import com.ecommerce.payment.infrastructure.reconciliation.SettlementFileReader;
+import com.ecommerce.shared.domain.value_objects.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * End-to-end settlement reconciliation over a generated fixture of
+ * {@code rows} settled transactions. Rows per second is rows divided by
+ * the reported time per run.
+ *
+ * Every 1000th payment is missing from the file and every 997th is
+ * settled for a different amount, so the mismatch path is exercised too.
+ * Payments are generated while streamed, as a database cursor would
+ * materialise them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class SettlementReconciliationBenchmark {
+
+    private static final Instant COMPLETED_AT = Instant.parse("2026-01-15T12:00:00Z");
+
+    @Param({"2000000"})
+    public int rows;
+
+    private Path settlementFile;
+    private ReconcileSettlementsUseCase useCase;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        settlementFile = Files.createTempFile("settlement-", ".csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(settlementFile, StandardCharsets.US_ASCII)) {
+            writer.write("transaction_id,amount,currency");
+            writer.newLine();
+            for (long i = 0; i < rows; i++) {
+                if (i % 1000 == 0) {
+                    continue;
+                }
+                writer.write(transactionId(i));
+                writer.write(',');
+                writer.write(amount(i).add(i % 997 == 0 ? BigDecimal.ONE : BigDecimal.ZERO).toPlainString());
+                writer.write(",TWD");
+                writer.newLine();
+            }
+        }
+        useCase = new ReconcileSettlementsUseCase(new GeneratedPayments(rows));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(settlementFile);
+    }
+
+    @Benchmark
+    public ReconciliationSummary reconcile(Blackhole mismatches) throws IOException {
+        try (SettlementFileReader settlements = SettlementFileReader.open(settlementFile)) {
+            return useCase.execute(COMPLETED_AT, COMPLETED_AT.plusSeconds(1), settlements, mismatches::consume);
+        }
+    }
+
+    private static String transactionId(long i) {
+        return String.format("TXN-%010d", i);
+    }
+
+    private static BigDecimal amount(long i) {
+        return BigDecimal.valueOf(100 + i % 50_000, 2);
+    }
+
+    /**
+     * Streams {@code rows} completed payments in transaction ID order.
+     */
+    private static final class GeneratedPayments implements PaymentRepository {
+
+        private final int rows;
+
+        GeneratedPayments(int rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public Stream<Payment> streamCompletedByTransactionId(Instant completedFrom, Instant completedTo) {
+            return LongStream.range(0, rows).mapToObj(i -> Payment.reconstitute(
+                    UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), Money.of(amount(i)),
+                    PaymentMethod.CREDIT_CARD, PaymentStatus.COMPLETED, transactionId(i),
+                    null, null, null, COMPLETED_AT, COMPLETED_AT, null, COMPLETED_AT, 0));
+        }
+
+        @Override
+        public Payment save(Payment payment) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean saveIfStatus(Payment payment, PaymentStatus expectedStatus) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<Payment> findById(UUID paymentId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<Payment> findByOrderId(UUID orderId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<Payment> findByCustomerId(UUID customerId, PaymentHistoryCursor after, int limit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<Payment> findByStatus(PaymentStatus status) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<Payment> findByStatus(PaymentStatus status, Instant updatedBefore, int limit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<Payment> findPendingPaymentsOlderThan(long timeoutMinutes) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
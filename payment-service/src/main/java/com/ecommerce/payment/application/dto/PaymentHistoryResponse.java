@@ -0,0 +1,15 @@
+package com.ecommerce.payment.application.dto;
+
+import java.util.List;
+
+/**
+ * Response DTO for one page of a customer's payment history.
+ *
+ * @param payments   payments on this page, newest first
+ * @param nextCursor cursor for the next page, or null on the last page
+ */
+public record PaymentHistoryResponse(
+        List<PaymentResponse> payments,
+        String nextCursor
+) {
+}
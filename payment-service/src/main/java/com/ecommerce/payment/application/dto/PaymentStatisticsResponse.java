@@ -0,0 +1,42 @@
+package com.ecommerce.payment.application.dto;
+
+import com.ecommerce.payment.domain.value_objects.PaymentMethod;
+import com.ecommerce.payment.domain.value_objects.PaymentStatistic;
+import com.ecommerce.payment.domain.value_objects.PaymentStatus;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Response DTO for payment totals over a range of days.
+ *
+ * @param from    first day, inclusive
+ * @param to      last day, inclusive
+ * @param buckets one entry per day, method, status and currency that had
+ *                transitions, ordered by day
+ */
+public record PaymentStatisticsResponse(
+        LocalDate from,
+        LocalDate to,
+        List<Bucket> buckets
+) {
+
+    /**
+     * Totals of the transitions into a status on one day.
+     *
+     * @param amountMinor sum in the currency's minor units
+     */
+    public record Bucket(
+            LocalDate day,
+            PaymentMethod paymentMethod,
+            PaymentStatus status,
+            String currency,
+            long count,
+            long amountMinor
+    ) {
+        public static Bucket from(PaymentStatistic statistic) {
+            return new Bucket(statistic.day(), statistic.paymentMethod(), statistic.status(),
+                    statistic.currency(), statistic.count(), statistic.amountMinor());
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.ecommerce.payment.application.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Command to queue refunds for many payments, e.g. after a mass cancellation.
+ */
+public record QueueRefundsCommand(
+        @NotEmpty(message = "At least one refund is required")
+        @Size(max = 10000, message = "At most 10000 refunds per request")
+        List<@Valid @NotNull RefundItem> refunds
+) {
+    /**
+     * One refund; a null amount refunds whatever has not been refunded yet.
+     */
+    public record RefundItem(
+            @NotNull(message = "Payment ID is required")
+            UUID paymentId,
+            @DecimalMin(value = "0.01", message = "Refund amount must be positive")
+            BigDecimal amount,
+            @NotBlank(message = "Refund reason is required")
+            String reason
+    ) {}
+}
@@ -0,0 +1,17 @@
+package com.ecommerce.payment.application.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Response DTO for queued refunds.
+ */
+public record QueueRefundsResponse(
+        List<UUID> queuedRefundIds,
+        List<Rejection> rejected
+) {
+    /**
+     * A refund that was not queued, with the reason code.
+     */
+    public record Rejection(UUID paymentId, String reason) {}
+}
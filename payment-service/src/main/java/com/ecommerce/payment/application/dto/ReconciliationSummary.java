@@ -0,0 +1,19 @@
+package com.ecommerce.payment.application.dto;
+
+import com.ecommerce.payment.domain.value_objects.ReconciliationMismatch;
+
+import java.util.Map;
+
+/**
+ * Counts from one settlement reconciliation run.
+ */
+public record ReconciliationSummary(
+        long paymentsRead,
+        long settlementsRead,
+        long matched,
+        Map<ReconciliationMismatch.Type, Long> mismatches
+) {
+    public long totalMismatches() {
+        return mismatches.values().stream().mapToLong(Long::longValue).sum();
+    }
+}
@@ -0,0 +1,11 @@
+package com.ecommerce.payment.application.exceptions;
+
+/**
+ * Exception thrown when an idempotency key is reused with a different request.
+ */
+public class IdempotencyKeyReusedException extends RuntimeException {
+
+    public IdempotencyKeyReusedException(String idempotencyKey) {
+        super("Idempotency key was already used with a different request: " + idempotencyKey);
+    }
+}
@@ -0,0 +1,11 @@
+package com.ecommerce.payment.application.exceptions;
+
+/**
+ * Exception thrown when a request with the same idempotency key is still being processed.
+ */
+public class IdempotentRequestInProgressException extends RuntimeException {
+
+    public IdempotentRequestInProgressException(String idempotencyKey) {
+        super("A request with this idempotency key is still being processed: " + idempotencyKey);
+    }
+}
@@ -0,0 +1,20 @@
+package com.ecommerce.payment.application.exceptions;
+
+import java.util.UUID;
+
+/**
+ * Exception thrown when a payment cannot be queued for background processing.
+ */
+public class PaymentProcessingUnavailableException extends RuntimeException {
+
+    private final UUID paymentId;
+
+    public PaymentProcessingUnavailableException(UUID paymentId) {
+        super("Payment processing is at capacity, please retry later. Payment " + paymentId + " was not charged");
+        this.paymentId = paymentId;
+    }
+
+    public UUID getPaymentId() {
+        return paymentId;
+    }
+}
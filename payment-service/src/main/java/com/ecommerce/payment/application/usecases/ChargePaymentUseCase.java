@@ -0,0 +1,177 @@
+package com.ecommerce.payment.application.usecases;
+
+import com.ecommerce.payment.application.exceptions.PaymentNotFoundException;
+import com.ecommerce.payment.domain.aggregates.Payment;
+import com.ecommerce.payment.domain.events.PaymentCompleted;
+import com.ecommerce.payment.domain.events.PaymentFailed;
+import com.ecommerce.payment.domain.ports.OrderServicePort;
+import com.ecommerce.payment.domain.ports.PaymentGatewayPort;
+import com.ecommerce.payment.domain.ports.PaymentRepository;
+import com.ecommerce.payment.domain.value_objects.PaymentStatus;
+import com.ecommerce.shared.domain.events.DomainEventPublisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+/**
+ * Use case for charging a created payment through the gateway.
+ *
+ * The payment is saved as PROCESSING before the gateway is called and as
+ * COMPLETED or FAILED afterwards, then PaymentCompleted or PaymentFailed
+ * is published. The outcome is queued for order service in the same
+ * transaction as that last save, so one is never kept without the other.
+ * Each save is its own short write and none is open while the gateway
+ * responds; a payment left in PROCESSING by a crash in between is settled
+ * by recover.
+ *
+ * An accepted payment moves out of PENDING through a conditional save, so
+ * a payment that expire has taken is never charged, and one that has
+ * started processing is never expired. Settling is conditional on
+ * PROCESSING in the same way, so a gateway call and recover never both
+ * settle one payment.
+ */
+@Service
+public class ChargePaymentUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(ChargePaymentUseCase.class);
+
+    private final PaymentRepository paymentRepository;
+    private final PaymentGatewayPort paymentGateway;
+    private final OrderServicePort orderService;
+    private final DomainEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    public ChargePaymentUseCase(PaymentRepository paymentRepository,
+                                PaymentGatewayPort paymentGateway,
+                                OrderServicePort orderService,
+                                DomainEventPublisher eventPublisher,
+                                PlatformTransactionManager transactionManager) {
+        this.paymentRepository = paymentRepository;
+        this.paymentGateway = paymentGateway;
+        this.orderService = orderService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Charges an accepted PENDING payment by ID. A payment that is no
+     * longer PENDING, e.g. because it expired while queued, is not charged.
+     */
+    public PaymentGatewayPort.PaymentResult execute(PaymentGatewayPort.PaymentRequest request) {
+        Payment payment = paymentRepository.findById(request.paymentId())
+                .orElseThrow(() -> new PaymentNotFoundException(request.paymentId()));
+        if (payment.getStatus().canProcess()) {
+            payment.startProcessing();
+            if (paymentRepository.saveIfStatus(payment, PaymentStatus.PENDING)) {
+                return charge(payment, request);
+            }
+        }
+        log.warn("Payment {} is no longer pending, not charging it", payment.getId());
+        return PaymentGatewayPort.PaymentResult.failure("NOT_PENDING", "Payment is no longer pending");
+    }
+
+    /**
+     * Charges a payment already saved as PROCESSING.
+     *
+     * @return the gateway result; the payment is COMPLETED or FAILED accordingly
+     */
+    public PaymentGatewayPort.PaymentResult charge(Payment payment, PaymentGatewayPort.PaymentRequest request) {
+        PaymentGatewayPort.PaymentResult result = paymentGateway.processPayment(request);
+        settle(payment, result);
+        return result;
+    }
+
+    /**
+     * Settles a payment left in PROCESSING from the gateway's record of it.
+     * A payment the gateway never received was not charged and is failed.
+     *
+     * @return the result the payment was settled with
+     */
+    public PaymentGatewayPort.PaymentResult recover(Payment payment) {
+        PaymentGatewayPort.PaymentResult result = paymentGateway.findPayment(payment.getId(), payment.getPaymentMethod())
+                .orElseGet(() -> PaymentGatewayPort.PaymentResult.failure("NOT_CHARGED",
+                        "Payment was interrupted before reaching the gateway"));
+        log.info("Recovering payment {} left in PROCESSING", payment.getId());
+        settle(payment, result);
+        return result;
+    }
+
+    /**
+     * Expires an accepted payment that was never charged, e.g. because the
+     * service stopped while it was queued. The card details were never
+     * stored, so it cannot be charged later; the order is told the payment
+     * failed so the customer can pay again.
+     *
+     * @return true if the payment expired; false if it had left PENDING
+     */
+    public boolean expire(Payment payment) {
+        UUID orderId = payment.getOrderId();
+        String reason = "Payment was not processed in time";
+        payment.expire();
+        Boolean expired = transactionTemplate.execute(status -> {
+            if (!paymentRepository.saveIfStatus(payment, PaymentStatus.PENDING)) {
+                return false;
+            }
+            orderService.notifyPaymentFailed(orderId, reason);
+            return true;
+        });
+        if (!Boolean.TRUE.equals(expired)) {
+            return false;
+        }
+        log.info("Payment expired before processing: {}", payment.getId());
+        eventPublisher.publish(new PaymentFailed(payment.getId(), orderId, payment.getCustomerId(),
+                "EXPIRED", reason));
+        return true;
+    }
+
+    /**
+     * Saves the gateway's outcome, conditional on the payment still being
+     * PROCESSING. A slow gateway call can return after recover has already
+     * settled the payment; the loser changes nothing and tells no one.
+     */
+    private void settle(Payment payment, PaymentGatewayPort.PaymentResult result) {
+        UUID orderId = payment.getOrderId();
+
+        if (result.success()) {
+            payment.complete(result.transactionId());
+            if (!saveSettled(payment, () -> orderService.notifyPaymentComplete(orderId, payment.getId()))) {
+                return;
+            }
+            log.info("Payment completed: {} with transaction: {}",
+                    payment.getId(), result.transactionId());
+
+            eventPublisher.publish(new PaymentCompleted(payment.getId(), orderId, payment.getCustomerId(),
+                    result.transactionId(), payment.getAmount().getAmount(),
+                    payment.getAmount().getCurrency().getCurrencyCode()));
+        } else {
+            payment.fail(result.errorMessage());
+            if (!saveSettled(payment, () -> orderService.notifyPaymentFailed(orderId, result.errorMessage()))) {
+                return;
+            }
+            log.warn("Payment failed: {} - {}", result.errorCode(), result.errorMessage());
+
+            eventPublisher.publish(new PaymentFailed(payment.getId(), orderId, payment.getCustomerId(),
+                    result.errorCode(), result.errorMessage()));
+        }
+    }
+
+    private boolean saveSettled(Payment payment, Runnable notifyOrder) {
+        Boolean saved = transactionTemplate.execute(status -> {
+            if (!paymentRepository.saveIfStatus(payment, PaymentStatus.PROCESSING)) {
+                return false;
+            }
+            notifyOrder.run();
+            return true;
+        });
+        if (!Boolean.TRUE.equals(saved)) {
+            log.warn("Payment {} was settled elsewhere; dropping the {} outcome", payment.getId(),
+                    payment.getStatus());
+            return false;
+        }
+        return true;
+    }
+}
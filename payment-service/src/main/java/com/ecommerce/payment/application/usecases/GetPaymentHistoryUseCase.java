@@ -0,0 +1,77 @@
+package com.ecommerce.payment.application.usecases;
+
+import com.ecommerce.payment.application.dto.PaymentHistoryResponse;
+import com.ecommerce.payment.application.dto.PaymentResponse;
+import com.ecommerce.payment.domain.aggregates.Payment;
+import com.ecommerce.payment.domain.ports.PaymentRepository;
+import com.ecommerce.payment.domain.value_objects.PaymentHistoryCursor;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Use case for reading a customer's payment history a page at a time.
+ *
+ * Pages are addressed by an opaque cursor naming the last payment of the
+ * previous page rather than by offset, so each page is read from the
+ * customer's history index at the cost of its size, and payments made
+ * while paging neither repeat nor skip entries.
+ */
+@Service
+public class GetPaymentHistoryUseCase {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final PaymentRepository paymentRepository;
+
+    public GetPaymentHistoryUseCase(PaymentRepository paymentRepository) {
+        this.paymentRepository = paymentRepository;
+    }
+
+    /**
+     * @param cursor the previous page's nextCursor, or null for the first page
+     * @param limit  page size, 1 to {@link #MAX_PAGE_SIZE}
+     */
+    public PaymentHistoryResponse execute(UUID customerId, String cursor, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be 1 to " + MAX_PAGE_SIZE);
+        }
+        PaymentHistoryCursor after = cursor != null ? decode(cursor) : null;
+
+        // One extra row tells whether there is a next page
+        List<Payment> payments = paymentRepository.findByCustomerId(customerId, after, limit + 1);
+        boolean hasMore = payments.size() > limit;
+        List<Payment> page = hasMore ? payments.subList(0, limit) : payments;
+
+        return new PaymentHistoryResponse(
+                page.stream().map(PaymentResponse::from).toList(),
+                hasMore ? encode(PaymentHistoryCursor.of(page.get(limit - 1))) : null
+        );
+    }
+
+    private static String encode(PaymentHistoryCursor cursor) {
+        String raw = cursor.createdAt().getEpochSecond() + ":" + cursor.createdAt().getNano()
+                + ":" + cursor.paymentId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static PaymentHistoryCursor decode(String cursor) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII)
+                    .split(":", 3);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new PaymentHistoryCursor(
+                    Instant.ofEpochSecond(Long.parseLong(parts[0]), Long.parseLong(parts[1])),
+                    UUID.fromString(parts[2]));
+        } catch (IllegalArgumentException | DateTimeException ex) {
+            throw new IllegalArgumentException("Invalid cursor", ex);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.ecommerce.payment.application.usecases;
+
+import com.ecommerce.payment.application.dto.PaymentStatisticsResponse;
+import com.ecommerce.payment.domain.ports.PaymentStatisticsStore;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Use case for reading payment totals by day.
+ *
+ * Totals come from the pre-aggregated statistics read model, so a read
+ * costs the number of buckets in the range rather than a scan of the
+ * payments. Completions, failures and expiries count the payment amount;
+ * refunds count the amount refunded.
+ */
+@Service
+public class GetPaymentStatisticsUseCase {
+
+    public static final int MAX_RANGE_DAYS = 366;
+
+    private final PaymentStatisticsStore statisticsStore;
+
+    public GetPaymentStatisticsUseCase(PaymentStatisticsStore statisticsStore) {
+        this.statisticsStore = statisticsStore;
+    }
+
+    /**
+     * @param from first day, inclusive
+     * @param to   last day, inclusive; at most {@link #MAX_RANGE_DAYS} days after from
+     */
+    public PaymentStatisticsResponse execute(LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("Range end must not be before its start");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("Range must be at most " + MAX_RANGE_DAYS + " days");
+        }
+        return new PaymentStatisticsResponse(from, to, statisticsStore.findByDay(from, to).stream()
+                .map(PaymentStatisticsResponse.Bucket::from)
+                .toList());
+    }
+}
@@ -2,109 +2,283 @@ package com.ecommerce.payment.application.usecases;
 
 import com.ecommerce.payment.application.dto.PaymentResponse;
 import com.ecommerce.payment.application.dto.ProcessPaymentCommand;
+import com.ecommerce.payment.application.exceptions.IdempotencyKeyReusedException;
+import com.ecommerce.payment.application.exceptions.IdempotentRequestInProgressException;
 import com.ecommerce.payment.application.exceptions.OrderNotFoundException;
 import com.ecommerce.payment.application.exceptions.PaymentFailedException;
+import com.ecommerce.payment.application.exceptions.PaymentNotFoundException;
+import com.ecommerce.payment.application.exceptions.PaymentProcessingUnavailableException;
 import com.ecommerce.payment.domain.aggregates.Payment;
+import com.ecommerce.payment.domain.ports.FraudScreen;
+import com.ecommerce.payment.domain.ports.IdempotencyKeyStore;
 import com.ecommerce.payment.domain.ports.OrderServicePort;
 import com.ecommerce.payment.domain.ports.PaymentGatewayPort;
+import com.ecommerce.payment.domain.ports.PaymentProcessingScheduler;
 import com.ecommerce.payment.domain.ports.PaymentRepository;
+import com.ecommerce.payment.domain.value_objects.FraudDecision;
+import com.ecommerce.payment.domain.value_objects.IdempotencyRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 /**
  * Use case for processing a payment.
+ *
+ * Payments are either charged while the caller waits or accepted and
+ * charged in the background. A request may carry a client-supplied
+ * idempotency key. The first request with a key claims it; retries with
+ * the same key and request are answered from the recorded outcome without
+ * calling the gateway, and reuse of a key for a different request is
+ * rejected.
+ *
+ * Before a new payment is created the attempt passes the fraud screen;
+ * a rejected attempt fails without a payment or a gateway call.
  */
 @Service
 public class ProcessPaymentUseCase {
 
     private static final Logger log = LoggerFactory.getLogger(ProcessPaymentUseCase.class);
 
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 255;
+
     private final PaymentRepository paymentRepository;
-    private final PaymentGatewayPort paymentGateway;
     private final OrderServicePort orderService;
+    private final ChargePaymentUseCase chargePayment;
+    private final PaymentProcessingScheduler processingScheduler;
+    private final FraudScreen fraudScreen;
+    private final IdempotencyKeyStore idempotencyKeys;
+    private final Duration idempotencyTtl;
 
     public ProcessPaymentUseCase(PaymentRepository paymentRepository,
-                                  PaymentGatewayPort paymentGateway,
-                                  OrderServicePort orderService) {
+                                  OrderServicePort orderService,
+                                  ChargePaymentUseCase chargePayment,
+                                  PaymentProcessingScheduler processingScheduler,
+                                  FraudScreen fraudScreen,
+                                  IdempotencyKeyStore idempotencyKeys,
+                                  @Value("${payment.idempotency.ttl-hours:24}") long idempotencyTtlHours) {
         this.paymentRepository = paymentRepository;
-        this.paymentGateway = paymentGateway;
         this.orderService = orderService;
+        this.chargePayment = chargePayment;
+        this.processingScheduler = processingScheduler;
+        this.fraudScreen = fraudScreen;
+        this.idempotencyKeys = idempotencyKeys;
+        this.idempotencyTtl = Duration.ofHours(idempotencyTtlHours);
+    }
+
+    /**
+     * Processes a payment synchronously, deduplicated by idempotency key
+     * when one is given. No transaction spans the call: the payment is
+     * written as PROCESSING before the gateway is called and settled in a
+     * second write afterwards.
+     *
+     * @param idempotencyKey the client's Idempotency-Key, or null
+     * @param clientIp       the caller's IP address, or null if unknown
+     */
+    public PaymentResponse execute(UUID customerId, ProcessPaymentCommand command, String idempotencyKey,
+                                   String clientIp) {
+        return deduplicated(customerId, command, idempotencyKey, () -> processNow(customerId, command, clientIp));
+    }
+
+    /**
+     * Accepts a payment for background processing and returns it while
+     * still PENDING; the outcome is read by polling the payment or from
+     * the PaymentCompleted / PaymentFailed event. The payment is saved
+     * before it is queued.
+     *
+     * @param idempotencyKey the client's Idempotency-Key, or null
+     * @param clientIp       the caller's IP address, or null if unknown
+     */
+    public PaymentResponse accept(UUID customerId, ProcessPaymentCommand command, String idempotencyKey,
+                                  String clientIp) {
+        return deduplicated(customerId, command, idempotencyKey,
+                () -> acceptForProcessing(customerId, command, clientIp));
+    }
+
+    private PaymentResponse deduplicated(UUID customerId, ProcessPaymentCommand command, String idempotencyKey,
+                                         Supplier<PaymentResponse> operation) {
+        if (idempotencyKey == null) {
+            return operation.get();
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency key must be 1 to "
+                    + MAX_IDEMPOTENCY_KEY_LENGTH + " characters");
+        }
+
+        // Keys are scoped to the customer so one customer cannot replay another's response
+        String key = customerId + ":" + idempotencyKey;
+        String requestHash = requestHash(command);
+        Instant expiresAt = Instant.now().plus(idempotencyTtl);
+
+        var existing = idempotencyKeys.claim(key, IdempotencyRecord.inProgress(requestHash, expiresAt));
+        if (existing.isPresent()) {
+            return replay(idempotencyKey, requestHash, existing.get());
+        }
+
+        try {
+            PaymentResponse response = operation.get();
+            idempotencyKeys.complete(key, IdempotencyRecord.succeeded(requestHash, response.id(), expiresAt));
+            return response;
+        } catch (PaymentFailedException ex) {
+            idempotencyKeys.complete(key, IdempotencyRecord.failed(requestHash, ex.getErrorCode(),
+                    ex.getMessage(), expiresAt));
+            throw ex;
+        } catch (RuntimeException ex) {
+            idempotencyKeys.release(key);
+            throw ex;
+        }
+    }
+
+    private PaymentResponse replay(String idempotencyKey, String requestHash, IdempotencyRecord record) {
+        if (!record.requestHash().equals(requestHash)) {
+            throw new IdempotencyKeyReusedException(idempotencyKey);
+        }
+        if (record.isInProgress()) {
+            throw new IdempotentRequestInProgressException(idempotencyKey);
+        }
+        log.info("Replaying recorded outcome for idempotency key: {}", idempotencyKey);
+        if (record.paymentId() == null) {
+            throw new PaymentFailedException(record.errorCode(), record.errorMessage());
+        }
+        return paymentRepository.findById(record.paymentId())
+                .map(PaymentResponse::from)
+                .orElseThrow(() -> new PaymentNotFoundException(record.paymentId()));
     }
 
-    @Transactional
-    public PaymentResponse execute(UUID customerId, ProcessPaymentCommand command) {
+    private PaymentResponse processNow(UUID customerId, ProcessPaymentCommand command, String clientIp) {
         log.info("Processing payment for order: {}", command.orderId());
+        OrderServicePort.OrderInfo orderInfo = verifiedOrder(customerId, command.orderId());
+
+        var existingPayment = activePayment(command.orderId());
+        if (existingPayment.isPresent()) {
+            return PaymentResponse.from(existingPayment.get());
+        }
+        screen(customerId, command, clientIp);
+
+        Payment payment = newPayment(customerId, command, orderInfo);
+        payment.startProcessing();
+        paymentRepository.save(payment);
+        log.info("Payment created: {}", payment.getId());
+
+        PaymentGatewayPort.PaymentResult result = chargePayment.charge(payment, gatewayRequest(payment, command));
+        if (!result.success()) {
+            throw new PaymentFailedException(result.errorCode(), result.errorMessage());
+        }
+        return PaymentResponse.from(payment);
+    }
 
-        // Get order info
-        OrderServicePort.OrderInfo orderInfo = orderService.getOrderInfo(command.orderId())
-                .orElseThrow(() -> new OrderNotFoundException(command.orderId()));
+    private PaymentResponse acceptForProcessing(UUID customerId, ProcessPaymentCommand command, String clientIp) {
+        log.info("Accepting payment for order: {}", command.orderId());
+        OrderServicePort.OrderInfo orderInfo = verifiedOrder(customerId, command.orderId());
+
+        var existingPayment = activePayment(command.orderId());
+        if (existingPayment.isPresent()) {
+            return PaymentResponse.from(existingPayment.get());
+        }
+        screen(customerId, command, clientIp);
+
+        Payment payment = paymentRepository.save(newPayment(customerId, command, orderInfo));
+        log.info("Payment created: {}", payment.getId());
+
+        if (!processingScheduler.schedule(gatewayRequest(payment, command))) {
+            payment.fail("Payment processing backlog is full");
+            paymentRepository.save(payment);
+            throw new PaymentProcessingUnavailableException(payment.getId());
+        }
+        return PaymentResponse.from(payment);
+    }
+
+    private OrderServicePort.OrderInfo verifiedOrder(UUID customerId, UUID orderId) {
+        OrderServicePort.OrderInfo orderInfo = orderService.getOrderInfo(orderId)
+                .orElseThrow(() -> new OrderNotFoundException(orderId));
 
         // Verify customer owns this order
         if (!orderInfo.customerId().equals(customerId)) {
-            throw new OrderNotFoundException(command.orderId());
+            throw new OrderNotFoundException(orderId);
         }
+        return orderInfo;
+    }
 
-        // Check for existing payment
-        var existingPayment = paymentRepository.findByOrderId(command.orderId());
-        if (existingPayment.isPresent()) {
-            Payment payment = existingPayment.get();
-            if (payment.getStatus().canComplete() || payment.getStatus() == com.ecommerce.payment.domain.value_objects.PaymentStatus.COMPLETED) {
-                log.info("Payment already exists for order: {}", command.orderId());
-                return PaymentResponse.from(payment);
-            }
+    /**
+     * Finds the order's payment through the order index, unless it may be retried.
+     */
+    private Optional<Payment> activePayment(UUID orderId) {
+        var existingPayment = paymentRepository.findByOrderId(orderId)
+                .filter(payment -> !payment.getStatus().allowsRetry());
+        existingPayment.ifPresent(payment -> log.info("Payment already exists for order: {}", orderId));
+        return existingPayment;
+    }
+
+    /**
+     * Runs the fraud screen, failing the attempt if it is rejected. The
+     * reason is only logged so callers cannot probe the rules.
+     */
+    private void screen(UUID customerId, ProcessPaymentCommand command, String clientIp) {
+        ProcessPaymentCommand.PaymentDetails details = command.paymentDetails();
+        FraudDecision decision = fraudScreen.screen(new FraudScreen.Attempt(customerId, command.paymentMethod(),
+                details != null ? details.cardNumber() : null, clientIp));
+        if (decision.isRejected()) {
+            log.warn("Payment for order {} rejected by fraud rule {}", command.orderId(), decision.rule());
+            throw new PaymentFailedException("RISK_DECLINED", "Payment declined");
         }
+        if (decision.isFlagged()) {
+            log.warn("Payment for order {} flagged by fraud rule {}", command.orderId(), decision.rule());
+        }
+    }
 
-        // Create payment
-        Payment payment = Payment.create(
+    private static Payment newPayment(UUID customerId, ProcessPaymentCommand command,
+                                      OrderServicePort.OrderInfo orderInfo) {
+        return Payment.create(
                 command.orderId(),
                 customerId,
                 orderInfo.totalAmount(),
                 command.paymentMethod()
         );
+    }
 
-        payment = paymentRepository.save(payment);
-        log.info("Payment created: {}", payment.getId());
-
-        // Start processing
-        payment.startProcessing();
-
-        // Process through gateway
+    private static PaymentGatewayPort.PaymentRequest gatewayRequest(Payment payment, ProcessPaymentCommand command) {
         ProcessPaymentCommand.PaymentDetails details = command.paymentDetails();
-        PaymentGatewayPort.PaymentResult result = paymentGateway.processPayment(
-                new PaymentGatewayPort.PaymentRequest(
-                        payment.getId(),
-                        payment.getAmount(),
-                        payment.getPaymentMethod(),
-                        details != null ? details.cardNumber() : null,
-                        details != null ? details.cardHolderName() : null,
-                        details != null ? details.expiryMonth() : null,
-                        details != null ? details.expiryYear() : null,
-                        details != null ? details.cvv() : null
-                )
+        return new PaymentGatewayPort.PaymentRequest(
+                payment.getId(),
+                payment.getAmount(),
+                payment.getPaymentMethod(),
+                details != null ? details.cardNumber() : null,
+                details != null ? details.cardHolderName() : null,
+                details != null ? details.expiryMonth() : null,
+                details != null ? details.expiryYear() : null,
+                details != null ? details.cvv() : null
         );
+    }
 
-        if (result.success()) {
-            payment.complete(result.transactionId());
-            log.info("Payment completed: {} with transaction: {}",
-                    payment.getId(), result.transactionId());
-
-            // Notify order service
-            orderService.notifyPaymentComplete(command.orderId(), payment.getId());
-        } else {
-            payment.fail(result.errorMessage());
-            log.warn("Payment failed: {} - {}", result.errorCode(), result.errorMessage());
-
-            // Notify order service
-            orderService.notifyPaymentFailed(command.orderId(), result.errorMessage());
-
-            throw new PaymentFailedException(result.errorCode(), result.errorMessage());
+    /**
+     * Hashes the fields that define the request, so a key reused with a
+     * different order, method or card is detected.
+     */
+    private static String requestHash(ProcessPaymentCommand command) {
+        ProcessPaymentCommand.PaymentDetails details = command.paymentDetails();
+        String canonical = String.join("\u001f",
+                String.valueOf(command.orderId()),
+                String.valueOf(command.paymentMethod()),
+                details != null ? String.valueOf(details.cardNumber()) : "",
+                details != null ? String.valueOf(details.cardHolderName()) : "",
+                details != null ? String.valueOf(details.expiryMonth()) : "",
+                details != null ? String.valueOf(details.expiryYear()) : "",
+                details != null ? String.valueOf(details.cvv()) : "");
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(canonical.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
         }
-
-        payment = paymentRepository.save(payment);
-        return PaymentResponse.from(payment);
     }
 }
@@ -0,0 +1,82 @@
+package com.ecommerce.payment.application.usecases;
+
+import com.ecommerce.payment.application.exceptions.PaymentNotFoundException;
+import com.ecommerce.payment.domain.aggregates.Payment;
+import com.ecommerce.payment.domain.events.RefundInitiated;
+import com.ecommerce.payment.domain.ports.PaymentGatewayPort;
+import com.ecommerce.payment.domain.ports.PaymentRepository;
+import com.ecommerce.payment.domain.ports.RefundQueue;
+import com.ecommerce.payment.domain.value_objects.RefundJob;
+import com.ecommerce.shared.domain.events.DomainEventPublisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Use case for submitting a queued refund and recording the outcome.
+ *
+ * Submission and recording are separate steps so that no transaction is
+ * open during the gateway call. Recording applies the refund to the
+ * payment and settles the queued refund together; a refund resubmitted
+ * after a crash is deduplicated by the gateway on its refund ID.
+ */
+@Service
+public class ProcessRefundUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(ProcessRefundUseCase.class);
+
+    private final PaymentRepository paymentRepository;
+    private final PaymentGatewayPort paymentGateway;
+    private final RefundQueue refundQueue;
+    private final DomainEventPublisher eventPublisher;
+
+    public ProcessRefundUseCase(PaymentRepository paymentRepository,
+                                PaymentGatewayPort paymentGateway,
+                                RefundQueue refundQueue,
+                                DomainEventPublisher eventPublisher) {
+        this.paymentRepository = paymentRepository;
+        this.paymentGateway = paymentGateway;
+        this.refundQueue = refundQueue;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Submits a claimed refund to the gateway.
+     *
+     * @throws PaymentGatewayPort.GatewayUnavailableException if the gateway did not answer
+     */
+    public PaymentGatewayPort.RefundResult submit(RefundJob job) {
+        return paymentGateway.processRefund(new PaymentGatewayPort.RefundRequest(
+                job.id(),
+                job.paymentId(),
+                job.paymentMethod(),
+                job.transactionId(),
+                job.amount(),
+                job.reason()
+        ));
+    }
+
+    /**
+     * Records the gateway's answer to a submitted refund.
+     */
+    @Transactional
+    public void record(RefundJob job, PaymentGatewayPort.RefundResult result) {
+        if (!result.success()) {
+            log.warn("Refund {} for payment {} declined: {} - {}",
+                    job.id(), job.paymentId(), result.errorCode(), result.errorMessage());
+            refundQueue.markFailed(job.id(), result.errorMessage());
+            return;
+        }
+
+        Payment payment = paymentRepository.findById(job.paymentId())
+                .orElseThrow(() -> new PaymentNotFoundException(job.paymentId()));
+        payment.refund(job.amount(), job.reason());
+        paymentRepository.save(payment);
+        refundQueue.markSucceeded(job.id(), result.refundTransactionId());
+        log.info("Refund {} for payment {} completed: {}", job.id(), job.paymentId(), result.refundTransactionId());
+
+        eventPublisher.publish(new RefundInitiated(payment.getId(), payment.getOrderId(), payment.getCustomerId(),
+                job.amount().getAmount(), job.amount().getCurrency().getCurrencyCode(), job.reason()));
+    }
+}
@@ -0,0 +1,82 @@
+package com.ecommerce.payment.application.usecases;
+
+import com.ecommerce.payment.application.dto.QueueRefundsCommand;
+import com.ecommerce.payment.application.dto.QueueRefundsResponse;
+import com.ecommerce.payment.domain.aggregates.Payment;
+import com.ecommerce.payment.domain.ports.PaymentRepository;
+import com.ecommerce.payment.domain.ports.RefundQueue;
+import com.ecommerce.payment.domain.value_objects.RefundJob;
+import com.ecommerce.shared.domain.value_objects.Money;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Use case for queueing refunds for batch submission.
+ *
+ * Each refund is checked against its payment and queued; refunds that
+ * cannot be queued are reported back rather than failing the request.
+ * The gateway is not called here.
+ */
+@Service
+public class QueueRefundsUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(QueueRefundsUseCase.class);
+
+    private final PaymentRepository paymentRepository;
+    private final RefundQueue refundQueue;
+
+    public QueueRefundsUseCase(PaymentRepository paymentRepository, RefundQueue refundQueue) {
+        this.paymentRepository = paymentRepository;
+        this.refundQueue = refundQueue;
+    }
+
+    public QueueRefundsResponse execute(QueueRefundsCommand command) {
+        List<UUID> queued = new ArrayList<>();
+        List<QueueRefundsResponse.Rejection> rejected = new ArrayList<>();
+
+        for (QueueRefundsCommand.RefundItem item : command.refunds()) {
+            String rejection = queue(item, queued);
+            if (rejection != null) {
+                rejected.add(new QueueRefundsResponse.Rejection(item.paymentId(), rejection));
+            }
+        }
+
+        log.info("Queued {} refunds, rejected {}", queued.size(), rejected.size());
+        return new QueueRefundsResponse(queued, rejected);
+    }
+
+    /**
+     * Queues one refund.
+     *
+     * @return the rejection reason code, or null if the refund was queued
+     */
+    private String queue(QueueRefundsCommand.RefundItem item, List<UUID> queued) {
+        Payment payment = paymentRepository.findById(item.paymentId()).orElse(null);
+        if (payment == null) {
+            return "PAYMENT_NOT_FOUND";
+        }
+        if (!payment.getStatus().canRefund()) {
+            return "NOT_REFUNDABLE";
+        }
+
+        Money refundable = payment.getAmount().subtract(payment.getRefundedAmount());
+        Money amount = item.amount() != null
+                ? Money.of(item.amount(), payment.getAmount().getCurrency())
+                : refundable;
+        if (amount.isGreaterThan(refundable)) {
+            return "AMOUNT_EXCEEDS_REFUNDABLE";
+        }
+
+        RefundJob job = RefundJob.create(payment, amount, item.reason());
+        if (!refundQueue.enqueue(job)) {
+            return "REFUND_IN_PROGRESS";
+        }
+        queued.add(job.id());
+        return null;
+    }
+}
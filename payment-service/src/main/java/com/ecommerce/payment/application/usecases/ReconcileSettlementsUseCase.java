@@ -0,0 +1,156 @@
+package com.ecommerce.payment.application.usecases;
+
+import com.ecommerce.payment.application.dto.ReconciliationSummary;
+import com.ecommerce.payment.domain.aggregates.Payment;
+import com.ecommerce.payment.domain.ports.PaymentRepository;
+import com.ecommerce.payment.domain.value_objects.ReconciliationMismatch;
+import com.ecommerce.payment.domain.value_objects.SettlementRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Use case for reconciling completed payments against a PSP settlement file.
+ *
+ * Both sides are read in transaction ID order and merge-joined, so
+ * memory use is constant however many rows there are. Differences are
+ * passed to the caller's sink as they are found.
+ */
+@Service
+public class ReconcileSettlementsUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(ReconcileSettlementsUseCase.class);
+
+    private final PaymentRepository paymentRepository;
+
+    public ReconcileSettlementsUseCase(PaymentRepository paymentRepository) {
+        this.paymentRepository = paymentRepository;
+    }
+
+    /**
+     * Reconciles payments completed in [completedFrom, completedTo) against
+     * settlement records sorted by transaction ID.
+     *
+     * The payment stream is read inside one read-only transaction.
+     *
+     * @throws IllegalArgumentException if the settlement records are not sorted
+     */
+    @Transactional(readOnly = true)
+    public ReconciliationSummary execute(Instant completedFrom, Instant completedTo,
+                                         Iterator<SettlementRecord> settlements,
+                                         Consumer<ReconciliationMismatch> mismatches) {
+        Join join = new Join(settlements, mismatches);
+        try (Stream<Payment> payments = paymentRepository.streamCompletedByTransactionId(completedFrom, completedTo)) {
+            join.run(payments.iterator());
+        }
+        ReconciliationSummary summary = new ReconciliationSummary(join.paymentsRead, join.settlementsRead,
+                join.matched, Collections.unmodifiableMap(join.counts));
+        log.info("Reconciled {} payments against {} settlements: {} matched, {} mismatches",
+                summary.paymentsRead(), summary.settlementsRead(), summary.matched(), summary.totalMismatches());
+        return summary;
+    }
+
+    private static final class Join {
+
+        private final Iterator<SettlementRecord> settlements;
+        private final Consumer<ReconciliationMismatch> sink;
+        private final Map<ReconciliationMismatch.Type, Long> counts = new EnumMap<>(ReconciliationMismatch.Type.class);
+        private String lastTransactionId;
+        private long paymentsRead;
+        private long settlementsRead;
+        private long matched;
+
+        private Join(Iterator<SettlementRecord> settlements, Consumer<ReconciliationMismatch> sink) {
+            this.settlements = settlements;
+            this.sink = sink;
+            for (ReconciliationMismatch.Type type : ReconciliationMismatch.Type.values()) {
+                counts.put(type, 0L);
+            }
+        }
+
+        private void run(Iterator<Payment> payments) {
+            Payment payment = nextPayment(payments);
+            SettlementRecord settlement = nextSettlement();
+
+            while (payment != null || settlement != null) {
+                int order = payment == null ? 1
+                        : settlement == null ? -1
+                        : payment.getTransactionId().compareTo(settlement.transactionId());
+                if (order < 0) {
+                    emit(ReconciliationMismatch.Type.MISSING_IN_SETTLEMENT, payment, null);
+                    payment = nextPayment(payments);
+                } else if (order > 0) {
+                    emit(ReconciliationMismatch.Type.MISSING_IN_PAYMENTS, null, settlement);
+                    settlement = nextSettlement();
+                } else {
+                    compare(payment, settlement);
+                    payment = nextPayment(payments);
+                    settlement = nextSettlement();
+                }
+            }
+        }
+
+        private void compare(Payment payment, SettlementRecord settlement) {
+            if (!payment.getAmount().getCurrency().getCurrencyCode().equals(settlement.currency())) {
+                emit(ReconciliationMismatch.Type.CURRENCY_MISMATCH, payment, settlement);
+            } else if (payment.getAmount().getAmount().compareTo(settlement.amount()) != 0) {
+                emit(ReconciliationMismatch.Type.AMOUNT_MISMATCH, payment, settlement);
+            } else {
+                matched++;
+            }
+        }
+
+        private Payment nextPayment(Iterator<Payment> payments) {
+            if (!payments.hasNext()) {
+                return null;
+            }
+            paymentsRead++;
+            return payments.next();
+        }
+
+        /**
+         * Reads the next settlement, reporting and skipping repeats of the
+         * previous transaction.
+         */
+        private SettlementRecord nextSettlement() {
+            while (settlements.hasNext()) {
+                SettlementRecord settlement = settlements.next();
+                settlementsRead++;
+                if (lastTransactionId != null) {
+                    int order = settlement.transactionId().compareTo(lastTransactionId);
+                    if (order < 0) {
+                        throw new IllegalArgumentException("Settlement records are not sorted by transaction ID: "
+                                + settlement.transactionId() + " after " + lastTransactionId);
+                    }
+                    if (order == 0) {
+                        emit(ReconciliationMismatch.Type.DUPLICATE_SETTLEMENT, null, settlement);
+                        continue;
+                    }
+                }
+                lastTransactionId = settlement.transactionId();
+                return settlement;
+            }
+            return null;
+        }
+
+        private void emit(ReconciliationMismatch.Type type, Payment payment, SettlementRecord settlement) {
+            counts.merge(type, 1L, Long::sum);
+            sink.accept(new ReconciliationMismatch(
+                    type,
+                    payment != null ? payment.getTransactionId() : settlement.transactionId(),
+                    payment != null ? payment.getId() : null,
+                    payment != null ? payment.getAmount().getAmount() : null,
+                    settlement != null ? settlement.amount() : null
+            ));
+        }
+    }
+}
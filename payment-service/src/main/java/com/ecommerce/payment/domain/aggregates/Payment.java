@@ -2,16 +2,22 @@ package com.ecommerce.payment.domain.aggregates;
 
 import com.ecommerce.payment.domain.value_objects.PaymentMethod;
 import com.ecommerce.payment.domain.value_objects.PaymentStatus;
+import com.ecommerce.payment.domain.value_objects.PaymentTransition;
 import com.ecommerce.shared.domain.value_objects.Money;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
 /**
  * Payment aggregate root.
  * Manages the lifecycle of a payment from creation to completion/refund.
+ * Transitions into a settled status are recorded until the payment is
+ * saved, for the statistics read model.
  */
 public class Payment {
 
@@ -29,6 +35,8 @@ public class Payment {
     private Instant completedAt;
     private Instant refundedAt;
     private Instant updatedAt;
+    private long version;
+    private final List<PaymentTransition> transitions = new ArrayList<>();
 
     private Payment(UUID id, UUID orderId, UUID customerId, Money amount,
                     PaymentMethod paymentMethod, PaymentStatus status,
@@ -78,7 +86,7 @@ public class Payment {
                                         String failureReason, Money refundedAmount,
                                         String refundReason, Instant createdAt,
                                         Instant completedAt, Instant refundedAt,
-                                        Instant updatedAt) {
+                                        Instant updatedAt, long version) {
         Payment payment = new Payment(id, orderId, customerId, amount,
                 paymentMethod, status, createdAt);
         payment.transactionId = transactionId;
@@ -88,6 +96,7 @@ public class Payment {
         payment.completedAt = completedAt;
         payment.refundedAt = refundedAt;
         payment.updatedAt = updatedAt;
+        payment.version = version;
         return payment;
     }
 
@@ -118,6 +127,7 @@ public class Payment {
         this.status = PaymentStatus.COMPLETED;
         this.completedAt = Instant.now();
         this.updatedAt = Instant.now();
+        recordTransition(amount);
     }
 
     /**
@@ -133,6 +143,7 @@ public class Payment {
         this.failureReason = reason;
         this.status = PaymentStatus.FAILED;
         this.updatedAt = Instant.now();
+        recordTransition(amount);
     }
 
     /**
@@ -162,6 +173,7 @@ public class Payment {
         } else {
             this.status = PaymentStatus.PARTIALLY_REFUNDED;
         }
+        recordTransition(refundAmount);
     }
 
     /**
@@ -175,6 +187,11 @@ public class Payment {
 
         this.status = PaymentStatus.EXPIRED;
         this.updatedAt = Instant.now();
+        recordTransition(amount);
+    }
+
+    private void recordTransition(Money transitionAmount) {
+        transitions.add(new PaymentTransition(status, paymentMethod, transitionAmount, updatedAt));
     }
 
     // Getters
@@ -235,6 +252,32 @@ public class Payment {
         return updatedAt;
     }
 
+    /**
+     * Version of the stored row this aggregate was loaded from or last
+     * saved as; a save based on an older version is rejected.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Records the version a repository stored the aggregate as.
+     */
+    public void markPersisted(long version) {
+        this.version = version;
+    }
+
+    /**
+     * Transitions since the payment was last saved.
+     */
+    public List<PaymentTransition> getTransitions() {
+        return Collections.unmodifiableList(transitions);
+    }
+
+    public void clearTransitions() {
+        transitions.clear();
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -0,0 +1,47 @@
+package com.ecommerce.payment.domain.events;
+
+import com.ecommerce.shared.domain.events.DomainEvent;
+
+import java.util.UUID;
+
+/**
+ * Event raised when a payment is declined or cannot be processed.
+ */
+public class PaymentFailed extends DomainEvent {
+
+    private final UUID paymentId;
+    private final UUID orderId;
+    private final UUID customerId;
+    private final String errorCode;
+    private final String reason;
+
+    public PaymentFailed(UUID paymentId, UUID orderId, UUID customerId,
+                         String errorCode, String reason) {
+        super(paymentId.toString(), "Payment");
+        this.paymentId = paymentId;
+        this.orderId = orderId;
+        this.customerId = customerId;
+        this.errorCode = errorCode;
+        this.reason = reason;
+    }
+
+    public UUID getPaymentId() {
+        return paymentId;
+    }
+
+    public UUID getOrderId() {
+        return orderId;
+    }
+
+    public UUID getCustomerId() {
+        return customerId;
+    }
+
+    public String getErrorCode() {
+        return errorCode;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+}
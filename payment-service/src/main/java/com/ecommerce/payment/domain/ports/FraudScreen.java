@@ -0,0 +1,32 @@
+package com.ecommerce.payment.domain.ports;
+
+import com.ecommerce.payment.domain.value_objects.FraudDecision;
+import com.ecommerce.payment.domain.value_objects.PaymentMethod;
+
+import java.util.UUID;
+
+/**
+ * Port for screening payment attempts before they reach the gateway.
+ */
+public interface FraudScreen {
+
+    /**
+     * Records the attempt and decides whether it may proceed.
+     * Must be fast enough to run inline on every payment request.
+     */
+    FraudDecision screen(Attempt attempt);
+
+    /**
+     * A payment attempt as seen by the screen.
+     *
+     * @param cardNumber card number, or null for non-card methods; used only
+     *                   to derive the BIN and never retained
+     * @param clientIp   the caller's IP address, or null if unknown
+     */
+    record Attempt(
+            UUID customerId,
+            PaymentMethod paymentMethod,
+            String cardNumber,
+            String clientIp
+    ) {}
+}
@@ -0,0 +1,30 @@
+package com.ecommerce.payment.domain.ports;
+
+import com.ecommerce.payment.domain.value_objects.IdempotencyRecord;
+
+import java.util.Optional;
+
+/**
+ * Store of idempotency keys and the outcome of the request that first used each.
+ */
+public interface IdempotencyKeyStore {
+
+    /**
+     * Claims a key for a new request, or returns the record already held
+     * for it. Claiming stores the given in-progress record atomically, so
+     * only one of several concurrent requests with the same key proceeds.
+     *
+     * @return the existing unexpired record, or empty if the key was claimed
+     */
+    Optional<IdempotencyRecord> claim(String key, IdempotencyRecord inProgress);
+
+    /**
+     * Records the outcome of the request that claimed the key.
+     */
+    void complete(String key, IdempotencyRecord outcome);
+
+    /**
+     * Releases a claimed key so the request can be retried with it.
+     */
+    void release(String key);
+}
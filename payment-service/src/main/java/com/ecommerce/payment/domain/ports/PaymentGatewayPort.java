@@ -3,10 +3,15 @@ package com.ecommerce.payment.domain.ports;
 import com.ecommerce.payment.domain.value_objects.PaymentMethod;
 import com.ecommerce.shared.domain.value_objects.Money;
 
+import java.util.Optional;
 import java.util.UUID;
 
 /**
  * Port for payment gateway abstraction.
+ *
+ * A call that was not answered, e.g. on timeout, throws
+ * GatewayUnavailableException because its outcome is unknown; a call the
+ * gateway answered returns a result, successful or not.
  */
 public interface PaymentGatewayPort {
 
@@ -15,6 +20,12 @@ public interface PaymentGatewayPort {
      */
     PaymentResult processPayment(PaymentRequest request);
 
+    /**
+     * Looks up the outcome of an earlier processPayment call by payment ID.
+     * Empty if the gateway never received the payment.
+     */
+    Optional<PaymentResult> findPayment(UUID paymentId, PaymentMethod paymentMethod);
+
     /**
      * Processes a refund through the gateway.
      */
@@ -53,10 +64,13 @@ public interface PaymentGatewayPort {
     }
 
     /**
-     * Refund request data.
+     * Refund request data. The gateway treats refundId as an idempotency
+     * reference, so a resubmitted refund is not paid out twice.
      */
     record RefundRequest(
+            UUID refundId,
             UUID paymentId,
+            PaymentMethod paymentMethod,
             String transactionId,
             Money amount,
             String reason
@@ -79,4 +93,19 @@ public interface PaymentGatewayPort {
             return new RefundResult(false, null, errorCode, errorMessage);
         }
     }
+
+    /**
+     * Thrown when the gateway does not answer a call; the call may or may
+     * not have taken effect.
+     */
+    class GatewayUnavailableException extends RuntimeException {
+
+        public GatewayUnavailableException(String message) {
+            super(message);
+        }
+
+        public GatewayUnavailableException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
 }
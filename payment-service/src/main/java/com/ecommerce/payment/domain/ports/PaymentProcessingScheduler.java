@@ -0,0 +1,15 @@
+package com.ecommerce.payment.domain.ports;
+
+/**
+ * Port for charging accepted payments in the background.
+ */
+public interface PaymentProcessingScheduler {
+
+    /**
+     * Queues an accepted payment to be charged through the gateway.
+     *
+     * @param request the gateway request for the payment
+     * @return false if the backlog is full and the payment was not queued
+     */
+    boolean schedule(PaymentGatewayPort.PaymentRequest request);
+}
@@ -1,11 +1,14 @@
 package com.ecommerce.payment.domain.ports;
 
 import com.ecommerce.payment.domain.aggregates.Payment;
+import com.ecommerce.payment.domain.value_objects.PaymentHistoryCursor;
 import com.ecommerce.payment.domain.value_objects.PaymentStatus;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository port for Payment aggregate.
@@ -14,29 +17,55 @@ public interface PaymentRepository {
 
     /**
      * Saves a payment.
+     *
+     * @throws IllegalStateException if the order already has another payment
+     *                               that is active or completed
      */
     Payment save(Payment payment);
 
+    /**
+     * Saves an existing payment only if its stored status is still the
+     * expected one. Of two writers that loaded the payment in that status,
+     * only the first to save wins.
+     *
+     * @return true if the payment was saved; false if its status had changed
+     */
+    boolean saveIfStatus(Payment payment, PaymentStatus expectedStatus);
+
     /**
      * Finds a payment by ID.
      */
     Optional<Payment> findById(UUID paymentId);
 
     /**
-     * Finds a payment by order ID.
+     * Finds the current payment of an order.
      */
     Optional<Payment> findByOrderId(UUID orderId);
 
     /**
-     * Finds all payments by customer ID.
+     * Finds up to limit of the customer's payments, newest first, that come
+     * after the cursor; a null cursor starts from the newest payment.
      */
-    List<Payment> findByCustomerId(UUID customerId);
+    List<Payment> findByCustomerId(UUID customerId, PaymentHistoryCursor after, int limit);
 
     /**
      * Finds payments by status.
      */
     List<Payment> findByStatus(PaymentStatus status);
 
+    /**
+     * Finds up to limit payments in the status that were last updated
+     * before the cutoff, least recently updated first.
+     */
+    List<Payment> findByStatus(PaymentStatus status, Instant updatedBefore, int limit);
+
+    /**
+     * Streams payments completed in [completedFrom, completedTo) in
+     * transaction ID order, without loading them all at once. The caller
+     * must close the stream and consume it within a transaction.
+     */
+    Stream<Payment> streamCompletedByTransactionId(Instant completedFrom, Instant completedTo);
+
     /**
      * Finds payments that are pending and older than the timeout.
      */
@@ -0,0 +1,26 @@
+package com.ecommerce.payment.domain.ports;
+
+import com.ecommerce.payment.domain.value_objects.PaymentStatistic;
+import com.ecommerce.payment.domain.value_objects.PaymentTransition;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Port for the pre-aggregated payment statistics read model.
+ *
+ * Transitions are added by the payment repository in the write that
+ * saves the payment, so the totals move with the payments they count.
+ */
+public interface PaymentStatisticsStore {
+
+    /**
+     * Adds transitions to their day's totals. Must run in the caller's transaction.
+     */
+    void record(List<PaymentTransition> transitions);
+
+    /**
+     * Finds the totals for days from and to inclusive, ordered by day.
+     */
+    List<PaymentStatistic> findByDay(LocalDate from, LocalDate to);
+}
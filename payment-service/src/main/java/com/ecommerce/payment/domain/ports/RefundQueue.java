@@ -0,0 +1,54 @@
+package com.ecommerce.payment.domain.ports;
+
+import com.ecommerce.payment.domain.value_objects.PaymentMethod;
+import com.ecommerce.payment.domain.value_objects.RefundJob;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Durable queue of refunds waiting to be submitted to the gateway.
+ *
+ * Refunds are claimed per payment method for a lease period and settled
+ * one by one, so progress through a batch is checkpointed as it goes. A
+ * batch interrupted by a crash resumes once its lease lapses, with only
+ * the refunds that were not yet settled.
+ */
+public interface RefundQueue {
+
+    /**
+     * Queues a refund.
+     *
+     * @return false if the payment already has an unsettled refund
+     */
+    boolean enqueue(RefundJob job);
+
+    /**
+     * Claims up to batchSize due refunds of one payment method, oldest first.
+     *
+     * @param leaseUntil when the claim lapses if the refunds are not settled
+     */
+    List<RefundJob> claim(PaymentMethod paymentMethod, int batchSize, Instant leaseUntil);
+
+    /**
+     * Settles a refund the gateway accepted. Must run in the transaction
+     * that records the refund on the payment.
+     */
+    void markSucceeded(UUID refundId, String refundTransactionId);
+
+    /**
+     * Settles a refund that will not be retried.
+     */
+    void markFailed(UUID refundId, String reason);
+
+    /**
+     * Releases a claimed refund for another attempt at retryAt.
+     */
+    void reschedule(UUID refundId, Instant retryAt);
+
+    /**
+     * Counts unsettled refunds of one payment method.
+     */
+    long countUnsettled(PaymentMethod paymentMethod);
+}
@@ -0,0 +1,38 @@
+package com.ecommerce.payment.domain.value_objects;
+
+/**
+ * Outcome of screening a payment attempt for fraud.
+ *
+ * @param action what to do with the attempt
+ * @param rule   name of the rule that decided it, or null when allowed
+ */
+public record FraudDecision(
+        Action action,
+        String rule
+) {
+    private static final FraudDecision ALLOW = new FraudDecision(Action.ALLOW, null);
+
+    /**
+     * Actions in increasing severity.
+     */
+    public enum Action {
+        /** Proceed as normal. */
+        ALLOW,
+        /** Proceed, but report the attempt for review. */
+        FLAG,
+        /** Decline the attempt without calling the gateway. */
+        REJECT
+    }
+
+    public static FraudDecision allow() {
+        return ALLOW;
+    }
+
+    public boolean isRejected() {
+        return action == Action.REJECT;
+    }
+
+    public boolean isFlagged() {
+        return action == Action.FLAG;
+    }
+}
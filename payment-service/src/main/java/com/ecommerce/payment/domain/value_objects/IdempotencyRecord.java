@@ -0,0 +1,50 @@
+package com.ecommerce.payment.domain.value_objects;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Outcome recorded for a client-supplied idempotency key.
+ * A record is in progress until the first request with the key settles
+ * into a payment or a payment failure.
+ *
+ * @param requestHash  hash of the request the key was first used with
+ * @param paymentId    the payment created by that request, if it succeeded
+ * @param errorCode    the failure code, if the payment was declined
+ * @param errorMessage the failure message, if the payment was declined
+ * @param expiresAt    when the key may be forgotten
+ */
+public record IdempotencyRecord(
+        String requestHash,
+        UUID paymentId,
+        String errorCode,
+        String errorMessage,
+        Instant expiresAt
+) {
+    public IdempotencyRecord {
+        Objects.requireNonNull(requestHash, "Request hash must not be null");
+        Objects.requireNonNull(expiresAt, "Expiry must not be null");
+    }
+
+    public static IdempotencyRecord inProgress(String requestHash, Instant expiresAt) {
+        return new IdempotencyRecord(requestHash, null, null, null, expiresAt);
+    }
+
+    public static IdempotencyRecord succeeded(String requestHash, UUID paymentId, Instant expiresAt) {
+        return new IdempotencyRecord(requestHash, paymentId, null, null, expiresAt);
+    }
+
+    public static IdempotencyRecord failed(String requestHash, String errorCode, String errorMessage,
+                                           Instant expiresAt) {
+        return new IdempotencyRecord(requestHash, null, errorCode, errorMessage, expiresAt);
+    }
+
+    public boolean isInProgress() {
+        return paymentId == null && errorCode == null;
+    }
+
+    public boolean isExpired(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+}
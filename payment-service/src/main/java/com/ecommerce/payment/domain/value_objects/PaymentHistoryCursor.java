@@ -0,0 +1,28 @@
+package com.ecommerce.payment.domain.value_objects;
+
+import com.ecommerce.payment.domain.aggregates.Payment;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Position in a customer's payment history, which is ordered newest
+ * first by creation time and then by payment ID.
+ *
+ * @param createdAt creation time of the last payment seen
+ * @param paymentId ID of the last payment seen
+ */
+public record PaymentHistoryCursor(
+        Instant createdAt,
+        UUID paymentId
+) {
+    public PaymentHistoryCursor {
+        Objects.requireNonNull(createdAt, "Created at must not be null");
+        Objects.requireNonNull(paymentId, "Payment ID must not be null");
+    }
+
+    public static PaymentHistoryCursor of(Payment payment) {
+        return new PaymentHistoryCursor(payment.getCreatedAt(), payment.getId());
+    }
+}
@@ -0,0 +1,19 @@
+package com.ecommerce.payment.domain.value_objects;
+
+import java.time.LocalDate;
+
+/**
+ * Totals of the transitions into one status, for one payment method and
+ * currency, on one day.
+ *
+ * @param count       number of transitions
+ * @param amountMinor sum of their amounts in the currency's minor units
+ */
+public record PaymentStatistic(
+        LocalDate day,
+        PaymentMethod paymentMethod,
+        PaymentStatus status,
+        String currency,
+        long count,
+        long amountMinor
+) {}
@@ -60,6 +60,13 @@ public enum PaymentStatus {
         return this == COMPLETED || this == PARTIALLY_REFUNDED;
     }
 
+    /**
+     * Check if the order may be paid again with a new payment.
+     */
+    public boolean allowsRetry() {
+        return this == FAILED || this == EXPIRED;
+    }
+
     /**
      * Check if the payment can expire.
      */
@@ -0,0 +1,21 @@
+package com.ecommerce.payment.domain.value_objects;
+
+import com.ecommerce.shared.domain.value_objects.Money;
+
+import java.time.Instant;
+
+/**
+ * A payment entering a settled status, recorded by the aggregate for
+ * the statistics read model.
+ *
+ * @param status     the status entered
+ * @param amount     the amount moved: the payment amount, or the refund
+ *                   amount for REFUNDED and PARTIALLY_REFUNDED
+ * @param occurredAt when the transition happened
+ */
+public record PaymentTransition(
+        PaymentStatus status,
+        PaymentMethod paymentMethod,
+        Money amount,
+        Instant occurredAt
+) {}
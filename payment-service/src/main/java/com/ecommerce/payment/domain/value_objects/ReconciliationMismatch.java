@@ -0,0 +1,37 @@
+package com.ecommerce.payment.domain.value_objects;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * A difference between our payments and a PSP settlement file.
+ *
+ * @param type           kind of difference
+ * @param transactionId  gateway transaction ID
+ * @param paymentId      our payment, or null if we have none for the transaction
+ * @param expectedAmount amount of our payment, or null
+ * @param settledAmount  amount in the settlement file, or null
+ */
+public record ReconciliationMismatch(
+        Type type,
+        String transactionId,
+        UUID paymentId,
+        BigDecimal expectedAmount,
+        BigDecimal settledAmount
+) {
+    /**
+     * Kinds of reconciliation difference.
+     */
+    public enum Type {
+        /** We completed the payment but the PSP did not settle it. */
+        MISSING_IN_SETTLEMENT,
+        /** The PSP settled a transaction we have no completed payment for. */
+        MISSING_IN_PAYMENTS,
+        /** The settled amount differs from the payment amount. */
+        AMOUNT_MISMATCH,
+        /** The settled currency differs from the payment currency. */
+        CURRENCY_MISMATCH,
+        /** The transaction appears more than once in the settlement file. */
+        DUPLICATE_SETTLEMENT
+    }
+}
@@ -0,0 +1,40 @@
+package com.ecommerce.payment.domain.value_objects;
+
+import com.ecommerce.payment.domain.aggregates.Payment;
+import com.ecommerce.shared.domain.ids.TimeOrderedUuid;
+import com.ecommerce.shared.domain.value_objects.Money;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A refund queued for submission to the gateway.
+ *
+ * @param id            refund ID, time-ordered, sent to the gateway as the refund reference
+ * @param paymentId     the payment being refunded
+ * @param paymentMethod method of the payment, which selects the gateway channel
+ * @param transactionId gateway transaction of the original charge
+ * @param amount        amount to refund
+ * @param reason        refund reason
+ * @param createdAt     when the refund was queued
+ * @param attempts      number of times the refund has been claimed for submission
+ */
+public record RefundJob(
+        UUID id,
+        UUID paymentId,
+        PaymentMethod paymentMethod,
+        String transactionId,
+        Money amount,
+        String reason,
+        Instant createdAt,
+        int attempts
+) {
+    public static RefundJob create(Payment payment, Money amount, String reason) {
+        return new RefundJob(TimeOrderedUuid.next(), payment.getId(), payment.getPaymentMethod(),
+                payment.getTransactionId(), amount, reason, Instant.now(), 0);
+    }
+
+    public RefundJob withAttempts(int attempts) {
+        return new RefundJob(id, paymentId, paymentMethod, transactionId, amount, reason, createdAt, attempts);
+    }
+}
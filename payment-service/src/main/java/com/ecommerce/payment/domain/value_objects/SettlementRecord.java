@@ -0,0 +1,17 @@
+package com.ecommerce.payment.domain.value_objects;
+
+import java.math.BigDecimal;
+
+/**
+ * One captured charge from a PSP settlement file.
+ *
+ * @param transactionId gateway transaction ID of the charge
+ * @param amount        settled amount
+ * @param currency      ISO 4217 currency code
+ */
+public record SettlementRecord(
+        String transactionId,
+        BigDecimal amount,
+        String currency
+) {
+}
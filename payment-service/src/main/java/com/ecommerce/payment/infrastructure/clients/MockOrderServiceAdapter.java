@@ -4,6 +4,7 @@ import com.ecommerce.payment.domain.ports.OrderServicePort;
 import com.ecommerce.shared.domain.value_objects.Money;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
@@ -14,9 +15,10 @@ import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Mock order service adapter for development and testing.
- * In production, this would be replaced with a Feign client.
+ * Used instead of OrderServiceAdapter when order-service.mock is true.
  */
 @Component
+@ConditionalOnProperty(prefix = "order-service", name = "mock", havingValue = "true")
 public class MockOrderServiceAdapter implements OrderServicePort {
 
     private static final Logger log = LoggerFactory.getLogger(MockOrderServiceAdapter.class);
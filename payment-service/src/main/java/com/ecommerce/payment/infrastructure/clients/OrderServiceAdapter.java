@@ -0,0 +1,93 @@
+package com.ecommerce.payment.infrastructure.clients;
+
+import com.ecommerce.payment.domain.ports.OrderServicePort;
+import com.ecommerce.payment.infrastructure.config.OrderServiceConfig;
+import com.ecommerce.payment.infrastructure.notifications.OrderNotification;
+import com.ecommerce.payment.infrastructure.notifications.OrderNotificationStore;
+import com.ecommerce.shared.domain.value_objects.Money;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import feign.FeignException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Currency;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adapter that implements OrderServicePort using Feign client.
+ *
+ * Order lookups are cached briefly, and concurrent lookups of one order
+ * share a single call. Payment outcomes are queued in the local
+ * notification store and delivered in batches by OrderNotificationRelay,
+ * so a payment never waits for order service to acknowledge its outcome.
+ */
+@Component
+@ConditionalOnProperty(prefix = "order-service", name = "mock", havingValue = "false", matchIfMissing = true)
+public class OrderServiceAdapter implements OrderServicePort {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderServiceAdapter.class);
+
+    private final OrderServiceClient orderServiceClient;
+    private final OrderNotificationStore notificationStore;
+    private final Cache<UUID, OrderInfo> orderCache;
+
+    public OrderServiceAdapter(
+            OrderServiceClient orderServiceClient,
+            OrderNotificationStore notificationStore,
+            OrderServiceConfig config,
+            MeterRegistry meterRegistry
+    ) {
+        this.orderServiceClient = orderServiceClient;
+        this.notificationStore = notificationStore;
+        this.orderCache = Caffeine.newBuilder()
+                .maximumSize(config.getInfoCacheMaxSize())
+                .expireAfterWrite(config.getInfoCacheTtlMs(), TimeUnit.MILLISECONDS)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, orderCache, "order-info");
+    }
+
+    @Override
+    public Optional<OrderInfo> getOrderInfo(UUID orderId) {
+        // Unknown orders are not cached, so an order created moments ago is found on retry
+        return Optional.ofNullable(orderCache.get(orderId, this::fetch));
+    }
+
+    @Override
+    public void notifyPaymentComplete(UUID orderId, UUID paymentId) {
+        orderCache.invalidate(orderId);
+        notificationStore.enqueue(OrderNotification.completed(orderId, paymentId));
+    }
+
+    @Override
+    public void notifyPaymentFailed(UUID orderId, String reason) {
+        notificationStore.enqueue(OrderNotification.failed(orderId, reason));
+    }
+
+    private OrderInfo fetch(UUID orderId) {
+        try {
+            OrderServiceClient.OrderResponse response = orderServiceClient.getOrder(orderId);
+            return response != null ? toOrderInfo(response) : null;
+        } catch (FeignException.NotFound e) {
+            log.debug("Order not found: {}", orderId);
+            return null;
+        } catch (Exception e) {
+            log.error("Error fetching order {}: {}", orderId, e.getMessage());
+            throw new RuntimeException("Failed to fetch order information", e);
+        }
+    }
+
+    private static OrderInfo toOrderInfo(OrderServiceClient.OrderResponse response) {
+        Money total = response.currency() != null
+                ? Money.of(response.total(), Currency.getInstance(response.currency()))
+                : Money.of(response.total());
+        return new OrderInfo(response.id(), response.customerId(), total, response.status());
+    }
+}
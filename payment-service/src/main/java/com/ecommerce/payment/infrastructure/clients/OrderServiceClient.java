@@ -0,0 +1,54 @@
+package com.ecommerce.payment.infrastructure.clients;
+
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Feign client for Order Service internal endpoints.
+ * Calls carry the service token added by ServiceAuthInterceptor.
+ */
+@FeignClient(name = "order-service", url = "${order-service.url:http://localhost:8083}")
+public interface OrderServiceClient {
+
+    @GetMapping("/api/v1/internal/orders/{orderId}")
+    OrderResponse getOrder(@PathVariable("orderId") UUID orderId);
+
+    @PostMapping("/api/v1/internal/orders/payment-notifications")
+    PaymentNotificationsResponse recordPaymentNotifications(@RequestBody List<PaymentNotification> notifications);
+
+    record OrderResponse(
+            UUID id,
+            UUID customerId,
+            BigDecimal total,
+            String currency,
+            String status
+    ) {}
+
+    record PaymentNotification(
+            UUID orderId,
+            UUID paymentId,
+            String outcome,
+            String reason
+    ) {}
+
+    /**
+     * Completed payments order service did not accept, which are to be refunded.
+     */
+    record PaymentNotificationsResponse(
+            int applied,
+            List<RejectedPayment> rejected
+    ) {}
+
+    record RejectedPayment(
+            UUID orderId,
+            UUID paymentId,
+            String reason
+    ) {}
+}
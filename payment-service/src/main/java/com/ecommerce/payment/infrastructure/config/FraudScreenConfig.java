@@ -0,0 +1,118 @@
+package com.ecommerce.payment.infrastructure.config;
+
+import com.ecommerce.payment.domain.value_objects.FraudDecision;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fraud pre-screen configuration properties.
+ * Each rule counts attempts per customer, card BIN or client IP over a
+ * sliding window and flags or rejects attempts beyond maxAttempts. Rules
+ * are read on every screen, so rebinding these properties (e.g. through
+ * a Spring Cloud refresh) applies new rules without a restart.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "payment.fraud")
+public class FraudScreenConfig {
+
+    private boolean enabled = true;
+    private String hashSalt = "";
+    private long maxTrackedKeys = 200000;
+    private List<Rule> rules = new ArrayList<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getHashSalt() {
+        return hashSalt;
+    }
+
+    public void setHashSalt(String hashSalt) {
+        this.hashSalt = hashSalt;
+    }
+
+    public long getMaxTrackedKeys() {
+        return maxTrackedKeys;
+    }
+
+    public void setMaxTrackedKeys(long maxTrackedKeys) {
+        this.maxTrackedKeys = maxTrackedKeys;
+    }
+
+    public List<Rule> getRules() {
+        return rules;
+    }
+
+    public void setRules(List<Rule> rules) {
+        this.rules = rules;
+    }
+
+    /**
+     * What a velocity rule counts attempts by.
+     */
+    public enum Dimension {
+        CUSTOMER,
+        CARD_BIN,
+        IP
+    }
+
+    /**
+     * A velocity limit.
+     */
+    public static class Rule {
+
+        private String name;
+        private Dimension dimension = Dimension.CUSTOMER;
+        private long windowSeconds = 60;
+        private long maxAttempts = 10;
+        private FraudDecision.Action action = FraudDecision.Action.REJECT;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public Dimension getDimension() {
+            return dimension;
+        }
+
+        public void setDimension(Dimension dimension) {
+            this.dimension = dimension;
+        }
+
+        public long getWindowSeconds() {
+            return windowSeconds;
+        }
+
+        public void setWindowSeconds(long windowSeconds) {
+            this.windowSeconds = windowSeconds;
+        }
+
+        public long getMaxAttempts() {
+            return maxAttempts;
+        }
+
+        public void setMaxAttempts(long maxAttempts) {
+            this.maxAttempts = maxAttempts;
+        }
+
+        public FraudDecision.Action getAction() {
+            return action;
+        }
+
+        public void setAction(FraudDecision.Action action) {
+            this.action = action;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.ecommerce.payment.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Idempotency key configuration properties.
+ * Keys are remembered for the TTL after first use; expired keys are
+ * purged on a fixed delay.
+ */
+@Configuration
+@EnableScheduling
+@ConfigurationProperties(prefix = "payment.idempotency")
+public class IdempotencyConfig {
+
+    private long ttlHours = 24;
+    private long purgeIntervalMs = 60000;
+
+    public long getTtlHours() {
+        return ttlHours;
+    }
+
+    public void setTtlHours(long ttlHours) {
+        this.ttlHours = ttlHours;
+    }
+
+    public long getPurgeIntervalMs() {
+        return purgeIntervalMs;
+    }
+
+    public void setPurgeIntervalMs(long purgeIntervalMs) {
+        this.purgeIntervalMs = purgeIntervalMs;
+    }
+}
@@ -0,0 +1,79 @@
+package com.ecommerce.payment.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Order notification relay configuration properties.
+ * Queued payment outcomes are sent to order service in batches of up to
+ * batchSize, at most maxBatchesPerPoll per poll. A claimed batch is
+ * leased for leaseMs; a failed send is retried with exponential backoff.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "payment.order-notifications")
+public class OrderNotificationConfig {
+
+    private boolean enabled = true;
+    private long pollIntervalMs = 500;
+    private int batchSize = 100;
+    private int maxBatchesPerPoll = 10;
+    private long leaseMs = 30000;
+    private long retryDelayMs = 1000;
+    private long maxRetryDelayMs = 60000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getPollIntervalMs() {
+        return pollIntervalMs;
+    }
+
+    public void setPollIntervalMs(long pollIntervalMs) {
+        this.pollIntervalMs = pollIntervalMs;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getMaxBatchesPerPoll() {
+        return maxBatchesPerPoll;
+    }
+
+    public void setMaxBatchesPerPoll(int maxBatchesPerPoll) {
+        this.maxBatchesPerPoll = maxBatchesPerPoll;
+    }
+
+    public long getLeaseMs() {
+        return leaseMs;
+    }
+
+    public void setLeaseMs(long leaseMs) {
+        this.leaseMs = leaseMs;
+    }
+
+    public long getRetryDelayMs() {
+        return retryDelayMs;
+    }
+
+    public void setRetryDelayMs(long retryDelayMs) {
+        this.retryDelayMs = retryDelayMs;
+    }
+
+    public long getMaxRetryDelayMs() {
+        return maxRetryDelayMs;
+    }
+
+    public void setMaxRetryDelayMs(long maxRetryDelayMs) {
+        this.maxRetryDelayMs = maxRetryDelayMs;
+    }
+}
@@ -0,0 +1,52 @@
+package com.ecommerce.payment.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Order service client configuration properties.
+ * Order lookups are cached for infoCacheTtlMs, long enough to absorb the
+ * repeated lookups of one checkout; set mock to use the in-process mock
+ * instead of calling order service.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "order-service")
+public class OrderServiceConfig {
+
+    private String url = "http://localhost:8083";
+    private boolean mock = false;
+    private long infoCacheTtlMs = 2000;
+    private long infoCacheMaxSize = 10000;
+
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public boolean isMock() {
+        return mock;
+    }
+
+    public void setMock(boolean mock) {
+        this.mock = mock;
+    }
+
+    public long getInfoCacheTtlMs() {
+        return infoCacheTtlMs;
+    }
+
+    public void setInfoCacheTtlMs(long infoCacheTtlMs) {
+        this.infoCacheTtlMs = infoCacheTtlMs;
+    }
+
+    public long getInfoCacheMaxSize() {
+        return infoCacheMaxSize;
+    }
+
+    public void setInfoCacheMaxSize(long infoCacheMaxSize) {
+        this.infoCacheMaxSize = infoCacheMaxSize;
+    }
+}
@@ -0,0 +1,111 @@
+package com.ecommerce.payment.infrastructure.config;
+
+import com.ecommerce.payment.domain.value_objects.PaymentMethod;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Payment gateway resilience configuration properties.
+ * Each payment method gets its own call deadline, bulkhead and circuit
+ * breaker; methods without an entry under methods use the defaults.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "payment.gateway")
+public class PaymentGatewayConfig {
+
+    private Policy defaults = new Policy();
+    private Map<PaymentMethod, Policy> methods = new LinkedHashMap<>();
+
+    public Policy policyFor(PaymentMethod paymentMethod) {
+        return methods.getOrDefault(paymentMethod, defaults);
+    }
+
+    public Policy getDefaults() {
+        return defaults;
+    }
+
+    public void setDefaults(Policy defaults) {
+        this.defaults = defaults;
+    }
+
+    public Map<PaymentMethod, Policy> getMethods() {
+        return methods;
+    }
+
+    public void setMethods(Map<PaymentMethod, Policy> methods) {
+        this.methods = methods;
+    }
+
+    /**
+     * Resilience settings for the calls of one payment method.
+     */
+    public static class Policy {
+
+        private long timeoutMs = 5000;
+        private int maxConcurrentCalls = 50;
+        private long maxWaitMs = 0;
+        private int failureThreshold = 5;
+        private long openMs = 30000;
+        private int halfOpenProbes = 1;
+        private long hedgeDelayMs = 0; // 0 disables hedged lookups
+
+        public long getTimeoutMs() {
+            return timeoutMs;
+        }
+
+        public void setTimeoutMs(long timeoutMs) {
+            this.timeoutMs = timeoutMs;
+        }
+
+        public int getMaxConcurrentCalls() {
+            return maxConcurrentCalls;
+        }
+
+        public void setMaxConcurrentCalls(int maxConcurrentCalls) {
+            this.maxConcurrentCalls = maxConcurrentCalls;
+        }
+
+        public long getMaxWaitMs() {
+            return maxWaitMs;
+        }
+
+        public void setMaxWaitMs(long maxWaitMs) {
+            this.maxWaitMs = maxWaitMs;
+        }
+
+        public int getFailureThreshold() {
+            return failureThreshold;
+        }
+
+        public void setFailureThreshold(int failureThreshold) {
+            this.failureThreshold = failureThreshold;
+        }
+
+        public long getOpenMs() {
+            return openMs;
+        }
+
+        public void setOpenMs(long openMs) {
+            this.openMs = openMs;
+        }
+
+        public int getHalfOpenProbes() {
+            return halfOpenProbes;
+        }
+
+        public void setHalfOpenProbes(int halfOpenProbes) {
+            this.halfOpenProbes = halfOpenProbes;
+        }
+
+        public long getHedgeDelayMs() {
+            return hedgeDelayMs;
+        }
+
+        public void setHedgeDelayMs(long hedgeDelayMs) {
+            this.hedgeDelayMs = hedgeDelayMs;
+        }
+    }
+}
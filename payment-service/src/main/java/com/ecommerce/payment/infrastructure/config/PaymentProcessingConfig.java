@@ -0,0 +1,33 @@
+package com.ecommerce.payment.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Background payment processing configuration properties.
+ * Bounds how many gateway calls run at once and how many accepted
+ * payments may wait for one before new ones are refused.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "payment.processing")
+public class PaymentProcessingConfig {
+
+    private int maxConcurrency = 64;
+    private int maxPending = 1000;
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public void setMaxConcurrency(int maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    public int getMaxPending() {
+        return maxPending;
+    }
+
+    public void setMaxPending(int maxPending) {
+        this.maxPending = maxPending;
+    }
+}
@@ -0,0 +1,62 @@
+package com.ecommerce.payment.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Stuck payment recovery configuration properties.
+ * A payment still PROCESSING stuckAfterSeconds after its last update is
+ * settled from the gateway's record, up to batchSize per sweep. A payment
+ * still PENDING pendingExpireAfterSeconds after it was accepted was lost
+ * from the processing queue and is expired.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "payment.recovery")
+public class PaymentRecoveryConfig {
+
+    private boolean enabled = true;
+    private long stuckAfterSeconds = 300;
+    private long sweepIntervalMs = 60000;
+    private int batchSize = 100;
+    private long pendingExpireAfterSeconds = 900;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getStuckAfterSeconds() {
+        return stuckAfterSeconds;
+    }
+
+    public void setStuckAfterSeconds(long stuckAfterSeconds) {
+        this.stuckAfterSeconds = stuckAfterSeconds;
+    }
+
+    public long getSweepIntervalMs() {
+        return sweepIntervalMs;
+    }
+
+    public void setSweepIntervalMs(long sweepIntervalMs) {
+        this.sweepIntervalMs = sweepIntervalMs;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getPendingExpireAfterSeconds() {
+        return pendingExpireAfterSeconds;
+    }
+
+    public void setPendingExpireAfterSeconds(long pendingExpireAfterSeconds) {
+        this.pendingExpireAfterSeconds = pendingExpireAfterSeconds;
+    }
+}
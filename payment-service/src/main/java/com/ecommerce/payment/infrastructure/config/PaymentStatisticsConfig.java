@@ -0,0 +1,35 @@
+package com.ecommerce.payment.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Payment statistics configuration properties.
+ * Transitions are counted on their calendar day in zone; changing it
+ * only affects transitions recorded afterwards. Each bucket is spread
+ * over shards rows; more shards mean less lock waiting between
+ * concurrent payments and more rows to sum on read.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "payment.statistics")
+public class PaymentStatisticsConfig {
+
+    private String zone = "UTC";
+    private int shards = 8;
+
+    public String getZone() {
+        return zone;
+    }
+
+    public void setZone(String zone) {
+        this.zone = zone;
+    }
+
+    public int getShards() {
+        return shards;
+    }
+
+    public void setShards(int shards) {
+        this.shards = shards;
+    }
+}
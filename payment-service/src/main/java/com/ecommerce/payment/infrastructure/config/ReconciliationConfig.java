@@ -0,0 +1,60 @@
+package com.ecommerce.payment.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Settlement reconciliation configuration properties.
+ * Each run reconciles the previous day's settlement-YYYY-MM-DD.csv from
+ * settlementDirectory and writes its mismatches to reportDirectory.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "payment.reconciliation")
+public class ReconciliationConfig {
+
+    private boolean enabled = true;
+    private String cron = "0 30 3 * * *";
+    private String zone = "UTC";
+    private String settlementDirectory = "/var/lib/payment/settlements";
+    private String reportDirectory = "/var/lib/payment/reconciliation";
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getCron() {
+        return cron;
+    }
+
+    public void setCron(String cron) {
+        this.cron = cron;
+    }
+
+    public String getZone() {
+        return zone;
+    }
+
+    public void setZone(String zone) {
+        this.zone = zone;
+    }
+
+    public String getSettlementDirectory() {
+        return settlementDirectory;
+    }
+
+    public void setSettlementDirectory(String settlementDirectory) {
+        this.settlementDirectory = settlementDirectory;
+    }
+
+    public String getReportDirectory() {
+        return reportDirectory;
+    }
+
+    public void setReportDirectory(String reportDirectory) {
+        this.reportDirectory = reportDirectory;
+    }
+}
@@ -0,0 +1,99 @@
+package com.ecommerce.payment.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Refund batch configuration properties.
+ * Queued refunds are drained per payment method in batches, each method
+ * limited to maxConcurrentPerMethod gateway calls in flight and
+ * refundsPerSecondPerMethod submissions. A claimed batch is leased for
+ * leaseMs; refunds the gateway did not answer are retried with
+ * exponential backoff up to maxAttempts.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "payment.refunds")
+public class RefundBatchConfig {
+
+    private boolean enabled = true;
+    private long pollIntervalMs = 1000;
+    private int batchSize = 50;
+    private int maxConcurrentPerMethod = 8;
+    private double refundsPerSecondPerMethod = 20;
+    private long leaseMs = 120000;
+    private long retryDelayMs = 5000;
+    private long maxRetryDelayMs = 300000; // 5 minutes
+    private int maxAttempts = 8;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getPollIntervalMs() {
+        return pollIntervalMs;
+    }
+
+    public void setPollIntervalMs(long pollIntervalMs) {
+        this.pollIntervalMs = pollIntervalMs;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getMaxConcurrentPerMethod() {
+        return maxConcurrentPerMethod;
+    }
+
+    public void setMaxConcurrentPerMethod(int maxConcurrentPerMethod) {
+        this.maxConcurrentPerMethod = maxConcurrentPerMethod;
+    }
+
+    public double getRefundsPerSecondPerMethod() {
+        return refundsPerSecondPerMethod;
+    }
+
+    public void setRefundsPerSecondPerMethod(double refundsPerSecondPerMethod) {
+        this.refundsPerSecondPerMethod = refundsPerSecondPerMethod;
+    }
+
+    public long getLeaseMs() {
+        return leaseMs;
+    }
+
+    public void setLeaseMs(long leaseMs) {
+        this.leaseMs = leaseMs;
+    }
+
+    public long getRetryDelayMs() {
+        return retryDelayMs;
+    }
+
+    public void setRetryDelayMs(long retryDelayMs) {
+        this.retryDelayMs = retryDelayMs;
+    }
+
+    public long getMaxRetryDelayMs() {
+        return maxRetryDelayMs;
+    }
+
+    public void setMaxRetryDelayMs(long maxRetryDelayMs) {
+        this.maxRetryDelayMs = maxRetryDelayMs;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+}
@@ -29,6 +29,10 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/actuator/**").permitAll()
                         .requestMatchers("/api/v1/payments/webhook/**").permitAll()
+                        // Batch refunds - service-to-service only
+                        .requestMatchers("/api/v1/refunds/**").hasRole("SERVICE")
+                        // Payment statistics - admin dashboards and services only
+                        .requestMatchers("/api/v1/payment-statistics/**").hasAnyRole("ADMIN", "SERVICE")
                         .anyRequest().authenticated()
                 )
                 .addFilterBefore(jwtAuthenticationFilter,
@@ -0,0 +1,68 @@
+package com.ecommerce.payment.infrastructure.fraud;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free event counter over a sliding window.
+ *
+ * The window is split into a ring of buckets. Each slot packs the bucket
+ * number in its high bits and the bucket's count in the low bits, so a
+ * slot is moved to a new bucket and incremented in a single CAS without
+ * losing concurrent increments. The count covers the current bucket and
+ * the ones before it within the window, so it may include up to one
+ * bucket's width of older events.
+ */
+final class SlidingWindowCounter {
+
+    private static final int BUCKETS = 10;
+    private static final int COUNT_BITS = 20;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+    private final long windowNanos;
+    private final long bucketMs;
+    private final AtomicLongArray slots = new AtomicLongArray(BUCKETS);
+
+    SlidingWindowCounter(long windowMs) {
+        this.windowNanos = windowMs * 1_000_000;
+        this.bucketMs = Math.max(1, windowMs / BUCKETS);
+    }
+
+    /**
+     * Records one event and returns the number of events in the window,
+     * including this one.
+     */
+    long incrementAndCount(long nowMs) {
+        long bucket = nowMs / bucketMs;
+        int index = (int) (bucket % BUCKETS);
+        while (true) {
+            long slot = slots.get(index);
+            long slotBucket = slot >>> COUNT_BITS;
+            long updated;
+            if (slotBucket == bucket) {
+                long count = slot & COUNT_MASK;
+                updated = count == COUNT_MASK ? slot : slot + 1;
+            } else if (slotBucket < bucket) {
+                updated = (bucket << COUNT_BITS) | 1;
+            } else {
+                // A later bucket already claimed the slot; the clock went backwards
+                break;
+            }
+            if (slots.compareAndSet(index, slot, updated)) {
+                break;
+            }
+        }
+
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            long slot = slots.get(i);
+            if (bucket - (slot >>> COUNT_BITS) < BUCKETS) {
+                total += slot & COUNT_MASK;
+            }
+        }
+        return total;
+    }
+
+    long windowNanos() {
+        return windowNanos;
+    }
+}
@@ -0,0 +1,172 @@
+package com.ecommerce.payment.infrastructure.fraud;
+
+import com.ecommerce.payment.domain.ports.FraudScreen;
+import com.ecommerce.payment.domain.value_objects.FraudDecision;
+import com.ecommerce.payment.infrastructure.config.FraudScreenConfig;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Fraud screen that applies velocity rules from {@link FraudScreenConfig}.
+ *
+ * Every attempt is counted against every rule, including attempts that
+ * end up rejected, so a burst keeps tripping its rule until it stops.
+ * Counters are held in memory per instance and keyed by rule and a salted
+ * SHA-256 of the customer, card BIN or IP; card numbers and addresses are
+ * never kept. An idle counter is evicted once its window has passed.
+ */
+@Component
+public class VelocityFraudScreen implements FraudScreen {
+
+    private static final int BIN_LENGTH = 6;
+
+    private final FraudScreenConfig config;
+    private final MeterRegistry meterRegistry;
+    private final LongSupplier clock;
+    private final byte[] salt;
+    private final Cache<String, SlidingWindowCounter> counters;
+    private final Map<FraudDecision.Action, Timer> latencyTimers = new EnumMap<>(FraudDecision.Action.class);
+
+    @Autowired
+    public VelocityFraudScreen(FraudScreenConfig config, MeterRegistry meterRegistry) {
+        this(config, meterRegistry, System::currentTimeMillis);
+    }
+
+    public VelocityFraudScreen(FraudScreenConfig config, MeterRegistry meterRegistry, LongSupplier clock) {
+        this.config = config;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        this.salt = salt(config.getHashSalt());
+        this.counters = Caffeine.newBuilder()
+                .maximumSize(config.getMaxTrackedKeys())
+                .expireAfter(new WindowExpiry())
+                .build();
+        for (FraudDecision.Action action : FraudDecision.Action.values()) {
+            latencyTimers.put(action, Timer.builder("payment.fraud.decision.latency")
+                    .description("Time to screen a payment attempt")
+                    .tag("action", action.name())
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    public FraudDecision screen(Attempt attempt) {
+        if (!config.isEnabled()) {
+            return FraudDecision.allow();
+        }
+        long start = System.nanoTime();
+        long now = clock.getAsLong();
+
+        FraudDecision decision = FraudDecision.allow();
+        Map<FraudScreenConfig.Dimension, String> hashes = new EnumMap<>(FraudScreenConfig.Dimension.class);
+        for (FraudScreenConfig.Rule rule : config.getRules()) {
+            String hash = hashes.computeIfAbsent(rule.getDimension(), dimension -> hash(dimension, attempt));
+            if (hash == null) {
+                continue;
+            }
+            long windowMs = TimeUnit.SECONDS.toMillis(rule.getWindowSeconds());
+            String key = rule.getName() + '|' + rule.getDimension() + '|' + windowMs + '|' + hash;
+            long count = counters.get(key, k -> new SlidingWindowCounter(windowMs)).incrementAndCount(now);
+            if (count > rule.getMaxAttempts() && rule.getAction().compareTo(decision.action()) > 0) {
+                decision = new FraudDecision(rule.getAction(), rule.getName());
+            }
+        }
+
+        latencyTimers.get(decision.action()).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (decision.rule() != null) {
+            Counter.builder("payment.fraud.decisions")
+                    .tag("action", decision.action().name())
+                    .tag("rule", decision.rule())
+                    .register(meterRegistry)
+                    .increment();
+        }
+        return decision;
+    }
+
+    private String hash(FraudScreenConfig.Dimension dimension, Attempt attempt) {
+        String value = switch (dimension) {
+            case CUSTOMER -> attempt.customerId() != null ? attempt.customerId().toString() : null;
+            case CARD_BIN -> bin(attempt.cardNumber());
+            case IP -> attempt.clientIp();
+        };
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(salt);
+            byte[] hashed = digest.digest(value.getBytes(StandardCharsets.UTF_8));
+            // Half the digest is ample to keep distinct values apart
+            return HexFormat.of().formatHex(hashed, 0, 16);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+
+    private static String bin(String cardNumber) {
+        if (cardNumber == null) {
+            return null;
+        }
+        StringBuilder digits = new StringBuilder(BIN_LENGTH);
+        for (int i = 0; i < cardNumber.length() && digits.length() < BIN_LENGTH; i++) {
+            char c = cardNumber.charAt(i);
+            if (Character.isDigit(c)) {
+                digits.append(c);
+            }
+        }
+        return digits.length() == BIN_LENGTH ? digits.toString() : null;
+    }
+
+    /**
+     * Uses the configured salt, or a random one so hashes only mean
+     * anything within this process.
+     */
+    private static byte[] salt(String configured) {
+        if (configured != null && !configured.isBlank()) {
+            return configured.getBytes(StandardCharsets.UTF_8);
+        }
+        byte[] random = new byte[16];
+        new SecureRandom().nextBytes(random);
+        return random;
+    }
+
+    /**
+     * Keeps each counter for one window after it was last touched.
+     */
+    private static final class WindowExpiry implements Expiry<String, SlidingWindowCounter> {
+
+        @Override
+        public long expireAfterCreate(String key, SlidingWindowCounter counter, long currentTime) {
+            return counter.windowNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, SlidingWindowCounter counter, long currentTime,
+                                      long currentDuration) {
+            return counter.windowNanos();
+        }
+
+        @Override
+        public long expireAfterRead(String key, SlidingWindowCounter counter, long currentTime,
+                                    long currentDuration) {
+            return counter.windowNanos();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.ecommerce.payment.infrastructure.gateway;
+
+/**
+ * Consecutive-failure circuit breaker.
+ *
+ * Opens after failureThreshold failures in a row and rejects calls for
+ * openMs. It then lets up to halfOpenProbes calls through; it closes once
+ * that many succeed and opens again on the first failure.
+ */
+final class CircuitBreaker {
+
+    enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final long openNanos;
+    private final int halfOpenProbes;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private int probesInFlight;
+    private int probeSuccesses;
+
+    CircuitBreaker(int failureThreshold, long openMs, int halfOpenProbes) {
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openMs * 1_000_000;
+        this.halfOpenProbes = Math.max(halfOpenProbes, 1);
+    }
+
+    /**
+     * Returns whether a call may proceed; a permitted call must be followed
+     * by onSuccess or onFailure.
+     */
+    synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAt < openNanos) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            probesInFlight = 0;
+            probeSuccesses = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (probesInFlight >= halfOpenProbes) {
+                return false;
+            }
+            probesInFlight++;
+        }
+        return true;
+    }
+
+    synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            probesInFlight--;
+            if (++probeSuccesses >= halfOpenProbes) {
+                state = State.CLOSED;
+            }
+        }
+        consecutiveFailures = 0;
+    }
+
+    synchronized void onFailure() {
+        if (state == State.HALF_OPEN || ++consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = System.nanoTime();
+            consecutiveFailures = 0;
+        }
+    }
+
+    synchronized State state() {
+        return state;
+    }
+}
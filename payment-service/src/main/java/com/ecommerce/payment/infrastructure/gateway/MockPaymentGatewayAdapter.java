@@ -1,17 +1,25 @@
 package com.ecommerce.payment.infrastructure.gateway;
 
 import com.ecommerce.payment.domain.ports.PaymentGatewayPort;
+import com.ecommerce.payment.domain.value_objects.PaymentMethod;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Mock payment gateway for development and testing.
  * Simulates payment processing with configurable success/failure.
+ * Results are remembered by payment or refund ID, so a repeated request
+ * returns the original result as a real gateway would.
  */
 @Component
+@Qualifier(ResilientPaymentGatewayAdapter.PSP)
 public class MockPaymentGatewayAdapter implements PaymentGatewayPort {
 
     private static final Logger log = LoggerFactory.getLogger(MockPaymentGatewayAdapter.class);
@@ -20,8 +28,20 @@ public class MockPaymentGatewayAdapter implements PaymentGatewayPort {
     private static final String FAIL_CARD_PREFIX = "4000";
     private static final String INSUFFICIENT_FUNDS_PREFIX = "4111";
 
+    private final Map<UUID, PaymentResult> results = new ConcurrentHashMap<>();
+    private final Map<UUID, RefundResult> refunds = new ConcurrentHashMap<>();
+
     @Override
     public PaymentResult processPayment(PaymentRequest request) {
+        return results.computeIfAbsent(request.paymentId(), paymentId -> charge(request));
+    }
+
+    @Override
+    public Optional<PaymentResult> findPayment(UUID paymentId, PaymentMethod paymentMethod) {
+        return Optional.ofNullable(results.get(paymentId));
+    }
+
+    private PaymentResult charge(PaymentRequest request) {
         log.info("Processing payment: {} for amount: {}",
                 request.paymentId(), request.amount());
 
@@ -53,6 +73,10 @@ public class MockPaymentGatewayAdapter implements PaymentGatewayPort {
 
     @Override
     public RefundResult processRefund(RefundRequest request) {
+        return refunds.computeIfAbsent(request.refundId(), refundId -> refund(request));
+    }
+
+    private RefundResult refund(RefundRequest request) {
         log.info("Processing refund: {} for amount: {}",
                 request.paymentId(), request.amount());
 
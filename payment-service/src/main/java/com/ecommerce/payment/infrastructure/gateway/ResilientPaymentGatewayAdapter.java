@@ -0,0 +1,240 @@
+package com.ecommerce.payment.infrastructure.gateway;
+
+import com.ecommerce.payment.domain.ports.PaymentGatewayPort;
+import com.ecommerce.payment.domain.value_objects.PaymentMethod;
+import com.ecommerce.payment.infrastructure.config.PaymentGatewayConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Decorates the PSP adapter with a deadline, bulkhead and circuit breaker
+ * per payment method.
+ *
+ * A call rejected by the bulkhead or an open circuit never reaches the
+ * PSP, so charges and refunds come back as a GATEWAY_UNAVAILABLE failure.
+ * A call that misses its deadline or throws may have taken effect, so it
+ * fails with GatewayUnavailableException and the payment is left for
+ * recovery. Status lookups are idempotent and may be hedged: if the first
+ * attempt has not answered after hedgeDelayMs a second one is sent and
+ * the first answer wins.
+ */
+@Component
+@Primary
+public class ResilientPaymentGatewayAdapter implements PaymentGatewayPort {
+
+    /**
+     * Qualifier of the adapter that talks to the PSP.
+     */
+    public static final String PSP = "psp";
+
+    private static final Logger log = LoggerFactory.getLogger(ResilientPaymentGatewayAdapter.class);
+
+    private static final String UNAVAILABLE = "GATEWAY_UNAVAILABLE";
+
+    private final PaymentGatewayPort psp;
+    private final MeterRegistry meterRegistry;
+    private final Map<PaymentMethod, Channel> channels = new EnumMap<>(PaymentMethod.class);
+    private final ExecutorService calls = Executors.newVirtualThreadPerTaskExecutor();
+
+    public ResilientPaymentGatewayAdapter(
+            @Qualifier(PSP) PaymentGatewayPort psp,
+            PaymentGatewayConfig config,
+            MeterRegistry meterRegistry
+    ) {
+        this.psp = psp;
+        this.meterRegistry = meterRegistry;
+        for (PaymentMethod method : PaymentMethod.values()) {
+            channels.put(method, new Channel(method, config.policyFor(method), meterRegistry));
+        }
+    }
+
+    @Override
+    public PaymentResult processPayment(PaymentRequest request) {
+        return call(request.paymentMethod(), "charge",
+                () -> psp.processPayment(request),
+                reason -> PaymentResult.failure(UNAVAILABLE, "Payment gateway unavailable: " + reason));
+    }
+
+    @Override
+    public Optional<PaymentResult> findPayment(UUID paymentId, PaymentMethod paymentMethod) {
+        Channel channel = channels.get(paymentMethod);
+        return call(paymentMethod, "lookup",
+                () -> hedged(() -> psp.findPayment(paymentId, paymentMethod), channel),
+                reason -> {
+                    throw new GatewayUnavailableException("Payment lookup rejected: " + reason);
+                });
+    }
+
+    @Override
+    public RefundResult processRefund(RefundRequest request) {
+        return call(request.paymentMethod(), "refund",
+                () -> psp.processRefund(request),
+                reason -> RefundResult.failure(UNAVAILABLE, "Payment gateway unavailable: " + reason));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        calls.shutdownNow();
+    }
+
+    private <T> T call(PaymentMethod method, String operation, Callable<T> call,
+                       Function<String, T> rejected) {
+        Channel channel = channels.get(method);
+        if (!channel.acquireBulkhead()) {
+            channel.rejected("bulkhead").increment();
+            return rejected.apply("too many concurrent calls");
+        }
+        try {
+            if (!channel.breaker.tryAcquirePermission()) {
+                channel.rejected("circuit_open").increment();
+                return rejected.apply("circuit open");
+            }
+            return timed(channel, operation, call);
+        } finally {
+            channel.bulkhead.release();
+        }
+    }
+
+    private <T> T timed(Channel channel, String operation, Callable<T> call) {
+        long start = System.nanoTime();
+        Future<T> future = calls.submit(call);
+        try {
+            T result = future.get(channel.policy.getTimeoutMs(), TimeUnit.MILLISECONDS);
+            channel.breaker.onSuccess();
+            channel.latency(operation, "success").record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (TimeoutException ex) {
+            future.cancel(true);
+            return failed(channel, operation, "timeout", start,
+                    () -> new GatewayUnavailableException(operation + " timed out after "
+                            + channel.policy.getTimeoutMs() + "ms"));
+        } catch (ExecutionException ex) {
+            return failed(channel, operation, "error", start,
+                    () -> new GatewayUnavailableException(operation + " failed: " + ex.getCause().getMessage(),
+                            ex.getCause()));
+        } catch (InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            return failed(channel, operation, "error", start,
+                    () -> new GatewayUnavailableException(operation + " interrupted", ex));
+        }
+    }
+
+    private <T> T failed(Channel channel, String operation, String outcome, long start,
+                         Supplier<GatewayUnavailableException> failure) {
+        channel.breaker.onFailure();
+        channel.latency(operation, outcome).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        GatewayUnavailableException ex = failure.get();
+        log.warn("Gateway {} for {} failed: {}", operation, channel.method, ex.getMessage());
+        throw ex;
+    }
+
+    /**
+     * Runs an idempotent call, sending a second attempt if the first has
+     * not answered within the hedge delay.
+     */
+    private <T> T hedged(Callable<T> call, Channel channel) throws Exception {
+        long hedgeDelayMs = channel.policy.getHedgeDelayMs();
+        if (hedgeDelayMs <= 0) {
+            return call.call();
+        }
+        ExecutorCompletionService<T> attempts = new ExecutorCompletionService<>(calls);
+        List<Future<T>> started = new ArrayList<>(2);
+        started.add(attempts.submit(call));
+        try {
+            Future<T> done = attempts.poll(hedgeDelayMs, TimeUnit.MILLISECONDS);
+            if (done == null) {
+                channel.hedged.increment();
+                started.add(attempts.submit(call));
+                done = attempts.take();
+            }
+            try {
+                return done.get();
+            } catch (ExecutionException ex) {
+                if (started.size() < 2) {
+                    throw ex;
+                }
+                return attempts.take().get();
+            }
+        } finally {
+            started.forEach(attempt -> attempt.cancel(true));
+        }
+    }
+
+    /**
+     * Isolation and metrics for the calls of one payment method.
+     */
+    private final class Channel {
+
+        private final PaymentMethod method;
+        private final PaymentGatewayConfig.Policy policy;
+        private final Semaphore bulkhead;
+        private final CircuitBreaker breaker;
+        private final Counter hedged;
+
+        Channel(PaymentMethod method, PaymentGatewayConfig.Policy policy, MeterRegistry meterRegistry) {
+            this.method = method;
+            this.policy = policy;
+            this.bulkhead = new Semaphore(policy.getMaxConcurrentCalls());
+            this.breaker = new CircuitBreaker(policy.getFailureThreshold(), policy.getOpenMs(),
+                    policy.getHalfOpenProbes());
+            this.hedged = Counter.builder("payment.gateway.hedged")
+                    .tag("method", method.name())
+                    .register(meterRegistry);
+            Gauge.builder("payment.gateway.circuit.state", breaker, b -> b.state().ordinal())
+                    .description("0 closed, 1 open, 2 half-open")
+                    .tag("method", method.name())
+                    .register(meterRegistry);
+        }
+
+        boolean acquireBulkhead() {
+            try {
+                return bulkhead.tryAcquire(policy.getMaxWaitMs(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        Counter rejected(String reason) {
+            return Counter.builder("payment.gateway.rejected")
+                    .tag("method", method.name())
+                    .tag("reason", reason)
+                    .register(meterRegistry);
+        }
+
+        Timer latency(String operation, String outcome) {
+            return Timer.builder("payment.gateway.latency")
+                    .tag("method", method.name())
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry);
+        }
+    }
+}
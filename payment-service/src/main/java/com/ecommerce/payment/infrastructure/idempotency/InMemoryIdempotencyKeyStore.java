@@ -0,0 +1,62 @@
+package com.ecommerce.payment.infrastructure.idempotency;
+
+import com.ecommerce.payment.domain.ports.IdempotencyKeyStore;
+import com.ecommerce.payment.domain.value_objects.IdempotencyRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory idempotency key store, for single-instance runs without a database.
+ * Expired records are treated as absent on lookup and purged periodically.
+ */
+@Component
+@ConditionalOnProperty(prefix = "payment.persistence", name = "store", havingValue = "memory")
+public class InMemoryIdempotencyKeyStore implements IdempotencyKeyStore {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemoryIdempotencyKeyStore.class);
+
+    private final Map<String, IdempotencyRecord> records = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<IdempotencyRecord> claim(String key, IdempotencyRecord inProgress) {
+        Instant now = Instant.now();
+        IdempotencyRecord[] existing = new IdempotencyRecord[1];
+        records.compute(key, (k, current) -> {
+            if (current != null && !current.isExpired(now)) {
+                existing[0] = current;
+                return current;
+            }
+            return inProgress;
+        });
+        return Optional.ofNullable(existing[0]);
+    }
+
+    @Override
+    public void complete(String key, IdempotencyRecord outcome) {
+        records.put(key, outcome);
+    }
+
+    @Override
+    public void release(String key) {
+        records.computeIfPresent(key, (k, current) -> current.isInProgress() ? null : current);
+    }
+
+    @Scheduled(fixedDelayString = "${payment.idempotency.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        Instant now = Instant.now();
+        int before = records.size();
+        records.values().removeIf(record -> record.isExpired(now));
+        int purged = before - records.size();
+        if (purged > 0) {
+            log.debug("Purged {} expired idempotency keys", purged);
+        }
+    }
+}
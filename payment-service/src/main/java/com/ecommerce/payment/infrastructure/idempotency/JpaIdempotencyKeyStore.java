@@ -0,0 +1,78 @@
+package com.ecommerce.payment.infrastructure.idempotency;
+
+import com.ecommerce.payment.domain.ports.IdempotencyKeyStore;
+import com.ecommerce.payment.domain.value_objects.IdempotencyRecord;
+import com.ecommerce.payment.infrastructure.persistence.entities.IdempotencyKeyJpaEntity;
+import com.ecommerce.payment.infrastructure.persistence.repositories.IdempotencyKeyJpaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Idempotency key store in the payment database, so a key claimed on one
+ * replica is seen by every other and survives restarts. A key is claimed
+ * by a single upsert; a request that loses the claim reads the record the
+ * winner holds. Expired records are treated as absent on claim and purged
+ * periodically.
+ */
+@Component
+@ConditionalOnProperty(prefix = "payment.persistence", name = "store", havingValue = "jpa", matchIfMissing = true)
+public class JpaIdempotencyKeyStore implements IdempotencyKeyStore {
+
+    private static final Logger log = LoggerFactory.getLogger(JpaIdempotencyKeyStore.class);
+
+    private static final int MAX_ERROR_CODE_LENGTH = 100;
+    private static final int MAX_ERROR_MESSAGE_LENGTH = 500;
+
+    private final IdempotencyKeyJpaRepository repository;
+
+    public JpaIdempotencyKeyStore(IdempotencyKeyJpaRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    @Transactional
+    public Optional<IdempotencyRecord> claim(String key, IdempotencyRecord inProgress) {
+        if (repository.claim(key, inProgress.requestHash(), inProgress.expiresAt(), Instant.now()) == 1) {
+            return Optional.empty();
+        }
+        // The upsert left the row locked, so it is still there to read
+        IdempotencyKeyJpaEntity existing = repository.findById(key)
+                .orElseThrow(() -> new IllegalStateException("Idempotency key vanished while locked: " + key));
+        return Optional.of(new IdempotencyRecord(existing.getRequestHash(), existing.getPaymentId(),
+                existing.getErrorCode(), existing.getErrorMessage(), existing.getExpiresAt()));
+    }
+
+    @Override
+    @Transactional
+    public void complete(String key, IdempotencyRecord outcome) {
+        repository.complete(key, outcome.requestHash(), outcome.paymentId(),
+                truncate(outcome.errorCode(), MAX_ERROR_CODE_LENGTH),
+                truncate(outcome.errorMessage(), MAX_ERROR_MESSAGE_LENGTH), outcome.expiresAt());
+    }
+
+    @Override
+    @Transactional
+    public void release(String key) {
+        repository.deleteInProgress(key);
+    }
+
+    @Scheduled(fixedDelayString = "${payment.idempotency.purge-interval-ms:60000}")
+    @Transactional
+    public void purgeExpired() {
+        int purged = repository.deleteExpired(Instant.now());
+        if (purged > 0) {
+            log.debug("Purged {} expired idempotency keys", purged);
+        }
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value != null && value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+}
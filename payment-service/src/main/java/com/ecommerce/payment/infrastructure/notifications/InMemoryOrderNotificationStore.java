@@ -0,0 +1,108 @@
+package com.ecommerce.payment.infrastructure.notifications;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * In-memory order notification store for the in-memory payment store.
+ * Enabled with payment.persistence.store=memory; for development and
+ * testing only, as undelivered notifications are lost on restart.
+ * A replaced notification keeps its order's place in the queue; if the
+ * old one is being sent, the new one waits for that send to finish so an
+ * order never has two sends in flight.
+ */
+@Component
+@ConditionalOnProperty(prefix = "payment.persistence", name = "store", havingValue = "memory")
+public class InMemoryOrderNotificationStore implements OrderNotificationStore {
+
+    private final Map<UUID, Entry> byOrder = new LinkedHashMap<>();
+    private long sequence;
+
+    @Override
+    public synchronized void enqueue(OrderNotification notification) {
+        OrderNotification sequenced = notification.withSequence(++sequence);
+        Entry entry = byOrder.get(notification.orderId());
+        if (entry == null) {
+            byOrder.put(notification.orderId(), new Entry(sequenced));
+        } else {
+            entry.notification = sequenced;
+            entry.attempts = 0;
+            if (!entry.inFlight) {
+                entry.availableAt = Instant.MIN;
+            }
+        }
+    }
+
+    @Override
+    public synchronized List<OrderNotification> claim(int limit, Instant leaseUntil) {
+        Instant now = Instant.now();
+        List<OrderNotification> claimed = new ArrayList<>();
+        for (Entry entry : byOrder.values()) {
+            if (claimed.size() >= limit) {
+                break;
+            }
+            if (!entry.availableAt.isAfter(now)) {
+                entry.availableAt = leaseUntil;
+                entry.inFlight = true;
+                entry.attempts++;
+                claimed.add(entry.notification.withAttempts(entry.attempts));
+            }
+        }
+        return claimed;
+    }
+
+    @Override
+    public synchronized void markDelivered(Collection<OrderNotification> delivered) {
+        for (OrderNotification notification : delivered) {
+            Entry entry = byOrder.get(notification.orderId());
+            if (entry == null) {
+                continue;
+            }
+            if (entry.notification.sequence() == notification.sequence()) {
+                byOrder.remove(notification.orderId());
+            } else {
+                release(entry, Instant.MIN);
+            }
+        }
+    }
+
+    @Override
+    public synchronized void markFailed(Collection<OrderNotification> failed, Instant retryAt) {
+        for (OrderNotification notification : failed) {
+            Entry entry = byOrder.get(notification.orderId());
+            if (entry != null) {
+                release(entry, entry.notification.sequence() == notification.sequence() ? retryAt : Instant.MIN);
+            }
+        }
+    }
+
+    @Override
+    public synchronized int countPending() {
+        return byOrder.size();
+    }
+
+    private static void release(Entry entry, Instant availableAt) {
+        entry.inFlight = false;
+        entry.availableAt = availableAt;
+    }
+
+    private static final class Entry {
+
+        private OrderNotification notification;
+        private Instant availableAt = Instant.MIN;
+        private int attempts;
+        private boolean inFlight;
+
+        private Entry(OrderNotification notification) {
+            this.notification = notification;
+        }
+    }
+}
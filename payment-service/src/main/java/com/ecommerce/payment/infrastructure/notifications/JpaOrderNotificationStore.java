@@ -0,0 +1,100 @@
+package com.ecommerce.payment.infrastructure.notifications;
+
+import com.ecommerce.payment.infrastructure.persistence.entities.OrderNotificationJpaEntity;
+import com.ecommerce.payment.infrastructure.persistence.repositories.OrderNotificationJpaRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Order notification store in the payment database, next to the payments
+ * whose outcomes it holds. Enqueueing joins the transaction that settles
+ * the payment, so an outcome is queued if and only if it is saved.
+ * Notifications are claimed with row locks that skip rows already locked,
+ * so each replica's relay takes a different batch.
+ */
+@Component
+@ConditionalOnProperty(prefix = "payment.persistence", name = "store", havingValue = "jpa", matchIfMissing = true)
+public class JpaOrderNotificationStore implements OrderNotificationStore {
+
+    private final OrderNotificationJpaRepository repository;
+
+    public JpaOrderNotificationStore(OrderNotificationJpaRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    @Transactional
+    public void enqueue(OrderNotification notification) {
+        Instant now = Instant.now();
+        OrderNotificationJpaEntity entity = repository.findByIdForUpdate(notification.orderId())
+                .orElse(null);
+        if (entity == null) {
+            entity = new OrderNotificationJpaEntity();
+            entity.setOrderId(notification.orderId());
+            entity.setQueuedAt(now);
+            entity.setAvailableAt(now);
+            entity.markNew();
+        } else if (!entity.isInFlight()) {
+            entity.setAvailableAt(now);
+        }
+        entity.setPaymentId(notification.paymentId());
+        entity.setOutcome(notification.outcome().name());
+        entity.setReason(notification.reason());
+        entity.setSequenceNumber(entity.getSequenceNumber() + 1);
+        entity.setAttempts(0);
+        entity.setCreatedAt(notification.createdAt());
+        repository.save(entity);
+    }
+
+    @Override
+    @Transactional
+    public List<OrderNotification> claim(int limit, Instant leaseUntil) {
+        List<OrderNotificationJpaEntity> due = repository.findDueForUpdate(Instant.now(), PageRequest.of(0, limit));
+        List<OrderNotification> claimed = new ArrayList<>(due.size());
+        for (OrderNotificationJpaEntity entity : due) {
+            entity.setAvailableAt(leaseUntil);
+            entity.setInFlight(true);
+            entity.setAttempts(entity.getAttempts() + 1);
+            claimed.add(new OrderNotification(entity.getOrderId(), entity.getPaymentId(),
+                    OrderNotification.Outcome.valueOf(entity.getOutcome()), entity.getReason(),
+                    entity.getSequenceNumber(), entity.getAttempts(), entity.getCreatedAt()));
+        }
+        return claimed;
+    }
+
+    @Override
+    @Transactional
+    public void markDelivered(Collection<OrderNotification> delivered) {
+        Instant now = Instant.now();
+        for (OrderNotification notification : delivered) {
+            if (repository.deleteDelivered(notification.orderId(), notification.sequence()) == 0) {
+                // Replaced while in flight: the newer outcome is due now
+                repository.release(notification.orderId(), now);
+            }
+        }
+    }
+
+    @Override
+    @Transactional
+    public void markFailed(Collection<OrderNotification> failed, Instant retryAt) {
+        Instant now = Instant.now();
+        for (OrderNotification notification : failed) {
+            if (repository.reschedule(notification.orderId(), notification.sequence(), retryAt) == 0) {
+                repository.release(notification.orderId(), now);
+            }
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public int countPending() {
+        return Math.toIntExact(repository.count());
+    }
+}
@@ -0,0 +1,50 @@
+package com.ecommerce.payment.infrastructure.notifications;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A payment outcome queued for delivery to order service.
+ *
+ * @param orderId   the order the payment was for
+ * @param paymentId the payment, or null for a failure before one was charged
+ * @param outcome   outcome of the payment
+ * @param reason    failure reason, or null
+ * @param sequence  assigned by the store; a newer notification for the
+ *                  same order has a higher sequence
+ * @param attempts  delivery attempts including the current one
+ * @param createdAt when the outcome was recorded
+ */
+public record OrderNotification(
+        UUID orderId,
+        UUID paymentId,
+        Outcome outcome,
+        String reason,
+        long sequence,
+        int attempts,
+        Instant createdAt
+) {
+    /**
+     * Outcome of a payment.
+     */
+    public enum Outcome {
+        COMPLETED,
+        FAILED
+    }
+
+    public static OrderNotification completed(UUID orderId, UUID paymentId) {
+        return new OrderNotification(orderId, paymentId, Outcome.COMPLETED, null, 0, 0, Instant.now());
+    }
+
+    public static OrderNotification failed(UUID orderId, String reason) {
+        return new OrderNotification(orderId, null, Outcome.FAILED, reason, 0, 0, Instant.now());
+    }
+
+    public OrderNotification withSequence(long sequence) {
+        return new OrderNotification(orderId, paymentId, outcome, reason, sequence, attempts, createdAt);
+    }
+
+    public OrderNotification withAttempts(int attempts) {
+        return new OrderNotification(orderId, paymentId, outcome, reason, sequence, attempts, createdAt);
+    }
+}
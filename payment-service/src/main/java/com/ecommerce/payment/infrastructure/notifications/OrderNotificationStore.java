@@ -0,0 +1,43 @@
+package com.ecommerce.payment.infrastructure.notifications;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Local queue of payment outcomes awaiting delivery to order service.
+ *
+ * Holds at most one notification per order: only the latest outcome of
+ * an order matters, so a newer one replaces any that has not been
+ * delivered yet.
+ */
+public interface OrderNotificationStore {
+
+    /**
+     * Queues a notification, replacing any undelivered one for its order.
+     */
+    void enqueue(OrderNotification notification);
+
+    /**
+     * Claims up to limit due notifications, oldest first, leasing them
+     * until leaseUntil.
+     */
+    List<OrderNotification> claim(int limit, Instant leaseUntil);
+
+    /**
+     * Removes delivered notifications, except those replaced by a newer
+     * outcome since they were claimed.
+     */
+    void markDelivered(Collection<OrderNotification> delivered);
+
+    /**
+     * Makes notifications due again at retryAt, except those replaced by a
+     * newer outcome since they were claimed, which are due immediately.
+     */
+    void markFailed(Collection<OrderNotification> failed, Instant retryAt);
+
+    /**
+     * Counts notifications not yet delivered.
+     */
+    int countPending();
+}
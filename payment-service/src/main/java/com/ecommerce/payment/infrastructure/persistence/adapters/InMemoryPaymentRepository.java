@@ -2,29 +2,94 @@ package com.ecommerce.payment.infrastructure.persistence.adapters;
 
 import com.ecommerce.payment.domain.aggregates.Payment;
 import com.ecommerce.payment.domain.ports.PaymentRepository;
+import com.ecommerce.payment.domain.ports.PaymentStatisticsStore;
+import com.ecommerce.payment.domain.value_objects.PaymentHistoryCursor;
 import com.ecommerce.payment.domain.value_objects.PaymentStatus;
+import com.ecommerce.payment.infrastructure.statistics.InMemoryPaymentStatisticsStore;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Stream;
 
 /**
  * In-memory implementation of PaymentRepository.
  * For development and testing purposes only.
+ *
+ * Each customer's payments are indexed newest first, so a page of
+ * history costs the page size rather than a scan of every payment.
+ *
+ * Keeps a unique index from order ID to the order's current payment.
+ * A new payment for an order is rejected while the indexed payment is
+ * still active or completed; a failed or expired payment is replaced.
+ *
+ * Also keeps an index ordered by status and updatedAt, so payments left
+ * in a status are found without scanning every payment, and one ordered
+ * by gateway transaction ID for reconciliation. Transitions recorded by
+ * the payment are added to the statistics store on save.
  */
 @Repository
+@ConditionalOnProperty(prefix = "payment.persistence", name = "store", havingValue = "memory")
 public class InMemoryPaymentRepository implements PaymentRepository {
 
+    private static final Comparator<PaymentHistoryCursor> NEWEST_FIRST =
+            Comparator.comparing(PaymentHistoryCursor::createdAt)
+                    .thenComparing(PaymentHistoryCursor::paymentId)
+                    .reversed();
+
     private final Map<UUID, Payment> payments = new ConcurrentHashMap<>();
+    private final Map<UUID, UUID> byOrder = new ConcurrentHashMap<>();
+    private final Map<UUID, StatusKey> statusKeys = new ConcurrentHashMap<>();
+    private final NavigableSet<StatusKey> byStatus = new ConcurrentSkipListSet<>();
+    private final NavigableMap<String, UUID> byTransactionId = new ConcurrentSkipListMap<>();
+    private final Map<UUID, NavigableSet<PaymentHistoryCursor>> byCustomer = new ConcurrentHashMap<>();
+    private final PaymentStatisticsStore statisticsStore;
+
+    public InMemoryPaymentRepository() {
+        this(new InMemoryPaymentStatisticsStore());
+    }
+
+    @Autowired
+    public InMemoryPaymentRepository(PaymentStatisticsStore statisticsStore) {
+        this.statisticsStore = statisticsStore;
+    }
 
     @Override
     public Payment save(Payment payment) {
-        payments.put(payment.getId(), payment);
+        byOrder.compute(payment.getOrderId(), (orderId, currentId) -> {
+            if (currentId != null && !currentId.equals(payment.getId())) {
+                Payment current = payments.get(currentId);
+                if (current != null && !current.getStatus().allowsRetry()) {
+                    throw new IllegalStateException("Order " + orderId + " already has a "
+                            + current.getStatus() + " payment: " + currentId);
+                }
+            }
+            store(payment);
+            return payment.getId();
+        });
         return payment;
     }
 
+    @Override
+    public boolean saveIfStatus(Payment payment, PaymentStatus expectedStatus) {
+        boolean[] saved = new boolean[1];
+        byOrder.computeIfPresent(payment.getOrderId(), (orderId, currentId) -> {
+            StatusKey stored = statusKeys.get(payment.getId());
+            if (stored != null && stored.status() == expectedStatus) {
+                store(payment);
+                saved[0] = true;
+            }
+            return currentId;
+        });
+        return saved[0];
+    }
+
     @Override
     public Optional<Payment> findById(UUID paymentId) {
         return Optional.ofNullable(payments.get(paymentId));
@@ -32,26 +97,52 @@ public class InMemoryPaymentRepository implements PaymentRepository {
 
     @Override
     public Optional<Payment> findByOrderId(UUID orderId) {
-        return payments.values().stream()
-                .filter(p -> p.getOrderId().equals(orderId))
-                .findFirst();
+        UUID paymentId = byOrder.get(orderId);
+        return paymentId != null ? Optional.ofNullable(payments.get(paymentId)) : Optional.empty();
     }
 
     @Override
-    public List<Payment> findByCustomerId(UUID customerId) {
-        return payments.values().stream()
-                .filter(p -> p.getCustomerId().equals(customerId))
-                .sorted(Comparator.comparing(Payment::getCreatedAt).reversed())
+    public List<Payment> findByCustomerId(UUID customerId, PaymentHistoryCursor after, int limit) {
+        NavigableSet<PaymentHistoryCursor> history = byCustomer.get(customerId);
+        if (history == null) {
+            return List.of();
+        }
+        return (after != null ? history.tailSet(after, false) : history).stream()
+                .map(key -> payments.get(key.paymentId()))
+                .filter(Objects::nonNull)
+                .limit(limit)
                 .toList();
     }
 
     @Override
     public List<Payment> findByStatus(PaymentStatus status) {
-        return payments.values().stream()
-                .filter(p -> p.getStatus() == status)
+        return byStatus.subSet(StatusKey.first(status, Instant.MIN), StatusKey.first(status, Instant.MAX))
+                .stream()
+                .map(key -> payments.get(key.paymentId()))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public List<Payment> findByStatus(PaymentStatus status, Instant updatedBefore, int limit) {
+        return byStatus.subSet(StatusKey.first(status, Instant.MIN), StatusKey.first(status, updatedBefore))
+                .stream()
+                .map(key -> payments.get(key.paymentId()))
+                .filter(Objects::nonNull)
+                .limit(limit)
                 .toList();
     }
 
+    @Override
+    public Stream<Payment> streamCompletedByTransactionId(Instant completedFrom, Instant completedTo) {
+        return byTransactionId.values().stream()
+                .map(payments::get)
+                .filter(Objects::nonNull)
+                .filter(p -> p.getCompletedAt() != null
+                        && !p.getCompletedAt().isBefore(completedFrom)
+                        && p.getCompletedAt().isBefore(completedTo));
+    }
+
     @Override
     public List<Payment> findPendingPaymentsOlderThan(long timeoutMinutes) {
         Instant cutoff = Instant.now().minus(timeoutMinutes, ChronoUnit.MINUTES);
@@ -65,6 +156,56 @@ public class InMemoryPaymentRepository implements PaymentRepository {
      * Clears all payments. For testing purposes only.
      */
     public void clear() {
+        byCustomer.clear();
+        byTransactionId.clear();
+        byStatus.clear();
+        statusKeys.clear();
+        byOrder.clear();
         payments.clear();
     }
+
+    private void store(Payment payment) {
+        payments.put(payment.getId(), payment);
+        indexStatus(payment);
+        byCustomer.computeIfAbsent(payment.getCustomerId(), id -> new ConcurrentSkipListSet<>(NEWEST_FIRST))
+                .add(PaymentHistoryCursor.of(payment));
+        if (payment.getTransactionId() != null) {
+            byTransactionId.put(payment.getTransactionId(), payment.getId());
+        }
+        statisticsStore.record(payment.getTransitions());
+        payment.clearTransitions();
+    }
+
+    /**
+     * Moves the payment's index entry; saves of one payment are serialised
+     * by the order index, which holds the payment's order while this runs.
+     */
+    private void indexStatus(Payment payment) {
+        StatusKey key = new StatusKey(payment.getStatus(), payment.getUpdatedAt(), payment.getId());
+        StatusKey previous = statusKeys.put(payment.getId(), key);
+        if (previous != null && !previous.equals(key)) {
+            byStatus.remove(previous);
+        }
+        byStatus.add(key);
+    }
+
+    private record StatusKey(PaymentStatus status, Instant updatedAt, UUID paymentId)
+            implements Comparable<StatusKey> {
+
+        private static final UUID MIN_ID = new UUID(Long.MIN_VALUE, Long.MIN_VALUE);
+
+        static StatusKey first(PaymentStatus status, Instant updatedAt) {
+            return new StatusKey(status, updatedAt, MIN_ID);
+        }
+
+        @Override
+        public int compareTo(StatusKey other) {
+            int byStatus = status.compareTo(other.status);
+            if (byStatus != 0) {
+                return byStatus;
+            }
+            int byUpdatedAt = updatedAt.compareTo(other.updatedAt);
+            return byUpdatedAt != 0 ? byUpdatedAt : paymentId.compareTo(other.paymentId);
+        }
+    }
 }
@@ -0,0 +1,170 @@
+package com.ecommerce.payment.infrastructure.persistence.adapters;
+
+import com.ecommerce.payment.domain.aggregates.Payment;
+import com.ecommerce.payment.domain.ports.PaymentRepository;
+import com.ecommerce.payment.domain.ports.PaymentStatisticsStore;
+import com.ecommerce.payment.domain.value_objects.PaymentHistoryCursor;
+import com.ecommerce.payment.domain.value_objects.PaymentStatus;
+import com.ecommerce.payment.infrastructure.persistence.entities.PaymentJpaEntity;
+import com.ecommerce.payment.infrastructure.persistence.mappers.PaymentMapper;
+import com.ecommerce.payment.infrastructure.persistence.repositories.PaymentJpaRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Adapter implementing PaymentRepository port using JPA.
+ *
+ * Customer history is read by keyset from the (customer_id, created_at,
+ * id) index, so a page costs the page size however long the history is.
+ * One active or completed payment per order is enforced by a partial
+ * unique index; a save that loses that race is reported like the
+ * in-memory store reports it. A save of an existing payment is rejected
+ * if the row's version moved on since the payment was loaded, while
+ * saveIfStatus guards on the locked row's status instead. Either way the
+ * payment takes the row's new version. Transitions recorded by the
+ * payment are added to the statistics in the same transaction.
+ */
+@Component
+@ConditionalOnProperty(prefix = "payment.persistence", name = "store", havingValue = "jpa", matchIfMissing = true)
+public class PaymentRepositoryAdapter implements PaymentRepository {
+
+    private final PaymentJpaRepository jpaRepository;
+    private final EntityManager entityManager;
+    private final PaymentStatisticsStore statisticsStore;
+
+    public PaymentRepositoryAdapter(PaymentJpaRepository jpaRepository, EntityManager entityManager,
+                                    PaymentStatisticsStore statisticsStore) {
+        this.jpaRepository = jpaRepository;
+        this.entityManager = entityManager;
+        this.statisticsStore = statisticsStore;
+    }
+
+    @Override
+    @Transactional
+    public Payment save(Payment payment) {
+        Optional<PaymentJpaEntity> existing = jpaRepository.findById(payment.getId());
+        if (existing.isPresent()) {
+            if (existing.get().getVersion() != payment.getVersion()) {
+                throw new ObjectOptimisticLockingFailureException(PaymentJpaEntity.class, payment.getId());
+            }
+            update(payment, existing.get());
+            recordTransitions(payment);
+            return payment;
+        }
+        jpaRepository.findFirstByOrderIdOrderByCreatedAtDesc(payment.getOrderId())
+                .filter(current -> !PaymentStatus.valueOf(current.getStatus()).allowsRetry())
+                .ifPresent(current -> {
+                    throw activePaymentExists(payment.getOrderId(), current.getStatus(), current.getId());
+                });
+        try {
+            jpaRepository.saveAndFlush(PaymentMapper.toNewJpa(payment));
+        } catch (DataIntegrityViolationException ex) {
+            throw activePaymentExists(payment.getOrderId(), "active", null);
+        }
+        recordTransitions(payment);
+        return payment;
+    }
+
+    @Override
+    @Transactional
+    public boolean saveIfStatus(Payment payment, PaymentStatus expectedStatus) {
+        PaymentJpaEntity existing = jpaRepository.findForUpdateById(payment.getId()).orElse(null);
+        if (existing == null || !expectedStatus.name().equals(existing.getStatus())) {
+            return false;
+        }
+        update(payment, existing);
+        recordTransitions(payment);
+        return true;
+    }
+
+    private void update(Payment payment, PaymentJpaEntity existing) {
+        PaymentMapper.applyChanges(payment, existing);
+        jpaRepository.flush();
+        payment.markPersisted(existing.getVersion());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Payment> findById(UUID paymentId) {
+        return jpaRepository.findById(paymentId)
+                .map(PaymentMapper::toDomain);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Payment> findByOrderId(UUID orderId) {
+        return jpaRepository.findFirstByOrderIdOrderByCreatedAtDesc(orderId)
+                .map(PaymentMapper::toDomain);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Payment> findByCustomerId(UUID customerId, PaymentHistoryCursor after, int limit) {
+        PageRequest page = PageRequest.ofSize(limit);
+        List<PaymentJpaEntity> entities = after == null
+                ? jpaRepository.findByCustomerIdOrderByCreatedAtDescIdDesc(customerId, page)
+                : jpaRepository.findByCustomerIdAfter(customerId, after.createdAt(), after.paymentId(), page);
+        return toDomain(entities);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Payment> findByStatus(PaymentStatus status) {
+        return toDomain(jpaRepository.findByStatusOrderByUpdatedAtAsc(status.name()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Payment> findByStatus(PaymentStatus status, Instant updatedBefore, int limit) {
+        return toDomain(jpaRepository.findByStatusAndUpdatedAtBeforeOrderByUpdatedAtAsc(
+                status.name(), updatedBefore, PageRequest.ofSize(limit)));
+    }
+
+    /**
+     * Rows are detached as they are mapped, so the persistence context does
+     * not grow with the stream.
+     */
+    @Override
+    public Stream<Payment> streamCompletedByTransactionId(Instant completedFrom, Instant completedTo) {
+        return jpaRepository.streamCompletedByTransactionId(completedFrom, completedTo)
+                .map(entity -> {
+                    entityManager.detach(entity);
+                    return PaymentMapper.toDomain(entity);
+                });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Payment> findPendingPaymentsOlderThan(long timeoutMinutes) {
+        Instant cutoff = Instant.now().minus(timeoutMinutes, ChronoUnit.MINUTES);
+        return toDomain(jpaRepository.findByStatusAndCreatedAtBefore(PaymentStatus.PENDING.name(), cutoff));
+    }
+
+    private void recordTransitions(Payment payment) {
+        statisticsStore.record(payment.getTransitions());
+        payment.clearTransitions();
+    }
+
+    private static IllegalStateException activePaymentExists(UUID orderId, String status, UUID paymentId) {
+        return new IllegalStateException("Order " + orderId + " already has a " + status + " payment"
+                + (paymentId != null ? ": " + paymentId : ""));
+    }
+
+    private static List<Payment> toDomain(List<PaymentJpaEntity> entities) {
+        return entities.stream()
+                .map(PaymentMapper::toDomain)
+                .toList();
+    }
+}
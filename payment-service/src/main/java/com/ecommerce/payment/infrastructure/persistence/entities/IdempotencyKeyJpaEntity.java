@@ -0,0 +1,67 @@
+package com.ecommerce.payment.infrastructure.persistence.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * JPA entity for the record held for a client-supplied idempotency key.
+ * Rows are written by upsert and update statements in the repository, so
+ * the entity is only read.
+ */
+@Entity
+@Table(name = "idempotency_keys")
+public class IdempotencyKeyJpaEntity {
+
+    @Id
+    @Column(name = "idempotency_key", nullable = false, updatable = false, length = 300)
+    private String idempotencyKey;
+
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+
+    @Column(name = "payment_id")
+    private UUID paymentId;
+
+    @Column(name = "error_code", length = 100)
+    private String errorCode;
+
+    @Column(name = "error_message", length = 500)
+    private String errorMessage;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    // Default constructor for JPA
+    public IdempotencyKeyJpaEntity() {
+    }
+
+    // Getters
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+
+    public String getRequestHash() {
+        return requestHash;
+    }
+
+    public UUID getPaymentId() {
+        return paymentId;
+    }
+
+    public String getErrorCode() {
+        return errorCode;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+}
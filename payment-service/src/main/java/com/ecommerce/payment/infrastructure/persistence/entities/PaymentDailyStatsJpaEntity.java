@@ -0,0 +1,104 @@
+package com.ecommerce.payment.infrastructure.persistence.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * JPA entity for one shard of a day's payment totals for a method, status
+ * and currency. Rows are only written by the upsert in
+ * PaymentDailyStatsJpaRepository and are summed over shards when read.
+ */
+@Entity
+@Table(name = "payment_daily_stats")
+@IdClass(PaymentDailyStatsJpaEntity.Key.class)
+public class PaymentDailyStatsJpaEntity {
+
+    @Id
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Id
+    @Column(name = "payment_method", nullable = false, length = 30)
+    private String paymentMethod;
+
+    @Id
+    @Column(name = "status", nullable = false, length = 20)
+    private String status;
+
+    @Id
+    @Column(name = "currency", nullable = false, length = 3)
+    private String currency;
+
+    @Id
+    @Column(name = "shard", nullable = false)
+    private short shard;
+
+    @Column(name = "payment_count", nullable = false)
+    private long paymentCount;
+
+    @Column(name = "amount_minor", nullable = false)
+    private long amountMinor;
+
+    public LocalDate getStatDate() {
+        return statDate;
+    }
+
+    public String getPaymentMethod() {
+        return paymentMethod;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public short getShard() {
+        return shard;
+    }
+
+    public long getPaymentCount() {
+        return paymentCount;
+    }
+
+    public long getAmountMinor() {
+        return amountMinor;
+    }
+
+    /**
+     * Composite primary key.
+     */
+    public static class Key implements Serializable {
+
+        private LocalDate statDate;
+        private String paymentMethod;
+        private String status;
+        private String currency;
+        private short shard;
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key key)) return false;
+            return Objects.equals(statDate, key.statDate)
+                    && Objects.equals(paymentMethod, key.paymentMethod)
+                    && Objects.equals(status, key.status)
+                    && Objects.equals(currency, key.currency)
+                    && shard == key.shard;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(statDate, paymentMethod, status, currency, shard);
+        }
+    }
+}
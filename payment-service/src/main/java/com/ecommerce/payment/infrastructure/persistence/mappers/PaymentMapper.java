@@ -0,0 +1,74 @@
+package com.ecommerce.payment.infrastructure.persistence.mappers;
+
+import com.ecommerce.payment.domain.aggregates.Payment;
+import com.ecommerce.payment.domain.value_objects.PaymentMethod;
+import com.ecommerce.payment.domain.value_objects.PaymentStatus;
+import com.ecommerce.payment.infrastructure.persistence.entities.PaymentJpaEntity;
+import com.ecommerce.shared.domain.value_objects.Money;
+
+import java.util.Currency;
+
+/**
+ * Mapper between Payment aggregate and JPA entity.
+ */
+public final class PaymentMapper {
+
+    private PaymentMapper() {
+    }
+
+    /**
+     * Converts a JPA entity to a domain aggregate.
+     */
+    public static Payment toDomain(PaymentJpaEntity jpa) {
+        Currency currency = Currency.getInstance(jpa.getCurrency());
+        return Payment.reconstitute(
+                jpa.getId(),
+                jpa.getOrderId(),
+                jpa.getCustomerId(),
+                Money.of(jpa.getAmount(), currency),
+                PaymentMethod.valueOf(jpa.getPaymentMethod()),
+                PaymentStatus.valueOf(jpa.getStatus()),
+                jpa.getTransactionId(),
+                jpa.getFailureReason(),
+                Money.of(jpa.getRefundedAmount(), currency),
+                jpa.getRefundReason(),
+                jpa.getCreatedAt(),
+                jpa.getCompletedAt(),
+                jpa.getRefundedAt(),
+                jpa.getUpdatedAt(),
+                jpa.getVersion()
+        );
+    }
+
+    /**
+     * Converts a new domain aggregate to a JPA entity flagged for insert.
+     */
+    public static PaymentJpaEntity toNewJpa(Payment domain) {
+        PaymentJpaEntity jpa = new PaymentJpaEntity();
+        jpa.setId(domain.getId());
+        jpa.setOrderId(domain.getOrderId());
+        jpa.setCustomerId(domain.getCustomerId());
+        jpa.setAmount(domain.getAmount().getAmount());
+        jpa.setCurrency(domain.getAmount().getCurrency().getCurrencyCode());
+        jpa.setPaymentMethod(domain.getPaymentMethod().name());
+        jpa.setCreatedAt(domain.getCreatedAt());
+        applyChanges(domain, jpa);
+        jpa.markNew();
+        return jpa;
+    }
+
+    /**
+     * Copies the lifecycle fields that change after creation.
+     * Order, customer, amount and method are fixed when the payment is created.
+     */
+    public static void applyChanges(Payment domain, PaymentJpaEntity jpa) {
+        jpa.setStatus(domain.getStatus().name());
+        jpa.setTransactionId(domain.getTransactionId());
+        jpa.setFailureReason(domain.getFailureReason());
+        jpa.setRefundedAmount(domain.getRefundedAmount().getAmount());
+        jpa.setRefundReason(domain.getRefundReason());
+        jpa.setCompletedAt(domain.getCompletedAt());
+        jpa.setRefundedAt(domain.getRefundedAt());
+        jpa.setUpdatedAt(domain.getUpdatedAt());
+    }
+}
@@ -0,0 +1,71 @@
+package com.ecommerce.payment.infrastructure.persistence.repositories;
+
+import com.ecommerce.payment.infrastructure.persistence.entities.IdempotencyKeyJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for IdempotencyKeyJpaEntity.
+ */
+@Repository
+public interface IdempotencyKeyJpaRepository extends JpaRepository<IdempotencyKeyJpaEntity, String> {
+
+    /**
+     * Inserts an in-progress record for a key, or replaces the key's record
+     * if it has expired. A single statement, so of several concurrent
+     * claims only one changes the row; the others wait on its lock and
+     * change nothing.
+     *
+     * @return 1 if the key was claimed, 0 if it holds an unexpired record
+     */
+    @Modifying
+    @Query(value = "INSERT INTO idempotency_keys (idempotency_key, request_hash, expires_at) "
+            + "VALUES (:key, :requestHash, :expiresAt) "
+            + "ON CONFLICT (idempotency_key) DO UPDATE SET "
+            + "request_hash = EXCLUDED.request_hash, payment_id = NULL, error_code = NULL, "
+            + "error_message = NULL, expires_at = EXCLUDED.expires_at "
+            + "WHERE idempotency_keys.expires_at <= :now",
+            nativeQuery = true)
+    int claim(@Param("key") String key,
+              @Param("requestHash") String requestHash,
+              @Param("expiresAt") Instant expiresAt,
+              @Param("now") Instant now);
+
+    /**
+     * Writes the outcome of the request that claimed a key, recreating the
+     * row if it was purged in the meantime.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO idempotency_keys "
+            + "(idempotency_key, request_hash, payment_id, error_code, error_message, expires_at) "
+            + "VALUES (:key, :requestHash, :paymentId, :errorCode, :errorMessage, :expiresAt) "
+            + "ON CONFLICT (idempotency_key) DO UPDATE SET "
+            + "request_hash = EXCLUDED.request_hash, payment_id = EXCLUDED.payment_id, "
+            + "error_code = EXCLUDED.error_code, error_message = EXCLUDED.error_message, "
+            + "expires_at = EXCLUDED.expires_at",
+            nativeQuery = true)
+    int complete(@Param("key") String key,
+                 @Param("requestHash") String requestHash,
+                 @Param("paymentId") UUID paymentId,
+                 @Param("errorCode") String errorCode,
+                 @Param("errorMessage") String errorMessage,
+                 @Param("expiresAt") Instant expiresAt);
+
+    /**
+     * Deletes a key's record if its request has not settled.
+     */
+    @Modifying
+    @Query("DELETE FROM IdempotencyKeyJpaEntity k "
+            + "WHERE k.idempotencyKey = :key AND k.paymentId IS NULL AND k.errorCode IS NULL")
+    int deleteInProgress(@Param("key") String key);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyKeyJpaEntity k WHERE k.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
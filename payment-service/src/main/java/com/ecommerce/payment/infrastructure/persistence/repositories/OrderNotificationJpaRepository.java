@@ -0,0 +1,57 @@
+package com.ecommerce.payment.infrastructure.persistence.repositories;
+
+import com.ecommerce.payment.infrastructure.persistence.entities.OrderNotificationJpaEntity;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for OrderNotificationJpaEntity.
+ */
+@Repository
+public interface OrderNotificationJpaRepository extends JpaRepository<OrderNotificationJpaEntity, UUID> {
+
+    /**
+     * Locks an order's notification so a newer outcome can replace it.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT n FROM OrderNotificationJpaEntity n WHERE n.orderId = :orderId")
+    Optional<OrderNotificationJpaEntity> findByIdForUpdate(@Param("orderId") UUID orderId);
+
+    /**
+     * Locks due notifications, oldest first. A lock timeout of -2 makes
+     * Hibernate add SKIP LOCKED, so concurrent relays claim disjoint batches.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT n FROM OrderNotificationJpaEntity n WHERE n.availableAt <= :now ORDER BY n.queuedAt")
+    List<OrderNotificationJpaEntity> findDueForUpdate(@Param("now") Instant now, Pageable page);
+
+    @Modifying
+    @Query("DELETE FROM OrderNotificationJpaEntity n "
+            + "WHERE n.orderId = :orderId AND n.sequenceNumber = :sequenceNumber")
+    int deleteDelivered(@Param("orderId") UUID orderId, @Param("sequenceNumber") long sequenceNumber);
+
+    @Modifying
+    @Query("UPDATE OrderNotificationJpaEntity n SET n.inFlight = false, n.availableAt = :retryAt "
+            + "WHERE n.orderId = :orderId AND n.sequenceNumber = :sequenceNumber")
+    int reschedule(@Param("orderId") UUID orderId, @Param("sequenceNumber") long sequenceNumber,
+                   @Param("retryAt") Instant retryAt);
+
+    @Modifying
+    @Query("UPDATE OrderNotificationJpaEntity n SET n.inFlight = false, n.availableAt = :availableAt "
+            + "WHERE n.orderId = :orderId")
+    int release(@Param("orderId") UUID orderId, @Param("availableAt") Instant availableAt);
+}
@@ -0,0 +1,69 @@
+package com.ecommerce.payment.infrastructure.persistence.repositories;
+
+import com.ecommerce.payment.infrastructure.persistence.entities.PaymentDailyStatsJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Spring Data JPA repository for PaymentDailyStatsJpaEntity.
+ */
+@Repository
+public interface PaymentDailyStatsJpaRepository
+        extends JpaRepository<PaymentDailyStatsJpaEntity, PaymentDailyStatsJpaEntity.Key> {
+
+    /**
+     * Finds each bucket's totals for days from and to inclusive, summed over its shards.
+     */
+    @Query("""
+            SELECT s.statDate AS statDate, s.paymentMethod AS paymentMethod, s.status AS status,
+                   s.currency AS currency, SUM(s.paymentCount) AS paymentCount, SUM(s.amountMinor) AS amountMinor
+            FROM PaymentDailyStatsJpaEntity s
+            WHERE s.statDate BETWEEN :from AND :to
+            GROUP BY s.statDate, s.paymentMethod, s.status, s.currency
+            ORDER BY s.statDate, s.paymentMethod, s.status, s.currency""")
+    List<BucketTotals> sumByStatDateBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * Adds to one shard of a bucket's totals, creating the row on first use.
+     * A single statement, so concurrent writers to a new row cannot collide on insert.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO payment_daily_stats "
+            + "(stat_date, payment_method, status, currency, shard, payment_count, amount_minor) "
+            + "VALUES (:statDate, :paymentMethod, :status, :currency, :shard, :count, :amountMinor) "
+            + "ON CONFLICT (stat_date, payment_method, status, currency, shard) DO UPDATE SET "
+            + "payment_count = payment_daily_stats.payment_count + EXCLUDED.payment_count, "
+            + "amount_minor = payment_daily_stats.amount_minor + EXCLUDED.amount_minor",
+            nativeQuery = true)
+    int increment(@Param("statDate") LocalDate statDate,
+                  @Param("paymentMethod") String paymentMethod,
+                  @Param("status") String status,
+                  @Param("currency") String currency,
+                  @Param("shard") short shard,
+                  @Param("count") long count,
+                  @Param("amountMinor") long amountMinor);
+
+    /**
+     * A bucket's totals summed over its shards.
+     */
+    interface BucketTotals {
+
+        LocalDate getStatDate();
+
+        String getPaymentMethod();
+
+        String getStatus();
+
+        String getCurrency();
+
+        long getPaymentCount();
+
+        long getAmountMinor();
+    }
+}
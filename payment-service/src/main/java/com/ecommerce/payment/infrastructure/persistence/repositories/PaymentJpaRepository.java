@@ -0,0 +1,61 @@
+package com.ecommerce.payment.infrastructure.persistence.repositories;
+
+import com.ecommerce.payment.infrastructure.persistence.entities.PaymentJpaEntity;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
+/**
+ * Spring Data JPA repository for PaymentJpaEntity.
+ * Each query is served by one of the indexes created in V1.
+ */
+@Repository
+public interface PaymentJpaRepository extends JpaRepository<PaymentJpaEntity, UUID> {
+
+    Optional<PaymentJpaEntity> findFirstByOrderIdOrderByCreatedAtDesc(UUID orderId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<PaymentJpaEntity> findForUpdateById(UUID id);
+
+    List<PaymentJpaEntity> findByCustomerIdOrderByCreatedAtDescIdDesc(UUID customerId, Pageable page);
+
+    @Query("""
+            SELECT p FROM PaymentJpaEntity p
+            WHERE p.customerId = :customerId
+              AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :paymentId))
+            ORDER BY p.createdAt DESC, p.id DESC""")
+    List<PaymentJpaEntity> findByCustomerIdAfter(@Param("customerId") UUID customerId,
+                                                 @Param("createdAt") Instant createdAt,
+                                                 @Param("paymentId") UUID paymentId,
+                                                 Pageable page);
+
+    List<PaymentJpaEntity> findByStatusOrderByUpdatedAtAsc(String status);
+
+    List<PaymentJpaEntity> findByStatusAndUpdatedAtBeforeOrderByUpdatedAtAsc(String status, Instant updatedBefore,
+                                                                              Pageable page);
+
+    List<PaymentJpaEntity> findByStatusAndCreatedAtBefore(String status, Instant cutoff);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+            SELECT p FROM PaymentJpaEntity p
+            WHERE p.completedAt >= :completedFrom AND p.completedAt < :completedTo
+              AND p.transactionId IS NOT NULL
+            ORDER BY p.transactionId""")
+    Stream<PaymentJpaEntity> streamCompletedByTransactionId(@Param("completedFrom") Instant completedFrom,
+                                                            @Param("completedTo") Instant completedTo);
+}
@@ -0,0 +1,83 @@
+package com.ecommerce.payment.infrastructure.persistence.repositories;
+
+import com.ecommerce.payment.infrastructure.persistence.entities.RefundJobJpaEntity;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for RefundJobJpaEntity.
+ * Queries on unsettled refunds are served by the partial indexes created in V4.
+ */
+@Repository
+public interface RefundJobJpaRepository extends JpaRepository<RefundJobJpaEntity, UUID> {
+
+    /**
+     * Inserts a refund unless its payment already has a queued one.
+     *
+     * @return 1 if inserted, 0 if the payment already has a queued refund
+     */
+    @Modifying
+    @Query(value = "INSERT INTO refund_jobs "
+            + "(id, payment_id, payment_method, transaction_id, amount, currency, reason, status, attempts, "
+            + "created_at, available_at) "
+            + "VALUES (:id, :paymentId, :paymentMethod, :transactionId, :amount, :currency, :reason, 'QUEUED', 0, "
+            + ":createdAt, :createdAt) "
+            + "ON CONFLICT (payment_id) WHERE status = 'QUEUED' DO NOTHING",
+            nativeQuery = true)
+    int insertQueued(@Param("id") UUID id,
+                     @Param("paymentId") UUID paymentId,
+                     @Param("paymentMethod") String paymentMethod,
+                     @Param("transactionId") String transactionId,
+                     @Param("amount") BigDecimal amount,
+                     @Param("currency") String currency,
+                     @Param("reason") String reason,
+                     @Param("createdAt") Instant createdAt);
+
+    /**
+     * Locks due refunds of one payment method, oldest first. A lock timeout
+     * of -2 makes Hibernate add SKIP LOCKED, so concurrent processors claim
+     * disjoint batches.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT r FROM RefundJobJpaEntity r WHERE r.status = 'QUEUED' "
+            + "AND r.paymentMethod = :paymentMethod AND r.availableAt <= :now ORDER BY r.id")
+    List<RefundJobJpaEntity> findDueForUpdate(@Param("paymentMethod") String paymentMethod,
+                                              @Param("now") Instant now,
+                                              Pageable page);
+
+    @Modifying
+    @Query("UPDATE RefundJobJpaEntity r SET r.status = 'SUCCEEDED', "
+            + "r.refundTransactionId = :refundTransactionId, r.settledAt = :settledAt "
+            + "WHERE r.id = :id AND r.status = 'QUEUED'")
+    int markSucceeded(@Param("id") UUID id,
+                      @Param("refundTransactionId") String refundTransactionId,
+                      @Param("settledAt") Instant settledAt);
+
+    @Modifying
+    @Query("UPDATE RefundJobJpaEntity r SET r.status = 'FAILED', "
+            + "r.failureReason = :failureReason, r.settledAt = :settledAt "
+            + "WHERE r.id = :id AND r.status = 'QUEUED'")
+    int markFailed(@Param("id") UUID id,
+                   @Param("failureReason") String failureReason,
+                   @Param("settledAt") Instant settledAt);
+
+    @Modifying
+    @Query("UPDATE RefundJobJpaEntity r SET r.availableAt = :retryAt WHERE r.id = :id AND r.status = 'QUEUED'")
+    int reschedule(@Param("id") UUID id, @Param("retryAt") Instant retryAt);
+
+    long countByPaymentMethodAndStatus(String paymentMethod, String status);
+}
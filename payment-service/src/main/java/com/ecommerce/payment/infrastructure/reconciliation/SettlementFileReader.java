@@ -0,0 +1,177 @@
+package com.ecommerce.payment.infrastructure.reconciliation;
+
+import com.ecommerce.payment.domain.value_objects.SettlementRecord;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads a PSP settlement CSV as a stream of settlement records.
+ *
+ * The file is memory-mapped one window at a time, so reading a
+ * multi-gigabyte file needs only one window of address space and no
+ * per-line reader objects. Lines are {@code transaction_id,amount,currency}
+ * in ASCII; a header line starting with {@code transaction_id} and blank
+ * lines are skipped.
+ */
+public final class SettlementFileReader implements Iterator<SettlementRecord>, Closeable {
+
+    static final long DEFAULT_WINDOW_BYTES = 64L * 1024 * 1024;
+
+    private static final byte[] HEADER = "transaction_id".getBytes(StandardCharsets.US_ASCII);
+
+    private final FileChannel channel;
+    private final long size;
+    private final long windowBytes;
+    private MappedByteBuffer window;
+    private long windowStart;
+    private long position;
+    private byte[] line = new byte[128];
+    private long lineNumber;
+    private SettlementRecord next;
+
+    private SettlementFileReader(FileChannel channel, long windowBytes) throws IOException {
+        this.channel = channel;
+        this.size = channel.size();
+        this.windowBytes = windowBytes;
+    }
+
+    public static SettlementFileReader open(Path path) throws IOException {
+        return open(path, DEFAULT_WINDOW_BYTES);
+    }
+
+    /**
+     * @param windowBytes bytes mapped at a time; lines may span windows
+     */
+    public static SettlementFileReader open(Path path, long windowBytes) throws IOException {
+        if (windowBytes <= 0 || windowBytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Window must be 1 to " + Integer.MAX_VALUE + " bytes");
+        }
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            return new SettlementFileReader(channel, windowBytes);
+        } catch (IOException ex) {
+            channel.close();
+            throw ex;
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            next = readRecord();
+        }
+        return next != null;
+    }
+
+    @Override
+    public SettlementRecord next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        SettlementRecord record = next;
+        next = null;
+        return record;
+    }
+
+    @Override
+    public void close() throws IOException {
+        window = null;
+        channel.close();
+    }
+
+    private SettlementRecord readRecord() {
+        int length;
+        while ((length = readLine()) >= 0) {
+            lineNumber++;
+            if (length == 0 || (lineNumber == 1 && isHeader(length))) {
+                continue;
+            }
+            return parse(length);
+        }
+        return null;
+    }
+
+    /**
+     * Copies the next line, without its terminator, into the line buffer.
+     *
+     * @return the line length, or -1 at end of file
+     */
+    private int readLine() {
+        if (position >= size) {
+            return -1;
+        }
+        int length = 0;
+        while (position < size) {
+            if (window == null || position >= windowStart + window.limit()) {
+                map(position);
+            }
+            byte b = window.get((int) (position - windowStart));
+            position++;
+            if (b == '\n') {
+                break;
+            }
+            if (b != '\r') {
+                if (length == line.length) {
+                    line = Arrays.copyOf(line, length * 2);
+                }
+                line[length++] = b;
+            }
+        }
+        return length;
+    }
+
+    private void map(long start) {
+        try {
+            window = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(windowBytes, size - start));
+            windowStart = start;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private boolean isHeader(int length) {
+        return length >= HEADER.length
+                && Arrays.equals(line, 0, HEADER.length, HEADER, 0, HEADER.length);
+    }
+
+    private SettlementRecord parse(int length) {
+        int first = indexOf(',', 0, length);
+        int second = first < 0 ? -1 : indexOf(',', first + 1, length);
+        if (first <= 0 || second < 0) {
+            throw malformed(null);
+        }
+        try {
+            return new SettlementRecord(
+                    new String(line, 0, first, StandardCharsets.US_ASCII),
+                    new BigDecimal(new String(line, first + 1, second - first - 1, StandardCharsets.US_ASCII)),
+                    new String(line, second + 1, length - second - 1, StandardCharsets.US_ASCII)
+            );
+        } catch (NumberFormatException ex) {
+            throw malformed(ex);
+        }
+    }
+
+    private int indexOf(char c, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (line[i] == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private IllegalArgumentException malformed(Throwable cause) {
+        return new IllegalArgumentException("Malformed settlement line " + lineNumber, cause);
+    }
+}
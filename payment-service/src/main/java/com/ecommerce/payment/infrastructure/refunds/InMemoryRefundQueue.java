@@ -0,0 +1,109 @@
+package com.ecommerce.payment.infrastructure.refunds;
+
+import com.ecommerce.payment.domain.ports.RefundQueue;
+import com.ecommerce.payment.domain.value_objects.PaymentMethod;
+import com.ecommerce.payment.domain.value_objects.RefundJob;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * In-memory refund queue.
+ * Enabled with payment.persistence.store=memory; for development and
+ * testing only, as queued refunds are lost on restart. Settled refunds
+ * are dropped from the queue.
+ */
+@Component
+@ConditionalOnProperty(prefix = "payment.persistence", name = "store", havingValue = "memory")
+public class InMemoryRefundQueue implements RefundQueue {
+
+    private final Map<PaymentMethod, NavigableMap<UUID, Entry>> byMethod = new EnumMap<>(PaymentMethod.class);
+    private final Map<UUID, Entry> byId = new HashMap<>();
+    private final Map<UUID, UUID> unsettledByPayment = new HashMap<>();
+
+    public InMemoryRefundQueue() {
+        for (PaymentMethod method : PaymentMethod.values()) {
+            byMethod.put(method, new TreeMap<>());
+        }
+    }
+
+    @Override
+    public synchronized boolean enqueue(RefundJob job) {
+        if (unsettledByPayment.putIfAbsent(job.paymentId(), job.id()) != null) {
+            return false;
+        }
+        Entry entry = new Entry(job);
+        byId.put(job.id(), entry);
+        byMethod.get(job.paymentMethod()).put(job.id(), entry);
+        return true;
+    }
+
+    @Override
+    public synchronized List<RefundJob> claim(PaymentMethod paymentMethod, int batchSize, Instant leaseUntil) {
+        Instant now = Instant.now();
+        List<RefundJob> claimed = new ArrayList<>();
+        for (Entry entry : byMethod.get(paymentMethod).values()) {
+            if (claimed.size() >= batchSize) {
+                break;
+            }
+            if (!entry.availableAt.isAfter(now)) {
+                entry.availableAt = leaseUntil;
+                entry.attempts++;
+                claimed.add(entry.job.withAttempts(entry.attempts));
+            }
+        }
+        return claimed;
+    }
+
+    @Override
+    public synchronized void markSucceeded(UUID refundId, String refundTransactionId) {
+        settle(refundId);
+    }
+
+    @Override
+    public synchronized void markFailed(UUID refundId, String reason) {
+        settle(refundId);
+    }
+
+    @Override
+    public synchronized void reschedule(UUID refundId, Instant retryAt) {
+        Entry entry = byId.get(refundId);
+        if (entry != null) {
+            entry.availableAt = retryAt;
+        }
+    }
+
+    @Override
+    public synchronized long countUnsettled(PaymentMethod paymentMethod) {
+        return byMethod.get(paymentMethod).size();
+    }
+
+    private void settle(UUID refundId) {
+        Entry entry = byId.remove(refundId);
+        if (entry != null) {
+            byMethod.get(entry.job.paymentMethod()).remove(refundId);
+            unsettledByPayment.remove(entry.job.paymentId(), refundId);
+        }
+    }
+
+    private static final class Entry {
+
+        private final RefundJob job;
+        private Instant availableAt;
+        private int attempts;
+
+        private Entry(RefundJob job) {
+            this.job = job;
+            this.availableAt = job.createdAt();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.ecommerce.payment.infrastructure.refunds;
+
+import com.ecommerce.payment.domain.ports.RefundQueue;
+import com.ecommerce.payment.domain.value_objects.PaymentMethod;
+import com.ecommerce.payment.domain.value_objects.RefundJob;
+import com.ecommerce.payment.infrastructure.persistence.entities.RefundJobJpaEntity;
+import com.ecommerce.payment.infrastructure.persistence.repositories.RefundJobJpaRepository;
+import com.ecommerce.shared.domain.value_objects.Money;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Refund queue in the payment database, so queued refunds survive a restart.
+ * One queued refund per payment is enforced by a partial unique index.
+ * Refunds are claimed with row locks that skip rows already locked, so
+ * each replica's processor takes a different batch. Settling a refund
+ * joins the transaction that records it on the payment.
+ */
+@Component
+@ConditionalOnProperty(prefix = "payment.persistence", name = "store", havingValue = "jpa", matchIfMissing = true)
+public class JpaRefundQueue implements RefundQueue {
+
+    private static final String QUEUED = "QUEUED";
+    private static final int MAX_REASON_LENGTH = 500;
+
+    private final RefundJobJpaRepository repository;
+
+    public JpaRefundQueue(RefundJobJpaRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    @Transactional
+    public boolean enqueue(RefundJob job) {
+        return repository.insertQueued(job.id(), job.paymentId(), job.paymentMethod().name(), job.transactionId(),
+                job.amount().getAmount(), job.amount().getCurrency().getCurrencyCode(), job.reason(),
+                job.createdAt()) == 1;
+    }
+
+    @Override
+    @Transactional
+    public List<RefundJob> claim(PaymentMethod paymentMethod, int batchSize, Instant leaseUntil) {
+        List<RefundJobJpaEntity> due = repository.findDueForUpdate(paymentMethod.name(), Instant.now(),
+                PageRequest.of(0, batchSize));
+        List<RefundJob> claimed = new ArrayList<>(due.size());
+        for (RefundJobJpaEntity entity : due) {
+            entity.setAvailableAt(leaseUntil);
+            entity.setAttempts(entity.getAttempts() + 1);
+            claimed.add(toJob(entity));
+        }
+        return claimed;
+    }
+
+    @Override
+    @Transactional
+    public void markSucceeded(UUID refundId, String refundTransactionId) {
+        repository.markSucceeded(refundId, refundTransactionId, Instant.now());
+    }
+
+    @Override
+    @Transactional
+    public void markFailed(UUID refundId, String reason) {
+        repository.markFailed(refundId, truncate(reason), Instant.now());
+    }
+
+    @Override
+    @Transactional
+    public void reschedule(UUID refundId, Instant retryAt) {
+        repository.reschedule(refundId, retryAt);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countUnsettled(PaymentMethod paymentMethod) {
+        return repository.countByPaymentMethodAndStatus(paymentMethod.name(), QUEUED);
+    }
+
+    private static RefundJob toJob(RefundJobJpaEntity entity) {
+        return new RefundJob(entity.getId(), entity.getPaymentId(), PaymentMethod.valueOf(entity.getPaymentMethod()),
+                entity.getTransactionId(), Money.of(entity.getAmount(), Currency.getInstance(entity.getCurrency())),
+                entity.getReason(), entity.getCreatedAt(), entity.getAttempts());
+    }
+
+    private static String truncate(String reason) {
+        return reason != null && reason.length() > MAX_REASON_LENGTH ? reason.substring(0, MAX_REASON_LENGTH) : reason;
+    }
+}
@@ -0,0 +1,106 @@
+package com.ecommerce.payment.infrastructure.scheduling;
+
+import com.ecommerce.payment.application.usecases.ChargePaymentUseCase;
+import com.ecommerce.payment.domain.ports.PaymentGatewayPort;
+import com.ecommerce.payment.domain.ports.PaymentProcessingScheduler;
+import com.ecommerce.payment.infrastructure.config.PaymentProcessingConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Charges accepted payments on virtual threads after the API has returned.
+ *
+ * At most maxConcurrency gateway calls run at once; further payments wait
+ * on a semaphore, and once maxPending are waiting or running new ones are
+ * refused. Queued payments are held in memory only; one still PENDING
+ * because the service stopped before charging it is expired by
+ * StuckPaymentSweeper.
+ */
+@Component
+public class AsyncPaymentProcessor implements PaymentProcessingScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncPaymentProcessor.class);
+
+    private final ChargePaymentUseCase chargePaymentUseCase;
+    private final PaymentProcessingConfig config;
+    private final ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore permits;
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Counter completedCounter;
+    private final Counter failedCounter;
+    private final Counter errorCounter;
+
+    public AsyncPaymentProcessor(
+            ChargePaymentUseCase chargePaymentUseCase,
+            PaymentProcessingConfig config,
+            MeterRegistry meterRegistry
+    ) {
+        this.chargePaymentUseCase = chargePaymentUseCase;
+        this.config = config;
+        this.permits = new Semaphore(config.getMaxConcurrency());
+        this.completedCounter = processed(meterRegistry, "completed");
+        this.failedCounter = processed(meterRegistry, "failed");
+        this.errorCounter = processed(meterRegistry, "error");
+        Gauge.builder("payment.processing.pending", pending, AtomicInteger::get)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean schedule(PaymentGatewayPort.PaymentRequest request) {
+        if (pending.incrementAndGet() > config.getMaxPending()) {
+            pending.decrementAndGet();
+            log.warn("Payment processing backlog full, refusing payment {}", request.paymentId());
+            return false;
+        }
+        workers.execute(() -> process(request));
+        return true;
+    }
+
+    /**
+     * Returns the number of payments queued or being charged.
+     */
+    public int getPendingCount() {
+        return pending.get();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workers.shutdownNow();
+    }
+
+    private void process(PaymentGatewayPort.PaymentRequest request) {
+        try {
+            permits.acquire();
+            try {
+                PaymentGatewayPort.PaymentResult result = chargePaymentUseCase.execute(request);
+                (result.success() ? completedCounter : failedCounter).increment();
+            } finally {
+                permits.release();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            log.warn("Payment {} was not charged before shutdown", request.paymentId());
+        } catch (RuntimeException ex) {
+            errorCounter.increment();
+            log.error("Charging payment {} failed", request.paymentId(), ex);
+        } finally {
+            pending.decrementAndGet();
+        }
+    }
+
+    private static Counter processed(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("payment.processing")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,149 @@
+package com.ecommerce.payment.infrastructure.scheduling;
+
+import com.ecommerce.payment.application.dto.QueueRefundsCommand;
+import com.ecommerce.payment.application.dto.QueueRefundsResponse;
+import com.ecommerce.payment.application.usecases.QueueRefundsUseCase;
+import com.ecommerce.payment.infrastructure.clients.OrderServiceClient;
+import com.ecommerce.payment.infrastructure.config.OrderNotificationConfig;
+import com.ecommerce.payment.infrastructure.notifications.OrderNotification;
+import com.ecommerce.payment.infrastructure.notifications.OrderNotificationStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Delivers queued payment outcomes to order service in the background.
+ *
+ * Each poll claims batches until one comes back short or the per-poll
+ * limit is reached, and sends each batch in one call. A batch is removed
+ * only after order service accepts it; a failed call reschedules the
+ * whole batch with exponential backoff. Delivery is at least once, which
+ * order service tolerates by skipping outcomes it has already applied.
+ *
+ * Order service answers with the completed payments it did not accept,
+ * e.g. for an order that expired while the payment was in flight. Those
+ * are queued for refund before the batch is removed; the refund queue
+ * ignores a payment that is already being refunded, so a batch delivered
+ * again queues nothing twice.
+ */
+@Component
+@ConditionalOnProperty(prefix = "order-service", name = "mock", havingValue = "false", matchIfMissing = true)
+public class OrderNotificationRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderNotificationRelay.class);
+
+    private final OrderNotificationStore store;
+    private final OrderServiceClient orderServiceClient;
+    private final QueueRefundsUseCase queueRefunds;
+    private final OrderNotificationConfig config;
+    private final Counter deliveredCounter;
+    private final Counter failedCounter;
+    private final Timer lagTimer;
+
+    public OrderNotificationRelay(
+            OrderNotificationStore store,
+            OrderServiceClient orderServiceClient,
+            QueueRefundsUseCase queueRefunds,
+            OrderNotificationConfig config,
+            MeterRegistry meterRegistry
+    ) {
+        this.store = store;
+        this.orderServiceClient = orderServiceClient;
+        this.queueRefunds = queueRefunds;
+        this.config = config;
+        this.deliveredCounter = relayed(meterRegistry, "delivered");
+        this.failedCounter = relayed(meterRegistry, "failed");
+        this.lagTimer = Timer.builder("payment.order-notifications.lag")
+                .description("Time from a payment outcome to its delivery to order service")
+                .register(meterRegistry);
+        Gauge.builder("payment.order-notifications.pending", store, OrderNotificationStore::countPending)
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${payment.order-notifications.poll-interval-ms:500}")
+    public void relay() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        try {
+            for (int i = 0; i < config.getMaxBatchesPerPoll(); i++) {
+                if (relayBatch() < config.getBatchSize()) {
+                    return;
+                }
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Order notification poll failed: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Claims and sends one batch.
+     *
+     * @return the number of notifications claimed
+     */
+    public int relayBatch() {
+        List<OrderNotification> batch = store.claim(config.getBatchSize(),
+                Instant.now().plusMillis(config.getLeaseMs()));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        try {
+            refundRejected(orderServiceClient.recordPaymentNotifications(batch.stream()
+                    .map(OrderNotificationRelay::toRequest)
+                    .toList()));
+        } catch (RuntimeException ex) {
+            failedCounter.increment(batch.size());
+            int attempts = batch.stream().mapToInt(OrderNotification::attempts).max().orElse(1);
+            Instant retryAt = Instant.now().plusMillis(retryDelayMs(attempts));
+            log.warn("Failed to deliver {} order notifications (attempt {}), retrying at {}: {}",
+                    batch.size(), attempts, retryAt, ex.getMessage());
+            store.markFailed(batch, retryAt);
+            return batch.size();
+        }
+        store.markDelivered(batch);
+        deliveredCounter.increment(batch.size());
+        Instant now = Instant.now();
+        batch.forEach(notification -> lagTimer.record(Duration.between(notification.createdAt(), now)));
+        return batch.size();
+    }
+
+    private void refundRejected(OrderServiceClient.PaymentNotificationsResponse response) {
+        if (response == null || response.rejected() == null || response.rejected().isEmpty()) {
+            return;
+        }
+        QueueRefundsResponse queued = queueRefunds.execute(new QueueRefundsCommand(response.rejected().stream()
+                .map(rejected -> new QueueRefundsCommand.RefundItem(rejected.paymentId(), null,
+                        "Rejected by order service: " + rejected.reason()))
+                .toList()));
+        log.warn("Order service rejected {} payments; queued {} refunds",
+                response.rejected().size(), queued.queuedRefundIds().size());
+        queued.rejected().forEach(rejection -> log.info("Refund for rejected payment {} not queued: {}",
+                rejection.paymentId(), rejection.reason()));
+    }
+
+    private long retryDelayMs(int attempts) {
+        int shift = Math.min(Math.max(attempts - 1, 0), 20);
+        return Math.min(config.getRetryDelayMs() << shift, config.getMaxRetryDelayMs());
+    }
+
+    private static OrderServiceClient.PaymentNotification toRequest(OrderNotification notification) {
+        return new OrderServiceClient.PaymentNotification(notification.orderId(), notification.paymentId(),
+                notification.outcome().name(), notification.reason());
+    }
+
+    private static Counter relayed(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("payment.order-notifications.relayed")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
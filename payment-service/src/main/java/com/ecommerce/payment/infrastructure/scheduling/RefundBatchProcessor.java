@@ -0,0 +1,215 @@
+package com.ecommerce.payment.infrastructure.scheduling;
+
+import com.ecommerce.payment.application.usecases.ProcessRefundUseCase;
+import com.ecommerce.payment.domain.ports.PaymentGatewayPort;
+import com.ecommerce.payment.domain.ports.RefundQueue;
+import com.ecommerce.payment.domain.value_objects.PaymentMethod;
+import com.ecommerce.payment.domain.value_objects.RefundJob;
+import com.ecommerce.payment.infrastructure.config.RefundBatchConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Drains the refund queue in rate-limited batches, one group per payment
+ * method.
+ *
+ * Each poll starts a drain for every method with unsettled refunds that
+ * is not already draining. A drain claims batches until one comes back
+ * short; within a batch, submissions are spaced by the method's rate
+ * limit and capped at its concurrency limit. Every refund is settled as
+ * soon as its gateway call returns, so a crash loses at most the refunds
+ * in flight, which are claimed again when the lease lapses.
+ */
+@Component
+public class RefundBatchProcessor {
+
+    private static final Logger log = LoggerFactory.getLogger(RefundBatchProcessor.class);
+
+    private final RefundQueue refundQueue;
+    private final ProcessRefundUseCase processRefundUseCase;
+    private final RefundBatchConfig config;
+    private final ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<PaymentMethod, Group> groups = new EnumMap<>(PaymentMethod.class);
+    private final Counter succeededCounter;
+    private final Counter declinedCounter;
+    private final Counter retriedCounter;
+    private final Counter abandonedCounter;
+    private final Timer batchTimer;
+
+    public RefundBatchProcessor(
+            RefundQueue refundQueue,
+            ProcessRefundUseCase processRefundUseCase,
+            RefundBatchConfig config,
+            MeterRegistry meterRegistry
+    ) {
+        this.refundQueue = refundQueue;
+        this.processRefundUseCase = processRefundUseCase;
+        this.config = config;
+        for (PaymentMethod method : PaymentMethod.values()) {
+            groups.put(method, new Group(config));
+            Gauge.builder("payment.refunds.backlog", refundQueue, queue -> queue.countUnsettled(method))
+                    .tag("method", method.name())
+                    .register(meterRegistry);
+        }
+        this.succeededCounter = refunds(meterRegistry, "succeeded");
+        this.declinedCounter = refunds(meterRegistry, "declined");
+        this.retriedCounter = refunds(meterRegistry, "retried");
+        this.abandonedCounter = refunds(meterRegistry, "abandoned");
+        this.batchTimer = Timer.builder("payment.refunds.batch")
+                .description("Time to submit and settle one claimed batch")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${payment.refunds.poll-interval-ms:1000}")
+    public void poll() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        for (PaymentMethod method : PaymentMethod.values()) {
+            Group group = groups.get(method);
+            if (refundQueue.countUnsettled(method) > 0 && group.draining.compareAndSet(false, true)) {
+                workers.execute(() -> {
+                    try {
+                        drain(method);
+                    } catch (RuntimeException ex) {
+                        log.warn("Refund drain for {} failed: {}", method, ex.getMessage());
+                    } finally {
+                        group.draining.set(false);
+                    }
+                });
+            }
+        }
+    }
+
+    /**
+     * Claims and submits batches of one payment method until no more are due.
+     *
+     * @return the number of refunds settled
+     */
+    public int drain(PaymentMethod method) {
+        int settled = 0;
+        while (!Thread.currentThread().isInterrupted()) {
+            List<RefundJob> batch = refundQueue.claim(method, config.getBatchSize(),
+                    Instant.now().plusMillis(config.getLeaseMs()));
+            if (batch.isEmpty()) {
+                break;
+            }
+            long start = System.nanoTime();
+            settled += submitBatch(groups.get(method), batch);
+            batchTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            if (batch.size() < config.getBatchSize()) {
+                break;
+            }
+        }
+        return settled;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workers.shutdownNow();
+    }
+
+    private int submitBatch(Group group, List<RefundJob> batch) {
+        List<Future<Boolean>> inFlight = new ArrayList<>(batch.size());
+        try {
+            for (RefundJob job : batch) {
+                group.rateLimiter.acquire();
+                group.concurrency.acquire();
+                inFlight.add(workers.submit(() -> {
+                    try {
+                        return settle(job);
+                    } finally {
+                        group.concurrency.release();
+                    }
+                }));
+            }
+            int settled = 0;
+            for (Future<Boolean> submission : inFlight) {
+                if (submission.get()) {
+                    settled++;
+                }
+            }
+            return settled;
+        } catch (InterruptedException ex) {
+            // Unsettled refunds are claimed again when the lease lapses
+            Thread.currentThread().interrupt();
+            return 0;
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException("Refund submission failed", ex.getCause());
+        }
+    }
+
+    /**
+     * Submits one refund and records the answer.
+     *
+     * @return true if the refund was settled, false if it was rescheduled
+     */
+    private boolean settle(RefundJob job) {
+        try {
+            PaymentGatewayPort.RefundResult result = processRefundUseCase.submit(job);
+            processRefundUseCase.record(job, result);
+            (result.success() ? succeededCounter : declinedCounter).increment();
+            return true;
+        } catch (RuntimeException ex) {
+            if (job.attempts() >= config.getMaxAttempts()) {
+                abandonedCounter.increment();
+                log.error("Giving up refund {} for payment {} after {} attempts: {}",
+                        job.id(), job.paymentId(), job.attempts(), ex.getMessage());
+                refundQueue.markFailed(job.id(), ex.getMessage());
+                return true;
+            }
+            retriedCounter.increment();
+            Instant retryAt = Instant.now().plusMillis(retryDelayMs(job.attempts()));
+            log.warn("Refund {} attempt {} failed, retrying at {}: {}",
+                    job.id(), job.attempts(), retryAt, ex.getMessage());
+            refundQueue.reschedule(job.id(), retryAt);
+            return false;
+        }
+    }
+
+    private long retryDelayMs(int attempts) {
+        int shift = Math.min(Math.max(attempts - 1, 0), 20);
+        return Math.min(config.getRetryDelayMs() << shift, config.getMaxRetryDelayMs());
+    }
+
+    private static Counter refunds(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("payment.refunds")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Concurrency and rate limits for the refunds of one payment method.
+     */
+    private static final class Group {
+
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final Semaphore concurrency;
+        private final RateLimiter rateLimiter;
+
+        private Group(RefundBatchConfig config) {
+            this.concurrency = new Semaphore(config.getMaxConcurrentPerMethod());
+            this.rateLimiter = new RateLimiter(config.getRefundsPerSecondPerMethod());
+        }
+    }
+}
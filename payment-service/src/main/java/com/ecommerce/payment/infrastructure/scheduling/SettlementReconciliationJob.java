@@ -0,0 +1,152 @@
+package com.ecommerce.payment.infrastructure.scheduling;
+
+import com.ecommerce.payment.application.dto.ReconciliationSummary;
+import com.ecommerce.payment.application.usecases.ReconcileSettlementsUseCase;
+import com.ecommerce.payment.domain.value_objects.ReconciliationMismatch;
+import com.ecommerce.payment.infrastructure.config.ReconciliationConfig;
+import com.ecommerce.payment.infrastructure.reconciliation.SettlementFileReader;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reconciles each day's completed payments against the PSP settlement
+ * file once it has arrived.
+ *
+ * The file and the payments are streamed and merge-joined, and
+ * mismatches are written to a report CSV as they are found, so a run
+ * holds neither side in memory.
+ */
+@Component
+public class SettlementReconciliationJob {
+
+    private static final Logger log = LoggerFactory.getLogger(SettlementReconciliationJob.class);
+
+    private static final String REPORT_HEADER = "type,transaction_id,payment_id,expected_amount,settled_amount";
+
+    private final ReconcileSettlementsUseCase reconcileSettlements;
+    private final ReconciliationConfig config;
+    private final Map<ReconciliationMismatch.Type, Counter> mismatchCounters =
+            new EnumMap<>(ReconciliationMismatch.Type.class);
+    private final Counter rowsCounter;
+    private final Timer runTimer;
+
+    public SettlementReconciliationJob(
+            ReconcileSettlementsUseCase reconcileSettlements,
+            ReconciliationConfig config,
+            MeterRegistry meterRegistry
+    ) {
+        this.reconcileSettlements = reconcileSettlements;
+        this.config = config;
+        for (ReconciliationMismatch.Type type : ReconciliationMismatch.Type.values()) {
+            mismatchCounters.put(type, Counter.builder("payment.reconciliation.mismatches")
+                    .tag("type", type.name())
+                    .register(meterRegistry));
+        }
+        this.rowsCounter = Counter.builder("payment.reconciliation.rows")
+                .description("Payments and settlement rows read by reconciliation")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("payment.reconciliation.duration")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${payment.reconciliation.cron:0 30 3 * * *}",
+            zone = "${payment.reconciliation.zone:UTC}")
+    public void reconcileYesterday() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        LocalDate day = LocalDate.now(ZoneId.of(config.getZone())).minusDays(1);
+        try {
+            reconcile(day);
+        } catch (RuntimeException ex) {
+            log.warn("Settlement reconciliation for {} failed: {}", day, ex.getMessage());
+        }
+    }
+
+    /**
+     * Reconciles payments completed on the given day against its settlement
+     * file.
+     *
+     * @return the run summary, or empty if the file has not arrived
+     */
+    public Optional<ReconciliationSummary> reconcile(LocalDate day) {
+        Path settlementFile = Path.of(config.getSettlementDirectory()).resolve("settlement-" + day + ".csv");
+        if (!Files.isRegularFile(settlementFile)) {
+            log.info("No settlement file for {} at {}, skipping reconciliation", day, settlementFile);
+            return Optional.empty();
+        }
+        Path report = Path.of(config.getReportDirectory()).resolve("mismatches-" + day + ".csv");
+        ZoneId zone = ZoneId.of(config.getZone());
+
+        long start = System.nanoTime();
+        try (SettlementFileReader settlements = SettlementFileReader.open(settlementFile);
+             BufferedWriter writer = openReport(report)) {
+            ReconciliationSummary summary = reconcileSettlements.execute(
+                    day.atStartOfDay(zone).toInstant(),
+                    day.plusDays(1).atStartOfDay(zone).toInstant(),
+                    settlements,
+                    mismatch -> write(writer, mismatch));
+
+            summary.mismatches().forEach((type, count) -> mismatchCounters.get(type).increment(count));
+            rowsCounter.increment(summary.paymentsRead() + summary.settlementsRead());
+            log.info("Reconciled settlements for {}: {} mismatches written to {}",
+                    day, summary.totalMismatches(), report);
+            return Optional.of(summary);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            runTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static BufferedWriter openReport(Path report) throws IOException {
+        Files.createDirectories(report.getParent());
+        BufferedWriter writer = Files.newBufferedWriter(report, StandardCharsets.US_ASCII);
+        writer.write(REPORT_HEADER);
+        writer.newLine();
+        return writer;
+    }
+
+    private static void write(BufferedWriter writer, ReconciliationMismatch mismatch) {
+        try {
+            writer.write(mismatch.type().name());
+            writer.write(',');
+            writer.write(mismatch.transactionId());
+            writer.write(',');
+            writer.write(valueOf(mismatch.paymentId()));
+            writer.write(',');
+            writer.write(valueOf(mismatch.expectedAmount()));
+            writer.write(',');
+            writer.write(valueOf(mismatch.settledAmount()));
+            writer.newLine();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static String valueOf(Object value) {
+        if (value instanceof BigDecimal amount) {
+            return amount.toPlainString();
+        }
+        return value != null ? value.toString() : "";
+    }
+}
@@ -0,0 +1,126 @@
+package com.ecommerce.payment.infrastructure.scheduling;
+
+import com.ecommerce.payment.application.usecases.ChargePaymentUseCase;
+import com.ecommerce.payment.domain.aggregates.Payment;
+import com.ecommerce.payment.domain.ports.PaymentGatewayPort;
+import com.ecommerce.payment.domain.ports.PaymentRepository;
+import com.ecommerce.payment.domain.value_objects.PaymentStatus;
+import com.ecommerce.payment.infrastructure.config.PaymentRecoveryConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Settles payments left in PROCESSING, e.g. by a restart between the
+ * gateway call and the write recording its result, and expires payments
+ * left in PENDING because the in-memory processing queue was lost.
+ *
+ * Candidates come from the status and updatedAt index, oldest first, so
+ * a sweep reads only the stuck payments rather than every payment.
+ */
+@Component
+public class StuckPaymentSweeper {
+
+    private static final Logger log = LoggerFactory.getLogger(StuckPaymentSweeper.class);
+
+    private final PaymentRepository paymentRepository;
+    private final ChargePaymentUseCase chargePaymentUseCase;
+    private final PaymentRecoveryConfig config;
+    private final Counter completedCounter;
+    private final Counter failedCounter;
+    private final Counter errorCounter;
+    private final Counter expiredCounter;
+
+    public StuckPaymentSweeper(
+            PaymentRepository paymentRepository,
+            ChargePaymentUseCase chargePaymentUseCase,
+            PaymentRecoveryConfig config,
+            MeterRegistry meterRegistry
+    ) {
+        this.paymentRepository = paymentRepository;
+        this.chargePaymentUseCase = chargePaymentUseCase;
+        this.config = config;
+        this.completedCounter = recovered(meterRegistry, "completed");
+        this.failedCounter = recovered(meterRegistry, "failed");
+        this.errorCounter = recovered(meterRegistry, "error");
+        this.expiredCounter = recovered(meterRegistry, "expired");
+    }
+
+    @Scheduled(fixedDelayString = "${payment.recovery.sweep-interval-ms:60000}")
+    public void sweep() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        try {
+            int recovered = recoverBatch();
+            if (recovered > 0) {
+                log.info("Recovered {} payments stuck in PROCESSING", recovered);
+            }
+            int expired = expireBatch();
+            if (expired > 0) {
+                log.info("Expired {} payments left in PENDING", expired);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Stuck payment sweep failed: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Settles one batch of stuck payments.
+     *
+     * @return the number of payments settled
+     */
+    public int recoverBatch() {
+        Instant stuckBefore = Instant.now().minusSeconds(config.getStuckAfterSeconds());
+        List<Payment> stuck = paymentRepository.findByStatus(PaymentStatus.PROCESSING, stuckBefore,
+                config.getBatchSize());
+        int recovered = 0;
+        for (Payment payment : stuck) {
+            try {
+                PaymentGatewayPort.PaymentResult result = chargePaymentUseCase.recover(payment);
+                (result.success() ? completedCounter : failedCounter).increment();
+                recovered++;
+            } catch (RuntimeException ex) {
+                errorCounter.increment();
+                log.warn("Could not recover payment {}: {}", payment.getId(), ex.getMessage());
+            }
+        }
+        return recovered;
+    }
+
+    /**
+     * Expires one batch of payments accepted but never charged.
+     *
+     * @return the number of payments expired
+     */
+    public int expireBatch() {
+        Instant pendingBefore = Instant.now().minusSeconds(config.getPendingExpireAfterSeconds());
+        List<Payment> pending = paymentRepository.findByStatus(PaymentStatus.PENDING, pendingBefore,
+                config.getBatchSize());
+        int expired = 0;
+        for (Payment payment : pending) {
+            try {
+                if (chargePaymentUseCase.expire(payment)) {
+                    expiredCounter.increment();
+                    expired++;
+                }
+            } catch (RuntimeException ex) {
+                errorCounter.increment();
+                log.warn("Could not expire payment {}: {}", payment.getId(), ex.getMessage());
+            }
+        }
+        return expired;
+    }
+
+    private static Counter recovered(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("payment.recovery")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,69 @@
+package com.ecommerce.payment.infrastructure.statistics;
+
+import com.ecommerce.payment.domain.ports.PaymentStatisticsStore;
+import com.ecommerce.payment.domain.value_objects.PaymentStatistic;
+import com.ecommerce.payment.domain.value_objects.PaymentTransition;
+import com.ecommerce.payment.infrastructure.config.PaymentStatisticsConfig;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory statistics for the in-memory payment store.
+ * Enabled with payment.persistence.store=memory; for development and testing only.
+ */
+@Component
+@ConditionalOnProperty(prefix = "payment.persistence", name = "store", havingValue = "memory")
+public class InMemoryPaymentStatisticsStore implements PaymentStatisticsStore {
+
+    private final Map<StatisticsBucket, Totals> totals = new ConcurrentHashMap<>();
+    private final ZoneId zone;
+
+    public InMemoryPaymentStatisticsStore() {
+        this(new PaymentStatisticsConfig());
+    }
+
+    @Autowired
+    public InMemoryPaymentStatisticsStore(PaymentStatisticsConfig config) {
+        this.zone = ZoneId.of(config.getZone());
+    }
+
+    @Override
+    public void record(List<PaymentTransition> transitions) {
+        for (PaymentTransition transition : transitions) {
+            Totals bucket = totals.computeIfAbsent(StatisticsBucket.of(transition, zone), b -> new Totals());
+            bucket.count.increment();
+            bucket.amountMinor.add(StatisticsBucket.minorUnits(transition.amount()));
+        }
+    }
+
+    @Override
+    public List<PaymentStatistic> findByDay(LocalDate from, LocalDate to) {
+        List<PaymentStatistic> result = new ArrayList<>();
+        totals.forEach((bucket, bucketTotals) -> {
+            if (!bucket.day().isBefore(from) && !bucket.day().isAfter(to)) {
+                result.add(new PaymentStatistic(bucket.day(), bucket.paymentMethod(), bucket.status(),
+                        bucket.currency(), bucketTotals.count.sum(), bucketTotals.amountMinor.sum()));
+            }
+        });
+        result.sort(Comparator.comparing(PaymentStatistic::day)
+                .thenComparing(statistic -> statistic.paymentMethod().name())
+                .thenComparing(statistic -> statistic.status().name())
+                .thenComparing(PaymentStatistic::currency));
+        return result;
+    }
+
+    private static final class Totals {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder amountMinor = new LongAdder();
+    }
+}
@@ -0,0 +1,75 @@
+package com.ecommerce.payment.infrastructure.statistics;
+
+import com.ecommerce.payment.domain.ports.PaymentStatisticsStore;
+import com.ecommerce.payment.domain.value_objects.PaymentMethod;
+import com.ecommerce.payment.domain.value_objects.PaymentStatistic;
+import com.ecommerce.payment.domain.value_objects.PaymentStatus;
+import com.ecommerce.payment.domain.value_objects.PaymentTransition;
+import com.ecommerce.payment.infrastructure.config.PaymentStatisticsConfig;
+import com.ecommerce.payment.infrastructure.persistence.repositories.PaymentDailyStatsJpaRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Statistics stored in the payment database, next to the payments they count.
+ * Each bucket is spread over a fixed number of shard rows. A save increments
+ * one randomly chosen shard by upsert in the transaction that saves the
+ * payment, so concurrent payments in the same bucket seldom wait on each
+ * other's row lock, and the totals still commit or roll back with the
+ * payment. Reads sum the shards.
+ */
+@Component
+@ConditionalOnProperty(prefix = "payment.persistence", name = "store", havingValue = "jpa", matchIfMissing = true)
+public class JpaPaymentStatisticsStore implements PaymentStatisticsStore {
+
+    private final PaymentDailyStatsJpaRepository repository;
+    private final ZoneId zone;
+    private final int shards;
+
+    public JpaPaymentStatisticsStore(PaymentDailyStatsJpaRepository repository, PaymentStatisticsConfig config) {
+        if (config.getShards() < 1 || config.getShards() > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("payment.statistics.shards must be between 1 and " + Short.MAX_VALUE);
+        }
+        this.repository = repository;
+        this.zone = ZoneId.of(config.getZone());
+        this.shards = config.getShards();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(List<PaymentTransition> transitions) {
+        if (transitions.isEmpty()) {
+            return;
+        }
+        // One statement per bucket however many transitions the save carries
+        short shard = (short) ThreadLocalRandom.current().nextInt(shards);
+        Map<StatisticsBucket, long[]> totals = new LinkedHashMap<>();
+        for (PaymentTransition transition : transitions) {
+            long[] bucketTotals = totals.computeIfAbsent(StatisticsBucket.of(transition, zone), b -> new long[2]);
+            bucketTotals[0]++;
+            bucketTotals[1] += StatisticsBucket.minorUnits(transition.amount());
+        }
+        totals.forEach((bucket, bucketTotals) -> repository.increment(bucket.day(),
+                bucket.paymentMethod().name(), bucket.status().name(), bucket.currency(), shard,
+                bucketTotals[0], bucketTotals[1]));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PaymentStatistic> findByDay(LocalDate from, LocalDate to) {
+        return repository.sumByStatDateBetween(from, to).stream()
+                .map(row -> new PaymentStatistic(row.getStatDate(), PaymentMethod.valueOf(row.getPaymentMethod()),
+                        PaymentStatus.valueOf(row.getStatus()), row.getCurrency(), row.getPaymentCount(),
+                        row.getAmountMinor()))
+                .toList();
+    }
+}
@@ -0,0 +1,37 @@
+package com.ecommerce.payment.infrastructure.statistics;
+
+import com.ecommerce.payment.domain.value_objects.PaymentMethod;
+import com.ecommerce.payment.domain.value_objects.PaymentStatus;
+import com.ecommerce.payment.domain.value_objects.PaymentTransition;
+import com.ecommerce.shared.domain.value_objects.Money;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * The day, method, status and currency a transition is totalled under.
+ */
+record StatisticsBucket(
+        LocalDate day,
+        PaymentMethod paymentMethod,
+        PaymentStatus status,
+        String currency
+) {
+
+    static StatisticsBucket of(PaymentTransition transition, ZoneId zone) {
+        return new StatisticsBucket(
+                LocalDate.ofInstant(transition.occurredAt(), zone),
+                transition.paymentMethod(),
+                transition.status(),
+                transition.amount().getCurrency().getCurrencyCode());
+    }
+
+    /**
+     * Converts to minor units, failing rather than rounding if the amount
+     * has more decimals than the currency.
+     */
+    static long minorUnits(Money money) {
+        int digits = Math.max(money.getCurrency().getDefaultFractionDigits(), 0);
+        return money.getAmount().movePointRight(digits).longValueExact();
+    }
+}
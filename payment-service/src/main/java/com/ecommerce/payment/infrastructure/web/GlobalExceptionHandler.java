@@ -1,10 +1,15 @@
 package com.ecommerce.payment.infrastructure.web;
 
+import com.ecommerce.payment.application.exceptions.IdempotencyKeyReusedException;
+import com.ecommerce.payment.application.exceptions.IdempotentRequestInProgressException;
 import com.ecommerce.payment.application.exceptions.OrderNotFoundException;
 import com.ecommerce.payment.application.exceptions.PaymentFailedException;
 import com.ecommerce.payment.application.exceptions.PaymentNotFoundException;
+import com.ecommerce.payment.application.exceptions.PaymentProcessingUnavailableException;
+import com.ecommerce.payment.domain.ports.PaymentGatewayPort;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -44,6 +49,40 @@ public class GlobalExceptionHandler {
                 .body(createErrorResponse(ex.getErrorCode(), ex.getMessage()));
     }
 
+    @ExceptionHandler(IdempotencyKeyReusedException.class)
+    public ResponseEntity<Map<String, Object>> handleIdempotencyKeyReused(IdempotencyKeyReusedException ex) {
+        log.warn("Idempotency key reused: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY)
+                .body(createErrorResponse("IDEMPOTENCY_KEY_REUSED", ex.getMessage()));
+    }
+
+    @ExceptionHandler(IdempotentRequestInProgressException.class)
+    public ResponseEntity<Map<String, Object>> handleIdempotentRequestInProgress(
+            IdempotentRequestInProgressException ex) {
+        log.info("Idempotent request in progress: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(createErrorResponse("IDEMPOTENCY_REQUEST_IN_PROGRESS", ex.getMessage()));
+    }
+
+    @ExceptionHandler(PaymentProcessingUnavailableException.class)
+    public ResponseEntity<Map<String, Object>> handlePaymentProcessingUnavailable(
+            PaymentProcessingUnavailableException ex) {
+        log.warn("Payment processing unavailable: {}", ex.getPaymentId());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(createErrorResponse("PAYMENT_PROCESSING_UNAVAILABLE", ex.getMessage()));
+    }
+
+    @ExceptionHandler(PaymentGatewayPort.GatewayUnavailableException.class)
+    public ResponseEntity<Map<String, Object>> handleGatewayUnavailable(
+            PaymentGatewayPort.GatewayUnavailableException ex) {
+        log.warn("Payment gateway unavailable: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .body(createErrorResponse("GATEWAY_UNAVAILABLE",
+                        "Payment gateway did not respond; check the payment status before retrying"));
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<Map<String, Object>> handleIllegalArgument(IllegalArgumentException ex) {
         log.warn("Invalid argument: {}", ex.getMessage());
@@ -1,16 +1,19 @@
 package com.ecommerce.payment.infrastructure.web.controllers;
 
+import com.ecommerce.payment.application.dto.PaymentHistoryResponse;
 import com.ecommerce.payment.application.dto.PaymentResponse;
 import com.ecommerce.payment.application.dto.ProcessPaymentCommand;
 import com.ecommerce.payment.application.exceptions.PaymentNotFoundException;
+import com.ecommerce.payment.application.usecases.GetPaymentHistoryUseCase;
 import com.ecommerce.payment.application.usecases.ProcessPaymentUseCase;
 import com.ecommerce.payment.domain.ports.PaymentRepository;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
 import java.security.Principal;
-import java.util.List;
 import java.util.UUID;
 
 /**
@@ -20,25 +23,48 @@ import java.util.UUID;
 @RequestMapping("/api/v1/payments")
 public class PaymentController {
 
+    private static final String RESPOND_ASYNC = "respond-async";
+
     private final ProcessPaymentUseCase processPaymentUseCase;
+    private final GetPaymentHistoryUseCase getPaymentHistoryUseCase;
     private final PaymentRepository paymentRepository;
 
     public PaymentController(ProcessPaymentUseCase processPaymentUseCase,
+                             GetPaymentHistoryUseCase getPaymentHistoryUseCase,
                              PaymentRepository paymentRepository) {
         this.processPaymentUseCase = processPaymentUseCase;
+        this.getPaymentHistoryUseCase = getPaymentHistoryUseCase;
         this.paymentRepository = paymentRepository;
     }
 
     /**
      * Process a payment for an order.
+     * Retries carrying the same Idempotency-Key get the original outcome.
+     * With "Prefer: respond-async" the payment is accepted with 202 and
+     * charged in the background; poll the Location for its status.
+     * The client address used for fraud screening is resolved from
+     * X-Forwarded-For by Tomcat's RemoteIpValve, which trusts only entries
+     * added by internal proxies such as the gateway.
      */
     @PostMapping
     public ResponseEntity<PaymentResponse> processPayment(
             Principal principal,
+            HttpServletRequest request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @RequestHeader(value = "Prefer", required = false) String prefer,
             @Valid @RequestBody ProcessPaymentCommand command
     ) {
         UUID customerId = UUID.fromString(principal.getName());
-        PaymentResponse response = processPaymentUseCase.execute(customerId, command);
+        if (prefer != null && prefer.contains(RESPOND_ASYNC)) {
+            PaymentResponse response = processPaymentUseCase.accept(customerId, command, idempotencyKey,
+                    request.getRemoteAddr());
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/v1/payments/" + response.id()))
+                    .header("Preference-Applied", RESPOND_ASYNC)
+                    .body(response);
+        }
+        PaymentResponse response = processPaymentUseCase.execute(customerId, command, idempotencyKey,
+                request.getRemoteAddr());
         return ResponseEntity.ok(response);
     }
 
@@ -63,16 +89,17 @@ public class PaymentController {
     }
 
     /**
-     * Get payments for the current customer.
+     * Get payments for the current customer, newest first, one page at a time.
+     * Pass the nextCursor of a page to get the page after it.
      */
     @GetMapping
-    public ResponseEntity<List<PaymentResponse>> getPayments(Principal principal) {
+    public ResponseEntity<PaymentHistoryResponse> getPayments(
+            Principal principal,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
         UUID customerId = UUID.fromString(principal.getName());
-        List<PaymentResponse> payments = paymentRepository.findByCustomerId(customerId)
-                .stream()
-                .map(PaymentResponse::from)
-                .toList();
-        return ResponseEntity.ok(payments);
+        return ResponseEntity.ok(getPaymentHistoryUseCase.execute(customerId, cursor, limit));
     }
 
     /**
@@ -0,0 +1,38 @@
+package com.ecommerce.payment.infrastructure.web.controllers;
+
+import com.ecommerce.payment.application.dto.PaymentStatisticsResponse;
+import com.ecommerce.payment.application.usecases.GetPaymentStatisticsUseCase;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+/**
+ * REST controller for payment statistics, read by dashboards.
+ */
+@RestController
+@RequestMapping("/api/v1/payment-statistics")
+public class PaymentStatisticsController {
+
+    private final GetPaymentStatisticsUseCase getPaymentStatisticsUseCase;
+
+    public PaymentStatisticsController(GetPaymentStatisticsUseCase getPaymentStatisticsUseCase) {
+        this.getPaymentStatisticsUseCase = getPaymentStatisticsUseCase;
+    }
+
+    /**
+     * Get daily totals per payment method, status and currency for days
+     * from and to inclusive.
+     */
+    @GetMapping
+    public ResponseEntity<PaymentStatisticsResponse> getStatistics(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return ResponseEntity.ok(getPaymentStatisticsUseCase.execute(from, to));
+    }
+}
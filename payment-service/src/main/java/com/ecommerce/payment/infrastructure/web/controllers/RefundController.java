@@ -0,0 +1,34 @@
+package com.ecommerce.payment.infrastructure.web.controllers;
+
+import com.ecommerce.payment.application.dto.QueueRefundsCommand;
+import com.ecommerce.payment.application.dto.QueueRefundsResponse;
+import com.ecommerce.payment.application.usecases.QueueRefundsUseCase;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for batch refunds, called by other services.
+ */
+@RestController
+@RequestMapping("/api/v1/refunds")
+public class RefundController {
+
+    private final QueueRefundsUseCase queueRefundsUseCase;
+
+    public RefundController(QueueRefundsUseCase queueRefundsUseCase) {
+        this.queueRefundsUseCase = queueRefundsUseCase;
+    }
+
+    /**
+     * Queue refunds for many payments.
+     * Refunds are submitted to the gateway in the background.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<QueueRefundsResponse> queueRefunds(@Valid @RequestBody QueueRefundsCommand command) {
+        return ResponseEntity.accepted().body(queueRefundsUseCase.execute(command));
+    }
+}
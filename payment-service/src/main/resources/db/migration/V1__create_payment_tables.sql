@@ -0,0 +1,38 @@
+-- Payment Service Database Schema
+-- V1: Payments
+
+CREATE TABLE payments (
+    id UUID PRIMARY KEY,
+    order_id UUID NOT NULL,
+    customer_id UUID NOT NULL,
+    amount DECIMAL(19, 2) NOT NULL,
+    currency VARCHAR(3) NOT NULL DEFAULT 'TWD',
+    payment_method VARCHAR(30) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    -- Byte-order collation so ORDER BY matches the settlement file sort
+    transaction_id VARCHAR(100) COLLATE "C",
+    failure_reason VARCHAR(500),
+    refunded_amount DECIMAL(19, 2) NOT NULL DEFAULT 0,
+    refund_reason VARCHAR(500),
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    completed_at TIMESTAMP WITH TIME ZONE,
+    refunded_at TIMESTAMP WITH TIME ZONE,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT chk_payment_amount_positive CHECK (amount > 0)
+);
+
+-- Customer payment history, newest first, paged by (created_at, id) keyset
+CREATE INDEX idx_payments_customer_created ON payments(customer_id, created_at DESC, id DESC);
+-- The order's current payment (findByOrderId)
+CREATE INDEX idx_payments_order_created ON payments(order_id, created_at DESC);
+-- At most one payment per order that is not failed or expired
+CREATE UNIQUE INDEX uq_payments_order_active ON payments(order_id)
+    WHERE status NOT IN ('FAILED', 'EXPIRED');
+-- Payments left in a status, least recently updated first (stuck payment sweep)
+CREATE INDEX idx_payments_status_updated ON payments(status, updated_at);
+-- One payment per gateway transaction
+CREATE UNIQUE INDEX uq_payments_transaction_id ON payments(transaction_id)
+    WHERE transaction_id IS NOT NULL;
+-- Payments completed in a reconciliation window
+CREATE INDEX idx_payments_completed_at ON payments(completed_at)
+    WHERE completed_at IS NOT NULL;
@@ -0,0 +1,14 @@
+-- Payment Service Database Schema
+-- V2: Pre-aggregated payment statistics
+
+-- Transitions into each settled status per day, method and currency.
+-- Maintained by upsert when a payment is saved; read by date range.
+CREATE TABLE payment_daily_stats (
+    stat_date DATE NOT NULL,
+    payment_method VARCHAR(30) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    currency VARCHAR(3) NOT NULL,
+    payment_count BIGINT NOT NULL,
+    amount_minor BIGINT NOT NULL,
+    PRIMARY KEY (stat_date, payment_method, status, currency)
+);
@@ -0,0 +1,21 @@
+-- Payment Service Database Schema
+-- V3: Outbox of payment outcomes for order service
+
+-- Latest undelivered outcome per order. A newer outcome replaces the row
+-- and bumps its sequence number; the relay claims due rows with SKIP
+-- LOCKED and deletes a row once order service has accepted the sequence
+-- number it sent.
+CREATE TABLE order_notifications (
+    order_id UUID PRIMARY KEY,
+    payment_id UUID,
+    outcome VARCHAR(20) NOT NULL,
+    reason VARCHAR(500),
+    sequence_number BIGINT NOT NULL,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    in_flight BOOLEAN NOT NULL DEFAULT FALSE,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    queued_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    available_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX idx_order_notifications_due ON order_notifications(available_at, queued_at);
@@ -0,0 +1,29 @@
+-- Payment Service Database Schema
+-- V4: Queue of refunds waiting to be submitted to the gateway
+
+-- One row per queued refund. The refund processor claims due rows of one
+-- payment method with SKIP LOCKED, moving available_at forward by the
+-- lease; a row is settled as SUCCEEDED or FAILED when the gateway answers
+-- and is kept as the record of the refund.
+CREATE TABLE refund_jobs (
+    id UUID PRIMARY KEY,
+    payment_id UUID NOT NULL,
+    payment_method VARCHAR(30) NOT NULL,
+    transaction_id VARCHAR(100),
+    amount DECIMAL(19, 2) NOT NULL,
+    currency VARCHAR(3) NOT NULL,
+    reason VARCHAR(500) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    refund_transaction_id VARCHAR(100),
+    failure_reason VARCHAR(500),
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    available_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    settled_at TIMESTAMP WITH TIME ZONE,
+    CONSTRAINT chk_refund_job_amount_positive CHECK (amount > 0)
+);
+
+-- At most one unsettled refund per payment
+CREATE UNIQUE INDEX uq_refund_jobs_queued_payment ON refund_jobs(payment_id) WHERE status = 'QUEUED';
+-- Unsettled refunds of one method, oldest first (claim, countUnsettled)
+CREATE INDEX idx_refund_jobs_queued_method ON refund_jobs(payment_method, id) WHERE status = 'QUEUED';
@@ -0,0 +1,17 @@
+-- Payment Service Database Schema
+-- V5: Idempotency-Key records for POST /api/v1/payments
+
+-- One row per customer and key. A request claims its key by inserting the
+-- row, or by replacing an expired one, in a single upsert; the outcome is
+-- written to the row once the payment settles. Expired rows are purged
+-- periodically.
+CREATE TABLE idempotency_keys (
+    idempotency_key VARCHAR(300) PRIMARY KEY,
+    request_hash VARCHAR(64) NOT NULL,
+    payment_id UUID,
+    error_code VARCHAR(100),
+    error_message VARCHAR(500),
+    expires_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX idx_idempotency_keys_expires_at ON idempotency_keys(expires_at);
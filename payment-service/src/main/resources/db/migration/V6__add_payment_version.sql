@@ -0,0 +1,6 @@
+-- Payment Service Database Schema
+-- V6: Optimistic locking for payments
+
+-- Incremented on every update, so a save based on a stale row is rejected
+-- instead of overwriting a concurrent change.
+ALTER TABLE payments ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
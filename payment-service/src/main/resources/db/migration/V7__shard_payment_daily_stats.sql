@@ -0,0 +1,11 @@
+-- Payment Service Database Schema
+-- V7: Shard rows for payment statistics
+
+-- Each bucket is split over shard rows so concurrent payments rarely wait
+-- on the same row lock; reads sum the shards. Existing buckets become
+-- shard 0.
+ALTER TABLE payment_daily_stats ADD COLUMN shard SMALLINT NOT NULL DEFAULT 0;
+ALTER TABLE payment_daily_stats ALTER COLUMN shard DROP DEFAULT;
+
+ALTER TABLE payment_daily_stats DROP CONSTRAINT payment_daily_stats_pkey;
+ALTER TABLE payment_daily_stats ADD PRIMARY KEY (stat_date, payment_method, status, currency, shard);
@@ -0,0 +1,243 @@
+package com.ecommerce.payment.concurrency;
+
+import com.ecommerce.payment.application.dto.PaymentResponse;
+import com.ecommerce.payment.application.dto.ProcessPaymentCommand;
+import com.ecommerce.payment.application.usecases.ChargePaymentUseCase;
+import com.ecommerce.payment.application.usecases.ProcessPaymentUseCase;
+import com.ecommerce.payment.domain.aggregates.Payment;
+import com.ecommerce.payment.domain.ports.OrderServicePort;
+import com.ecommerce.payment.domain.ports.PaymentGatewayPort;
+import com.ecommerce.payment.domain.ports.PaymentRepository;
+import com.ecommerce.payment.domain.value_objects.PaymentHistoryCursor;
+import com.ecommerce.payment.domain.value_objects.FraudDecision;
+import com.ecommerce.payment.domain.value_objects.PaymentMethod;
+import com.ecommerce.payment.domain.value_objects.PaymentStatus;
+import com.ecommerce.payment.infrastructure.config.PaymentProcessingConfig;
+import com.ecommerce.payment.infrastructure.idempotency.InMemoryIdempotencyKeyStore;
+import com.ecommerce.payment.infrastructure.persistence.adapters.InMemoryPaymentRepository;
+import com.ecommerce.payment.infrastructure.scheduling.AsyncPaymentProcessor;
+import com.ecommerce.shared.domain.value_objects.Money;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Load test for asynchronous payment acceptance.
+ * Every repository call stands in for a pooled database connection held
+ * for a round trip; the gateway is slowed down and connection time per
+ * payment must stay the same, because no connection is held while the
+ * gateway responds.
+ */
+@DisplayName("Async payment load")
+class AsyncPaymentLoadTest {
+
+    private static final UUID CUSTOMER_ID = UUID.randomUUID();
+    private static final int PAYMENTS = 200;
+    private static final long FAST_GATEWAY_MS = 20;
+    private static final long SLOW_GATEWAY_MS = 200;
+    private static final long DB_ROUND_TRIP_MS = 1;
+
+    @Test
+    @DisplayName("should accept payments without waiting for the gateway")
+    void shouldAcceptWithoutWaitingForGateway() throws Exception {
+        LoadRun run = run(SLOW_GATEWAY_MS);
+
+        assertThat(run.maxAcceptMillis()).isLessThan(SLOW_GATEWAY_MS);
+        assertThat(run.completed()).isEqualTo(PAYMENTS);
+    }
+
+    @Test
+    @DisplayName("should not hold connections longer when the gateway slows down")
+    void shouldNotScaleConnectionTimeWithGatewayLatency() throws Exception {
+        LoadRun fast = run(FAST_GATEWAY_MS);
+        LoadRun slow = run(SLOW_GATEWAY_MS);
+
+        assertThat(fast.completed()).isEqualTo(PAYMENTS);
+        assertThat(slow.completed()).isEqualTo(PAYMENTS);
+        assertThat(slow.connectionMillisPerPayment()).isLessThan(SLOW_GATEWAY_MS);
+        assertThat(slow.connectionMillisPerPayment()).isLessThan(fast.connectionMillisPerPayment() * 2);
+    }
+
+    private LoadRun run(long gatewayLatencyMs) throws Exception {
+        ConnectionMeteringRepository repository = new ConnectionMeteringRepository(new InMemoryPaymentRepository());
+        OrderServicePort orderService = new StubOrderService();
+        ChargePaymentUseCase chargePayment = new ChargePaymentUseCase(repository,
+                new SlowGateway(gatewayLatencyMs), orderService, event -> { },
+                mock(PlatformTransactionManager.class));
+        AsyncPaymentProcessor processor = new AsyncPaymentProcessor(chargePayment,
+                new PaymentProcessingConfig(), new SimpleMeterRegistry());
+        ProcessPaymentUseCase useCase = new ProcessPaymentUseCase(repository, orderService, chargePayment,
+                processor, attempt -> FraudDecision.allow(), new InMemoryIdempotencyKeyStore(), 24);
+
+        List<Callable<Long>> accepts = new ArrayList<>();
+        for (int i = 0; i < PAYMENTS; i++) {
+            ProcessPaymentCommand command = new ProcessPaymentCommand(UUID.randomUUID(), PaymentMethod.CREDIT_CARD, null);
+            accepts.add(() -> {
+                long start = System.nanoTime();
+                PaymentResponse response = useCase.accept(CUSTOMER_ID, command, null, null);
+                assertThat(response.status()).isEqualTo(PaymentStatus.PENDING);
+                return (System.nanoTime() - start) / 1_000_000;
+            });
+        }
+
+        long maxAcceptMillis = 0;
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Future<Long> accepted : clients.invokeAll(accepts)) {
+                maxAcceptMillis = Math.max(maxAcceptMillis, accepted.get());
+            }
+        }
+
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (processor.getPendingCount() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        int completed = (int) repository.findByCustomerId(CUSTOMER_ID, null, PAYMENTS).stream()
+                .filter(payment -> payment.getStatus() == PaymentStatus.COMPLETED)
+                .count();
+        return new LoadRun(maxAcceptMillis, repository.busyMillis() / PAYMENTS, completed);
+    }
+
+    private record LoadRun(long maxAcceptMillis, long connectionMillisPerPayment, int completed) {}
+
+    /**
+     * Holds a simulated connection for one round trip on every call and
+     * records the total time connections were in use.
+     */
+    private static final class ConnectionMeteringRepository implements PaymentRepository {
+
+        private final PaymentRepository delegate;
+        private final AtomicLong busyNanos = new AtomicLong();
+
+        ConnectionMeteringRepository(PaymentRepository delegate) {
+            this.delegate = delegate;
+        }
+
+        long busyMillis() {
+            return busyNanos.get() / 1_000_000;
+        }
+
+        @Override
+        public Payment save(Payment payment) {
+            return withConnection(() -> delegate.save(payment));
+        }
+
+        @Override
+        public boolean saveIfStatus(Payment payment, PaymentStatus expectedStatus) {
+            return withConnection(() -> delegate.saveIfStatus(payment, expectedStatus));
+        }
+
+        @Override
+        public Optional<Payment> findById(UUID paymentId) {
+            return withConnection(() -> delegate.findById(paymentId));
+        }
+
+        @Override
+        public Optional<Payment> findByOrderId(UUID orderId) {
+            return withConnection(() -> delegate.findByOrderId(orderId));
+        }
+
+        @Override
+        public List<Payment> findByCustomerId(UUID customerId, PaymentHistoryCursor after, int limit) {
+            return delegate.findByCustomerId(customerId, after, limit);
+        }
+
+        @Override
+        public List<Payment> findByStatus(PaymentStatus status) {
+            return delegate.findByStatus(status);
+        }
+
+        @Override
+        public List<Payment> findByStatus(PaymentStatus status, Instant updatedBefore, int limit) {
+            return delegate.findByStatus(status, updatedBefore, limit);
+        }
+
+        @Override
+        public Stream<Payment> streamCompletedByTransactionId(Instant completedFrom, Instant completedTo) {
+            return delegate.streamCompletedByTransactionId(completedFrom, completedTo);
+        }
+
+        @Override
+        public List<Payment> findPendingPaymentsOlderThan(long timeoutMinutes) {
+            return delegate.findPendingPaymentsOlderThan(timeoutMinutes);
+        }
+
+        private <T> T withConnection(Supplier<T> call) {
+            long start = System.nanoTime();
+            try {
+                Thread.sleep(DB_ROUND_TRIP_MS);
+                return call.get();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(ex);
+            } finally {
+                busyNanos.addAndGet(System.nanoTime() - start);
+            }
+        }
+    }
+
+    private static final class SlowGateway implements PaymentGatewayPort {
+
+        private final long latencyMs;
+
+        SlowGateway(long latencyMs) {
+            this.latencyMs = latencyMs;
+        }
+
+        @Override
+        public PaymentResult processPayment(PaymentRequest request) {
+            try {
+                Thread.sleep(latencyMs);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return PaymentResult.failure("INTERRUPTED", ex.getMessage());
+            }
+            return PaymentResult.success("TXN-" + request.paymentId());
+        }
+
+        @Override
+        public Optional<PaymentResult> findPayment(UUID paymentId, PaymentMethod paymentMethod) {
+            return Optional.empty();
+        }
+
+        @Override
+        public RefundResult processRefund(RefundRequest request) {
+            return RefundResult.success("RFD-" + request.paymentId());
+        }
+    }
+
+    private static final class StubOrderService implements OrderServicePort {
+
+        @Override
+        public Optional<OrderInfo> getOrderInfo(UUID orderId) {
+            return Optional.of(new OrderInfo(orderId, CUSTOMER_ID,
+                    Money.of(new BigDecimal("100.00")), "PENDING_PAYMENT"));
+        }
+
+        @Override
+        public void notifyPaymentComplete(UUID orderId, UUID paymentId) {
+        }
+
+        @Override
+        public void notifyPaymentFailed(UUID orderId, String reason) {
+        }
+    }
+}
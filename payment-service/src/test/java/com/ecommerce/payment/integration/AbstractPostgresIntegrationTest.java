@@ -0,0 +1,44 @@
+package com.ecommerce.payment.integration;
+
+import org.junit.jupiter.api.Tag;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Base class for tests against the real payment schema.
+ * The Flyway migrations run on a PostgreSQL container and Hibernate
+ * validates the entities against them, so partial indexes, upserts and
+ * SKIP LOCKED claims behave as in production.
+ */
+@Tag("integration")
+@Testcontainers
+@SpringBootTest(properties = {
+        "order-service.mock=true",
+        "payment.fraud.enabled=false",
+        // Tests drive the refund queue themselves
+        "payment.refunds.enabled=false"
+})
+public abstract class AbstractPostgresIntegrationTest {
+
+    @Container
+    protected static final PostgreSQLContainer<?> postgres =
+            new PostgreSQLContainer<>(DockerImageName.parse("postgres:15-alpine"))
+                    .withDatabaseName("payment_test")
+                    .withUsername("test")
+                    .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+        registry.add("spring.flyway.enabled", () -> "true");
+    }
+}
@@ -0,0 +1,62 @@
+package com.ecommerce.payment.integration;
+
+import com.ecommerce.payment.application.dto.ProcessPaymentCommand;
+import com.ecommerce.payment.application.usecases.ProcessPaymentUseCase;
+import com.ecommerce.payment.domain.value_objects.PaymentMethod;
+import com.ecommerce.security.provider.JwtTokenProvider;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Integration test for resolving the client address behind the API gateway.
+ * Runs on a real Tomcat so the RemoteIpValve configuration is exercised.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "order-service.mock=true",
+        "payment.order-notifications.poll-interval-ms=3600000"
+})
+@ActiveProfiles("integration-test")
+@DisplayName("Forwarded Client Address Integration Tests")
+class ForwardedClientAddressTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockBean
+    private ProcessPaymentUseCase processPaymentUseCase;
+
+    @Test
+    @DisplayName("should screen payments by the address the gateway appended, not a spoofed one")
+    void shouldUseAddressAppendedByGateway() {
+        UUID customerId = UUID.randomUUID();
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setBearerAuth(jwtTokenProvider.generateAccessToken(customerId.toString(),
+                "customer@example.com", "CUSTOMER"));
+        // The caller wrote the first entry; the gateway appended the second
+        headers.add("X-Forwarded-For", "198.51.100.1, 203.0.113.7");
+        ProcessPaymentCommand command = new ProcessPaymentCommand(UUID.randomUUID(), PaymentMethod.CREDIT_CARD, null);
+
+        restTemplate.postForEntity("/api/v1/payments", new HttpEntity<>(command, headers), String.class);
+
+        verify(processPaymentUseCase).execute(eq(customerId), any(), isNull(), eq("203.0.113.7"));
+    }
+}
@@ -0,0 +1,131 @@
+package com.ecommerce.payment.integration;
+
+import com.ecommerce.payment.domain.value_objects.IdempotencyRecord;
+import com.ecommerce.payment.infrastructure.idempotency.JpaIdempotencyKeyStore;
+import com.ecommerce.payment.infrastructure.persistence.repositories.IdempotencyKeyJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JpaIdempotencyKeyStore Tests")
+class JpaIdempotencyKeyStoreTest extends AbstractPostgresIntegrationTest {
+
+    private static final String KEY = "customer:key-1";
+
+    @Autowired
+    private JpaIdempotencyKeyStore store;
+
+    @Autowired
+    private IdempotencyKeyJpaRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("should return the held record to a second claim of the key")
+    void shouldReturnHeldRecordToSecondClaim() {
+        assertThat(store.claim(KEY, IdempotencyRecord.inProgress("hash", expiresIn(Duration.ofHours(1)))))
+                .isEmpty();
+
+        Optional<IdempotencyRecord> existing = store.claim(KEY,
+                IdempotencyRecord.inProgress("other", expiresIn(Duration.ofHours(1))));
+
+        assertThat(existing).hasValueSatisfying(record -> {
+            assertThat(record.requestHash()).isEqualTo("hash");
+            assertThat(record.isInProgress()).isTrue();
+        });
+    }
+
+    @Test
+    @DisplayName("should replay the recorded outcome once the request completes")
+    void shouldReplayRecordedOutcome() {
+        Instant expiresAt = expiresIn(Duration.ofHours(1));
+        UUID paymentId = UUID.randomUUID();
+        store.claim(KEY, IdempotencyRecord.inProgress("hash", expiresAt));
+
+        store.complete(KEY, IdempotencyRecord.succeeded("hash", paymentId, expiresAt));
+
+        assertThat(store.claim(KEY, IdempotencyRecord.inProgress("hash", expiresAt)))
+                .hasValueSatisfying(record -> assertThat(record.paymentId()).isEqualTo(paymentId));
+    }
+
+    @Test
+    @DisplayName("should release only a key whose request has not settled")
+    void shouldReleaseOnlyInProgressKey() {
+        Instant expiresAt = expiresIn(Duration.ofHours(1));
+        store.claim(KEY, IdempotencyRecord.inProgress("hash", expiresAt));
+        store.release(KEY);
+
+        assertThat(store.claim(KEY, IdempotencyRecord.inProgress("hash", expiresAt))).isEmpty();
+
+        store.complete(KEY, IdempotencyRecord.failed("hash", "CARD_DECLINED", "Card declined", expiresAt));
+        store.release(KEY);
+
+        assertThat(store.claim(KEY, IdempotencyRecord.inProgress("hash", expiresAt)))
+                .hasValueSatisfying(record -> assertThat(record.errorCode()).isEqualTo("CARD_DECLINED"));
+    }
+
+    @Test
+    @DisplayName("should let a new request claim an expired key and purge expired keys")
+    void shouldReclaimAndPurgeExpiredKeys() {
+        store.claim(KEY, IdempotencyRecord.inProgress("old", expiresIn(Duration.ofSeconds(-1))));
+
+        assertThat(store.claim(KEY, IdempotencyRecord.inProgress("new", expiresIn(Duration.ofHours(1)))))
+                .isEmpty();
+        assertThat(repository.findById(KEY)).hasValueSatisfying(entity ->
+                assertThat(entity.getRequestHash()).isEqualTo("new"));
+
+        store.claim("customer:key-2", IdempotencyRecord.inProgress("old", expiresIn(Duration.ofSeconds(-1))));
+        store.purgeExpired();
+
+        assertThat(repository.findAll()).singleElement()
+                .satisfies(entity -> assertThat(entity.getIdempotencyKey()).isEqualTo(KEY));
+    }
+
+    @Test
+    @DisplayName("should let exactly one of several concurrent claims win the key")
+    void shouldLetOneConcurrentClaimWin() {
+        Instant expiresAt = expiresIn(Duration.ofHours(1));
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<Optional<IdempotencyRecord>>> claims = IntStream.range(0, 8)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> {
+                    awaitQuietly(start);
+                    return store.claim(KEY, IdempotencyRecord.inProgress("hash", expiresAt));
+                }))
+                .toList();
+        start.countDown();
+
+        List<Optional<IdempotencyRecord>> results = claims.stream()
+                .map(claim -> claim.orTimeout(10, TimeUnit.SECONDS).join())
+                .toList();
+
+        assertThat(results).filteredOn(Optional::isEmpty).hasSize(1);
+    }
+
+    private static Instant expiresIn(Duration duration) {
+        return Instant.now().plus(duration);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.ecommerce.payment.integration;
+
+import com.ecommerce.payment.infrastructure.notifications.OrderNotification;
+import com.ecommerce.payment.infrastructure.notifications.OrderNotificationStore;
+import com.ecommerce.payment.infrastructure.persistence.repositories.OrderNotificationJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JpaOrderNotificationStore Tests")
+class JpaOrderNotificationStoreTest extends AbstractPostgresIntegrationTest {
+
+    @Autowired
+    private OrderNotificationStore store;
+
+    @Autowired
+    private OrderNotificationJpaRepository repository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("should keep a queued outcome until it is delivered")
+    void shouldKeepOutcomeUntilDelivered() {
+        UUID orderId = UUID.randomUUID();
+        UUID paymentId = UUID.randomUUID();
+        store.enqueue(OrderNotification.completed(orderId, paymentId));
+
+        List<OrderNotification> claimed = store.claim(10, lease());
+
+        assertThat(claimed).singleElement().satisfies(notification -> {
+            assertThat(notification.orderId()).isEqualTo(orderId);
+            assertThat(notification.paymentId()).isEqualTo(paymentId);
+            assertThat(notification.outcome()).isEqualTo(OrderNotification.Outcome.COMPLETED);
+            assertThat(notification.attempts()).isEqualTo(1);
+        });
+        assertThat(store.countPending()).isEqualTo(1);
+
+        store.markDelivered(claimed);
+
+        assertThat(store.countPending()).isZero();
+    }
+
+    @Test
+    @DisplayName("should replace an undelivered outcome with a newer one for the same order")
+    void shouldReplaceUndeliveredOutcome() {
+        UUID orderId = UUID.randomUUID();
+        store.enqueue(OrderNotification.failed(orderId, "Card declined"));
+        UUID paymentId = UUID.randomUUID();
+        store.enqueue(OrderNotification.completed(orderId, paymentId));
+
+        assertThat(store.claim(10, lease())).singleElement().satisfies(notification -> {
+            assertThat(notification.outcome()).isEqualTo(OrderNotification.Outcome.COMPLETED);
+            assertThat(notification.paymentId()).isEqualTo(paymentId);
+            assertThat(notification.reason()).isNull();
+        });
+    }
+
+    @Test
+    @DisplayName("should send an outcome replaced in flight once the earlier send finishes")
+    void shouldHoldReplacementUntilSendFinishes() {
+        UUID orderId = UUID.randomUUID();
+        store.enqueue(OrderNotification.failed(orderId, "Card declined"));
+        List<OrderNotification> first = store.claim(10, lease());
+        store.enqueue(OrderNotification.completed(orderId, UUID.randomUUID()));
+
+        assertThat(store.claim(10, lease())).isEmpty();
+
+        store.markDelivered(first);
+
+        assertThat(store.claim(10, lease())).singleElement()
+                .satisfies(notification -> assertThat(notification.outcome())
+                        .isEqualTo(OrderNotification.Outcome.COMPLETED));
+    }
+
+    @Test
+    @DisplayName("should hold a failed send until its retry time")
+    void shouldHoldFailedSendUntilRetry() {
+        store.enqueue(OrderNotification.completed(UUID.randomUUID(), UUID.randomUUID()));
+        List<OrderNotification> claimed = store.claim(10, lease());
+
+        store.markFailed(claimed, Instant.now().plusSeconds(60));
+
+        assertThat(store.claim(10, lease())).isEmpty();
+        assertThat(store.countPending()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should skip notifications another relay has locked instead of waiting")
+    void shouldSkipLockedNotifications() {
+        store.enqueue(OrderNotification.completed(UUID.randomUUID(), UUID.randomUUID()));
+        store.enqueue(OrderNotification.completed(UUID.randomUUID(), UUID.randomUUID()));
+
+        List<OrderNotification> other = new TransactionTemplate(transactionManager).execute(status -> {
+            List<OrderNotification> mine = store.claim(1, lease());
+            assertThat(mine).hasSize(1);
+            // Still holding the row lock: a second relay must take the other row without blocking
+            List<OrderNotification> theirs = CompletableFuture.supplyAsync(() -> store.claim(10, lease()))
+                    .orTimeout(5, TimeUnit.SECONDS)
+                    .join();
+            assertThat(theirs).extracting(OrderNotification::orderId)
+                    .doesNotContain(mine.get(0).orderId());
+            return theirs;
+        });
+
+        assertThat(other).hasSize(1);
+    }
+
+    private static Instant lease() {
+        return Instant.now().plusSeconds(30);
+    }
+}
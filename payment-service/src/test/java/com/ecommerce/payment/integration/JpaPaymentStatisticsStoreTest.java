@@ -0,0 +1,85 @@
+package com.ecommerce.payment.integration;
+
+import com.ecommerce.payment.domain.ports.PaymentStatisticsStore;
+import com.ecommerce.payment.domain.value_objects.PaymentMethod;
+import com.ecommerce.payment.domain.value_objects.PaymentStatistic;
+import com.ecommerce.payment.domain.value_objects.PaymentStatus;
+import com.ecommerce.payment.domain.value_objects.PaymentTransition;
+import com.ecommerce.payment.infrastructure.persistence.repositories.PaymentDailyStatsJpaRepository;
+import com.ecommerce.shared.domain.value_objects.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("JpaPaymentStatisticsStore Tests")
+class JpaPaymentStatisticsStoreTest extends AbstractPostgresIntegrationTest {
+
+    private static final Instant OCCURRED_AT = Instant.parse("2024-03-01T12:00:00Z");
+    private static final LocalDate DAY = LocalDate.parse("2024-03-01");
+
+    @Autowired
+    private PaymentStatisticsStore store;
+
+    @Autowired
+    private PaymentDailyStatsJpaRepository repository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("should sum a bucket's shards when read")
+    void shouldSumShardsOnRead() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        List<CompletableFuture<Void>> writers = IntStream.range(0, 40)
+                .mapToObj(i -> CompletableFuture.runAsync(() -> transaction.executeWithoutResult(
+                        status -> store.record(List.of(completed("10.00"))))))
+                .toList();
+        CompletableFuture.allOf(writers.toArray(CompletableFuture[]::new)).orTimeout(30, TimeUnit.SECONDS).join();
+
+        assertThat(store.findByDay(DAY, DAY)).singleElement().satisfies(statistic -> {
+            assertThat(statistic.count()).isEqualTo(40);
+            assertThat(statistic.amountMinor()).isEqualTo(40_000);
+        });
+        assertThat(repository.findAll()).hasSizeGreaterThan(1);
+    }
+
+    @Test
+    @DisplayName("should not count transitions whose payment save rolled back")
+    void shouldNotCountRolledBackTransitions() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status -> store.record(List.of(completed("10.00"))));
+
+        assertThatThrownBy(() -> transaction.executeWithoutResult(status -> {
+            store.record(List.of(completed("25.00")));
+            throw new IllegalStateException("Payment save failed");
+        })).isInstanceOf(IllegalStateException.class);
+
+        List<PaymentStatistic> statistics = store.findByDay(DAY, DAY);
+        assertThat(statistics).extracting(PaymentStatistic::count).containsExactly(1L);
+        assertThat(statistics).extracting(PaymentStatistic::amountMinor).containsExactly(1_000L);
+    }
+
+    private static PaymentTransition completed(String amount) {
+        return new PaymentTransition(PaymentStatus.COMPLETED, PaymentMethod.CREDIT_CARD,
+                Money.of(new BigDecimal(amount)), OCCURRED_AT);
+    }
+}
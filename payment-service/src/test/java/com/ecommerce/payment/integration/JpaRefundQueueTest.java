@@ -0,0 +1,137 @@
+package com.ecommerce.payment.integration;
+
+import com.ecommerce.payment.domain.ports.RefundQueue;
+import com.ecommerce.payment.domain.value_objects.PaymentMethod;
+import com.ecommerce.payment.domain.value_objects.RefundJob;
+import com.ecommerce.payment.infrastructure.persistence.entities.RefundJobJpaEntity;
+import com.ecommerce.payment.infrastructure.persistence.repositories.RefundJobJpaRepository;
+import com.ecommerce.shared.domain.ids.TimeOrderedUuid;
+import com.ecommerce.shared.domain.value_objects.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JpaRefundQueue Tests")
+class JpaRefundQueueTest extends AbstractPostgresIntegrationTest {
+
+    @Autowired
+    private RefundQueue queue;
+
+    @Autowired
+    private RefundJobJpaRepository repository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("should keep a queued refund until it is settled")
+    void shouldKeepRefundUntilSettled() {
+        RefundJob job = job(UUID.randomUUID(), PaymentMethod.CREDIT_CARD);
+        assertThat(queue.enqueue(job)).isTrue();
+
+        List<RefundJob> claimed = queue.claim(PaymentMethod.CREDIT_CARD, 10, lease());
+
+        assertThat(claimed).singleElement().satisfies(claimedJob -> {
+            assertThat(claimedJob.id()).isEqualTo(job.id());
+            assertThat(claimedJob.amount()).isEqualTo(job.amount());
+            assertThat(claimedJob.attempts()).isEqualTo(1);
+        });
+        assertThat(queue.countUnsettled(PaymentMethod.CREDIT_CARD)).isEqualTo(1);
+
+        queue.markSucceeded(job.id(), "REF-1");
+
+        assertThat(queue.countUnsettled(PaymentMethod.CREDIT_CARD)).isZero();
+        RefundJobJpaEntity settled = repository.findById(job.id()).orElseThrow();
+        assertThat(settled.getStatus()).isEqualTo("SUCCEEDED");
+        assertThat(settled.getRefundTransactionId()).isEqualTo("REF-1");
+    }
+
+    @Test
+    @DisplayName("should allow one queued refund per payment")
+    void shouldRejectSecondQueuedRefundForPayment() {
+        UUID paymentId = UUID.randomUUID();
+        RefundJob first = job(paymentId, PaymentMethod.CREDIT_CARD);
+        queue.enqueue(first);
+
+        assertThat(queue.enqueue(job(paymentId, PaymentMethod.CREDIT_CARD))).isFalse();
+
+        queue.markFailed(first.id(), "Declined");
+
+        assertThat(queue.enqueue(job(paymentId, PaymentMethod.CREDIT_CARD))).isTrue();
+    }
+
+    @Test
+    @DisplayName("should claim only due refunds of the requested method")
+    void shouldClaimDueRefundsOfMethod() {
+        RefundJob card = job(UUID.randomUUID(), PaymentMethod.CREDIT_CARD);
+        RefundJob other = job(UUID.randomUUID(), PaymentMethod.BANK_TRANSFER);
+        queue.enqueue(card);
+        queue.enqueue(other);
+
+        queue.claim(PaymentMethod.CREDIT_CARD, 10, lease());
+
+        assertThat(queue.claim(PaymentMethod.CREDIT_CARD, 10, lease())).isEmpty();
+        assertThat(queue.claim(PaymentMethod.BANK_TRANSFER, 10, lease()))
+                .extracting(RefundJob::id).containsExactly(other.id());
+    }
+
+    @Test
+    @DisplayName("should claim a rescheduled refund again once its retry time passes")
+    void shouldReclaimRescheduledRefund() {
+        RefundJob job = job(UUID.randomUUID(), PaymentMethod.CREDIT_CARD);
+        queue.enqueue(job);
+        queue.claim(PaymentMethod.CREDIT_CARD, 10, lease());
+
+        queue.reschedule(job.id(), Instant.now().minusSeconds(1));
+
+        assertThat(queue.claim(PaymentMethod.CREDIT_CARD, 10, lease()))
+                .singleElement().extracting(RefundJob::attempts).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should skip refunds another processor has locked instead of waiting")
+    void shouldSkipLockedRefunds() {
+        queue.enqueue(job(UUID.randomUUID(), PaymentMethod.CREDIT_CARD));
+        queue.enqueue(job(UUID.randomUUID(), PaymentMethod.CREDIT_CARD));
+
+        List<RefundJob> other = new TransactionTemplate(transactionManager).execute(status -> {
+            List<RefundJob> mine = queue.claim(PaymentMethod.CREDIT_CARD, 1, lease());
+            assertThat(mine).hasSize(1);
+            // Still holding the row lock: a second processor must take the other row without blocking
+            List<RefundJob> theirs = CompletableFuture
+                    .supplyAsync(() -> queue.claim(PaymentMethod.CREDIT_CARD, 10, lease()))
+                    .orTimeout(5, TimeUnit.SECONDS)
+                    .join();
+            assertThat(theirs).extracting(RefundJob::id).doesNotContain(mine.get(0).id());
+            return theirs;
+        });
+
+        assertThat(other).hasSize(1);
+    }
+
+    private static RefundJob job(UUID paymentId, PaymentMethod method) {
+        return new RefundJob(TimeOrderedUuid.next(), paymentId, method, "TXN-" + paymentId,
+                Money.of(new BigDecimal("25.00")), "Customer request", Instant.now(), 0);
+    }
+
+    private static Instant lease() {
+        return Instant.now().plusSeconds(30);
+    }
+}
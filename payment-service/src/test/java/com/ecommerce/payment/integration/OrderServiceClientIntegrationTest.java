@@ -0,0 +1,156 @@
+package com.ecommerce.payment.integration;
+
+import com.ecommerce.payment.domain.ports.OrderServicePort;
+import com.ecommerce.payment.infrastructure.scheduling.OrderNotificationRelay;
+import com.ecommerce.security.config.JwtConfig;
+import com.ecommerce.security.provider.JwtTokenProvider;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for calls to order service over the real Feign client.
+ * Order service is stood in for by a local HTTP server that records each
+ * request, and its tokens are checked the way order service checks them:
+ * with a provider built from the shared security.jwt settings.
+ */
+@SpringBootTest(properties = {
+        "order-service.mock=false",
+        "payment.order-notifications.poll-interval-ms=3600000"
+})
+@ActiveProfiles("integration-test")
+@DisplayName("Order Service Client Integration Tests")
+class OrderServiceClientIntegrationTest {
+
+    private static final UUID ORDER_ID = UUID.randomUUID();
+    private static final UUID CUSTOMER_ID = UUID.randomUUID();
+    private static final List<RecordedRequest> REQUESTS = new CopyOnWriteArrayList<>();
+    private static final HttpServer ORDER_SERVICE = startOrderService();
+
+    @Autowired
+    private OrderServicePort orderService;
+
+    @Autowired
+    private OrderNotificationRelay relay;
+
+    @DynamicPropertySource
+    static void orderServiceUrl(DynamicPropertyRegistry registry) {
+        registry.add("order-service.url", () -> "http://localhost:" + ORDER_SERVICE.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopOrderService() {
+        ORDER_SERVICE.stop(0);
+    }
+
+    @BeforeEach
+    void setUp() {
+        REQUESTS.clear();
+    }
+
+    @Test
+    @DisplayName("should fetch an order with a service token order service accepts")
+    void shouldFetchOrderWithServiceToken() {
+        OrderServicePort.OrderInfo order = orderService.getOrderInfo(ORDER_ID).orElseThrow();
+
+        assertThat(order.customerId()).isEqualTo(CUSTOMER_ID);
+        assertThat(order.totalAmount().getAmount()).isEqualByComparingTo(new BigDecimal("1250.00"));
+        assertThat(order.status()).isEqualTo("PENDING_PAYMENT");
+        assertThat(REQUESTS).singleElement().satisfies(request -> {
+            assertThat(request.path()).isEqualTo("/api/v1/internal/orders/" + ORDER_ID);
+            assertAcceptedByOrderService(request.authorization());
+        });
+    }
+
+    @Test
+    @DisplayName("should return empty for an order that order service does not know")
+    void shouldReturnEmptyForUnknownOrder() {
+        assertThat(orderService.getOrderInfo(UUID.randomUUID())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should deliver queued payment outcomes with a service token")
+    void shouldDeliverNotificationsWithServiceToken() {
+        UUID paymentId = UUID.randomUUID();
+        orderService.notifyPaymentComplete(ORDER_ID, paymentId);
+
+        relay.relay();
+
+        assertThat(REQUESTS).singleElement().satisfies(request -> {
+            assertThat(request.path()).isEqualTo("/api/v1/internal/orders/payment-notifications");
+            assertThat(request.body()).contains(ORDER_ID.toString(), paymentId.toString(), "COMPLETED");
+            assertAcceptedByOrderService(request.authorization());
+        });
+    }
+
+    /**
+     * Mirrors order-service's integration-test security.jwt settings.
+     */
+    private static void assertAcceptedByOrderService(String authorization) {
+        JwtConfig orderServiceJwt = new JwtConfig();
+        orderServiceJwt.setSecretKey("test-secret-key-for-integration-tests-that-is-at-least-32-characters");
+        orderServiceJwt.setIssuer("test-issuer");
+        orderServiceJwt.setAudience("test-audience");
+        JwtTokenProvider provider = new JwtTokenProvider(orderServiceJwt);
+
+        assertThat(authorization).startsWith("Bearer ");
+        String token = authorization.substring("Bearer ".length());
+        assertThat(provider.validateToken(token)).isPresent();
+        assertThat(provider.getRoles(token)).contains("SERVICE");
+    }
+
+    private static HttpServer startOrderService() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/api/v1/internal/orders/", OrderServiceClientIntegrationTest::handle);
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        REQUESTS.add(new RecordedRequest(path, exchange.getRequestHeaders().getFirst("Authorization"), body));
+
+        if (path.endsWith("/payment-notifications")) {
+            byte[] result = "{\"applied\":1,\"rejected\":[]}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, result.length);
+            exchange.getResponseBody().write(result);
+        } else if (path.endsWith(ORDER_ID.toString())) {
+            byte[] order = ("{\"id\":\"" + ORDER_ID + "\",\"customerId\":\"" + CUSTOMER_ID + "\","
+                    + "\"total\":1250.00,\"currency\":\"TWD\",\"status\":\"PENDING_PAYMENT\"}")
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, order.length);
+            exchange.getResponseBody().write(order);
+        } else {
+            exchange.sendResponseHeaders(404, -1);
+        }
+        exchange.close();
+    }
+
+    private record RecordedRequest(String path, String authorization, String body) {}
+}
@@ -0,0 +1,181 @@
+package com.ecommerce.payment.integration;
+
+import com.ecommerce.payment.domain.aggregates.Payment;
+import com.ecommerce.payment.domain.ports.PaymentRepository;
+import com.ecommerce.payment.domain.value_objects.PaymentHistoryCursor;
+import com.ecommerce.payment.domain.value_objects.PaymentMethod;
+import com.ecommerce.payment.domain.value_objects.PaymentStatus;
+import com.ecommerce.payment.infrastructure.persistence.entities.PaymentJpaEntity;
+import com.ecommerce.payment.infrastructure.persistence.repositories.PaymentJpaRepository;
+import com.ecommerce.shared.domain.value_objects.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PaymentRepositoryAdapter Tests")
+class PaymentRepositoryAdapterTest extends AbstractPostgresIntegrationTest {
+
+    private static final Instant BASE = Instant.parse("2024-03-01T12:00:00Z");
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private PaymentJpaRepository jpaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        jpaRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("should page a customer's history by keyset without gaps or repeats")
+    void shouldPageHistoryByKeyset() {
+        UUID customerId = UUID.randomUUID();
+        for (int i = 0; i < 5; i++) {
+            paymentRepository.save(pending(customerId, BASE.plusSeconds(i)));
+        }
+        // Two payments created in the same instant are ordered by ID
+        paymentRepository.save(pending(customerId, BASE.plusSeconds(2)));
+        paymentRepository.save(pending(UUID.randomUUID(), BASE.plusSeconds(3)));
+
+        List<UUID> paged = new ArrayList<>();
+        PaymentHistoryCursor cursor = null;
+        List<Payment> page;
+        do {
+            page = paymentRepository.findByCustomerId(customerId, cursor, 2);
+            page.forEach(payment -> paged.add(payment.getId()));
+            cursor = page.isEmpty() ? null : PaymentHistoryCursor.of(page.get(page.size() - 1));
+        } while (page.size() == 2);
+
+        List<Payment> all = paymentRepository.findByCustomerId(customerId, null, 10);
+        assertThat(all).hasSize(6);
+        assertThat(all).extracting(Payment::getCreatedAt).isSortedAccordingTo((a, b) -> b.compareTo(a));
+        assertThat(paged).containsExactlyElementsOf(all.stream().map(Payment::getId).toList());
+    }
+
+    @Test
+    @DisplayName("should report the loser of a concurrent insert as an active payment conflict")
+    void shouldReportConcurrentInsertAsConflict() {
+        UUID orderId = UUID.randomUUID();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        CompletableFuture<Payment> second = transaction.execute(status -> {
+            paymentRepository.save(pending(orderId, UUID.randomUUID(), BASE));
+            // The second insert passes the lookup, which cannot see this uncommitted row,
+            // and then waits on the partial unique index until this transaction commits
+            CompletableFuture<Payment> pendingInsert = CompletableFuture.supplyAsync(
+                    () -> paymentRepository.save(pending(orderId, UUID.randomUUID(), BASE.plusSeconds(1))));
+            awaitBlockedOnLock();
+            return pendingInsert;
+        });
+
+        assertThatThrownBy(() -> second.orTimeout(5, TimeUnit.SECONDS).join())
+                .isInstanceOf(CompletionException.class)
+                .cause()
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("already has a active payment");
+        assertThat(jpaRepository.findAll()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("should stream completed payments in the window in settlement file order")
+    void shouldStreamCompletedPaymentsInTransactionIdOrder() {
+        paymentRepository.save(completed("TXN-b", BASE.plusSeconds(10)));
+        paymentRepository.save(completed("TXN-B", BASE.plusSeconds(20)));
+        paymentRepository.save(completed("TXN-a", BASE.plusSeconds(30)));
+        paymentRepository.save(completed("TXN-0", BASE.plusSeconds(3600)));
+        paymentRepository.save(pending(UUID.randomUUID(), BASE.plusSeconds(40)));
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        List<String> transactionIds = readOnly.execute(status -> {
+            try (Stream<Payment> payments = paymentRepository.streamCompletedByTransactionId(
+                    BASE, BASE.plusSeconds(60))) {
+                return payments.map(Payment::getTransactionId).toList();
+            }
+        });
+
+        // Byte order, as the settlement file is sorted
+        assertThat(transactionIds).containsExactly("TXN-B", "TXN-a", "TXN-b");
+    }
+
+    @Test
+    @DisplayName("should reject a save of a payment loaded before the row last changed")
+    void shouldRejectStaleSave() {
+        Payment payment = pending(UUID.randomUUID(), UUID.randomUUID(), BASE);
+        paymentRepository.save(payment);
+        Payment first = paymentRepository.findById(payment.getId()).orElseThrow();
+        Payment stale = paymentRepository.findById(payment.getId()).orElseThrow();
+
+        first.startProcessing();
+        paymentRepository.save(first);
+        stale.fail("Abandoned");
+
+        assertThatThrownBy(() -> paymentRepository.save(stale))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        assertThat(paymentRepository.findById(payment.getId()).orElseThrow().getStatus())
+                .isEqualTo(PaymentStatus.PROCESSING);
+
+        // The winner keeps the row's new version and can save again
+        first.complete("TXN-1");
+        paymentRepository.save(first);
+        PaymentJpaEntity stored = jpaRepository.findById(payment.getId()).orElseThrow();
+        assertThat(stored.getStatus()).isEqualTo(PaymentStatus.COMPLETED.name());
+        assertThat(stored.getVersion()).isEqualTo(2);
+    }
+
+    private void awaitBlockedOnLock() {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (System.currentTimeMillis() < deadline) {
+            Integer waiting = jdbcTemplate.queryForObject(
+                    "SELECT count(*) FROM pg_stat_activity WHERE wait_event_type = 'Lock'", Integer.class);
+            if (waiting != null && waiting > 0) {
+                return;
+            }
+            Thread.onSpinWait();
+        }
+        throw new AssertionError("Second insert never waited on the unique index");
+    }
+
+    private static Payment pending(UUID customerId, Instant createdAt) {
+        return pending(UUID.randomUUID(), customerId, createdAt);
+    }
+
+    private static Payment pending(UUID orderId, UUID customerId, Instant createdAt) {
+        return Payment.reconstitute(UUID.randomUUID(), orderId, customerId, Money.of(new BigDecimal("100.00")),
+                PaymentMethod.CREDIT_CARD, PaymentStatus.PENDING, null, null, null, null,
+                createdAt, null, null, createdAt, 0);
+    }
+
+    private static Payment completed(String transactionId, Instant completedAt) {
+        return Payment.reconstitute(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+                Money.of(new BigDecimal("100.00")), PaymentMethod.CREDIT_CARD, PaymentStatus.COMPLETED,
+                transactionId, null, null, null, completedAt.minusSeconds(5), completedAt, null, completedAt,
+                0);
+    }
+}
@@ -0,0 +1,92 @@
+package com.ecommerce.payment.unit.application;
+
+import com.ecommerce.payment.application.dto.PaymentHistoryResponse;
+import com.ecommerce.payment.application.dto.PaymentResponse;
+import com.ecommerce.payment.application.usecases.GetPaymentHistoryUseCase;
+import com.ecommerce.payment.domain.aggregates.Payment;
+import com.ecommerce.payment.domain.value_objects.PaymentMethod;
+import com.ecommerce.payment.domain.value_objects.PaymentStatus;
+import com.ecommerce.payment.infrastructure.persistence.adapters.InMemoryPaymentRepository;
+import com.ecommerce.shared.domain.value_objects.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("GetPaymentHistoryUseCase Tests")
+class GetPaymentHistoryUseCaseTest {
+
+    private static final UUID CUSTOMER_ID = UUID.randomUUID();
+    private static final Instant START = Instant.parse("2026-01-01T00:00:00Z");
+
+    private InMemoryPaymentRepository paymentRepository;
+    private GetPaymentHistoryUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        paymentRepository = new InMemoryPaymentRepository();
+        useCase = new GetPaymentHistoryUseCase(paymentRepository);
+    }
+
+    @Test
+    @DisplayName("should page through the history newest first without repeats")
+    void shouldPageNewestFirst() {
+        List<UUID> created = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            created.add(save(CUSTOMER_ID, START.plusSeconds(i)).getId());
+        }
+        save(UUID.randomUUID(), START.plusSeconds(10));
+
+        List<UUID> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            PaymentHistoryResponse page = useCase.execute(CUSTOMER_ID, cursor, 2);
+            page.payments().stream().map(PaymentResponse::id).forEach(seen::add);
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(seen).containsExactlyElementsOf(created.reversed());
+    }
+
+    @Test
+    @DisplayName("should not repeat payments made while paging")
+    void shouldNotRepeatNewPayments() {
+        for (int i = 0; i < 3; i++) {
+            save(CUSTOMER_ID, START.plusSeconds(i));
+        }
+        PaymentHistoryResponse first = useCase.execute(CUSTOMER_ID, null, 2);
+        save(CUSTOMER_ID, START.plusSeconds(100));
+
+        PaymentHistoryResponse second = useCase.execute(CUSTOMER_ID, first.nextCursor(), 2);
+
+        assertThat(second.payments()).hasSize(1);
+        assertThat(second.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("should reject an invalid cursor or page size")
+    void shouldRejectInvalidRequest() {
+        assertThatThrownBy(() -> useCase.execute(CUSTOMER_ID, "not-a-cursor", 20))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> useCase.execute(CUSTOMER_ID, null, GetPaymentHistoryUseCase.MAX_PAGE_SIZE + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Payment save(UUID customerId, Instant createdAt) {
+        Payment payment = Payment.reconstitute(UUID.randomUUID(), UUID.randomUUID(), customerId,
+                Money.of(new BigDecimal("100.00")), PaymentMethod.CREDIT_CARD, PaymentStatus.COMPLETED,
+                "TXN-" + UUID.randomUUID(), null, null, null, createdAt, createdAt, null, createdAt, 0);
+        return paymentRepository.save(payment);
+    }
+}
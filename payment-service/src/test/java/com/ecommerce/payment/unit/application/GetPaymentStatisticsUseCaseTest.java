@@ -0,0 +1,105 @@
+package com.ecommerce.payment.unit.application;
+
+import com.ecommerce.payment.application.dto.PaymentStatisticsResponse;
+import com.ecommerce.payment.application.usecases.GetPaymentStatisticsUseCase;
+import com.ecommerce.payment.domain.aggregates.Payment;
+import com.ecommerce.payment.domain.value_objects.PaymentMethod;
+import com.ecommerce.payment.domain.value_objects.PaymentStatus;
+import com.ecommerce.payment.infrastructure.persistence.adapters.InMemoryPaymentRepository;
+import com.ecommerce.payment.infrastructure.statistics.InMemoryPaymentStatisticsStore;
+import com.ecommerce.shared.domain.value_objects.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("GetPaymentStatisticsUseCase Tests")
+class GetPaymentStatisticsUseCaseTest {
+
+    private InMemoryPaymentRepository paymentRepository;
+    private GetPaymentStatisticsUseCase useCase;
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        InMemoryPaymentStatisticsStore statisticsStore = new InMemoryPaymentStatisticsStore();
+        paymentRepository = new InMemoryPaymentRepository(statisticsStore);
+        useCase = new GetPaymentStatisticsUseCase(statisticsStore);
+        today = LocalDate.now(ZoneOffset.UTC);
+    }
+
+    @Test
+    @DisplayName("should total transitions per method and status in minor units")
+    void shouldTotalTransitions() {
+        completed(PaymentMethod.CREDIT_CARD, "100.00");
+        Payment refunded = completed(PaymentMethod.CREDIT_CARD, "50.00");
+        refunded.refund(money("20.00"), "Damaged item");
+        paymentRepository.save(refunded);
+        refunded.refund(money("30.00"), "Order cancelled");
+        paymentRepository.save(refunded);
+        Payment failed = Payment.create(UUID.randomUUID(), UUID.randomUUID(), money("70.00"), PaymentMethod.LINE_PAY);
+        failed.fail("Card declined");
+        paymentRepository.save(failed);
+
+        PaymentStatisticsResponse response = useCase.execute(today, today);
+
+        assertThat(response.buckets())
+                .extracting(PaymentStatisticsResponse.Bucket::paymentMethod, PaymentStatisticsResponse.Bucket::status,
+                        PaymentStatisticsResponse.Bucket::count, PaymentStatisticsResponse.Bucket::amountMinor)
+                .containsExactlyInAnyOrder(
+                        tuple(PaymentMethod.CREDIT_CARD, PaymentStatus.COMPLETED, 2L, 15000L),
+                        tuple(PaymentMethod.CREDIT_CARD, PaymentStatus.PARTIALLY_REFUNDED, 1L, 2000L),
+                        tuple(PaymentMethod.CREDIT_CARD, PaymentStatus.REFUNDED, 1L, 3000L),
+                        tuple(PaymentMethod.LINE_PAY, PaymentStatus.FAILED, 1L, 7000L));
+        assertThat(response.buckets()).allMatch(bucket -> bucket.day().equals(today));
+    }
+
+    @Test
+    @DisplayName("should count a transition once when the payment is saved again")
+    void shouldCountTransitionOnce() {
+        Payment payment = completed(PaymentMethod.CREDIT_CARD, "100.00");
+        paymentRepository.save(payment);
+
+        assertThat(useCase.execute(today, today).buckets())
+                .singleElement()
+                .satisfies(bucket -> assertThat(bucket.count()).isEqualTo(1));
+    }
+
+    @Test
+    @DisplayName("should leave out days outside the range")
+    void shouldLeaveOutOtherDays() {
+        completed(PaymentMethod.CREDIT_CARD, "100.00");
+
+        assertThat(useCase.execute(today.minusDays(7), today.minusDays(1)).buckets()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should reject a reversed or overlong range")
+    void shouldRejectInvalidRange() {
+        assertThatThrownBy(() -> useCase.execute(today, today.minusDays(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> useCase.execute(today.minusDays(GetPaymentStatisticsUseCase.MAX_RANGE_DAYS), today))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Payment completed(PaymentMethod method, String amount) {
+        Payment payment = Payment.create(UUID.randomUUID(), UUID.randomUUID(), money(amount), method);
+        payment.startProcessing();
+        paymentRepository.save(payment);
+        payment.complete("TXN-" + UUID.randomUUID());
+        paymentRepository.save(payment);
+        return payment;
+    }
+
+    private static Money money(String amount) {
+        return Money.of(new BigDecimal(amount));
+    }
+}
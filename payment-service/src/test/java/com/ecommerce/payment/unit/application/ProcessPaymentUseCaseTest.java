@@ -0,0 +1,246 @@
+package com.ecommerce.payment.unit.application;
+
+import com.ecommerce.payment.application.dto.PaymentResponse;
+import com.ecommerce.payment.application.dto.ProcessPaymentCommand;
+import com.ecommerce.payment.application.exceptions.IdempotencyKeyReusedException;
+import com.ecommerce.payment.application.exceptions.PaymentFailedException;
+import com.ecommerce.payment.application.exceptions.PaymentProcessingUnavailableException;
+import com.ecommerce.payment.application.usecases.ChargePaymentUseCase;
+import com.ecommerce.payment.application.usecases.ProcessPaymentUseCase;
+import com.ecommerce.payment.domain.aggregates.Payment;
+import com.ecommerce.payment.domain.ports.FraudScreen;
+import com.ecommerce.payment.domain.ports.OrderServicePort;
+import com.ecommerce.payment.domain.ports.PaymentGatewayPort;
+import com.ecommerce.payment.domain.ports.PaymentProcessingScheduler;
+import com.ecommerce.payment.domain.value_objects.FraudDecision;
+import com.ecommerce.payment.domain.value_objects.PaymentMethod;
+import com.ecommerce.payment.domain.value_objects.PaymentStatus;
+import com.ecommerce.payment.infrastructure.idempotency.InMemoryIdempotencyKeyStore;
+import com.ecommerce.payment.infrastructure.persistence.adapters.InMemoryPaymentRepository;
+import com.ecommerce.shared.domain.value_objects.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ProcessPaymentUseCase Tests")
+class ProcessPaymentUseCaseTest {
+
+    private static final UUID CUSTOMER_ID = UUID.randomUUID();
+    private static final UUID ORDER_ID = UUID.randomUUID();
+    private static final String CLIENT_IP = "203.0.113.7";
+
+    private InMemoryPaymentRepository paymentRepository;
+    private PaymentGatewayPort paymentGateway;
+    private List<PaymentGatewayPort.PaymentRequest> scheduled;
+    private boolean acceptingPayments;
+    private List<FraudScreen.Attempt> screened;
+    private FraudDecision fraudDecision;
+    private ProcessPaymentUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        paymentRepository = new InMemoryPaymentRepository();
+        paymentGateway = mock(PaymentGatewayPort.class);
+        OrderServicePort orderService = mock(OrderServicePort.class);
+        when(orderService.getOrderInfo(ORDER_ID)).thenReturn(Optional.of(new OrderServicePort.OrderInfo(
+                ORDER_ID, CUSTOMER_ID, Money.of(new BigDecimal("999.00")), "PENDING_PAYMENT")));
+        scheduled = new ArrayList<>();
+        acceptingPayments = true;
+        screened = new ArrayList<>();
+        fraudDecision = FraudDecision.allow();
+        ChargePaymentUseCase chargePayment = new ChargePaymentUseCase(paymentRepository, paymentGateway,
+                orderService, event -> { }, mock(PlatformTransactionManager.class));
+        PaymentProcessingScheduler scheduler = request -> {
+            if (!acceptingPayments) {
+                return false;
+            }
+            scheduled.add(request);
+            return true;
+        };
+        FraudScreen fraudScreen = attempt -> {
+            screened.add(attempt);
+            return fraudDecision;
+        };
+        useCase = new ProcessPaymentUseCase(paymentRepository, orderService, chargePayment, scheduler,
+                fraudScreen, new InMemoryIdempotencyKeyStore(), 24);
+    }
+
+    @Nested
+    @DisplayName("Idempotency Key")
+    class IdempotencyKey {
+
+        @Test
+        @DisplayName("should answer a retry from the recorded outcome without calling the gateway")
+        void shouldReplayRecordedPayment() {
+            when(paymentGateway.processPayment(any()))
+                    .thenReturn(PaymentGatewayPort.PaymentResult.success("TXN-1"));
+
+            PaymentResponse first = useCase.execute(CUSTOMER_ID, command(PaymentMethod.CREDIT_CARD), "key-1",
+                    CLIENT_IP);
+            PaymentResponse retry = useCase.execute(CUSTOMER_ID, command(PaymentMethod.CREDIT_CARD), "key-1",
+                    CLIENT_IP);
+
+            assertThat(retry.id()).isEqualTo(first.id());
+            assertThat(retry.status()).isEqualTo(PaymentStatus.COMPLETED);
+            verify(paymentGateway, times(1)).processPayment(any());
+        }
+
+        @Test
+        @DisplayName("should replay a declined payment as the same failure")
+        void shouldReplayRecordedFailure() {
+            when(paymentGateway.processPayment(any()))
+                    .thenReturn(PaymentGatewayPort.PaymentResult.failure("CARD_DECLINED", "Card declined"));
+
+            assertThatThrownBy(() -> useCase.execute(CUSTOMER_ID, command(PaymentMethod.CREDIT_CARD), "key-2",
+                    CLIENT_IP))
+                    .isInstanceOf(PaymentFailedException.class);
+            assertThatThrownBy(() -> useCase.execute(CUSTOMER_ID, command(PaymentMethod.CREDIT_CARD), "key-2",
+                    CLIENT_IP))
+                    .isInstanceOf(PaymentFailedException.class)
+                    .hasMessage("Card declined");
+            verify(paymentGateway, times(1)).processPayment(any());
+        }
+
+        @Test
+        @DisplayName("should reject a key reused for a different request")
+        void shouldRejectReusedKey() {
+            when(paymentGateway.processPayment(any()))
+                    .thenReturn(PaymentGatewayPort.PaymentResult.success("TXN-1"));
+            useCase.execute(CUSTOMER_ID, command(PaymentMethod.CREDIT_CARD), "key-3", CLIENT_IP);
+
+            assertThatThrownBy(() -> useCase.execute(CUSTOMER_ID, command(PaymentMethod.LINE_PAY), "key-3", CLIENT_IP))
+                    .isInstanceOf(IdempotencyKeyReusedException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Async Acceptance")
+    class AsyncAcceptance {
+
+        @Test
+        @DisplayName("should save the payment as pending and queue it without calling the gateway")
+        void shouldQueuePendingPayment() {
+            PaymentResponse response = useCase.accept(CUSTOMER_ID, command(PaymentMethod.CREDIT_CARD), null, CLIENT_IP);
+
+            assertThat(response.status()).isEqualTo(PaymentStatus.PENDING);
+            assertThat(paymentRepository.findById(response.id())).isPresent();
+            assertThat(scheduled).extracting(PaymentGatewayPort.PaymentRequest::paymentId)
+                    .containsExactly(response.id());
+            verify(paymentGateway, never()).processPayment(any());
+        }
+
+        @Test
+        @DisplayName("should fail the payment when the processing backlog is full")
+        void shouldFailPaymentWhenBacklogFull() {
+            acceptingPayments = false;
+
+            assertThatThrownBy(() -> useCase.accept(CUSTOMER_ID, command(PaymentMethod.CREDIT_CARD), null, CLIENT_IP))
+                    .isInstanceOf(PaymentProcessingUnavailableException.class);
+            assertThat(paymentRepository.findByOrderId(ORDER_ID))
+                    .hasValueSatisfying(payment -> assertThat(payment.getStatus()).isEqualTo(PaymentStatus.FAILED));
+        }
+
+        @Test
+        @DisplayName("should not queue a second payment for an order already accepted")
+        void shouldNotQueueTwice() {
+            PaymentResponse first = useCase.accept(CUSTOMER_ID, command(PaymentMethod.CREDIT_CARD), "key-4", CLIENT_IP);
+            PaymentResponse retry = useCase.accept(CUSTOMER_ID, command(PaymentMethod.CREDIT_CARD), null, CLIENT_IP);
+
+            assertThat(retry.id()).isEqualTo(first.id());
+            assertThat(scheduled).hasSize(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Fraud Screen")
+    class FraudScreening {
+
+        @Test
+        @DisplayName("should decline a rejected attempt without creating a payment or calling the gateway")
+        void shouldDeclineRejectedAttempt() {
+            fraudDecision = new FraudDecision(FraudDecision.Action.REJECT, "customer-burst");
+
+            assertThatThrownBy(() -> useCase.execute(CUSTOMER_ID, command(PaymentMethod.CREDIT_CARD), null, CLIENT_IP))
+                    .isInstanceOf(PaymentFailedException.class)
+                    .hasMessage("Payment declined");
+            assertThat(paymentRepository.findByOrderId(ORDER_ID)).isEmpty();
+            verify(paymentGateway, never()).processPayment(any());
+        }
+
+        @Test
+        @DisplayName("should let a flagged attempt proceed")
+        void shouldProceedWhenFlagged() {
+            fraudDecision = new FraudDecision(FraudDecision.Action.FLAG, "card-bin-burst");
+
+            PaymentResponse response = useCase.accept(CUSTOMER_ID, command(PaymentMethod.CREDIT_CARD), null, CLIENT_IP);
+
+            assertThat(response.status()).isEqualTo(PaymentStatus.PENDING);
+            assertThat(scheduled).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("should not screen a retry answered from the idempotency record")
+        void shouldNotScreenReplayedRetry() {
+            when(paymentGateway.processPayment(any()))
+                    .thenReturn(PaymentGatewayPort.PaymentResult.success("TXN-1"));
+
+            useCase.execute(CUSTOMER_ID, command(PaymentMethod.CREDIT_CARD), "key-5", CLIENT_IP);
+            useCase.execute(CUSTOMER_ID, command(PaymentMethod.CREDIT_CARD), "key-5", CLIENT_IP);
+
+            assertThat(screened).singleElement().satisfies(attempt -> {
+                assertThat(attempt.customerId()).isEqualTo(CUSTOMER_ID);
+                assertThat(attempt.clientIp()).isEqualTo(CLIENT_IP);
+            });
+        }
+    }
+
+    @Nested
+    @DisplayName("Order Index")
+    class OrderIndex {
+
+        @Test
+        @DisplayName("should reject a second active payment for the same order")
+        void shouldRejectSecondActivePayment() {
+            Money amount = Money.of(new BigDecimal("999.00"));
+            paymentRepository.save(Payment.create(ORDER_ID, CUSTOMER_ID, amount, PaymentMethod.CREDIT_CARD));
+
+            assertThatThrownBy(() -> paymentRepository.save(
+                    Payment.create(ORDER_ID, CUSTOMER_ID, amount, PaymentMethod.LINE_PAY)))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        @DisplayName("should let a failed payment be replaced")
+        void shouldReplaceFailedPayment() {
+            Money amount = Money.of(new BigDecimal("999.00"));
+            Payment failed = Payment.create(ORDER_ID, CUSTOMER_ID, amount, PaymentMethod.CREDIT_CARD);
+            failed.fail("Card declined");
+            paymentRepository.save(failed);
+
+            Payment retry = paymentRepository.save(
+                    Payment.create(ORDER_ID, CUSTOMER_ID, amount, PaymentMethod.LINE_PAY));
+
+            assertThat(paymentRepository.findByOrderId(ORDER_ID)).contains(retry);
+        }
+    }
+
+    private static ProcessPaymentCommand command(PaymentMethod method) {
+        return new ProcessPaymentCommand(ORDER_ID, method, null);
+    }
+}
@@ -0,0 +1,124 @@
+package com.ecommerce.payment.unit.application;
+
+import com.ecommerce.payment.application.dto.ReconciliationSummary;
+import com.ecommerce.payment.application.usecases.ReconcileSettlementsUseCase;
+import com.ecommerce.payment.domain.aggregates.Payment;
+import com.ecommerce.payment.domain.value_objects.PaymentMethod;
+import com.ecommerce.payment.domain.value_objects.ReconciliationMismatch;
+import com.ecommerce.payment.infrastructure.persistence.adapters.InMemoryPaymentRepository;
+import com.ecommerce.payment.infrastructure.reconciliation.SettlementFileReader;
+import com.ecommerce.shared.domain.value_objects.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("ReconcileSettlementsUseCase Tests")
+class ReconcileSettlementsUseCaseTest {
+
+    @TempDir
+    Path tempDir;
+
+    private InMemoryPaymentRepository paymentRepository;
+    private ReconcileSettlementsUseCase useCase;
+    private List<ReconciliationMismatch> mismatches;
+
+    @BeforeEach
+    void setUp() {
+        paymentRepository = new InMemoryPaymentRepository();
+        useCase = new ReconcileSettlementsUseCase(paymentRepository);
+        mismatches = new ArrayList<>();
+    }
+
+    @Test
+    @DisplayName("should merge-join payments and settlements and report every kind of mismatch")
+    void shouldReportMismatches() throws IOException {
+        completedPayment("TXN-001", "100.00");
+        completedPayment("TXN-002", "250.00");
+        completedPayment("TXN-004", "75.50");
+        completedPayment("TXN-006", "10.00");
+        Path file = settlementFile(
+                "transaction_id,amount,currency",
+                "TXN-001,100,TWD",
+                "TXN-002,249.00,TWD",
+                "TXN-003,30.00,TWD",
+                "TXN-004,75.50,TWD",
+                "TXN-004,75.50,TWD",
+                "TXN-005,12.00,TWD");
+
+        ReconciliationSummary summary = reconcile(file);
+
+        assertThat(mismatches)
+                .extracting(ReconciliationMismatch::type, ReconciliationMismatch::transactionId)
+                .containsExactly(
+                        tuple(ReconciliationMismatch.Type.AMOUNT_MISMATCH, "TXN-002"),
+                        tuple(ReconciliationMismatch.Type.MISSING_IN_PAYMENTS, "TXN-003"),
+                        tuple(ReconciliationMismatch.Type.DUPLICATE_SETTLEMENT, "TXN-004"),
+                        tuple(ReconciliationMismatch.Type.MISSING_IN_PAYMENTS, "TXN-005"),
+                        tuple(ReconciliationMismatch.Type.MISSING_IN_SETTLEMENT, "TXN-006"));
+        assertThat(summary.paymentsRead()).isEqualTo(4);
+        assertThat(summary.settlementsRead()).isEqualTo(6);
+        assertThat(summary.matched()).isEqualTo(2);
+        assertThat(summary.totalMismatches()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("should only reconcile payments completed in the window")
+    void shouldIgnorePaymentsOutsideWindow() throws IOException {
+        completedPayment("TXN-001", "100.00");
+        Path file = settlementFile("TXN-001,100.00,TWD");
+
+        Instant tomorrow = Instant.now().plus(1, ChronoUnit.DAYS);
+        try (SettlementFileReader reader = SettlementFileReader.open(file)) {
+            useCase.execute(tomorrow, tomorrow.plus(1, ChronoUnit.DAYS), reader, mismatches::add);
+        }
+
+        assertThat(mismatches).extracting(ReconciliationMismatch::type)
+                .containsExactly(ReconciliationMismatch.Type.MISSING_IN_PAYMENTS);
+    }
+
+    @Test
+    @DisplayName("should reject a settlement file that is not sorted by transaction ID")
+    void shouldRejectUnsortedFile() throws IOException {
+        Path file = settlementFile("TXN-002,1.00,TWD", "TXN-001,1.00,TWD");
+
+        assertThatThrownBy(() -> reconcile(file))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("not sorted");
+    }
+
+    private ReconciliationSummary reconcile(Path file) throws IOException {
+        // A tiny window makes lines span mapped regions
+        try (SettlementFileReader reader = SettlementFileReader.open(file, 8)) {
+            Instant now = Instant.now();
+            return useCase.execute(now.minus(1, ChronoUnit.HOURS), now.plus(1, ChronoUnit.HOURS),
+                    reader, mismatches::add);
+        }
+    }
+
+    private void completedPayment(String transactionId, String amount) {
+        Payment payment = Payment.create(UUID.randomUUID(), UUID.randomUUID(),
+                Money.of(new BigDecimal(amount)), PaymentMethod.CREDIT_CARD);
+        payment.startProcessing();
+        payment.complete(transactionId);
+        paymentRepository.save(payment);
+    }
+
+    private Path settlementFile(String... lines) throws IOException {
+        return Files.write(tempDir.resolve("settlement.csv"), List.of(lines));
+    }
+}
@@ -0,0 +1,162 @@
+package com.ecommerce.payment.unit.infrastructure;
+
+import com.ecommerce.payment.application.usecases.QueueRefundsUseCase;
+import com.ecommerce.payment.domain.aggregates.Payment;
+import com.ecommerce.payment.domain.value_objects.PaymentMethod;
+import com.ecommerce.payment.domain.value_objects.PaymentStatus;
+import com.ecommerce.payment.infrastructure.clients.OrderServiceClient;
+import com.ecommerce.payment.infrastructure.config.OrderNotificationConfig;
+import com.ecommerce.payment.infrastructure.notifications.InMemoryOrderNotificationStore;
+import com.ecommerce.payment.infrastructure.notifications.OrderNotification;
+import com.ecommerce.payment.infrastructure.persistence.adapters.InMemoryPaymentRepository;
+import com.ecommerce.payment.infrastructure.refunds.InMemoryRefundQueue;
+import com.ecommerce.payment.infrastructure.scheduling.OrderNotificationRelay;
+import com.ecommerce.shared.domain.value_objects.Money;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("OrderNotificationRelay Tests")
+class OrderNotificationRelayTest {
+
+    private InMemoryOrderNotificationStore store;
+    private OrderNotificationConfig config;
+    private List<List<OrderServiceClient.PaymentNotification>> sent;
+    private int failuresToInject;
+    private UUID expiredOrderId;
+    private InMemoryPaymentRepository paymentRepository;
+    private InMemoryRefundQueue refundQueue;
+    private OrderNotificationRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryOrderNotificationStore();
+        config = new OrderNotificationConfig();
+        config.setRetryDelayMs(0);
+        sent = new ArrayList<>();
+        OrderServiceClient client = new OrderServiceClient() {
+            @Override
+            public OrderResponse getOrder(UUID orderId) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public PaymentNotificationsResponse recordPaymentNotifications(List<PaymentNotification> notifications) {
+                if (failuresToInject > 0) {
+                    failuresToInject--;
+                    throw new IllegalStateException("order service down");
+                }
+                sent.add(notifications);
+                return new PaymentNotificationsResponse(notifications.size(), notifications.stream()
+                        .filter(notification -> notification.orderId().equals(expiredOrderId))
+                        .map(notification -> new RejectedPayment(notification.orderId(), notification.paymentId(),
+                                "ORDER_NOT_AWAITING_PAYMENT"))
+                        .toList());
+            }
+        };
+        paymentRepository = new InMemoryPaymentRepository();
+        refundQueue = new InMemoryRefundQueue();
+        relay = new OrderNotificationRelay(store, client, new QueueRefundsUseCase(paymentRepository, refundQueue),
+                config, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("should deliver only the latest outcome of an order")
+    void shouldCoalesceOutcomesPerOrder() {
+        UUID orderId = UUID.randomUUID();
+        UUID paymentId = UUID.randomUUID();
+        store.enqueue(OrderNotification.failed(orderId, "Card declined"));
+        store.enqueue(OrderNotification.completed(orderId, paymentId));
+
+        relay.relay();
+
+        assertThat(sent).hasSize(1);
+        assertThat(sent.get(0)).singleElement().satisfies(notification -> {
+            assertThat(notification.outcome()).isEqualTo("COMPLETED");
+            assertThat(notification.paymentId()).isEqualTo(paymentId);
+        });
+        assertThat(store.countPending()).isZero();
+    }
+
+    @Test
+    @DisplayName("should send the backlog in batches within one poll")
+    void shouldSendBacklogInBatches() {
+        config.setBatchSize(2);
+        for (int i = 0; i < 5; i++) {
+            store.enqueue(OrderNotification.completed(UUID.randomUUID(), UUID.randomUUID()));
+        }
+
+        relay.relay();
+
+        assertThat(sent).extracting(List::size).containsExactly(2, 2, 1);
+        assertThat(store.countPending()).isZero();
+    }
+
+    @Test
+    @DisplayName("should keep a batch queued when order service is unavailable and retry it")
+    void shouldRetryFailedBatch() {
+        store.enqueue(OrderNotification.completed(UUID.randomUUID(), UUID.randomUUID()));
+        failuresToInject = 1;
+
+        relay.relayBatch();
+        assertThat(sent).isEmpty();
+        assertThat(store.countPending()).isEqualTo(1);
+
+        relay.relayBatch();
+        assertThat(sent).hasSize(1);
+        assertThat(store.countPending()).isZero();
+    }
+
+    @Test
+    @DisplayName("should keep an outcome recorded while an older one was being sent")
+    void shouldKeepOutcomeRecordedDuringSend() {
+        UUID orderId = UUID.randomUUID();
+        store.enqueue(OrderNotification.failed(orderId, "Card declined"));
+        List<OrderNotification> inFlight = store.claim(10, Instant.now().plusSeconds(30));
+        store.enqueue(OrderNotification.completed(orderId, UUID.randomUUID()));
+
+        assertThat(store.claim(10, Instant.now().plusSeconds(30))).isEmpty();
+        store.markDelivered(inFlight);
+
+        assertThat(store.countPending()).isEqualTo(1);
+        assertThat(store.claim(10, Instant.now().plusSeconds(30)))
+                .extracting(OrderNotification::outcome)
+                .containsExactly(OrderNotification.Outcome.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("should queue one refund for a payment order service rejected, however often it is delivered")
+    void shouldRefundRejectedPaymentOnce() {
+        Payment payment = completedPayment();
+        expiredOrderId = payment.getOrderId();
+        store.enqueue(OrderNotification.completed(payment.getOrderId(), payment.getId()));
+        relay.relayBatch();
+        store.enqueue(OrderNotification.completed(payment.getOrderId(), payment.getId()));
+        relay.relayBatch();
+
+        assertThat(sent).hasSize(2);
+        assertThat(refundQueue.claim(PaymentMethod.CREDIT_CARD, 10, Instant.now().plusSeconds(30)))
+                .singleElement()
+                .satisfies(refund -> {
+                    assertThat(refund.paymentId()).isEqualTo(payment.getId());
+                    assertThat(refund.amount()).isEqualTo(payment.getAmount());
+                });
+        assertThat(store.countPending()).isZero();
+    }
+
+    private Payment completedPayment() {
+        Instant now = Instant.now();
+        return paymentRepository.save(Payment.reconstitute(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+                Money.of(new BigDecimal("100.00")), PaymentMethod.CREDIT_CARD, PaymentStatus.COMPLETED,
+                "TXN-1", null, null, null, now, now, null, now, 0));
+    }
+}
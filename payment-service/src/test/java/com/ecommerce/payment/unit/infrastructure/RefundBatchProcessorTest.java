@@ -0,0 +1,163 @@
+package com.ecommerce.payment.unit.infrastructure;
+
+import com.ecommerce.payment.application.dto.QueueRefundsCommand;
+import com.ecommerce.payment.application.dto.QueueRefundsResponse;
+import com.ecommerce.payment.application.usecases.ProcessRefundUseCase;
+import com.ecommerce.payment.application.usecases.QueueRefundsUseCase;
+import com.ecommerce.payment.domain.aggregates.Payment;
+import com.ecommerce.payment.domain.ports.PaymentGatewayPort;
+import com.ecommerce.payment.domain.value_objects.PaymentMethod;
+import com.ecommerce.payment.domain.value_objects.PaymentStatus;
+import com.ecommerce.payment.domain.value_objects.RefundJob;
+import com.ecommerce.payment.infrastructure.config.RefundBatchConfig;
+import com.ecommerce.payment.infrastructure.persistence.adapters.InMemoryPaymentRepository;
+import com.ecommerce.payment.infrastructure.refunds.InMemoryRefundQueue;
+import com.ecommerce.payment.infrastructure.scheduling.RefundBatchProcessor;
+import com.ecommerce.shared.domain.value_objects.Money;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("RefundBatchProcessor Tests")
+class RefundBatchProcessorTest {
+
+    private InMemoryPaymentRepository paymentRepository;
+    private InMemoryRefundQueue refundQueue;
+    private PaymentGatewayPort paymentGateway;
+    private RefundBatchConfig config;
+    private SimpleMeterRegistry meterRegistry;
+    private ProcessRefundUseCase processRefund;
+    private QueueRefundsUseCase queueRefunds;
+    private RefundBatchProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        paymentRepository = new InMemoryPaymentRepository();
+        refundQueue = new InMemoryRefundQueue();
+        paymentGateway = mock(PaymentGatewayPort.class);
+        when(paymentGateway.processRefund(any()))
+                .thenAnswer(invocation -> PaymentGatewayPort.RefundResult.success("REF-1"));
+        config = new RefundBatchConfig();
+        config.setRefundsPerSecondPerMethod(0);
+        config.setRetryDelayMs(0);
+        meterRegistry = new SimpleMeterRegistry();
+        processRefund = new ProcessRefundUseCase(paymentRepository, paymentGateway, refundQueue, event -> { });
+        queueRefunds = new QueueRefundsUseCase(paymentRepository, refundQueue);
+        processor = new RefundBatchProcessor(refundQueue, processRefund, config, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("should refund every queued payment across batches")
+    void shouldDrainQueuedRefunds() {
+        config.setBatchSize(3);
+        List<Payment> payments = completedPayments(7);
+        queue(payments);
+
+        assertThat(processor.drain(PaymentMethod.CREDIT_CARD)).isEqualTo(7);
+
+        assertThat(payments).allSatisfy(payment -> assertThat(payment.getStatus()).isEqualTo(PaymentStatus.REFUNDED));
+        assertThat(refundQueue.countUnsettled(PaymentMethod.CREDIT_CARD)).isZero();
+        assertThat(meterRegistry.get("payment.refunds").tag("result", "succeeded").counter().count()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("should reject refunds that cannot be queued without failing the rest")
+    void shouldReportRejectedRefunds() {
+        Payment payment = completedPayments(1).get(0);
+        UUID unknown = UUID.randomUUID();
+
+        QueueRefundsResponse response = queueRefunds.execute(new QueueRefundsCommand(List.of(
+                new QueueRefundsCommand.RefundItem(payment.getId(), new BigDecimal("40.00"), "Campaign cancelled"),
+                new QueueRefundsCommand.RefundItem(payment.getId(), null, "Duplicate"),
+                new QueueRefundsCommand.RefundItem(unknown, null, "Campaign cancelled"))));
+
+        assertThat(response.queuedRefundIds()).hasSize(1);
+        assertThat(response.rejected()).extracting(QueueRefundsResponse.Rejection::reason)
+                .containsExactly("REFUND_IN_PROGRESS", "PAYMENT_NOT_FOUND");
+    }
+
+    @Test
+    @DisplayName("should reschedule a refund the gateway did not answer and settle it later")
+    void shouldRetryUnansweredRefund() {
+        Payment payment = completedPayments(1).get(0);
+        queue(List.of(payment));
+        when(paymentGateway.processRefund(any()))
+                .thenThrow(new PaymentGatewayPort.GatewayUnavailableException("refund timed out"))
+                .thenReturn(PaymentGatewayPort.RefundResult.success("REF-1"));
+
+        assertThat(processor.drain(PaymentMethod.CREDIT_CARD)).isZero();
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.COMPLETED);
+
+        assertThat(processor.drain(PaymentMethod.CREDIT_CARD)).isEqualTo(1);
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.REFUNDED);
+        assertThat(meterRegistry.get("payment.refunds").tag("result", "retried").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should resume an interrupted batch with only the refunds not yet settled")
+    void shouldResumeInterruptedBatch() throws Exception {
+        List<Payment> payments = completedPayments(5);
+        queue(payments);
+
+        // A processor claims the batch, settles two refunds and dies
+        List<RefundJob> claimed = refundQueue.claim(PaymentMethod.CREDIT_CARD, 10, Instant.now().plusMillis(50));
+        for (RefundJob job : claimed.subList(0, 2)) {
+            processRefund.record(job, processRefund.submit(job));
+        }
+        assertThat(processor.drain(PaymentMethod.CREDIT_CARD)).isZero();
+
+        Thread.sleep(60);
+
+        assertThat(processor.drain(PaymentMethod.CREDIT_CARD)).isEqualTo(3);
+        assertThat(payments).allSatisfy(payment -> assertThat(payment.getStatus()).isEqualTo(PaymentStatus.REFUNDED));
+        verify(paymentGateway, times(5)).processRefund(any());
+    }
+
+    @Test
+    @DisplayName("should space submissions by the per-method rate limit")
+    void shouldRateLimitSubmissions() {
+        config.setRefundsPerSecondPerMethod(20);
+        processor = new RefundBatchProcessor(refundQueue, processRefund, config, new SimpleMeterRegistry());
+        queue(completedPayments(6));
+
+        long start = System.nanoTime();
+        processor.drain(PaymentMethod.CREDIT_CARD);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(elapsedMs).isGreaterThanOrEqualTo(200);
+    }
+
+    private void queue(List<Payment> payments) {
+        List<QueueRefundsCommand.RefundItem> items = new ArrayList<>();
+        for (Payment payment : payments) {
+            items.add(new QueueRefundsCommand.RefundItem(payment.getId(), null, "Campaign cancelled"));
+        }
+        assertThat(queueRefunds.execute(new QueueRefundsCommand(items)).rejected()).isEmpty();
+    }
+
+    private List<Payment> completedPayments(int count) {
+        List<Payment> payments = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Payment payment = Payment.create(UUID.randomUUID(), UUID.randomUUID(),
+                    Money.of(new BigDecimal("100.00")), PaymentMethod.CREDIT_CARD);
+            payment.startProcessing();
+            payment.complete("TXN-" + i);
+            payments.add(paymentRepository.save(payment));
+        }
+        return payments;
+    }
+}
@@ -0,0 +1,288 @@
+package com.ecommerce.payment.unit.infrastructure;
+
+import com.ecommerce.payment.domain.ports.PaymentGatewayPort;
+import com.ecommerce.payment.domain.value_objects.PaymentMethod;
+import com.ecommerce.payment.infrastructure.config.PaymentGatewayConfig;
+import com.ecommerce.payment.infrastructure.gateway.ResilientPaymentGatewayAdapter;
+import com.ecommerce.shared.domain.value_objects.Money;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ResilientPaymentGatewayAdapter Tests")
+class ResilientPaymentGatewayAdapterTest {
+
+    private StandInGateway psp;
+    private PaymentGatewayConfig config;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        psp = new StandInGateway();
+        config = new PaymentGatewayConfig();
+        config.getDefaults().setTimeoutMs(200);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private ResilientPaymentGatewayAdapter adapter() {
+        return new ResilientPaymentGatewayAdapter(psp, config, meterRegistry);
+    }
+
+    @Nested
+    @DisplayName("Deadline")
+    class Deadline {
+
+        @Test
+        @DisplayName("should give up on a slow charge and report the outcome as unknown")
+        void shouldTimeOutSlowCharge() {
+            psp.latencyMs = 1000;
+            ResilientPaymentGatewayAdapter gateway = adapter();
+
+            long start = System.nanoTime();
+            assertThatThrownBy(() -> gateway.processPayment(request(PaymentMethod.CREDIT_CARD)))
+                    .isInstanceOf(PaymentGatewayPort.GatewayUnavailableException.class);
+
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(1000);
+            assertThat(meterRegistry.get("payment.gateway.latency").tag("outcome", "timeout").timer().count())
+                    .isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should apply the deadline configured for the payment method")
+        void shouldApplyPerMethodDeadline() {
+            PaymentGatewayConfig.Policy linePay = new PaymentGatewayConfig.Policy();
+            linePay.setTimeoutMs(50);
+            config.getMethods().put(PaymentMethod.LINE_PAY, linePay);
+            psp.latencyMs = 120;
+            ResilientPaymentGatewayAdapter gateway = adapter();
+
+            assertThat(gateway.processPayment(request(PaymentMethod.CREDIT_CARD)).success()).isTrue();
+            assertThatThrownBy(() -> gateway.processPayment(request(PaymentMethod.LINE_PAY)))
+                    .isInstanceOf(PaymentGatewayPort.GatewayUnavailableException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Bulkhead")
+    class Bulkhead {
+
+        @Test
+        @DisplayName("should reject a charge beyond the concurrent call limit without calling the PSP")
+        void shouldRejectBeyondLimit() throws Exception {
+            config.getDefaults().setMaxConcurrentCalls(1);
+            config.getDefaults().setTimeoutMs(2000);
+            psp.blockUntilReleased();
+            ResilientPaymentGatewayAdapter gateway = adapter();
+
+            CompletableFuture<PaymentGatewayPort.PaymentResult> first = CompletableFuture.supplyAsync(
+                    () -> gateway.processPayment(request(PaymentMethod.CREDIT_CARD)));
+            psp.awaitCalls(1);
+            PaymentGatewayPort.PaymentResult rejected = gateway.processPayment(request(PaymentMethod.CREDIT_CARD));
+            psp.release();
+
+            assertThat(rejected.success()).isFalse();
+            assertThat(rejected.errorCode()).isEqualTo("GATEWAY_UNAVAILABLE");
+            assertThat(first.get(5, TimeUnit.SECONDS).success()).isTrue();
+            assertThat(psp.calls.get()).isEqualTo(1);
+            assertThat(meterRegistry.get("payment.gateway.rejected").tag("reason", "bulkhead").counter().count())
+                    .isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should isolate payment methods from each other")
+        void shouldIsolateMethods() throws Exception {
+            config.getDefaults().setMaxConcurrentCalls(1);
+            config.getDefaults().setTimeoutMs(2000);
+            psp.blockUntilReleased();
+            ResilientPaymentGatewayAdapter gateway = adapter();
+
+            CompletableFuture<PaymentGatewayPort.PaymentResult> creditCard = CompletableFuture.supplyAsync(
+                    () -> gateway.processPayment(request(PaymentMethod.CREDIT_CARD)));
+            psp.awaitCalls(1);
+            CompletableFuture<PaymentGatewayPort.PaymentResult> linePay = CompletableFuture.supplyAsync(
+                    () -> gateway.processPayment(request(PaymentMethod.LINE_PAY)));
+            psp.awaitCalls(2);
+            psp.release();
+
+            assertThat(creditCard.get(5, TimeUnit.SECONDS).success()).isTrue();
+            assertThat(linePay.get(5, TimeUnit.SECONDS).success()).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("Circuit Breaker")
+    class CircuitBreakerBehaviour {
+
+        @Test
+        @DisplayName("should open after consecutive failures and stop calling the PSP")
+        void shouldOpenAfterFailures() {
+            config.getDefaults().setFailureThreshold(2);
+            psp.failing = true;
+            ResilientPaymentGatewayAdapter gateway = adapter();
+
+            for (int i = 0; i < 2; i++) {
+                assertThatThrownBy(() -> gateway.processPayment(request(PaymentMethod.CREDIT_CARD)))
+                        .isInstanceOf(PaymentGatewayPort.GatewayUnavailableException.class);
+            }
+            PaymentGatewayPort.PaymentResult rejected = gateway.processPayment(request(PaymentMethod.CREDIT_CARD));
+
+            assertThat(rejected.errorCode()).isEqualTo("GATEWAY_UNAVAILABLE");
+            assertThat(psp.calls.get()).isEqualTo(2);
+            assertThat(meterRegistry.get("payment.gateway.rejected").tag("reason", "circuit_open").counter().count())
+                    .isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should close again after a successful half-open probe")
+        void shouldCloseAfterProbe() throws Exception {
+            config.getDefaults().setFailureThreshold(1);
+            config.getDefaults().setOpenMs(100);
+            psp.failing = true;
+            ResilientPaymentGatewayAdapter gateway = adapter();
+            assertThatThrownBy(() -> gateway.processPayment(request(PaymentMethod.CREDIT_CARD)))
+                    .isInstanceOf(PaymentGatewayPort.GatewayUnavailableException.class);
+            assertThat(gateway.processPayment(request(PaymentMethod.CREDIT_CARD)).success()).isFalse();
+
+            psp.failing = false;
+            Thread.sleep(150);
+
+            assertThat(gateway.processPayment(request(PaymentMethod.CREDIT_CARD)).success()).isTrue();
+            assertThat(gateway.processPayment(request(PaymentMethod.CREDIT_CARD)).success()).isTrue();
+            assertThat(psp.calls.get()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("should not count declines as gateway failures")
+        void shouldIgnoreDeclines() {
+            config.getDefaults().setFailureThreshold(1);
+            psp.declining = true;
+            ResilientPaymentGatewayAdapter gateway = adapter();
+
+            gateway.processPayment(request(PaymentMethod.CREDIT_CARD));
+            PaymentGatewayPort.PaymentResult result = gateway.processPayment(request(PaymentMethod.CREDIT_CARD));
+
+            assertThat(result.errorCode()).isEqualTo("DECLINED");
+            assertThat(psp.calls.get()).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("Hedged Lookup")
+    class HedgedLookup {
+
+        @Test
+        @DisplayName("should answer from a second attempt when the first is slow")
+        void shouldHedgeSlowLookup() {
+            config.getDefaults().setTimeoutMs(1000);
+            config.getDefaults().setHedgeDelayMs(50);
+            psp.scriptedLatencies.add(800L);
+            ResilientPaymentGatewayAdapter gateway = adapter();
+
+            long start = System.nanoTime();
+            Optional<PaymentGatewayPort.PaymentResult> result = gateway.findPayment(UUID.randomUUID(),
+                    PaymentMethod.CREDIT_CARD);
+
+            assertThat(result).isPresent();
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(800);
+            assertThat(psp.calls.get()).isEqualTo(2);
+            assertThat(meterRegistry.get("payment.gateway.hedged").counter().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should send a single attempt when the first answers in time")
+        void shouldNotHedgeFastLookup() {
+            config.getDefaults().setHedgeDelayMs(100);
+            ResilientPaymentGatewayAdapter gateway = adapter();
+
+            gateway.findPayment(UUID.randomUUID(), PaymentMethod.CREDIT_CARD);
+
+            assertThat(psp.calls.get()).isEqualTo(1);
+        }
+    }
+
+    private static PaymentGatewayPort.PaymentRequest request(PaymentMethod method) {
+        return new PaymentGatewayPort.PaymentRequest(UUID.randomUUID(), Money.of(new BigDecimal("100.00")),
+                method, "4242424242424242", "Test User", "12", "2030", "123");
+    }
+
+    /**
+     * PSP stand-in with configurable latency, faults and declines.
+     */
+    private static final class StandInGateway implements PaymentGatewayPort {
+
+        private final AtomicInteger calls = new AtomicInteger();
+        private final Queue<Long> scriptedLatencies = new ConcurrentLinkedQueue<>();
+        private volatile long latencyMs;
+        private volatile boolean failing;
+        private volatile boolean declining;
+        private volatile CountDownLatch gate;
+
+        void blockUntilReleased() {
+            gate = new CountDownLatch(1);
+        }
+
+        void release() {
+            gate.countDown();
+        }
+
+        void awaitCalls(int count) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + 5000;
+            while (calls.get() < count && System.currentTimeMillis() < deadline) {
+                Thread.sleep(5);
+            }
+        }
+
+        @Override
+        public PaymentResult processPayment(PaymentRequest request) {
+            respond();
+            return declining
+                    ? PaymentResult.failure("DECLINED", "Card declined by issuer")
+                    : PaymentResult.success("TXN-" + request.paymentId());
+        }
+
+        @Override
+        public Optional<PaymentResult> findPayment(UUID paymentId, PaymentMethod paymentMethod) {
+            respond();
+            return Optional.of(PaymentResult.success("TXN-" + paymentId));
+        }
+
+        @Override
+        public RefundResult processRefund(RefundRequest request) {
+            respond();
+            return RefundResult.success("REF-" + request.paymentId());
+        }
+
+        private void respond() {
+            calls.incrementAndGet();
+            try {
+                CountDownLatch blocked = gate;
+                if (blocked != null) {
+                    blocked.await();
+                }
+                Long scripted = scriptedLatencies.poll();
+                Thread.sleep(scripted != null ? scripted : latencyMs);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted", ex);
+            }
+            if (failing) {
+                throw new IllegalStateException("PSP unavailable");
+            }
+        }
+    }
+}
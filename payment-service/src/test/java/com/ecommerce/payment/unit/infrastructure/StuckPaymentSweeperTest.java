@@ -0,0 +1,173 @@
+package com.ecommerce.payment.unit.infrastructure;
+
+import com.ecommerce.payment.application.usecases.ChargePaymentUseCase;
+import com.ecommerce.payment.domain.aggregates.Payment;
+import com.ecommerce.payment.domain.ports.OrderServicePort;
+import com.ecommerce.payment.domain.ports.PaymentGatewayPort;
+import com.ecommerce.payment.domain.value_objects.PaymentMethod;
+import com.ecommerce.payment.domain.value_objects.PaymentStatus;
+import com.ecommerce.payment.infrastructure.config.PaymentRecoveryConfig;
+import com.ecommerce.payment.infrastructure.persistence.adapters.InMemoryPaymentRepository;
+import com.ecommerce.payment.infrastructure.scheduling.StuckPaymentSweeper;
+import com.ecommerce.shared.domain.value_objects.Money;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("StuckPaymentSweeper Tests")
+class StuckPaymentSweeperTest {
+
+    private InMemoryPaymentRepository paymentRepository;
+    private PaymentGatewayPort paymentGateway;
+    private OrderServicePort orderService;
+    private ChargePaymentUseCase chargePayment;
+    private StuckPaymentSweeper sweeper;
+
+    @BeforeEach
+    void setUp() {
+        paymentRepository = new InMemoryPaymentRepository();
+        paymentGateway = mock(PaymentGatewayPort.class);
+        orderService = mock(OrderServicePort.class);
+        when(paymentGateway.findPayment(any(), any())).thenReturn(Optional.empty());
+        chargePayment = new ChargePaymentUseCase(paymentRepository, paymentGateway,
+                orderService, event -> { }, mock(PlatformTransactionManager.class));
+        sweeper = new StuckPaymentSweeper(paymentRepository, chargePayment, new PaymentRecoveryConfig(),
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("should complete a stuck payment the gateway charged")
+    void shouldCompleteChargedPayment() {
+        Payment payment = processingSince(Instant.now().minusSeconds(600));
+        when(paymentGateway.findPayment(payment.getId(), PaymentMethod.CREDIT_CARD))
+                .thenReturn(Optional.of(PaymentGatewayPort.PaymentResult.success("TXN-1")));
+
+        assertThat(sweeper.recoverBatch()).isEqualTo(1);
+
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.COMPLETED);
+        assertThat(payment.getTransactionId()).isEqualTo("TXN-1");
+        verify(orderService).notifyPaymentComplete(payment.getOrderId(), payment.getId());
+        verify(paymentGateway, never()).processPayment(any());
+    }
+
+    @Test
+    @DisplayName("should fail a stuck payment the gateway never received")
+    void shouldFailUnchargedPayment() {
+        Payment payment = processingSince(Instant.now().minusSeconds(600));
+
+        sweeper.recoverBatch();
+
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.FAILED);
+        assertThat(paymentRepository.findByStatus(PaymentStatus.PROCESSING)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should leave payments still within the processing window")
+    void shouldLeaveRecentPayments() {
+        Payment payment = processingSince(Instant.now().minusSeconds(5));
+
+        assertThat(sweeper.recoverBatch()).isZero();
+
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.PROCESSING);
+        verify(paymentGateway, never()).findPayment(any(), any());
+    }
+
+    @Test
+    @DisplayName("should expire a payment left pending past the window and tell order service")
+    void shouldExpireAbandonedPendingPayment() {
+        Payment payment = inStatusSince(PaymentStatus.PENDING, Instant.now().minusSeconds(3600));
+
+        assertThat(sweeper.expireBatch()).isEqualTo(1);
+
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.EXPIRED);
+        assertThat(paymentRepository.findByStatus(PaymentStatus.PENDING)).isEmpty();
+        verify(orderService).notifyPaymentFailed(any(), any());
+    }
+
+    @Test
+    @DisplayName("should leave payments still waiting in the processing queue")
+    void shouldLeaveRecentPendingPayments() {
+        Payment payment = inStatusSince(PaymentStatus.PENDING, Instant.now().minusSeconds(5));
+
+        assertThat(sweeper.expireBatch()).isZero();
+
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("should not charge a payment that expired while queued")
+    void shouldNotChargeExpiredPayment() {
+        Payment payment = inStatusSince(PaymentStatus.PENDING, Instant.now().minusSeconds(3600));
+        sweeper.expireBatch();
+
+        PaymentGatewayPort.PaymentResult result = chargePayment.execute(new PaymentGatewayPort.PaymentRequest(
+                payment.getId(), payment.getAmount(), PaymentMethod.CREDIT_CARD, null, null, null, null, null));
+
+        assertThat(result.success()).isFalse();
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.EXPIRED);
+        verify(paymentGateway, never()).processPayment(any());
+    }
+
+    @Test
+    @DisplayName("should not expire a payment whose processing started after it was read")
+    void shouldNotExpirePaymentThatStartedProcessing() {
+        Payment stored = inStatusSince(PaymentStatus.PENDING, Instant.now().minusSeconds(3600));
+        Payment stale = Payment.reconstitute(stored.getId(), stored.getOrderId(), stored.getCustomerId(),
+                stored.getAmount(), PaymentMethod.CREDIT_CARD, PaymentStatus.PENDING,
+                null, null, null, null, stored.getCreatedAt(), null, null, stored.getUpdatedAt(),
+                stored.getVersion());
+        stored.startProcessing();
+        paymentRepository.save(stored);
+
+        assertThat(chargePayment.expire(stale)).isFalse();
+
+        assertThat(paymentRepository.findById(stored.getId()).orElseThrow().getStatus())
+                .isEqualTo(PaymentStatus.PROCESSING);
+        verify(orderService, never()).notifyPaymentFailed(any(), any());
+    }
+
+    @Test
+    @DisplayName("should drop a late gateway outcome for a payment recovery already settled")
+    void shouldDropLateOutcomeAfterRecovery() {
+        Payment stored = processingSince(Instant.now().minusSeconds(600));
+        Payment inFlight = Payment.reconstitute(stored.getId(), stored.getOrderId(), stored.getCustomerId(),
+                stored.getAmount(), PaymentMethod.CREDIT_CARD, PaymentStatus.PROCESSING,
+                null, null, null, null, stored.getCreatedAt(), null, null, stored.getUpdatedAt(),
+                stored.getVersion());
+        sweeper.recoverBatch();
+        when(paymentGateway.processPayment(any())).thenReturn(PaymentGatewayPort.PaymentResult.success("TXN-1"));
+
+        chargePayment.charge(inFlight, new PaymentGatewayPort.PaymentRequest(
+                stored.getId(), stored.getAmount(), PaymentMethod.CREDIT_CARD, null, null, null, null, null));
+
+        assertThat(paymentRepository.findById(stored.getId()).orElseThrow().getStatus())
+                .isEqualTo(PaymentStatus.FAILED);
+        verify(orderService).notifyPaymentFailed(any(), any());
+        verify(orderService, never()).notifyPaymentComplete(any(), any());
+    }
+
+    private Payment processingSince(Instant updatedAt) {
+        return inStatusSince(PaymentStatus.PROCESSING, updatedAt);
+    }
+
+    private Payment inStatusSince(PaymentStatus status, Instant updatedAt) {
+        Payment payment = Payment.reconstitute(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+                Money.of(new BigDecimal("100.00")), PaymentMethod.CREDIT_CARD, status,
+                null, null, null, null, updatedAt, null, null, updatedAt, 0);
+        return paymentRepository.save(payment);
+    }
+}
@@ -0,0 +1,133 @@
+package com.ecommerce.payment.unit.infrastructure;
+
+import com.ecommerce.payment.domain.ports.FraudScreen;
+import com.ecommerce.payment.domain.value_objects.FraudDecision;
+import com.ecommerce.payment.domain.value_objects.PaymentMethod;
+import com.ecommerce.payment.infrastructure.config.FraudScreenConfig;
+import com.ecommerce.payment.infrastructure.fraud.VelocityFraudScreen;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("VelocityFraudScreen Tests")
+class VelocityFraudScreenTest {
+
+    private static final String CARD = "4111 1111 1111 1111";
+
+    private FraudScreenConfig config;
+    private SimpleMeterRegistry meterRegistry;
+    private long now;
+    private VelocityFraudScreen screen;
+
+    @BeforeEach
+    void setUp() {
+        config = new FraudScreenConfig();
+        config.setRules(new ArrayList<>(List.of(
+                rule("customer-burst", FraudScreenConfig.Dimension.CUSTOMER, 3, FraudDecision.Action.REJECT),
+                rule("bin-burst", FraudScreenConfig.Dimension.CARD_BIN, 5, FraudDecision.Action.FLAG))));
+        meterRegistry = new SimpleMeterRegistry();
+        now = 1_000_000;
+        screen = new VelocityFraudScreen(config, meterRegistry, () -> now);
+    }
+
+    @Test
+    @DisplayName("should reject a customer once the attempts in the window exceed the limit")
+    void shouldRejectBurstFromCustomer() {
+        UUID customerId = UUID.randomUUID();
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(screen.screen(attempt(customerId, null, null)).action()).isEqualTo(FraudDecision.Action.ALLOW);
+        }
+        FraudDecision decision = screen.screen(attempt(customerId, null, null));
+
+        assertThat(decision.isRejected()).isTrue();
+        assertThat(decision.rule()).isEqualTo("customer-burst");
+        assertThat(meterRegistry.get("payment.fraud.decisions").tag("rule", "customer-burst").counter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("payment.fraud.decision.latency").tag("action", "ALLOW").timer().count())
+                .isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("should count each customer separately")
+    void shouldCountCustomersSeparately() {
+        UUID busy = UUID.randomUUID();
+        for (int i = 0; i < 4; i++) {
+            screen.screen(attempt(busy, null, null));
+        }
+
+        assertThat(screen.screen(attempt(UUID.randomUUID(), null, null)).action())
+                .isEqualTo(FraudDecision.Action.ALLOW);
+    }
+
+    @Test
+    @DisplayName("should flag a card BIN shared across customers")
+    void shouldFlagBurstOnCardBin() {
+        FraudDecision decision = FraudDecision.allow();
+        for (int i = 0; i < 6; i++) {
+            decision = screen.screen(attempt(UUID.randomUUID(), "411111" + String.format("%010d", i), null));
+        }
+
+        assertThat(decision.isFlagged()).isTrue();
+        assertThat(decision.rule()).isEqualTo("bin-burst");
+    }
+
+    @Test
+    @DisplayName("should allow the customer again once the window has passed")
+    void shouldForgetAttemptsOutsideWindow() {
+        UUID customerId = UUID.randomUUID();
+        for (int i = 0; i < 4; i++) {
+            screen.screen(attempt(customerId, CARD, null));
+        }
+
+        now += 61_000;
+
+        assertThat(screen.screen(attempt(customerId, CARD, null)).action()).isEqualTo(FraudDecision.Action.ALLOW);
+    }
+
+    @Test
+    @DisplayName("should apply rules changed after startup")
+    void shouldApplyReloadedRules() {
+        UUID customerId = UUID.randomUUID();
+        screen.screen(attempt(customerId, null, "198.51.100.4"));
+
+        config.getRules().add(rule("ip-burst", FraudScreenConfig.Dimension.IP, 0, FraudDecision.Action.REJECT));
+
+        FraudDecision decision = screen.screen(attempt(UUID.randomUUID(), null, "198.51.100.4"));
+        assertThat(decision.isRejected()).isTrue();
+        assertThat(decision.rule()).isEqualTo("ip-burst");
+    }
+
+    @Test
+    @DisplayName("should allow everything when disabled")
+    void shouldAllowWhenDisabled() {
+        config.setEnabled(false);
+        UUID customerId = UUID.randomUUID();
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(screen.screen(attempt(customerId, CARD, null)).action()).isEqualTo(FraudDecision.Action.ALLOW);
+        }
+    }
+
+    private static FraudScreen.Attempt attempt(UUID customerId, String cardNumber, String clientIp) {
+        return new FraudScreen.Attempt(customerId, PaymentMethod.CREDIT_CARD, cardNumber, clientIp);
+    }
+
+    private static FraudScreenConfig.Rule rule(String name, FraudScreenConfig.Dimension dimension, long maxAttempts,
+                                               FraudDecision.Action action) {
+        FraudScreenConfig.Rule rule = new FraudScreenConfig.Rule();
+        rule.setName(name);
+        rule.setDimension(dimension);
+        rule.setWindowSeconds(60);
+        rule.setMaxAttempts(maxAttempts);
+        rule.setAction(action);
+        return rule;
+    }
+}
@@ -0,0 +1,19 @@
+package com.ecommerce.product.application.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Request DTO for reserving, releasing or confirming stock for all lines
+ * of an order. Release and confirm act on what was reserved for the order,
+ * so only the order ID is needed for them.
+ */
+public record InventoryReservationRequest(
+        UUID orderId,
+        List<Line> lines
+) {
+    public record Line(
+            UUID productId,
+            int quantity
+    ) {}
+}
@@ -0,0 +1,21 @@
+package com.ecommerce.product.application.exceptions;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Exception thrown when a reservation cannot be satisfied for one or more products.
+ */
+public class InsufficientStockException extends RuntimeException {
+
+    private final List<UUID> productIds;
+
+    public InsufficientStockException(List<UUID> productIds) {
+        super("Insufficient stock for products: " + productIds);
+        this.productIds = List.copyOf(productIds);
+    }
+
+    public List<UUID> getProductIds() {
+        return productIds;
+    }
+}
@@ -0,0 +1,15 @@
+package com.ecommerce.product.application.exceptions;
+
+import java.util.UUID;
+
+/**
+ * Exception thrown when stock for an order cannot be confirmed because it
+ * is not held: it was never reserved, or was released before the order
+ * was paid.
+ */
+public class ReservationNotHeldException extends RuntimeException {
+
+    public ReservationNotHeldException(UUID orderId) {
+        super("No stock is held for order: " + orderId);
+    }
+}
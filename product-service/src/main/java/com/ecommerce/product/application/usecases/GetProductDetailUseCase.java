@@ -10,7 +10,12 @@ import com.ecommerce.product.domain.value_objects.SKU;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Use case for getting product details.
@@ -18,6 +23,8 @@ import java.util.UUID;
 @Service
 public class GetProductDetailUseCase {
 
+    public static final int MAX_BATCH_SIZE = 100;
+
     private final ProductRepository productRepository;
     private final InventoryRepository inventoryRepository;
 
@@ -43,6 +50,27 @@ public class GetProductDetailUseCase {
         return ProductResponse.from(product, inventory);
     }
 
+    /**
+     * Gets details for several products with one product query and one
+     * inventory query. Unknown IDs are omitted from the result.
+     */
+    @Transactional(readOnly = true)
+    public List<ProductResponse> executeBatch(Collection<UUID> productIds) {
+        if (productIds.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BATCH_SIZE + " product IDs per request");
+        }
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, Inventory> inventories = inventoryRepository.findByProductIds(productIds).stream()
+                .collect(Collectors.toMap(Inventory::getProductId, Function.identity()));
+
+        return productRepository.findAllById(productIds).stream()
+                .map(product -> ProductResponse.from(product, inventories.get(product.getId())))
+                .toList();
+    }
+
     /**
      * Gets product details by SKU.
      */
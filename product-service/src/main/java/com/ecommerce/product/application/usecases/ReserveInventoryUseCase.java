@@ -0,0 +1,183 @@
+package com.ecommerce.product.application.usecases;
+
+import com.ecommerce.product.application.dto.InventoryReservationRequest;
+import com.ecommerce.product.application.exceptions.InsufficientStockException;
+import com.ecommerce.product.application.exceptions.ProductNotFoundException;
+import com.ecommerce.product.application.exceptions.ReservationNotHeldException;
+import com.ecommerce.product.domain.entities.Inventory;
+import com.ecommerce.product.domain.entities.InventoryReservation;
+import com.ecommerce.product.domain.ports.InventoryRepository;
+import com.ecommerce.product.domain.ports.InventoryReservationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Use case for reserving, releasing and confirming stock for an order.
+ *
+ * All lines are reserved in one transaction: inventory rows are locked in
+ * product ID order, every line is checked, and nothing is reserved unless
+ * every line can be satisfied. What was reserved is recorded per order,
+ * and release and confirm act on that record rather than on the request,
+ * so each happens at most once per order however often it is requested.
+ * The order's reservations are locked before its inventory rows in every
+ * operation.
+ */
+@Service
+public class ReserveInventoryUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(ReserveInventoryUseCase.class);
+
+    private final InventoryRepository inventoryRepository;
+    private final InventoryReservationRepository reservationRepository;
+
+    public ReserveInventoryUseCase(InventoryRepository inventoryRepository,
+                                   InventoryReservationRepository reservationRepository) {
+        this.inventoryRepository = inventoryRepository;
+        this.reservationRepository = reservationRepository;
+    }
+
+    /**
+     * Reserves stock for every line of an order, or for none. An order
+     * that already has reservations is left as it is.
+     *
+     * @throws ProductNotFoundException if a product has no inventory
+     * @throws InsufficientStockException if any line exceeds available stock
+     */
+    @Transactional
+    public void reserve(InventoryReservationRequest request) {
+        SortedMap<UUID, Integer> quantities = quantitiesByProduct(request);
+        if (!reservationRepository.findByOrderIdForUpdate(request.orderId()).isEmpty()) {
+            log.info("Stock already reserved for order {}", request.orderId());
+            return;
+        }
+        Map<UUID, Inventory> inventories = lockInventories(quantities.keySet());
+
+        List<UUID> shortfalls = new ArrayList<>();
+        quantities.forEach((productId, quantity) -> {
+            if (!inventories.get(productId).hasAvailableStock(quantity)) {
+                shortfalls.add(productId);
+            }
+        });
+        if (!shortfalls.isEmpty()) {
+            throw new InsufficientStockException(shortfalls);
+        }
+
+        List<InventoryReservation> reservations = new ArrayList<>(quantities.size());
+        quantities.forEach((productId, quantity) -> {
+            Inventory inventory = inventories.get(productId);
+            inventory.reserve(quantity);
+            inventoryRepository.save(inventory);
+            reservations.add(InventoryReservation.create(request.orderId(), productId, quantity));
+        });
+        reservationRepository.saveAll(reservations);
+        log.info("Reserved {} products for order {}", quantities.size(), request.orderId());
+    }
+
+    /**
+     * Releases the stock still held for an order. Does nothing if the
+     * order holds none, e.g. because it was already released.
+     */
+    @Transactional
+    public void release(InventoryReservationRequest request) {
+        List<InventoryReservation> held = heldReservations(request);
+        if (held.isEmpty()) {
+            log.info("No stock held for order {} to release", request.orderId());
+            return;
+        }
+        Map<UUID, Inventory> inventories = lockInventories(productIds(held));
+
+        for (InventoryReservation reservation : held) {
+            Inventory inventory = inventories.get(reservation.getProductId());
+            inventory.releaseReservation(reservation.getQuantity());
+            inventoryRepository.save(inventory);
+            reservation.release();
+        }
+        reservationRepository.saveAll(held);
+        log.info("Released {} products for order {}", held.size(), request.orderId());
+    }
+
+    /**
+     * Confirms the stock held for a paid order, taking it out of stock.
+     * Does nothing if the order's stock was already confirmed.
+     *
+     * @throws ReservationNotHeldException if the order holds no stock to confirm
+     */
+    @Transactional
+    public void confirm(InventoryReservationRequest request) {
+        requireOrderId(request);
+        List<InventoryReservation> reservations = reservationRepository.findByOrderIdForUpdate(request.orderId());
+        if (!reservations.isEmpty() && reservations.stream()
+                .allMatch(reservation -> reservation.getStatus() == InventoryReservation.Status.CONFIRMED)) {
+            log.info("Stock already confirmed for order {}", request.orderId());
+            return;
+        }
+        List<InventoryReservation> held = reservations.stream().filter(InventoryReservation::isHeld).toList();
+        if (held.isEmpty()) {
+            throw new ReservationNotHeldException(request.orderId());
+        }
+        Map<UUID, Inventory> inventories = lockInventories(productIds(held));
+
+        for (InventoryReservation reservation : held) {
+            Inventory inventory = inventories.get(reservation.getProductId());
+            inventory.confirmReservation(reservation.getQuantity());
+            inventoryRepository.save(inventory);
+            reservation.confirm();
+        }
+        reservationRepository.saveAll(held);
+        log.info("Confirmed {} products for order {}", held.size(), request.orderId());
+    }
+
+    private List<InventoryReservation> heldReservations(InventoryReservationRequest request) {
+        requireOrderId(request);
+        return reservationRepository.findByOrderIdForUpdate(request.orderId()).stream()
+                .filter(InventoryReservation::isHeld)
+                .toList();
+    }
+
+    private Map<UUID, Inventory> lockInventories(Collection<UUID> productIds) {
+        Map<UUID, Inventory> inventories = new TreeMap<>();
+        for (Inventory inventory : inventoryRepository.findByProductIdsForUpdate(productIds)) {
+            inventories.put(inventory.getProductId(), inventory);
+        }
+        for (UUID productId : productIds) {
+            if (!inventories.containsKey(productId)) {
+                throw ProductNotFoundException.byId(productId.toString());
+            }
+        }
+        return inventories;
+    }
+
+    private static List<UUID> productIds(List<InventoryReservation> reservations) {
+        return reservations.stream().map(InventoryReservation::getProductId).toList();
+    }
+
+    private static void requireOrderId(InventoryReservationRequest request) {
+        if (request.orderId() == null) {
+            throw new IllegalArgumentException("Reservation requires an order ID");
+        }
+    }
+
+    private static SortedMap<UUID, Integer> quantitiesByProduct(InventoryReservationRequest request) {
+        if (request.orderId() == null || request.lines() == null || request.lines().isEmpty()) {
+            throw new IllegalArgumentException("Reservation requires an order ID and at least one line");
+        }
+        SortedMap<UUID, Integer> quantities = new TreeMap<>();
+        for (InventoryReservationRequest.Line line : request.lines()) {
+            if (line.productId() == null || line.quantity() <= 0) {
+                throw new IllegalArgumentException("Reservation lines require a product ID and positive quantity");
+            }
+            quantities.merge(line.productId(), line.quantity(), Integer::sum);
+        }
+        return quantities;
+    }
+}
@@ -107,13 +107,13 @@ public class Inventory {
      * Releases reserved stock.
      *
      * @param quantity the quantity to release
+     * @throws IllegalStateException if more than is reserved
      */
     public void releaseReservation(int quantity) {
         if (quantity > this.reservedQuantity) {
-            this.reservedQuantity = 0;
-        } else {
-            this.reservedQuantity -= quantity;
+            throw new IllegalStateException("Cannot release more than reserved");
         }
+        this.reservedQuantity -= quantity;
         this.updatedAt = Instant.now();
     }
 
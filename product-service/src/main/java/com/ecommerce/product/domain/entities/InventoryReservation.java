@@ -0,0 +1,119 @@
+package com.ecommerce.product.domain.entities;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Stock held for one product of one order.
+ *
+ * A reservation is held until it is either released, giving the stock
+ * back, or confirmed, taking it out of inventory. Either step happens at
+ * most once, which is what makes repeated release and confirm requests
+ * for an order harmless.
+ */
+public class InventoryReservation {
+
+    /**
+     * Lifecycle of a reservation.
+     */
+    public enum Status {
+        RESERVED,
+        RELEASED,
+        CONFIRMED
+    }
+
+    private final UUID orderId;
+    private final UUID productId;
+    private final int quantity;
+    private Status status;
+    private final Instant createdAt;
+    private Instant updatedAt;
+
+    private InventoryReservation(UUID orderId, UUID productId, int quantity, Status status,
+                                 Instant createdAt, Instant updatedAt) {
+        this.orderId = orderId;
+        this.productId = productId;
+        this.quantity = quantity;
+        this.status = status;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    /**
+     * Records stock newly reserved for an order.
+     */
+    public static InventoryReservation create(UUID orderId, UUID productId, int quantity) {
+        Objects.requireNonNull(orderId, "Order ID is required");
+        Objects.requireNonNull(productId, "Product ID is required");
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("Reserved quantity must be positive");
+        }
+        Instant now = Instant.now();
+        return new InventoryReservation(orderId, productId, quantity, Status.RESERVED, now, now);
+    }
+
+    /**
+     * Reconstructs a reservation from persistence.
+     */
+    public static InventoryReservation reconstitute(UUID orderId, UUID productId, int quantity, Status status,
+                                                    Instant createdAt, Instant updatedAt) {
+        return new InventoryReservation(orderId, productId, quantity, status, createdAt, updatedAt);
+    }
+
+    /**
+     * Marks the stock as given back.
+     *
+     * @throws IllegalStateException if the reservation is no longer held
+     */
+    public void release() {
+        transition(Status.RELEASED);
+    }
+
+    /**
+     * Marks the stock as taken out of inventory.
+     *
+     * @throws IllegalStateException if the reservation is no longer held
+     */
+    public void confirm() {
+        transition(Status.CONFIRMED);
+    }
+
+    private void transition(Status target) {
+        if (!isHeld()) {
+            throw new IllegalStateException("Reservation of " + productId + " for order " + orderId
+                    + " is already " + status);
+        }
+        this.status = target;
+        this.updatedAt = Instant.now();
+    }
+
+    public boolean isHeld() {
+        return status == Status.RESERVED;
+    }
+
+    // Getters
+    public UUID getOrderId() {
+        return orderId;
+    }
+
+    public UUID getProductId() {
+        return productId;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+}
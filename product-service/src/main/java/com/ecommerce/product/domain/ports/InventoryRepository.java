@@ -2,6 +2,8 @@ package com.ecommerce.product.domain.ports;
 
 import com.ecommerce.product.domain.entities.Inventory;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -20,6 +22,17 @@ public interface InventoryRepository {
      */
     Optional<Inventory> findByProductId(UUID productId);
 
+    /**
+     * Finds inventory for the given product IDs.
+     */
+    List<Inventory> findByProductIds(Collection<UUID> productIds);
+
+    /**
+     * Finds and locks inventory for the given product IDs, in product ID order.
+     * Must be called within a transaction.
+     */
+    List<Inventory> findByProductIdsForUpdate(Collection<UUID> productIds);
+
     /**
      * Deletes inventory by product ID.
      */
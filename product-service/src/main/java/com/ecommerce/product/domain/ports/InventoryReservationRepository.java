@@ -0,0 +1,23 @@
+package com.ecommerce.product.domain.ports;
+
+import com.ecommerce.product.domain.entities.InventoryReservation;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository port for InventoryReservation entity.
+ */
+public interface InventoryReservationRepository {
+
+    /**
+     * Finds and locks the reservations of an order.
+     * Must be called within a transaction.
+     */
+    List<InventoryReservation> findByOrderIdForUpdate(UUID orderId);
+
+    /**
+     * Saves new and changed reservations.
+     */
+    void saveAll(List<InventoryReservation> reservations);
+}
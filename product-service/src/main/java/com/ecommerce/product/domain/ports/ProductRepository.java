@@ -3,6 +3,7 @@ package com.ecommerce.product.domain.ports;
 import com.ecommerce.product.domain.entities.Product;
 import com.ecommerce.product.domain.value_objects.SKU;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -22,6 +23,11 @@ public interface ProductRepository {
      */
     Optional<Product> findById(UUID id);
 
+    /**
+     * Finds the products with the given IDs; unknown IDs are skipped.
+     */
+    List<Product> findAllById(Collection<UUID> ids);
+
     /**
      * Finds a product by SKU.
      */
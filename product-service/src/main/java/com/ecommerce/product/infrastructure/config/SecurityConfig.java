@@ -34,6 +34,8 @@ public class SecurityConfig {
                 // Product browsing and search - public access
                 .requestMatchers("/api/v1/products/**").permitAll()
                 .requestMatchers("/api/v1/categories/**").permitAll()
+                // Inventory reservations - service-to-service only
+                .requestMatchers("/api/v1/inventory/**").hasRole("SERVICE")
                 // Health check and actuator
                 .requestMatchers("/actuator/**").permitAll()
                 // All other requests require authentication
@@ -6,6 +6,8 @@ import com.ecommerce.product.infrastructure.persistence.mappers.InventoryMapper;
 import com.ecommerce.product.infrastructure.persistence.repositories.InventoryJpaRepository;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -34,6 +36,20 @@ public class InventoryRepositoryAdapter implements InventoryRepository {
                 .map(InventoryMapper::toDomain);
     }
 
+    @Override
+    public List<Inventory> findByProductIds(Collection<UUID> productIds) {
+        return jpaRepository.findByProductIdIn(productIds).stream()
+                .map(InventoryMapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<Inventory> findByProductIdsForUpdate(Collection<UUID> productIds) {
+        return jpaRepository.findByProductIdInOrderByProductIdAsc(productIds).stream()
+                .map(InventoryMapper::toDomain)
+                .toList();
+    }
+
     @Override
     public void deleteByProductId(UUID productId) {
         jpaRepository.deleteByProductId(productId);
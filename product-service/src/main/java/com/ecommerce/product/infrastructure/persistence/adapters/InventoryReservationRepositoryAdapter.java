@@ -0,0 +1,37 @@
+package com.ecommerce.product.infrastructure.persistence.adapters;
+
+import com.ecommerce.product.domain.entities.InventoryReservation;
+import com.ecommerce.product.domain.ports.InventoryReservationRepository;
+import com.ecommerce.product.infrastructure.persistence.mappers.InventoryReservationMapper;
+import com.ecommerce.product.infrastructure.persistence.repositories.InventoryReservationJpaRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Adapter implementing InventoryReservationRepository port using JPA.
+ */
+@Component
+public class InventoryReservationRepositoryAdapter implements InventoryReservationRepository {
+
+    private final InventoryReservationJpaRepository jpaRepository;
+
+    public InventoryReservationRepositoryAdapter(InventoryReservationJpaRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+
+    @Override
+    public List<InventoryReservation> findByOrderIdForUpdate(UUID orderId) {
+        return jpaRepository.findByOrderIdOrderByProductIdAsc(orderId).stream()
+                .map(InventoryReservationMapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public void saveAll(List<InventoryReservation> reservations) {
+        jpaRepository.saveAll(reservations.stream()
+                .map(InventoryReservationMapper::toJpa)
+                .toList());
+    }
+}
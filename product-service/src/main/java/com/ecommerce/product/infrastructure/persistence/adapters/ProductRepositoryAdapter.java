@@ -9,6 +9,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -38,6 +39,13 @@ public class ProductRepositoryAdapter implements ProductRepository {
                 .map(ProductMapper::toDomain);
     }
 
+    @Override
+    public List<Product> findAllById(Collection<UUID> ids) {
+        return jpaRepository.findByIdIn(ids).stream()
+                .map(ProductMapper::toDomain)
+                .toList();
+    }
+
     @Override
     public Optional<Product> findBySku(SKU sku) {
         return jpaRepository.findBySku(sku.getValue())
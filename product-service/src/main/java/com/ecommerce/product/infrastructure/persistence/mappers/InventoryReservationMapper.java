@@ -0,0 +1,35 @@
+package com.ecommerce.product.infrastructure.persistence.mappers;
+
+import com.ecommerce.product.domain.entities.InventoryReservation;
+import com.ecommerce.product.infrastructure.persistence.entities.InventoryReservationJpaEntity;
+
+/**
+ * Mapper between InventoryReservation domain entity and JPA entity.
+ */
+public final class InventoryReservationMapper {
+
+    private InventoryReservationMapper() {
+    }
+
+    public static InventoryReservation toDomain(InventoryReservationJpaEntity jpa) {
+        return InventoryReservation.reconstitute(
+                jpa.getOrderId(),
+                jpa.getProductId(),
+                jpa.getQuantity(),
+                InventoryReservation.Status.valueOf(jpa.getStatus()),
+                jpa.getCreatedAt(),
+                jpa.getUpdatedAt()
+        );
+    }
+
+    public static InventoryReservationJpaEntity toJpa(InventoryReservation domain) {
+        InventoryReservationJpaEntity jpa = new InventoryReservationJpaEntity();
+        jpa.setOrderId(domain.getOrderId());
+        jpa.setProductId(domain.getProductId());
+        jpa.setQuantity(domain.getQuantity());
+        jpa.setStatus(domain.getStatus().name());
+        jpa.setCreatedAt(domain.getCreatedAt());
+        jpa.setUpdatedAt(domain.getUpdatedAt());
+        return jpa;
+    }
+}
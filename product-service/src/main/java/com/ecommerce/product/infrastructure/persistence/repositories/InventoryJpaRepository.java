@@ -1,9 +1,13 @@
 package com.ecommerce.product.infrastructure.persistence.repositories;
 
 import com.ecommerce.product.infrastructure.persistence.entities.InventoryJpaEntity;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -15,5 +19,10 @@ public interface InventoryJpaRepository extends JpaRepository<InventoryJpaEntity
 
     Optional<InventoryJpaEntity> findByProductId(UUID productId);
 
+    List<InventoryJpaEntity> findByProductIdIn(Collection<UUID> productIds);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<InventoryJpaEntity> findByProductIdInOrderByProductIdAsc(Collection<UUID> productIds);
+
     void deleteByProductId(UUID productId);
 }
@@ -0,0 +1,21 @@
+package com.ecommerce.product.infrastructure.persistence.repositories;
+
+import com.ecommerce.product.infrastructure.persistence.entities.InventoryReservationJpaEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for InventoryReservationJpaEntity.
+ */
+@Repository
+public interface InventoryReservationJpaRepository
+        extends JpaRepository<InventoryReservationJpaEntity, InventoryReservationJpaEntity.Key> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<InventoryReservationJpaEntity> findByOrderIdOrderByProductIdAsc(UUID orderId);
+}
@@ -3,9 +3,11 @@ package com.ecommerce.product.infrastructure.persistence.repositories;
 import com.ecommerce.product.infrastructure.persistence.entities.ProductJpaEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -16,6 +18,9 @@ import java.util.UUID;
 @Repository
 public interface ProductJpaRepository extends JpaRepository<ProductJpaEntity, UUID> {
 
+    @EntityGraph(attributePaths = "imageUrls")
+    List<ProductJpaEntity> findByIdIn(Collection<UUID> ids);
+
     Optional<ProductJpaEntity> findBySku(String sku);
 
     List<ProductJpaEntity> findByCategoryIdAndActiveTrue(UUID categoryId);
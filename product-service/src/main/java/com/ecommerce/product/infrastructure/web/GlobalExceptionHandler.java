@@ -1,7 +1,9 @@
 package com.ecommerce.product.infrastructure.web;
 
 import com.ecommerce.product.application.exceptions.CategoryNotFoundException;
+import com.ecommerce.product.application.exceptions.InsufficientStockException;
 import com.ecommerce.product.application.exceptions.ProductNotFoundException;
+import com.ecommerce.product.application.exceptions.ReservationNotHeldException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
@@ -12,6 +14,7 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.time.Instant;
+import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -36,6 +39,21 @@ public class GlobalExceptionHandler {
                 .body(createErrorResponse("CATEGORY_NOT_FOUND", ex.getMessage()));
     }
 
+    @ExceptionHandler(InsufficientStockException.class)
+    public ResponseEntity<Map<String, Object>> handleInsufficientStock(InsufficientStockException ex) {
+        log.warn("Reservation rejected: {}", ex.getMessage());
+        Map<String, Object> body = new HashMap<>(createErrorResponse("INSUFFICIENT_STOCK", ex.getMessage()));
+        body.put("productIds", ex.getProductIds());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(body);
+    }
+
+    @ExceptionHandler(ReservationNotHeldException.class)
+    public ResponseEntity<Map<String, Object>> handleReservationNotHeld(ReservationNotHeldException ex) {
+        log.warn("Confirmation rejected: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(createErrorResponse("RESERVATION_NOT_HELD", ex.getMessage()));
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<Map<String, Object>> handleIllegalArgument(IllegalArgumentException ex) {
         log.warn("Invalid argument: {}", ex.getMessage());
@@ -0,0 +1,41 @@
+package com.ecommerce.product.infrastructure.web.controllers;
+
+import com.ecommerce.product.application.dto.InventoryReservationRequest;
+import com.ecommerce.product.application.usecases.ReserveInventoryUseCase;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for inventory reservations.
+ */
+@RestController
+@RequestMapping("/api/v1/inventory/reservations")
+public class InventoryController {
+
+    private final ReserveInventoryUseCase reserveInventoryUseCase;
+
+    public InventoryController(ReserveInventoryUseCase reserveInventoryUseCase) {
+        this.reserveInventoryUseCase = reserveInventoryUseCase;
+    }
+
+    @PostMapping
+    public ResponseEntity<Void> reserve(@RequestBody InventoryReservationRequest request) {
+        reserveInventoryUseCase.reserve(request);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/release")
+    public ResponseEntity<Void> release(@RequestBody InventoryReservationRequest request) {
+        reserveInventoryUseCase.release(request);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/confirm")
+    public ResponseEntity<Void> confirm(@RequestBody InventoryReservationRequest request) {
+        reserveInventoryUseCase.confirm(request);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -12,6 +12,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.UUID;
 
@@ -50,6 +51,12 @@ public class ProductController {
         }
     }
 
+    @GetMapping(params = "ids")
+    public ResponseEntity<List<ProductResponse>> getProductsByIds(@RequestParam List<UUID> ids) {
+        List<ProductResponse> products = getProductDetailUseCase.executeBatch(new LinkedHashSet<>(ids));
+        return ResponseEntity.ok(products);
+    }
+
     @GetMapping("/search")
     public ResponseEntity<ProductSearchResult> searchProducts(
             @RequestParam String keyword,
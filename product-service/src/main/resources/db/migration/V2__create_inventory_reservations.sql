@@ -0,0 +1,16 @@
+-- Product Service Database Schema
+-- V2: Stock held per order
+
+-- One row per order and product. Release and confirm act on the held
+-- quantity recorded here, once, so repeating either for an order has no
+-- further effect on inventory.
+CREATE TABLE inventory_reservations (
+    order_id UUID NOT NULL,
+    product_id UUID NOT NULL REFERENCES products(id) ON DELETE CASCADE,
+    quantity INT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (order_id, product_id),
+    CONSTRAINT chk_reservation_quantity_positive CHECK (quantity > 0)
+);
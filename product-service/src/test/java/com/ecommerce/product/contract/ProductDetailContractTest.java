@@ -213,6 +213,36 @@ class ProductDetailContractTest {
         }
     }
 
+    @Nested
+    @DisplayName("Batch Lookup Contract")
+    class BatchLookupContract {
+
+        @Test
+        @DisplayName("should return products for comma-separated IDs")
+        void shouldReturnProductsForIds() throws Exception {
+            UUID first = UUID.randomUUID();
+            UUID second = UUID.randomUUID();
+            when(getProductDetailUseCase.executeBatch(any()))
+                    .thenReturn(List.of(createMockProductResponse(first), createMockProductResponse(second)));
+
+            mockMvc.perform(get("/api/v1/products").param("ids", first + "," + second))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.length()").value(2))
+                    .andExpect(jsonPath("$[0].id").value(first.toString()))
+                    .andExpect(jsonPath("$[0].stockInfo.available").value(25));
+        }
+
+        @Test
+        @DisplayName("should return 400 when too many IDs are requested")
+        void shouldReturn400WhenTooManyIds() throws Exception {
+            when(getProductDetailUseCase.executeBatch(any()))
+                    .thenThrow(new IllegalArgumentException("At most 100 product IDs per request"));
+
+            mockMvc.perform(get("/api/v1/products").param("ids", UUID.randomUUID().toString()))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
     private ProductResponse createMockProductResponse(UUID productId) {
         return new ProductResponse(
                 productId,
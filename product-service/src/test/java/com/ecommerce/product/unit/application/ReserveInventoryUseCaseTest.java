@@ -0,0 +1,249 @@
+package com.ecommerce.product.unit.application;
+
+import com.ecommerce.product.application.dto.InventoryReservationRequest;
+import com.ecommerce.product.application.exceptions.InsufficientStockException;
+import com.ecommerce.product.application.exceptions.ProductNotFoundException;
+import com.ecommerce.product.application.exceptions.ReservationNotHeldException;
+import com.ecommerce.product.application.usecases.ReserveInventoryUseCase;
+import com.ecommerce.product.domain.entities.Inventory;
+import com.ecommerce.product.domain.entities.InventoryReservation;
+import com.ecommerce.product.domain.ports.InventoryRepository;
+import com.ecommerce.product.domain.ports.InventoryReservationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ReserveInventoryUseCase Tests")
+class ReserveInventoryUseCaseTest {
+
+    private final UUID firstProduct = UUID.randomUUID();
+    private final UUID secondProduct = UUID.randomUUID();
+
+    private FakeInventoryRepository inventoryRepository;
+    private FakeReservationRepository reservationRepository;
+    private ReserveInventoryUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        inventoryRepository = new FakeInventoryRepository();
+        reservationRepository = new FakeReservationRepository();
+        inventoryRepository.save(Inventory.create(firstProduct, 10));
+        inventoryRepository.save(Inventory.create(secondProduct, 5));
+        useCase = new ReserveInventoryUseCase(inventoryRepository, reservationRepository);
+    }
+
+    @Nested
+    @DisplayName("Reserve")
+    class Reserve {
+
+        @Test
+        @DisplayName("should reserve every line and record it for the order")
+        void shouldReserveEveryLine() {
+            UUID orderId = UUID.randomUUID();
+
+            useCase.reserve(request(orderId, firstProduct, 3, secondProduct, 2));
+
+            assertThat(reserved(firstProduct)).isEqualTo(3);
+            assertThat(reserved(secondProduct)).isEqualTo(2);
+            assertThat(reservationRepository.findByOrderIdForUpdate(orderId))
+                    .extracting(InventoryReservation::getQuantity)
+                    .containsExactlyInAnyOrder(3, 2);
+        }
+
+        @Test
+        @DisplayName("should reserve nothing when any line is short")
+        void shouldReserveNothingWhenShort() {
+            UUID orderId = UUID.randomUUID();
+
+            assertThatThrownBy(() -> useCase.reserve(request(orderId, firstProduct, 3, secondProduct, 6)))
+                    .isInstanceOf(InsufficientStockException.class);
+
+            assertThat(reserved(firstProduct)).isZero();
+            assertThat(reservationRepository.findByOrderIdForUpdate(orderId)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should reserve once when the same order is reserved again")
+        void shouldReserveOnceForRepeatedRequest() {
+            UUID orderId = UUID.randomUUID();
+
+            useCase.reserve(request(orderId, firstProduct, 3));
+            useCase.reserve(request(orderId, firstProduct, 3));
+
+            assertThat(reserved(firstProduct)).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("should reject a product without inventory")
+        void shouldRejectUnknownProduct() {
+            assertThatThrownBy(() -> useCase.reserve(request(UUID.randomUUID(), UUID.randomUUID(), 1)))
+                    .isInstanceOf(ProductNotFoundException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Release")
+    class Release {
+
+        @Test
+        @DisplayName("should release only what the order holds, once")
+        void shouldReleaseOnce() {
+            UUID orderId = UUID.randomUUID();
+            UUID otherOrderId = UUID.randomUUID();
+            useCase.reserve(request(orderId, firstProduct, 3));
+            useCase.reserve(request(otherOrderId, firstProduct, 4));
+
+            useCase.release(request(orderId, firstProduct, 3));
+            useCase.release(request(orderId, firstProduct, 3));
+
+            assertThat(reserved(firstProduct)).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("should release the recorded quantity whatever the request says")
+        void shouldReleaseRecordedQuantity() {
+            UUID orderId = UUID.randomUUID();
+            UUID otherOrderId = UUID.randomUUID();
+            useCase.reserve(request(orderId, firstProduct, 3));
+            useCase.reserve(request(otherOrderId, firstProduct, 4));
+
+            useCase.release(request(orderId, firstProduct, 7));
+
+            assertThat(reserved(firstProduct)).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("should do nothing for an order that holds no stock")
+        void shouldIgnoreOrderWithoutReservation() {
+            useCase.reserve(request(UUID.randomUUID(), firstProduct, 3));
+
+            useCase.release(request(UUID.randomUUID(), firstProduct, 3));
+
+            assertThat(reserved(firstProduct)).isEqualTo(3);
+        }
+    }
+
+    @Nested
+    @DisplayName("Confirm")
+    class Confirm {
+
+        @Test
+        @DisplayName("should take held stock out of inventory once")
+        void shouldConfirmOnce() {
+            UUID orderId = UUID.randomUUID();
+            useCase.reserve(request(orderId, firstProduct, 3));
+
+            useCase.confirm(request(orderId, firstProduct, 3));
+            useCase.confirm(request(orderId, firstProduct, 3));
+
+            Inventory inventory = inventory(firstProduct);
+            assertThat(inventory.getTotalQuantity()).isEqualTo(7);
+            assertThat(inventory.getReservedQuantity()).isZero();
+        }
+
+        @Test
+        @DisplayName("should not release stock already confirmed")
+        void shouldNotReleaseConfirmedStock() {
+            UUID orderId = UUID.randomUUID();
+            useCase.reserve(request(orderId, firstProduct, 3));
+            useCase.confirm(request(orderId, firstProduct, 3));
+
+            useCase.release(request(orderId, firstProduct, 3));
+
+            assertThat(inventory(firstProduct).getTotalQuantity()).isEqualTo(7);
+            assertThat(reserved(firstProduct)).isZero();
+        }
+
+        @Test
+        @DisplayName("should reject confirming stock that was released")
+        void shouldRejectConfirmAfterRelease() {
+            UUID orderId = UUID.randomUUID();
+            useCase.reserve(request(orderId, firstProduct, 3));
+            useCase.release(request(orderId, firstProduct, 3));
+
+            assertThatThrownBy(() -> useCase.confirm(request(orderId, firstProduct, 3)))
+                    .isInstanceOf(ReservationNotHeldException.class);
+            assertThat(inventory(firstProduct).getTotalQuantity()).isEqualTo(10);
+        }
+    }
+
+    private int reserved(UUID productId) {
+        return inventory(productId).getReservedQuantity();
+    }
+
+    private Inventory inventory(UUID productId) {
+        return inventoryRepository.findByProductId(productId).orElseThrow();
+    }
+
+    private static InventoryReservationRequest request(UUID orderId, UUID productId, int quantity) {
+        return new InventoryReservationRequest(orderId,
+                List.of(new InventoryReservationRequest.Line(productId, quantity)));
+    }
+
+    private static InventoryReservationRequest request(UUID orderId, UUID firstId, int firstQuantity,
+                                                       UUID secondId, int secondQuantity) {
+        return new InventoryReservationRequest(orderId, List.of(
+                new InventoryReservationRequest.Line(firstId, firstQuantity),
+                new InventoryReservationRequest.Line(secondId, secondQuantity)));
+    }
+
+    private static final class FakeInventoryRepository implements InventoryRepository {
+
+        private final Map<UUID, Inventory> byProduct = new HashMap<>();
+
+        @Override
+        public Inventory save(Inventory inventory) {
+            byProduct.put(inventory.getProductId(), inventory);
+            return inventory;
+        }
+
+        @Override
+        public Optional<Inventory> findByProductId(UUID productId) {
+            return Optional.ofNullable(byProduct.get(productId));
+        }
+
+        @Override
+        public List<Inventory> findByProductIds(Collection<UUID> productIds) {
+            return productIds.stream().map(byProduct::get).filter(inventory -> inventory != null).toList();
+        }
+
+        @Override
+        public List<Inventory> findByProductIdsForUpdate(Collection<UUID> productIds) {
+            return findByProductIds(productIds);
+        }
+
+        @Override
+        public void deleteByProductId(UUID productId) {
+            byProduct.remove(productId);
+        }
+    }
+
+    private static final class FakeReservationRepository implements InventoryReservationRepository {
+
+        private final Map<UUID, Map<UUID, InventoryReservation>> byOrder = new HashMap<>();
+
+        @Override
+        public List<InventoryReservation> findByOrderIdForUpdate(UUID orderId) {
+            return List.copyOf(byOrder.getOrDefault(orderId, Map.of()).values());
+        }
+
+        @Override
+        public void saveAll(List<InventoryReservation> reservations) {
+            for (InventoryReservation reservation : reservations) {
+                byOrder.computeIfAbsent(reservation.getOrderId(), id -> new HashMap<>())
+                        .put(reservation.getProductId(), reservation);
+            }
+        }
+    }
+}
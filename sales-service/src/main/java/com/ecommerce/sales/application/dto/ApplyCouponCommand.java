@@ -5,9 +5,11 @@ import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 
 import java.math.BigDecimal;
+import java.util.UUID;
 
 /**
  * Command for applying/validating a coupon.
+ * The optional order ID makes applying idempotent per order.
  */
 public record ApplyCouponCommand(
         @NotBlank(message = "Coupon code is required")
@@ -15,5 +17,11 @@ public record ApplyCouponCommand(
 
         @NotNull(message = "Order total is required")
         @Positive(message = "Order total must be positive")
-        BigDecimal orderTotal
-) {}
+        BigDecimal orderTotal,
+
+        UUID orderId
+) {
+    public ApplyCouponCommand(String couponCode, BigDecimal orderTotal) {
+        this(couponCode, orderTotal, null);
+    }
+}
@@ -0,0 +1,33 @@
+package com.ecommerce.sales.application.dto;
+
+import com.ecommerce.sales.domain.entities.Coupon;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Response DTO for the discount rule of a usable coupon.
+ * Lets other services compute a coupon discount locally; usage limits
+ * are still enforced when the coupon is applied.
+ */
+public record CouponRuleResponse(
+        String code,
+        String description,
+        String discountType,
+        BigDecimal discountValue,
+        BigDecimal minimumOrderAmount,
+        Instant expiryDate
+) {
+    public static CouponRuleResponse from(Coupon coupon) {
+        return new CouponRuleResponse(
+                coupon.getCode().getValue(),
+                coupon.getDescription(),
+                coupon.getDiscountRule().type().name(),
+                coupon.getDiscountRule().value(),
+                coupon.getDiscountRule().minimumOrderAmount() != null
+                        ? coupon.getDiscountRule().minimumOrderAmount().getAmount()
+                        : null,
+                coupon.getExpiryDate()
+        );
+    }
+}
@@ -77,8 +77,19 @@ public class ApplyCouponUseCase {
 
     /**
      * Apply a coupon and mark it as used.
+     * With an order ID, a repeated apply for that order returns the
+     * discount again without using the coupon twice.
      */
     public CouponValidationResponse apply(ApplyCouponCommand command, UUID customerId) {
+        if (command.orderId() != null) {
+            Coupon coupon = couponRepository.findByCode(command.couponCode()).orElse(null);
+            if (coupon != null && coupon.isRedeemedFor(command.orderId())) {
+                Money discount = coupon.getDiscountRule().calculateDiscount(Money.of(command.orderTotal()));
+                return CouponValidationResponse.valid(command.couponCode(), coupon.getDescription(),
+                        discount.getAmount());
+            }
+        }
+
         // First validate
         CouponValidationResponse validation = validate(command, customerId);
         if (!validation.valid()) {
@@ -89,7 +100,11 @@ public class ApplyCouponUseCase {
         Coupon coupon = couponRepository.findByCode(command.couponCode())
                 .orElseThrow(() -> new CouponNotFoundException(command.couponCode()));
 
-        coupon.use(customerId);
+        if (command.orderId() != null) {
+            coupon.use(customerId, command.orderId());
+        } else {
+            coupon.use(customerId);
+        }
         couponRepository.save(coupon);
 
         return validation;
@@ -0,0 +1,42 @@
+package com.ecommerce.sales.application.usecases;
+
+import com.ecommerce.sales.application.dto.CouponRuleResponse;
+import com.ecommerce.sales.application.exceptions.CouponNotFoundException;
+import com.ecommerce.sales.domain.entities.Coupon;
+import com.ecommerce.sales.domain.ports.CouponRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Use case for publishing the discount rules of usable coupons.
+ */
+@Service
+public class GetCouponRulesUseCase {
+
+    private final CouponRepository couponRepository;
+
+    public GetCouponRulesUseCase(CouponRepository couponRepository) {
+        this.couponRepository = couponRepository;
+    }
+
+    /**
+     * Gets the rules of all coupons that are active, unexpired and not exhausted.
+     */
+    public List<CouponRuleResponse> getActiveRules() {
+        return couponRepository.findAllValid().stream()
+                .filter(Coupon::canBeUsed)
+                .map(CouponRuleResponse::from)
+                .toList();
+    }
+
+    /**
+     * Gets the rule of a single usable coupon.
+     */
+    public CouponRuleResponse getActiveRule(String couponCode) {
+        return couponRepository.findByCode(couponCode)
+                .filter(Coupon::canBeUsed)
+                .map(CouponRuleResponse::from)
+                .orElseThrow(() -> new CouponNotFoundException(couponCode));
+    }
+}
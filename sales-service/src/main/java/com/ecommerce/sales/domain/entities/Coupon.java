@@ -23,6 +23,7 @@ public class Coupon {
     private int usageCount;
     private boolean active;
     private final Map<UUID, Integer> customerUsage;
+    private final Set<UUID> redeemedOrders;
     private final Instant createdAt;
     private Instant updatedAt;
 
@@ -38,6 +39,7 @@ public class Coupon {
         this.usageCount = 0;
         this.active = true;
         this.customerUsage = new HashMap<>();
+        this.redeemedOrders = new HashSet<>();
         this.createdAt = createdAt;
         this.updatedAt = createdAt;
     }
@@ -210,6 +212,26 @@ public class Coupon {
         this.updatedAt = Instant.now();
     }
 
+    /**
+     * Uses the coupon for a customer's order. Using it again for the
+     * same order has no effect.
+     */
+    public void use(UUID customerId, UUID orderId) {
+        Objects.requireNonNull(orderId, "Order ID must not be null");
+        if (redeemedOrders.contains(orderId)) {
+            return;
+        }
+        use(customerId);
+        redeemedOrders.add(orderId);
+    }
+
+    /**
+     * Checks if the coupon has already been used for an order.
+     */
+    public boolean isRedeemedFor(UUID orderId) {
+        return redeemedOrders.contains(orderId);
+    }
+
     /**
      * Checks if the coupon has been used by a specific customer.
      */
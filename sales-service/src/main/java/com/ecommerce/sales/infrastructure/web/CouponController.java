@@ -1,12 +1,15 @@
 package com.ecommerce.sales.infrastructure.web;
 
 import com.ecommerce.sales.application.dto.ApplyCouponCommand;
+import com.ecommerce.sales.application.dto.CouponRuleResponse;
 import com.ecommerce.sales.application.dto.CouponValidationResponse;
 import com.ecommerce.sales.application.usecases.ApplyCouponUseCase;
+import com.ecommerce.sales.application.usecases.GetCouponRulesUseCase;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -17,9 +20,30 @@ import java.util.UUID;
 public class CouponController {
 
     private final ApplyCouponUseCase applyCouponUseCase;
+    private final GetCouponRulesUseCase getCouponRulesUseCase;
 
-    public CouponController(ApplyCouponUseCase applyCouponUseCase) {
+    public CouponController(ApplyCouponUseCase applyCouponUseCase,
+                            GetCouponRulesUseCase getCouponRulesUseCase) {
         this.applyCouponUseCase = applyCouponUseCase;
+        this.getCouponRulesUseCase = getCouponRulesUseCase;
+    }
+
+    /**
+     * Get the discount rules of all usable coupons.
+     * GET /api/v1/coupons/rules
+     */
+    @GetMapping("/rules")
+    public ResponseEntity<List<CouponRuleResponse>> getActiveRules() {
+        return ResponseEntity.ok(getCouponRulesUseCase.getActiveRules());
+    }
+
+    /**
+     * Get the discount rule of a usable coupon.
+     * GET /api/v1/coupons/rules/{couponCode}
+     */
+    @GetMapping("/rules/{couponCode}")
+    public ResponseEntity<CouponRuleResponse> getActiveRule(@PathVariable String couponCode) {
+        return ResponseEntity.ok(getCouponRulesUseCase.getActiveRule(couponCode));
     }
 
     /**
@@ -36,6 +60,7 @@ public class CouponController {
 
     /**
      * Apply a coupon (validate and mark as used).
+     * Applying again for the same order ID returns the original result.
      * POST /api/v1/coupons/apply
      */
     @PostMapping("/apply")
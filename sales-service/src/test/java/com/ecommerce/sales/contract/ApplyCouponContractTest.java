@@ -1,10 +1,12 @@
 package com.ecommerce.sales.contract;
 
 import com.ecommerce.sales.application.dto.ApplyCouponCommand;
+import com.ecommerce.sales.application.dto.CouponRuleResponse;
 import com.ecommerce.sales.application.dto.CouponValidationResponse;
 import com.ecommerce.sales.application.exceptions.CouponNotFoundException;
 import com.ecommerce.sales.application.exceptions.CouponNotValidException;
 import com.ecommerce.sales.application.usecases.ApplyCouponUseCase;
+import com.ecommerce.sales.application.usecases.GetCouponRulesUseCase;
 import com.ecommerce.sales.infrastructure.web.CouponController;
 import com.ecommerce.sales.infrastructure.web.GlobalExceptionHandler;
 import org.junit.jupiter.api.DisplayName;
@@ -19,11 +21,14 @@ import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -42,6 +47,9 @@ class ApplyCouponContractTest {
     @MockBean
     private ApplyCouponUseCase applyCouponUseCase;
 
+    @MockBean
+    private GetCouponRulesUseCase getCouponRulesUseCase;
+
     private static final UUID CUSTOMER_ID = UUID.randomUUID();
 
     @Nested
@@ -274,4 +282,35 @@ class ApplyCouponContractTest {
                     .andExpect(jsonPath("$.discountAmount").value(200.00));
         }
     }
+
+    @Nested
+    @DisplayName("Coupon Rules Contract")
+    class CouponRulesContract {
+
+        @Test
+        @DisplayName("should return rules of usable coupons")
+        void shouldReturnRulesOfUsableCoupons() throws Exception {
+            when(getCouponRulesUseCase.getActiveRules()).thenReturn(List.of(new CouponRuleResponse(
+                    "SAVE20", "8折優惠券", "PERCENTAGE", new BigDecimal("20"), new BigDecimal("500.00"),
+                    Instant.parse("2030-01-01T00:00:00Z"))));
+
+            mockMvc.perform(get("/api/v1/coupons/rules"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[0].code").value("SAVE20"))
+                    .andExpect(jsonPath("$[0].discountType").value("PERCENTAGE"))
+                    .andExpect(jsonPath("$[0].discountValue").value(20))
+                    .andExpect(jsonPath("$[0].minimumOrderAmount").value(500.00))
+                    .andExpect(jsonPath("$[0].expiryDate").exists());
+        }
+
+        @Test
+        @DisplayName("should return 404 for a coupon that cannot be used")
+        void shouldReturn404ForUnusableCoupon() throws Exception {
+            when(getCouponRulesUseCase.getActiveRule("EXPIRED"))
+                    .thenThrow(new CouponNotFoundException("EXPIRED"));
+
+            mockMvc.perform(get("/api/v1/coupons/rules/{code}", "EXPIRED"))
+                    .andExpect(status().isNotFound());
+        }
+    }
 }
@@ -212,6 +212,24 @@ class CouponTest {
             assertTrue(coupon.hasBeenUsedBy(customer2));
             assertFalse(coupon.hasBeenUsedBy(UUID.randomUUID()));
         }
+
+        @Test
+        @DisplayName("should count an order only once when used again for it")
+        void shouldCountOrderOnlyOnce() {
+            CouponCode code = CouponCode.generate();
+            DiscountRule rule = DiscountRule.percentage(10);
+            Instant expiryDate = Instant.now().plus(30, ChronoUnit.DAYS);
+
+            Coupon coupon = Coupon.create(code, "訂單券", rule, expiryDate, 10);
+            UUID orderId = UUID.randomUUID();
+
+            coupon.use(CUSTOMER_ID, orderId);
+            coupon.use(CUSTOMER_ID, orderId);
+
+            assertEquals(1, coupon.getUsageCount());
+            assertTrue(coupon.isRedeemedFor(orderId));
+            assertFalse(coupon.isRedeemedFor(UUID.randomUUID()));
+        }
     }
 
     @Nested
@@ -36,6 +36,9 @@ dependencies {
     api("io.micrometer:micrometer-tracing-bridge-brave")
     api("io.zipkin.reporter2:zipkin-reporter-brave")
 
+    // Metrics
+    api("io.micrometer:micrometer-core")
+
     // Testing
     testImplementation("org.springframework.boot:spring-boot-starter-test")
     testImplementation("org.springframework.security:spring-security-test")
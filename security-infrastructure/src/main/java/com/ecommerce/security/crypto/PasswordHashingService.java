@@ -0,0 +1,180 @@
+package com.ecommerce.security.crypto;
+
+import com.ecommerce.security.config.PasswordHashingConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * BCrypt password encoder backed by a bounded, dedicated thread pool.
+ *
+ * Hashing runs on a pool sized to the CPU count instead of the request thread,
+ * so a login spike cannot take every core away from other endpoints. When the
+ * pool and its queue are full, callers get a {@link PasswordHashingUnavailableException}
+ * immediately rather than waiting behind the backlog.
+ *
+ * {@link #upgradeEncoding(String)} reports hashes whose cost differs from the
+ * configured strength so callers can rehash on a successful login.
+ *
+ * Only services that hash passwords set {@code security.password-hashing.enabled};
+ * the others scan this package too and would otherwise start an idle pool.
+ */
+@Component
+@ConditionalOnProperty(prefix = "security.password-hashing", name = "enabled", havingValue = "true")
+public class PasswordHashingService implements PasswordEncoder, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(PasswordHashingService.class);
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[abxy]?\\$(\\d{2})\\$");
+    private static final String METRIC_PREFIX = "security.password.hashing";
+
+    private final PasswordEncoder delegate;
+    private final int strength;
+    private final long timeoutMs;
+    private final ThreadPoolExecutor executor;
+    private final MeterRegistry meterRegistry;
+    private final Timer queueWait;
+    private final Counter rejected;
+
+    @Autowired
+    public PasswordHashingService(PasswordHashingConfig config, MeterRegistry meterRegistry) {
+        this(config, new BCryptPasswordEncoder(config.getStrength()), meterRegistry);
+    }
+
+    PasswordHashingService(PasswordHashingConfig config, PasswordEncoder delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.strength = config.getStrength();
+        this.timeoutMs = config.getTimeoutMs();
+        this.meterRegistry = meterRegistry;
+        this.executor = new ThreadPoolExecutor(
+                config.getPoolSize(),
+                config.getPoolSize(),
+                0L, TimeUnit.MILLISECONDS,
+                createQueue(config.getQueueCapacity()),
+                Thread.ofPlatform().name("password-hash-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        this.queueWait = Timer.builder(METRIC_PREFIX + ".queue.wait")
+                .description("Time a hashing task waits for a pool thread")
+                .register(meterRegistry);
+        this.rejected = Counter.builder(METRIC_PREFIX + ".rejected")
+                .description("Hashing tasks rejected because the pool was saturated")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".queue.size", executor, e -> e.getQueue().size())
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+
+        log.info("Password hashing pool started: strength={}, poolSize={}, queueCapacity={}",
+                strength, config.getPoolSize(), config.getQueueCapacity());
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute("encode", () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        if (rawPassword == null || encodedPassword == null || encodedPassword.isEmpty()) {
+            return false;
+        }
+        return execute("matches", () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Returns true when the hash was produced with a different work factor
+     * than the one currently configured, in either direction.
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) != strength;
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    int getQueuedTaskCount() {
+        return executor.getQueue().size();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private <T> T execute(String operation, Callable<T> task) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                queueWait.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return task.call();
+            });
+        } catch (RejectedExecutionException ex) {
+            rejected.increment();
+            record(operation, "rejected", submittedAt);
+            throw new PasswordHashingUnavailableException("Password hashing capacity exhausted, retry later", ex);
+        }
+
+        try {
+            T result = future.get(timeoutMs, TimeUnit.MILLISECONDS);
+            record(operation, "success", submittedAt);
+            return result;
+        } catch (TimeoutException ex) {
+            future.cancel(true);
+            record(operation, "timeout", submittedAt);
+            throw new PasswordHashingUnavailableException("Password hashing timed out", ex);
+        } catch (InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingUnavailableException("Interrupted while waiting for password hashing", ex);
+        } catch (ExecutionException ex) {
+            record(operation, "error", submittedAt);
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", ex.getCause());
+        }
+    }
+
+    private void record(String operation, String outcome, long submittedAt) {
+        Timer.builder(METRIC_PREFIX)
+                .description("End-to-end password hashing latency including queue wait")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+    }
+
+    private static BlockingQueue<Runnable> createQueue(int capacity) {
+        return capacity > 0 ? new ArrayBlockingQueue<>(capacity) : new SynchronousQueue<>();
+    }
+}
@@ -0,0 +1,16 @@
+package com.ecommerce.security.crypto;
+
+/**
+ * Exception thrown when the password hashing pool cannot accept more work.
+ * Services map it to 503 so clients back off instead of piling up logins.
+ */
+public class PasswordHashingUnavailableException extends RuntimeException {
+
+    public PasswordHashingUnavailableException(String message) {
+        super(message);
+    }
+
+    public PasswordHashingUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,121 @@
+package com.ecommerce.security.concurrency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.embedded.EmbeddedWebServerFactoryCustomizerAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Load test for Spring Boot's spring.threads.virtual.enabled as the services use it.
+ * Tomcat is capped at a small platform pool; with virtual threads enabled,
+ * blocked requests must not be limited by that pool.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "server.tomcat.threads.max=" + VirtualThreadLoadTest.PLATFORM_THREADS,
+                "spring.threads.virtual.enabled=true"
+        }
+)
+@DisplayName("Virtual thread load")
+class VirtualThreadLoadTest {
+
+    static final int PLATFORM_THREADS = 8;
+    private static final int CONCURRENT_REQUESTS = 50;
+
+    private static final CountDownLatch ARRIVED = new CountDownLatch(CONCURRENT_REQUESTS);
+    private static final AtomicInteger IN_FLIGHT = new AtomicInteger();
+    private static final AtomicInteger PEAK = new AtomicInteger();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private AsyncTaskExecutor applicationTaskExecutor;
+
+    @Test
+    @DisplayName("should hold more blocked requests than the platform thread pool")
+    void shouldExceedPlatformThreadPool() throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/blocking"))
+                .GET()
+                .build();
+
+        List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.ofString()));
+        }
+        CompletableFuture.allOf(responses.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+
+        assertThat(responses).allSatisfy(response -> assertThat(response.join().body()).isEqualTo("true"));
+        assertThat(PEAK.get()).isGreaterThan(PLATFORM_THREADS);
+    }
+
+    @Test
+    @DisplayName("should run @Async work on virtual threads")
+    void shouldUseVirtualThreadsForAsync() throws Exception {
+        CompletableFuture<Boolean> virtual = new CompletableFuture<>();
+
+        applicationTaskExecutor.execute(() -> virtual.complete(Thread.currentThread().isVirtual()));
+
+        assertThat(virtual.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ImportAutoConfiguration({
+            ServletWebServerFactoryAutoConfiguration.class,
+            DispatcherServletAutoConfiguration.class,
+            WebMvcAutoConfiguration.class,
+            HttpMessageConvertersAutoConfiguration.class,
+            EmbeddedWebServerFactoryCustomizerAutoConfiguration.class,
+            TaskExecutionAutoConfiguration.class
+    })
+    static class TestApplication {
+
+        @RestController
+        static class BlockingController {
+
+            @GetMapping("/blocking")
+            String blocking() throws InterruptedException {
+                PEAK.accumulateAndGet(IN_FLIGHT.incrementAndGet(), Math::max);
+                try {
+                    ARRIVED.countDown();
+                    // Released once every request is in flight; the timeout keeps a
+                    // pooled server from hanging the build.
+                    ARRIVED.await(10, TimeUnit.SECONDS);
+                    return String.valueOf(Thread.currentThread().isVirtual());
+                } finally {
+                    IN_FLIGHT.decrementAndGet();
+                }
+            }
+        }
+    }
+}
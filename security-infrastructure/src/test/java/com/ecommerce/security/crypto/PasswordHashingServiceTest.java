@@ -0,0 +1,130 @@
+package com.ecommerce.security.crypto;
+
+import com.ecommerce.security.config.PasswordHashingConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for PasswordHashingService.
+ */
+@DisplayName("PasswordHashingService")
+class PasswordHashingServiceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PasswordHashingService service;
+
+    @AfterEach
+    void tearDown() {
+        service.destroy();
+    }
+
+    private static PasswordHashingConfig config(int strength, int poolSize, int queueCapacity) {
+        PasswordHashingConfig config = new PasswordHashingConfig();
+        config.setStrength(strength);
+        config.setPoolSize(poolSize);
+        config.setQueueCapacity(queueCapacity);
+        config.setTimeoutMs(5000);
+        return config;
+    }
+
+    @Nested
+    @DisplayName("Hashing")
+    class Hashing {
+
+        @Test
+        @DisplayName("should encode and match on the hashing pool")
+        void shouldEncodeAndMatch() {
+            PasswordHashingConfig config = config(4, 2, 8);
+            service = new PasswordHashingService(config, new BCryptPasswordEncoder(4), meterRegistry);
+
+            String hash = service.encode("Password123");
+
+            assertThat(service.matches("Password123", hash)).isTrue();
+            assertThat(service.matches("WrongPassword1", hash)).isFalse();
+            assertThat(meterRegistry.get("security.password.hashing")
+                    .tag("operation", "matches")
+                    .tag("outcome", "success")
+                    .timer().count()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("should not match null input")
+        void shouldNotMatchNull() {
+            service = new PasswordHashingService(config(4, 1, 1), new BCryptPasswordEncoder(4), meterRegistry);
+
+            assertThat(service.matches(null, "$2a$04$abc")).isFalse();
+            assertThat(service.matches("Password123", null)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("Work Factor")
+    class WorkFactor {
+
+        @Test
+        @DisplayName("should request rehash when cost differs from configured strength")
+        void shouldRequestRehashWhenCostDiffers() {
+            service = new PasswordHashingService(config(5, 1, 1), new BCryptPasswordEncoder(5), meterRegistry);
+
+            String oldHash = new BCryptPasswordEncoder(4).encode("Password123");
+            String currentHash = service.encode("Password123");
+
+            assertThat(service.upgradeEncoding(oldHash)).isTrue();
+            assertThat(service.upgradeEncoding(currentHash)).isFalse();
+            assertThat(service.upgradeEncoding("not-a-bcrypt-hash")).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("Admission Control")
+    class AdmissionControl {
+
+        @Test
+        @DisplayName("should reject when pool and queue are full")
+        void shouldRejectWhenSaturated() throws Exception {
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch started = new CountDownLatch(1);
+            PasswordEncoder blocking = new BCryptPasswordEncoder(4) {
+                @Override
+                public String encode(CharSequence rawPassword) {
+                    started.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return super.encode(rawPassword);
+                }
+            };
+            service = new PasswordHashingService(config(4, 1, 1), blocking, meterRegistry);
+
+            CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> service.encode("Password123"));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> service.encode("Password123"));
+            while (service.getQueuedTaskCount() == 0) {
+                Thread.onSpinWait();
+            }
+
+            assertThatThrownBy(() -> service.encode("Password123"))
+                    .isInstanceOf(PasswordHashingUnavailableException.class);
+            assertThat(meterRegistry.get("security.password.hashing.rejected").counter().count())
+                    .isEqualTo(1);
+
+            release.countDown();
+            assertThat(running.get(5, TimeUnit.SECONDS)).startsWith("$2a$04$");
+            assertThat(queued.get(5, TimeUnit.SECONDS)).startsWith("$2a$04$");
+        }
+    }
+}